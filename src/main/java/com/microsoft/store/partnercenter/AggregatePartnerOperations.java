@@ -20,7 +20,18 @@ public class AggregatePartnerOperations
      */
     public AggregatePartnerOperations(IPartnerCredentials credentials)
     {
-        super(credentials, RequestContextFactory.getInstance().create());
+        this(credentials, null);
+    }
+
+    /**
+     * Initializes a new instance of the AggregatePartnerOperations class.
+     * 
+     * @param credentials The partner credentials.
+     * @param credentialsResolver Resolves the credentials used for requests that address a customer.
+     */
+    public AggregatePartnerOperations(IPartnerCredentials credentials, IPartnerCredentialsResolver credentialsResolver)
+    {
+        super(credentials, credentialsResolver, RequestContextFactory.getInstance().create());
     }
 
     /**
@@ -37,6 +48,24 @@ public class AggregatePartnerOperations
             throw new IllegalArgumentException("context null");
         }
 
-        return new PartnerOperations(this.getCredentials(), context);
+        return new PartnerOperations(this.getCredentials(), this.getCredentialsResolver(), context);
+    }
+
+    /**
+     * Returns an aggregate partner operations object which uses the provided resolver to get the credentials for
+     * requests that address a customer.
+     * 
+     * @param credentialsResolver Resolves the credentials for requests that address a customer.
+     * @return An aggregate partner operations object which uses the provided credentials resolver.
+     */
+    @Override
+    public IAggregatePartner withCredentialsResolver(IPartnerCredentialsResolver credentialsResolver)
+    {
+        if (credentialsResolver == null)
+        {
+            throw new IllegalArgumentException("credentialsResolver null");
+        }
+
+        return new AggregatePartnerOperations(this.getCredentials(), credentialsResolver);
     }
 }
\ No newline at end of file
@@ -19,4 +19,13 @@ public interface IAggregatePartner
      * @return A partner operations object which uses the provided operation context.
      */
     IPartner with(IRequestContext context);
+
+    /**
+     * Returns an aggregate partner operations object which uses the provided resolver to get the credentials for
+     * requests that address a customer.
+     * 
+     * @param credentialsResolver Resolves the credentials for requests that address a customer.
+     * @return An aggregate partner operations object which uses the provided credentials resolver.
+     */
+    IAggregatePartner withCredentialsResolver(IPartnerCredentialsResolver credentialsResolver);
 }
\ No newline at end of file
@@ -49,6 +49,13 @@ public interface IPartner
      */
     IPartnerCredentials getCredentials();
 
+    /**
+     * Gets the resolver of the credentials used for requests that address a customer.
+     * 
+     * @return The credentials resolver, or null if all requests use the partner credentials.
+     */
+    IPartnerCredentialsResolver getCredentialsResolver();
+
     /**
      * Gets the request context.
      *
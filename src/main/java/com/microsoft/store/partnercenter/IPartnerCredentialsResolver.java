@@ -0,0 +1,24 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license. See the LICENSE file in the project root for full license information.
+
+package com.microsoft.store.partnercenter;
+
+import com.microsoft.store.partnercenter.requestcontext.IRequestContext;
+
+/**
+ * Resolves the credentials used for requests that address a customer, so a single partner operations object can
+ * call the partner service on behalf of many customer tenants.
+ */
+public interface IPartnerCredentialsResolver
+{
+    /**
+     * Gets the credentials for requests that address the given customer. The resolver is responsible for refreshing
+     * the credentials it returns, so expired credentials fail the request instead of being refreshed through the
+     * refresh credentials handler of the partner service.
+     * 
+     * @param customerId The customer identifier.
+     * @param context The request context.
+     * @return The credentials for the customer, or null to use the partner credentials.
+     */
+    IPartnerCredentials resolve(String customerId, IRequestContext context);
+}
@@ -26,6 +26,7 @@ import com.microsoft.store.partnercenter.invoices.IInvoiceCollection;
 import com.microsoft.store.partnercenter.invoices.InvoiceCollection;
 import com.microsoft.store.partnercenter.network.IPartnerServiceClient;
 import com.microsoft.store.partnercenter.network.PartnerServiceClient;
+import com.microsoft.store.partnercenter.network.PartnerServiceTransport;
 import com.microsoft.store.partnercenter.offers.IOfferCategoryCollection;
 import com.microsoft.store.partnercenter.offers.IOfferCollection;
 import com.microsoft.store.partnercenter.offers.OfferCategoryCountrySelector;
@@ -173,6 +174,19 @@ public class PartnerOperations
 	 * @param context A partner context.
 	 */
 	public PartnerOperations(IPartnerCredentials credentials, IRequestContext context)
+	{
+		this(credentials, null, context);
+	}
+
+	/**
+	 * Initializes a new instance of the PartnerOperations class.
+	 * 
+	 * @param credentials The partner credentials.
+	 * @param credentialsResolver Resolves the credentials used for requests that address a customer, or null to use
+	 * the partner credentials for all requests.
+	 * @param context A partner context.
+	 */
+	public PartnerOperations(IPartnerCredentials credentials, IPartnerCredentialsResolver credentialsResolver, IRequestContext context)
 	{
 		if (credentials == null)
 		{
@@ -184,9 +198,22 @@ public class PartnerOperations
 		}
 	
 		this.setCredentials(credentials);
+		this.credentialsResolver = credentialsResolver;
 		this.setRequestContext(context);
 
-		serviceClient = new PartnerServiceClient(PartnerService.getInstance().getApiRootUrl());
+		PartnerServiceClient client = new PartnerServiceClient(
+			PartnerServiceTransport.getInstance().getRestClient(),
+			PartnerServiceTransport.getInstance().getRetryPolicy());
+
+		client.setRateLimiter(PartnerServiceTransport.getInstance().getRateLimiter());
+		client.setMetrics(PartnerServiceTransport.getInstance().getMetrics());
+		client.setTracer(PartnerServiceTransport.getInstance().getTracer());
+		client.setTraceIdAsCorrelationId(PartnerServiceTransport.getInstance().isTraceIdAsCorrelationId());
+		client.setCompressionPolicy(PartnerServiceTransport.getInstance().getCompressionPolicy());
+		client.setCircuitBreaker(PartnerServiceTransport.getInstance().getCircuitBreaker());
+		client.setRequestCoalescer(PartnerServiceTransport.getInstance().getRequestCoalescer());
+		client.setResponseCache(PartnerServiceTransport.getInstance().getResponseCache());
+		serviceClient = client;
 	}
 
     /**
@@ -220,6 +247,16 @@ public class PartnerOperations
 		credentials = value;
 	}
 
+	/**
+	 * The resolver of the credentials used for requests that address a customer.
+	 */
+	private IPartnerCredentialsResolver credentialsResolver;
+
+	public IPartnerCredentialsResolver getCredentialsResolver()
+	{
+		return credentialsResolver;
+	}
+
 	/**
 	 * Gets the partner context.
 	 */
@@ -11,8 +11,6 @@ import com.microsoft.store.partnercenter.configuration.Configuration;
 import com.microsoft.store.partnercenter.exception.PartnerException;
 import com.microsoft.store.partnercenter.factory.IPartnerFactory;
 import com.microsoft.store.partnercenter.factory.StandardPartnerFactory;
-import com.microsoft.store.partnercenter.logging.PartnerLog;
-import com.microsoft.store.partnercenter.logging.SystemOutLogger;
 import com.microsoft.store.partnercenter.utils.StringHelper;
 
 /**
@@ -40,9 +38,6 @@ public class PartnerService
 
 		// Set the SDK value based on data from the configuration file.
 		sdkVersion = configuration.getSdkVersion();
-
-		// log to the debugger window
-		PartnerLog.getInstance().getLoggers().add(new SystemOutLogger());
 	}
 	
 	/**
@@ -143,11 +138,27 @@ public class PartnerService
 
 	private IPartnerCredentials refreshCredentialsHandler;
 
+	/**
+	 * Gets the credentials registered as the refresh handler.
+	 * 
+	 * @return The registered credentials, or null.
+	 * @deprecated Expired credentials are refreshed through their own {@link IPartnerCredentials#onCredentialsRefreshNeeded}
+	 * method, so the registered handler is no longer used.
+	 */
+	@Deprecated
 	public IPartnerCredentials getRefreshCredentialsHandler()
 	{
 		return refreshCredentialsHandler;
 	}
 
+	/**
+	 * Registers credentials as the refresh handler.
+	 * 
+	 * @param partnerCredentials The credentials.
+	 * @deprecated Expired credentials are refreshed through their own {@link IPartnerCredentials#onCredentialsRefreshNeeded}
+	 * method, so the registered handler is no longer used.
+	 */
+	@Deprecated
 	public void setRefreshCredentialsHandler(IPartnerCredentials partnerCredentials)
 	{
 		refreshCredentialsHandler = partnerCredentials;
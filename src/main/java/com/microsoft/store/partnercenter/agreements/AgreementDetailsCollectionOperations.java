@@ -9,10 +9,10 @@ import java.util.Collection;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponentString;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.ResourceCollection;
 import com.microsoft.store.partnercenter.models.agreements.AgreementMetaData;
 import com.microsoft.store.partnercenter.models.utils.KeyValuePair;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.utils.StringHelper;
 
 /**
@@ -70,17 +70,17 @@ public class AgreementDetailsCollectionOperations
             return this.getPartner().getServiceClient().get(
                 this.getPartner(),
                 new TypeReference<ResourceCollection<AgreementMetaData>>(){}, 
-                PartnerService.getInstance().getConfiguration().getApis().get("GetAgreementsDetails").getPath());
+                ApiRouteRegistry.getInstance().getRoute("GetAgreementsDetails").getPath());
         }
 
         parameters.add(new KeyValuePair<String, String>(
-            PartnerService.getInstance().getConfiguration().getApis().get("GetAgreementsDetails").getParameters().get("AgreementType"),
+            ApiRouteRegistry.getInstance().getRoute("GetAgreementsDetails").getParameterName("AgreementType"),
             agreementType));
 
         return this.getPartner().getServiceClient().get(
             this.getPartner(),
             new TypeReference<ResourceCollection<AgreementMetaData>>(){}, 
-            PartnerService.getInstance().getConfiguration().getApis().get("GetAgreementsDetails").getPath(), 
+            ApiRouteRegistry.getInstance().getRoute("GetAgreementsDetails").getPath(), 
             parameters);
     }
 
@@ -3,17 +3,16 @@
 
 package com.microsoft.store.partnercenter.agreements;
 
-import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collection;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponentString;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.ResourceCollection;
 import com.microsoft.store.partnercenter.models.agreements.Agreement;
 import com.microsoft.store.partnercenter.models.utils.KeyValuePair;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.utils.StringHelper;
 
 /**
@@ -85,8 +84,7 @@ public class CustomerAgreementCollectionOperations
         return this.getPartner().getServiceClient().post(
             this.getPartner(), 
             new TypeReference<Agreement>(){},
-            MessageFormat.format(
-                PartnerService.getInstance().getConfiguration().getApis().get("CreateCustomerAgreement").getPath(),
+            ApiRouteRegistry.getInstance().getRoute("CreateCustomerAgreement").render(
                 this.getContext()),
             newEntity);
     }
@@ -106,20 +104,18 @@ public class CustomerAgreementCollectionOperations
             return this.getPartner().getServiceClient().get(
                 this.getPartner(), 
                 new TypeReference<ResourceCollection<Agreement>>(){},
-                MessageFormat.format(
-                    PartnerService.getInstance().getConfiguration().getApis().get("GetCustomerAgreements").getPath(),
+                ApiRouteRegistry.getInstance().getRoute("GetCustomerAgreements").render(
                     this.getContext()));
         }
 
         parameters.add(new KeyValuePair<String, String>(
-            PartnerService.getInstance().getConfiguration().getApis().get("GetCustomerAgreements").getParameters().get("AgreementType"),
+            ApiRouteRegistry.getInstance().getRoute("GetCustomerAgreements").getParameterName("AgreementType"),
             agreementType));
 
         return this.getPartner().getServiceClient().get(
             this.getPartner(), 
             new TypeReference<ResourceCollection<Agreement>>(){},
-            MessageFormat.format(
-                PartnerService.getInstance().getConfiguration().getApis().get("GetCustomerAgreements").getPath(),
+            ApiRouteRegistry.getInstance().getRoute("GetCustomerAgreements").render(
                 this.getContext()),
             parameters);            
     }
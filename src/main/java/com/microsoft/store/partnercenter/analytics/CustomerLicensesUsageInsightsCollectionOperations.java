@@ -3,14 +3,12 @@
 
 package com.microsoft.store.partnercenter.analytics;
 
-import java.text.MessageFormat;
-
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponentString;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.ResourceCollection;
 import com.microsoft.store.partnercenter.models.analytics.CustomerLicensesUsageInsights;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.utils.StringHelper;
 
 /**
@@ -47,8 +45,7 @@ public class CustomerLicensesUsageInsightsCollectionOperations
         return this.getPartner().getServiceClient().get(
             this.getPartner(),
             new TypeReference<ResourceCollection<CustomerLicensesUsageInsights>>(){},
-            MessageFormat.format(
-                PartnerService.getInstance().getConfiguration().getApis().get("CustomerLicensesUsageInsights").getPath(),
+            ApiRouteRegistry.getInstance().getRoute("CustomerLicensesUsageInsights").render(
                 this.getContext()));
     }
 }
\ No newline at end of file
@@ -6,9 +6,9 @@ package com.microsoft.store.partnercenter.analytics;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponentString;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.ResourceCollection;
 import com.microsoft.store.partnercenter.models.analytics.PartnerLicensesDeploymentInsights;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 
 /**
  * Implements the operations on partner licenses deployment insights collection.
@@ -38,6 +38,6 @@ public class PartnerLicensesDeploymentInsightsCollectionOperations
         return this.getPartner().getServiceClient().get(
             this.getPartner(),
             new TypeReference<ResourceCollection<PartnerLicensesDeploymentInsights>>(){},
-            PartnerService.getInstance().getConfiguration().getApis().get("PartnerLicensesDeploymentInsights").getPath());
+            ApiRouteRegistry.getInstance().getRoute("PartnerLicensesDeploymentInsights").getPath());
     }
   }
\ No newline at end of file
@@ -6,9 +6,9 @@ package com.microsoft.store.partnercenter.analytics;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponentString;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.ResourceCollection;
 import com.microsoft.store.partnercenter.models.analytics.PartnerLicensesUsageInsights;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 
 /**
  * Implements the operations on partner licenses usage insights collection.
@@ -38,6 +38,6 @@ public class PartnerLicensesUsageInsightsCollectionOperations
         return this.getPartner().getServiceClient().get(
             this.getPartner(),
             new TypeReference<ResourceCollection<PartnerLicensesUsageInsights>>(){}, 
-            PartnerService.getInstance().getConfiguration().getApis().get("PartnerLicensesUsageInsights").getPath());
+            ApiRouteRegistry.getInstance().getRoute("PartnerLicensesUsageInsights").getPath());
     }
   }
\ No newline at end of file
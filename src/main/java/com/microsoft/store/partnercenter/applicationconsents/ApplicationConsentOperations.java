@@ -6,12 +6,11 @@ package com.microsoft.store.partnercenter.applicationconsents;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponent;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.applicationconsents.ApplicationConsent;
 import com.microsoft.store.partnercenter.models.utils.Tuple;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.utils.StringHelper;
 
-import java.text.MessageFormat;
 
 public class ApplicationConsentOperations
         extends BasePartnerComponent<Tuple<String, String>>
@@ -47,8 +46,7 @@ public class ApplicationConsentOperations
         this.getPartner().getServiceClient().delete(
                 this.getPartner(),
                 new TypeReference<ApplicationConsent>() {},
-                MessageFormat.format(PartnerService.getInstance().getConfiguration().getApis()
-                                .get("DeleteCustomerApplicationConsent").getPath(),
+                ApiRouteRegistry.getInstance().getRoute("DeleteCustomerApplicationConsent").render(
                         this.getContext().getItem1(),
                         this.getContext().getItem2()));
     }
@@ -6,11 +6,10 @@ package com.microsoft.store.partnercenter.applicationconsents;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponent;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.applicationconsents.ApplicationConsent;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.utils.StringHelper;
 
-import java.text.MessageFormat;
 
 /**
  * Implements the operations on an Application consent collection.
@@ -65,8 +64,7 @@ public class CustomerApplicationConsentCollectionOperations
         return this.getPartner().getServiceClient().post(
                 this.getPartner(),
                 new TypeReference<ApplicationConsent>() {},
-                MessageFormat.format(PartnerService.getInstance().getConfiguration().getApis()
-                        .get("CreateCustomerApplicationConsent").getPath(), this.getContext()),
+                ApiRouteRegistry.getInstance().getRoute("CreateCustomerApplicationConsent").render(this.getContext()),
                 newApplicationConsent);
     }
 }
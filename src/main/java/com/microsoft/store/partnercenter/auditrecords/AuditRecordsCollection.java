@@ -3,8 +3,6 @@
 
 package com.microsoft.store.partnercenter.auditrecords;
 
-import java.io.UnsupportedEncodingException;
-import java.net.URLEncoder;
 import java.util.ArrayList;
 import java.util.Collection;
 
@@ -13,7 +11,6 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.microsoft.store.partnercenter.BasePartnerComponentString;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.exception.PartnerErrorCategory;
 import com.microsoft.store.partnercenter.exception.PartnerException;
 import com.microsoft.store.partnercenter.models.SeekBasedResourceCollection;
@@ -21,6 +18,7 @@ import com.microsoft.store.partnercenter.models.auditing.AuditRecord;
 import com.microsoft.store.partnercenter.models.query.IQuery;
 import com.microsoft.store.partnercenter.models.query.QueryType;
 import com.microsoft.store.partnercenter.models.utils.KeyValuePair;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 
 import org.joda.time.DateTime;
 import org.joda.time.format.DateTimeFormat;
@@ -55,7 +53,7 @@ public class AuditRecordsCollection
 		(
 			new KeyValuePair<String, String>
 			(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetAuditRecordsRequest").getParameters().get("StartDate"),
+				ApiRouteRegistry.getInstance().getRoute("GetAuditRecordsRequest").getParameterName("StartDate"),
 				startDate.toString(formatter)
 			) 
 		);
@@ -66,7 +64,7 @@ public class AuditRecordsCollection
 			(
 				new KeyValuePair<String, String>
 				(
-					PartnerService.getInstance().getConfiguration().getApis().get("GetAuditRecordsRequest").getParameters().get("EndDate"),
+					ApiRouteRegistry.getInstance().getRoute("GetAuditRecordsRequest").getParameterName("EndDate"),
 					endDate.toString(formatter)
 				) 
 			);
@@ -78,7 +76,7 @@ public class AuditRecordsCollection
 			(
 				new KeyValuePair<String, String>
 				(
-					PartnerService.getInstance().getConfiguration().getApis().get("GetAuditRecordsRequest").getParameters().get("Size"), 
+					ApiRouteRegistry.getInstance().getRoute("GetAuditRecordsRequest").getParameterName("Size"), 
 					Integer.toString(query.getPageSize())  
 				)
 			);
@@ -94,12 +92,8 @@ public class AuditRecordsCollection
 				(
 					new KeyValuePair<String, String>
 					(
-						PartnerService.getInstance().getConfiguration().getApis().get("GetAuditRecordsRequest").getParameters().get("Filter"), 
-						URLEncoder.encode
-						(
-							mapper.writeValueAsString(query.getFilter()),
-							"UTF-8" 
-						)
+						ApiRouteRegistry.getInstance().getRoute("GetAuditRecordsRequest").getParameterName("Filter"), 
+						mapper.writeValueAsString(query.getFilter())
 					)
 				);
 			}
@@ -107,10 +101,6 @@ public class AuditRecordsCollection
 			{
 				throw new PartnerException("", null, PartnerErrorCategory.REQUEST_PARSING, e);
 			}
-			catch (UnsupportedEncodingException e)
-			{
-				throw new PartnerException("", null, PartnerErrorCategory.REQUEST_PARSING, e);
-			}
 		}
 
 		if (query.getToken() != null)
@@ -119,7 +109,7 @@ public class AuditRecordsCollection
 			(
 				new KeyValuePair<String, String>
 				(
-					PartnerService.getInstance().getConfiguration().getApis().get("GetAuditRecordsRequest").getAdditionalHeaders().get("ContinuationToken"),
+					ApiRouteRegistry.getInstance().getRoute("GetAuditRecordsRequest").getHeaderName("ContinuationToken"),
 					query.getToken().toString()
 				)
 			);
@@ -128,7 +118,7 @@ public class AuditRecordsCollection
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<SeekBasedResourceCollection<AuditRecord>>(){}, 
-			PartnerService.getInstance().getConfiguration().getApis().get("GetAuditRecordsRequest").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetAuditRecordsRequest").getPath(),
 			parameters);
 	}
 }
\ No newline at end of file
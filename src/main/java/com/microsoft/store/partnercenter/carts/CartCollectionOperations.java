@@ -3,13 +3,11 @@
 
 package com.microsoft.store.partnercenter.carts;
 
-import java.text.MessageFormat;
-
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponentString;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.carts.Cart;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.utils.StringHelper;
 
 /**
@@ -64,8 +62,7 @@ public class CartCollectionOperations
         return this.getPartner().getServiceClient().post(
             this.getPartner(), 
             new TypeReference<Cart>(){},
-            MessageFormat.format(
-                PartnerService.getInstance().getConfiguration().getApis().get("CreateCart").getPath(),
+            ApiRouteRegistry.getInstance().getRoute("CreateCart").render(
                 this.getContext()),
             newCart);
     }
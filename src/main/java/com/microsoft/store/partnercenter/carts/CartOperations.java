@@ -3,15 +3,13 @@
 
 package com.microsoft.store.partnercenter.carts;
 
-import java.text.MessageFormat;
-
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponent;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.carts.Cart;
 import com.microsoft.store.partnercenter.models.carts.CartCheckoutResult;
 import com.microsoft.store.partnercenter.models.utils.Tuple;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.utils.StringHelper;
 
 /**
@@ -52,8 +50,7 @@ public class CartOperations
 		return this.getPartner().getServiceClient().post(
 			this.getPartner(), 
 			new TypeReference<CartCheckoutResult>(){},
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("PlaceOrder").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("PlaceOrder").render(
 				this.getContext().getItem1(),
 				this.getContext().getItem2()),
 			"success");
@@ -70,8 +67,7 @@ public class CartOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<Cart>(){}, 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetCart").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetCart").render(
 				this.getContext().getItem1(), 
 				this.getContext().getItem2()));
 	}
@@ -89,8 +85,7 @@ public class CartOperations
 		return this.getPartner().getServiceClient().put(
 			this.getPartner(),
 			new TypeReference<Cart>(){}, 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("UpdateCart").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("UpdateCart").render(
 				this.getContext().getItem1(), 
 				this.getContext().getItem2()),
 			cart);
@@ -9,9 +9,9 @@ import java.util.Collection;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponentString;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.compliance.AgreementSignatureStatus;
 import com.microsoft.store.partnercenter.models.utils.KeyValuePair;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.utils.StringHelper;
 
 /**
@@ -50,7 +50,7 @@ public class AgreementSignatureStatusOperations
 			(
 				new KeyValuePair<String, String>
 				(
-					PartnerService.getInstance().getConfiguration().getApis().get("GetAgreementSignatureStatus").getParameters().get("MpnId"),
+					ApiRouteRegistry.getInstance().getRoute("GetAgreementSignatureStatus").getParameterName("MpnId"),
 					mpnId
 				) 
 			);
@@ -62,7 +62,7 @@ public class AgreementSignatureStatusOperations
 			(
 				new KeyValuePair<String, String>
 				(
-					PartnerService.getInstance().getConfiguration().getApis().get("GetAgreementSignatureStatus").getParameters().get("TenantId"),
+					ApiRouteRegistry.getInstance().getRoute("GetAgreementSignatureStatus").getParameterName("TenantId"),
 					tenantId
 				) 
 			);
@@ -71,7 +71,7 @@ public class AgreementSignatureStatusOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
             new TypeReference<AgreementSignatureStatus>(){}, 
-            PartnerService.getInstance().getConfiguration().getApis().get("GetAgreementSignatureStatus").getPath(),
+            ApiRouteRegistry.getInstance().getRoute("GetAgreementSignatureStatus").getPath(),
 			parameters); 
     }
 }
\ No newline at end of file
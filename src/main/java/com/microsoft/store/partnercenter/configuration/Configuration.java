@@ -35,6 +35,12 @@ public class Configuration
         @JsonProperty("AdditionalHeaders")
         private Map<String, String> AdditionalHeaders;
 
+        /**
+         * The time in seconds the responses of the API can be cached.
+         */
+        @JsonProperty("CacheDurationInSeconds")
+        private int CacheDurationInSeconds;
+
         /**
          * Get the URI path of the API.
          * 
@@ -74,6 +80,27 @@ public class Configuration
         {
             AdditionalHeaders = additionalHeaders;
         }
+
+        /**
+         * Get the time in seconds the responses of the API can be cached.
+         * 
+         * @return The time in seconds the responses of the API can be cached, or 0 if they are not cached.
+         */
+        public int getCacheDurationInSeconds()
+        {
+            return CacheDurationInSeconds;
+        }
+
+        /**
+         * Set the time in seconds the responses of the API can be cached.
+         * 
+         * @param cacheDurationInSeconds The time in seconds the responses of the API can be cached, or 0 if they are
+         *        not cached.
+         */
+        public void setCacheDurationInSeconds(int cacheDurationInSeconds)
+        {
+            CacheDurationInSeconds = cacheDurationInSeconds;
+        }
     }
 
     @JsonProperty("PartnerCenterClient")
@@ -88,9 +115,36 @@ public class Configuration
     @JsonProperty("DefaultMaxRetryAttempts")
     private int defaultMaxRetryAttempts;
 
+    @JsonProperty("DefaultRetryBaseDelayInSeconds")
+    private int defaultRetryBaseDelayInSeconds;
+
+    @JsonProperty("DefaultRetryMaxDelayInSeconds")
+    private int defaultRetryMaxDelayInSeconds;
+
+    @JsonProperty("DefaultRetryBudgetPercentage")
+    private int defaultRetryBudgetPercentage;
+
     @JsonProperty("DefaultAuthenticationTokenExpiryBufferInSeconds")
     private int defaultAuthenticationTokenExpiryBufferInSeconds;
 
+    @JsonProperty("DefaultMaxIdleConnections")
+    private int defaultMaxIdleConnections;
+
+    @JsonProperty("DefaultKeepAliveDurationInSeconds")
+    private int defaultKeepAliveDurationInSeconds;
+
+    @JsonProperty("DefaultMaxRequestsPerHost")
+    private int defaultMaxRequestsPerHost;
+
+    @JsonProperty("DefaultRateLimitInitialRequestsPerSecond")
+    private int defaultRateLimitInitialRequestsPerSecond;
+
+    @JsonProperty("DefaultRateLimitMinRequestsPerSecond")
+    private int defaultRateLimitMinRequestsPerSecond;
+
+    @JsonProperty("DefaultRateLimitMaxRequestsPerSecond")
+    private int defaultRateLimitMaxRequestsPerSecond;
+
     @JsonProperty("DefaultLocale")
     private String defaultLocale;
 
@@ -170,6 +224,66 @@ public class Configuration
         defaultMaxRetryAttempts = value;
     }
 
+    /**
+     * Gets the default base delay in seconds of the exponential retry backoff.
+     * 
+     * @return The default base delay in seconds of the exponential retry backoff.
+     */
+    public int getDefaultRetryBaseDelayInSeconds()
+    {
+        return defaultRetryBaseDelayInSeconds;
+    }
+
+    /**
+     * Sets the default base delay in seconds of the exponential retry backoff.
+     * 
+     * @param value The default base delay in seconds of the exponential retry backoff.
+     */
+    public void setDefaultRetryBaseDelayInSeconds(int value)
+    {
+        defaultRetryBaseDelayInSeconds = value;
+    }
+
+    /**
+     * Gets the default maximum delay in seconds between retry attempts.
+     * 
+     * @return The default maximum delay in seconds between retry attempts.
+     */
+    public int getDefaultRetryMaxDelayInSeconds()
+    {
+        return defaultRetryMaxDelayInSeconds;
+    }
+
+    /**
+     * Sets the default maximum delay in seconds between retry attempts.
+     * 
+     * @param value The default maximum delay in seconds between retry attempts.
+     */
+    public void setDefaultRetryMaxDelayInSeconds(int value)
+    {
+        defaultRetryMaxDelayInSeconds = value;
+    }
+
+    /**
+     * Gets the default maximum percentage of requests that can be retried.
+     * 
+     * @return The default maximum percentage of requests that can be retried.
+     */
+    public int getDefaultRetryBudgetPercentage()
+    {
+        return defaultRetryBudgetPercentage;
+    }
+
+    /**
+     * Sets the default maximum percentage of requests that can be retried.
+     * 
+     * @param value The default maximum percentage of requests that can be retried.
+     */
+    public void setDefaultRetryBudgetPercentage(int value)
+    {
+        defaultRetryBudgetPercentage = value;
+    }
+
     /**
      * Gets the default authentication token expiry buffer in seconds.
      * 
@@ -190,6 +304,126 @@ public class Configuration
         defaultAuthenticationTokenExpiryBufferInSeconds = value;
     }
 
+    /**
+     * Gets the default maximum number of idle connections kept in the shared connection pool.
+     * 
+     * @return The default maximum number of idle connections.
+     */
+    public int getDefaultMaxIdleConnections()
+    {
+        return defaultMaxIdleConnections;
+    }
+
+    /**
+     * Sets the default maximum number of idle connections kept in the shared connection pool.
+     * 
+     * @param value The default maximum number of idle connections.
+     */
+    public void setDefaultMaxIdleConnections(int value)
+    {
+        defaultMaxIdleConnections = value;
+    }
+
+    /**
+     * Gets the default time in seconds an idle connection is kept alive in the shared connection pool.
+     * 
+     * @return The default keep alive duration in seconds.
+     */
+    public int getDefaultKeepAliveDurationInSeconds()
+    {
+        return defaultKeepAliveDurationInSeconds;
+    }
+
+    /**
+     * Sets the default time in seconds an idle connection is kept alive in the shared connection pool.
+     * 
+     * @param value The default keep alive duration in seconds.
+     */
+    public void setDefaultKeepAliveDurationInSeconds(int value)
+    {
+        defaultKeepAliveDurationInSeconds = value;
+    }
+
+    /**
+     * Gets the default maximum number of concurrent requests to a single host.
+     * 
+     * @return The default maximum number of concurrent requests to a single host.
+     */
+    public int getDefaultMaxRequestsPerHost()
+    {
+        return defaultMaxRequestsPerHost;
+    }
+
+    /**
+     * Sets the default maximum number of concurrent requests to a single host.
+     * 
+     * @param value The default maximum number of concurrent requests to a single host.
+     */
+    public void setDefaultMaxRequestsPerHost(int value)
+    {
+        defaultMaxRequestsPerHost = value;
+    }
+
+    /**
+     * Gets the default rate in requests per second of a new rate limit.
+     * 
+     * @return The default rate in requests per second of a new rate limit.
+     */
+    public int getDefaultRateLimitInitialRequestsPerSecond()
+    {
+        return defaultRateLimitInitialRequestsPerSecond;
+    }
+
+    /**
+     * Sets the default rate in requests per second of a new rate limit.
+     * 
+     * @param value The default rate in requests per second of a new rate limit.
+     */
+    public void setDefaultRateLimitInitialRequestsPerSecond(int value)
+    {
+        defaultRateLimitInitialRequestsPerSecond = value;
+    }
+
+    /**
+     * Gets the default lowest rate in requests per second of a rate limit.
+     * 
+     * @return The default lowest rate in requests per second of a rate limit.
+     */
+    public int getDefaultRateLimitMinRequestsPerSecond()
+    {
+        return defaultRateLimitMinRequestsPerSecond;
+    }
+
+    /**
+     * Sets the default lowest rate in requests per second of a rate limit.
+     * 
+     * @param value The default lowest rate in requests per second of a rate limit.
+     */
+    public void setDefaultRateLimitMinRequestsPerSecond(int value)
+    {
+        defaultRateLimitMinRequestsPerSecond = value;
+    }
+
+    /**
+     * Gets the default highest rate in requests per second of a rate limit.
+     * 
+     * @return The default highest rate in requests per second of a rate limit.
+     */
+    public int getDefaultRateLimitMaxRequestsPerSecond()
+    {
+        return defaultRateLimitMaxRequestsPerSecond;
+    }
+
+    /**
+     * Sets the default highest rate in requests per second of a rate limit.
+     * 
+     * @param value The default highest rate in requests per second of a rate limit.
+     */
+    public void setDefaultRateLimitMaxRequestsPerSecond(int value)
+    {
+        defaultRateLimitMaxRequestsPerSecond = value;
+    }
+
     /**
      * Gets the default locale.
      * 
@@ -3,13 +3,11 @@
 
 package com.microsoft.store.partnercenter.countryvalidationrules;
 
-import java.text.MessageFormat;
-
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponentString;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.countryvalidationrules.CountryValidationRules;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.utils.ParameterValidator;
 
 /**
@@ -40,8 +38,7 @@ public class CountryValidationRulesOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<CountryValidationRules>(){}, 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetCountryValidationRulesByCountry").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetCountryValidationRulesByCountry").render(
 				this.getContext()));
 	}
 }
\ No newline at end of file
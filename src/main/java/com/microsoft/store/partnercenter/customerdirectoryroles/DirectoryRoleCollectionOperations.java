@@ -3,14 +3,12 @@
 
 package com.microsoft.store.partnercenter.customerdirectoryroles;
 
-import java.text.MessageFormat;
-
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponentString;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.ResourceCollection;
 import com.microsoft.store.partnercenter.models.roles.DirectoryRole;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.utils.StringHelper;
 
 /**
@@ -60,8 +58,7 @@ public class DirectoryRoleCollectionOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<ResourceCollection<DirectoryRole>>(){}, 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetCustomerDirectoryRoles").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetCustomerDirectoryRoles").render(
 				this.getContext()));
 	}
 }
\ No newline at end of file
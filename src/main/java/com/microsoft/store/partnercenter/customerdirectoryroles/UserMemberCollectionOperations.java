@@ -3,7 +3,6 @@
 
 package com.microsoft.store.partnercenter.customerdirectoryroles;
 
-import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -12,13 +11,13 @@ import java.util.Map;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponent;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.SeekBasedResourceCollection;
 import com.microsoft.store.partnercenter.models.query.IQuery;
 import com.microsoft.store.partnercenter.models.query.QueryType;
 import com.microsoft.store.partnercenter.models.roles.UserMember;
 import com.microsoft.store.partnercenter.models.utils.KeyValuePair;
 import com.microsoft.store.partnercenter.models.utils.Tuple;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.utils.StringHelper;
 
 /**
@@ -80,8 +79,7 @@ public class UserMemberCollectionOperations
 		return this.getPartner().getServiceClient().post(
 			this.getPartner(), 
 			new TypeReference<UserMember>(){},
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("AddUserToCustomerDirectoryRole").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("AddUserToCustomerDirectoryRole").render(
 				this.getContext().getItem1(),
 				this.getContext().getItem2()),
 			newEntity);
@@ -98,8 +96,7 @@ public class UserMemberCollectionOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<SeekBasedResourceCollection<UserMember>>(){}, 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetCustomerDirectoryRoleUserMembers").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetCustomerDirectoryRoleUserMembers").render(
 				this.getContext().getItem1(),
 				this.getContext().getItem2()));
 	}
@@ -135,13 +132,13 @@ public class UserMemberCollectionOperations
 			}
 
 			headers.put(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetCustomerUsers").getAdditionalHeaders().get("ContinuationToken"),
+				ApiRouteRegistry.getInstance().getRoute("GetCustomerUsers").getHeaderName("ContinuationToken"),
 				query.getToken().toString()
 			); 
 			
 			parameters.add(
 				new KeyValuePair<String, String>(
-					PartnerService.getInstance().getConfiguration().getApis().get("GetCustomerDirectoryRoleUserMembers").getParameters().get("SeekOperation"),
+					ApiRouteRegistry.getInstance().getRoute("GetCustomerDirectoryRoleUserMembers").getParameterName("SeekOperation"),
 					query.getSeekOperation().toString()));    
 		}
 		else
@@ -152,7 +149,7 @@ public class UserMemberCollectionOperations
 				(
 					new KeyValuePair<String, String>
 					(
-						PartnerService.getInstance().getConfiguration().getApis().get("GetCustomerDirectoryRoleUserMembers").getParameters().get("Size"),
+						ApiRouteRegistry.getInstance().getRoute("GetCustomerDirectoryRoleUserMembers").getParameterName("Size"),
 						String.valueOf(query.getPageSize())
 					) 
 				);
@@ -163,7 +160,7 @@ public class UserMemberCollectionOperations
 				(
 					new KeyValuePair<String, String>
 					(
-						PartnerService.getInstance().getConfiguration().getApis().get("GetCustomerDirectoryRoleUserMembers").getParameters().get("Size"),
+						ApiRouteRegistry.getInstance().getRoute("GetCustomerDirectoryRoleUserMembers").getParameterName("Size"),
 						"0"
 					) 
 				);
@@ -173,8 +170,7 @@ public class UserMemberCollectionOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<SeekBasedResourceCollection<UserMember>>(){}, 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetCustomerDirectoryRoleUserMembers").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetCustomerDirectoryRoleUserMembers").render(
 				this.getContext().getItem1(), 
 				this.getContext().getItem2()),
 			headers,
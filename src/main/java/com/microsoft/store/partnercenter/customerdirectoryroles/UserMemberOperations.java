@@ -3,14 +3,12 @@
 
 package com.microsoft.store.partnercenter.customerdirectoryroles;
 
-import java.text.MessageFormat;
-
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponent;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.roles.DirectoryRole;
 import com.microsoft.store.partnercenter.models.utils.TripletTuple;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.utils.StringHelper;
 
 /**
@@ -58,8 +56,7 @@ public class UserMemberOperations
 		this.getPartner().getServiceClient().delete(
 			this.getPartner(),
 			new TypeReference<DirectoryRole>(){}, 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("RemoveCustomerUserMemberFromDirectoryRole").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("RemoveCustomerUserMemberFromDirectoryRole").render(
 				this.getContext().getItem1(), 
 				this.getContext().getItem2(),
 				this.getContext().getItem3()));
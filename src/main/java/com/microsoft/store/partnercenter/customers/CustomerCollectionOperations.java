@@ -3,20 +3,18 @@
 
 package com.microsoft.store.partnercenter.customers;
 
-import java.io.UnsupportedEncodingException;
-import java.net.URLEncoder;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.microsoft.store.partnercenter.BasePartnerComponentString;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.exception.PartnerErrorCategory;
 import com.microsoft.store.partnercenter.exception.PartnerException;
 import com.microsoft.store.partnercenter.models.SeekBasedResourceCollection;
@@ -24,6 +22,7 @@ import com.microsoft.store.partnercenter.models.customers.Customer;
 import com.microsoft.store.partnercenter.models.query.IQuery;
 import com.microsoft.store.partnercenter.models.query.QueryType;
 import com.microsoft.store.partnercenter.models.utils.KeyValuePair;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.relationshiprequests.CustomerRelationshipRequestOperations;
 import com.microsoft.store.partnercenter.relationshiprequests.ICustomerRelationshipRequest;
 import com.microsoft.store.partnercenter.usage.CustomerUsageRecordCollectionOperations;
@@ -126,8 +125,7 @@ public class CustomerCollectionOperations
 		return this.getPartner().getServiceClient().post(
 			this.getPartner(), 
 			new TypeReference<Customer>(){},
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("CreateCustomer").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("CreateCustomer").render(
 				this.getContext()),
 			newCustomer);
 	}
@@ -143,7 +141,21 @@ public class CustomerCollectionOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(), 
 			new TypeReference<SeekBasedResourceCollection<Customer>>(){},
-			PartnerService.getInstance().getConfiguration().getApis().get("GetCustomers").getPath());
+			ApiRouteRegistry.getInstance().getRoute("GetCustomers").getPath());
+	}
+
+	/**
+	 * Asynchronously retrieves all customers associated to the partner.
+	 *
+	 * @return A future that completes with all customers.
+	 */
+	@Override
+	public CompletableFuture<SeekBasedResourceCollection<Customer>> getAsync()
+	{
+		return this.getPartner().getServiceClient().getAsync(
+			this.getPartner(), 
+			new TypeReference<SeekBasedResourceCollection<Customer>>(){},
+			ApiRouteRegistry.getInstance().getRoute("GetCustomers").getPath());
 	}
 
 	/**
@@ -156,6 +168,50 @@ public class CustomerCollectionOperations
 	 */
 	@Override
 	public SeekBasedResourceCollection<Customer> query(IQuery customersQuery)
+	{
+		Collection<KeyValuePair<String, String>> parameters = new ArrayList<KeyValuePair<String, String>>();
+		Map<String, String> headers = new HashMap<>();
+
+		addQuery(customersQuery, headers, parameters);
+
+		return this.getPartner().getServiceClient().get(
+			this.getPartner(),
+			new TypeReference<SeekBasedResourceCollection<Customer>>(){}, 
+			ApiRouteRegistry.getInstance().getRoute("GetCustomers").getPath(),
+			headers,
+			parameters);
+	}
+
+	/**
+	 * Asynchronously queries customers associated to the partner. The same restrictions as {@link #query(IQuery)} apply.
+	 *
+	 * @param customersQuery A query to apply onto customers. Check {@link com.microsoft.store.partnercenter.models.query.QueryFactory} to see how to build queries.
+	 * @return A future that completes with the requested customers.
+	 */
+	@Override
+	public CompletableFuture<SeekBasedResourceCollection<Customer>> queryAsync(IQuery customersQuery)
+	{
+		Collection<KeyValuePair<String, String>> parameters = new ArrayList<KeyValuePair<String, String>>();
+		Map<String, String> headers = new HashMap<>();
+
+		addQuery(customersQuery, headers, parameters);
+
+		return this.getPartner().getServiceClient().getAsync(
+			this.getPartner(),
+			new TypeReference<SeekBasedResourceCollection<Customer>>(){}, 
+			ApiRouteRegistry.getInstance().getRoute("GetCustomers").getPath(),
+			headers,
+			parameters);
+	}
+
+	/**
+	 * Validates the customers query and adds its headers and parameters to the request.
+	 *
+	 * @param customersQuery A query to apply onto customers.
+	 * @param headers The request headers.
+	 * @param parameters The request parameters.
+	 */
+	private void addQuery(IQuery customersQuery, Map<String, String> headers, Collection<KeyValuePair<String, String>> parameters)
 	{
 		if (customersQuery == null)
 		{
@@ -167,9 +223,6 @@ public class CustomerCollectionOperations
 			throw new IllegalArgumentException("customersQuery can't be a count query.");
 		}
 
-		Collection<KeyValuePair<String, String>> parameters = new ArrayList<KeyValuePair<String, String>>();
-		Map<String, String> headers = new HashMap<>();
-
 		if (customersQuery.getType() == QueryType.SEEK)
 		{
 			// if this is a seek query, add the seek operation and the continuation token to the request
@@ -179,12 +232,12 @@ public class CustomerCollectionOperations
 			}
 
 			headers.put(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetCustomers").getAdditionalHeaders().get("ContinuationToken"),
+				ApiRouteRegistry.getInstance().getRoute("GetCustomers").getHeaderName("ContinuationToken"),
 				customersQuery.getToken().toString());
 
 			parameters.add(
 				new KeyValuePair<String, String>(
-					PartnerService.getInstance().getConfiguration().getApis().get("GetCustomers").getParameters().get("SeekOperation"),
+					ApiRouteRegistry.getInstance().getRoute("GetCustomers").getParameterName("SeekOperation"),
 					customersQuery.getSeekOperation().toString()));
 		}
 		else
@@ -202,14 +255,14 @@ public class CustomerCollectionOperations
 
 				parameters.add(
 					new KeyValuePair<String, String>(
-						PartnerService.getInstance().getConfiguration().getApis().get("GetCustomers").getParameters().get("Size"),
+						ApiRouteRegistry.getInstance().getRoute("GetCustomers").getParameterName("Size"),
 						String.valueOf(customersQuery.getPageSize())));
 			}
 			else
 			{
 				parameters.add(
 					new KeyValuePair<String, String>(
-						PartnerService.getInstance().getConfiguration().getApis().get("GetCustomers").getParameters().get("Size"),
+						ApiRouteRegistry.getInstance().getRoute("GetCustomers").getParameterName("Size"),
 						"0"));
 			}
 			if (customersQuery.getFilter() != null)
@@ -221,13 +274,8 @@ public class CustomerCollectionOperations
 				{
 					parameters.add(
 						new KeyValuePair<String, String>(
-							PartnerService.getInstance().getConfiguration().getApis().get("GetCustomers").getParameters().get("Filter"),
-							URLEncoder.encode(mapper.writeValueAsString(customersQuery.getFilter()),
-							"UTF-8")));
-				}
-				catch (UnsupportedEncodingException e)
-				{
-					throw new PartnerException("", null, PartnerErrorCategory.REQUEST_PARSING, e);
+							ApiRouteRegistry.getInstance().getRoute("GetCustomers").getParameterName("Filter"),
+							mapper.writeValueAsString(customersQuery.getFilter())));
 				}
 				catch (JsonProcessingException e)
 				{
@@ -235,12 +283,5 @@ public class CustomerCollectionOperations
 				}
 			}
 		}
-		
-		return this.getPartner().getServiceClient().get(
-			this.getPartner(),
-			new TypeReference<SeekBasedResourceCollection<Customer>>(){}, 
-			PartnerService.getInstance().getConfiguration().getApis().get("GetCustomers").getPath(),
-			headers,
-			parameters);
 	}
 }
\ No newline at end of file
@@ -3,12 +3,9 @@
 
 package com.microsoft.store.partnercenter.customers;
 
-import java.text.MessageFormat;
-
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponentString;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.agreements.CustomerAgreementCollectionOperations;
 import com.microsoft.store.partnercenter.agreements.ICustomerAgreementCollection;
 import com.microsoft.store.partnercenter.analytics.CustomerAnalyticsCollectionOperations;
@@ -40,6 +37,7 @@ import com.microsoft.store.partnercenter.entitlements.IEntitlementCollection;
 import com.microsoft.store.partnercenter.managedservices.IManagedServiceCollection;
 import com.microsoft.store.partnercenter.managedservices.ManagedServiceCollectionOperations;
 import com.microsoft.store.partnercenter.models.customers.Customer;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.offers.CustomerOfferCategoryCollectionOperations;
 import com.microsoft.store.partnercenter.offers.CustomerOfferCollectionOperations;
 import com.microsoft.store.partnercenter.offers.ICustomerOfferCategoryCollection;
@@ -596,11 +594,28 @@ public class CustomerOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<Customer>(){}, 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetCustomer").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetCustomer").render(
 				this.getContext()));
 	}
 
+	/**
+	 * Retrieves information of a specific customer if it changed since a previous instance was retrieved.
+	 * 
+	 * @param previous The previous instance of the customer, or null to always retrieve the customer.
+	 * @return The previous instance if the customer did not change; otherwise the current customer.
+	 */
+	@Override
+	public Customer getIfChanged(Customer previous)
+	{
+		return this.getPartner().getServiceClient().getIfChanged(
+			this.getPartner(),
+			new TypeReference<Customer>(){}, 
+			ApiRouteRegistry.getInstance().getRoute("GetCustomer").render(
+				this.getContext()),
+			null,
+			previous);
+	}
+
 	/**
 	 * Removes the relationship between the partner and customer when RelationshipToPartner == CustomerPartnerRelationship.NONE.
 	 * 
@@ -613,8 +628,7 @@ public class CustomerOperations
 		return this.getPartner().getServiceClient().patch(
 			this.getPartner(),
 			new TypeReference<Customer>(){}, 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("RemoveCustomerRelationship").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("RemoveCustomerRelationship").render(
 				this.getContext()),
 			customer);
 	}
@@ -628,8 +642,7 @@ public class CustomerOperations
 		this.getPartner().getServiceClient().delete(
 			this.getPartner(),
 			new TypeReference<Customer>(){}, 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("DeleteCustomer").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("DeleteCustomer").render(
 				this.getContext()));
 	}
 }
\ No newline at end of file
@@ -18,6 +18,7 @@ import com.microsoft.store.partnercenter.devicesdeployment.IConfigurationPolicyC
 import com.microsoft.store.partnercenter.devicesdeployment.ICustomerDeviceCollection;
 import com.microsoft.store.partnercenter.devicesdeployment.IDevicesBatchCollection;
 import com.microsoft.store.partnercenter.entitlements.IEntitlementCollection;
+import com.microsoft.store.partnercenter.genericoperations.IEntityConditionalGetOperations;
 import com.microsoft.store.partnercenter.genericoperations.IEntityDeleteOperations;
 import com.microsoft.store.partnercenter.genericoperations.IEntityGetOperations;
 import com.microsoft.store.partnercenter.genericoperations.IEntityPatchOperations;
@@ -38,7 +39,8 @@ import com.microsoft.store.partnercenter.usage.ICustomerUsageSummary;
  * Groups operations that can be performed on a single partner customer.
  */
 public interface ICustomer
-    extends IPartnerComponentString, IEntityGetOperations<Customer>, IEntityDeleteOperations<Customer>, IEntityPatchOperations<Customer>
+    extends IPartnerComponentString, IEntityGetOperations<Customer>, IEntityConditionalGetOperations<Customer>, 
+    IEntityDeleteOperations<Customer>, IEntityPatchOperations<Customer>
 {
     /**
      * Gets the agreements behavior for the customer.
@@ -3,6 +3,8 @@
 
 package com.microsoft.store.partnercenter.customers;
 
+import java.util.concurrent.CompletableFuture;
+
 import com.microsoft.store.partnercenter.IPartnerComponentString;
 import com.microsoft.store.partnercenter.genericoperations.IEntireEntityCollectionRetrievalOperations;
 import com.microsoft.store.partnercenter.genericoperations.IEntityCreateOperations;
@@ -57,4 +59,19 @@ public interface ICustomerCollection
      * @return The requested customers.
      */
     SeekBasedResourceCollection<Customer> query(IQuery customersQuery);
+
+    /**
+     * Asynchronously retrieves all the partner's customers.
+     * 
+     * @return A future that completes with the partner's customers.
+     */
+    CompletableFuture<SeekBasedResourceCollection<Customer>> getAsync();
+
+    /**
+     * Asynchronously queries customers associated to the partner. The same restrictions as {@link #query(IQuery)} apply.
+     * 
+     * @param customersQuery A query to apply onto customers. Check {@link com.microsoft.store.partnercenter.models.query.QueryFactory} to see how to build queries.
+     * @return A future that completes with the requested customers.
+     */
+    CompletableFuture<SeekBasedResourceCollection<Customer>> queryAsync(IQuery customersQuery);
 }
\ No newline at end of file
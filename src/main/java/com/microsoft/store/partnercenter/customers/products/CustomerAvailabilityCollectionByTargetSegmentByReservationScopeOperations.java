@@ -3,18 +3,17 @@
 
 package com.microsoft.store.partnercenter.customers.products;
 
-import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collection;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponent;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.ResourceCollection;
 import com.microsoft.store.partnercenter.models.products.Availability;
 import com.microsoft.store.partnercenter.models.utils.KeyValuePair;
 import com.microsoft.store.partnercenter.models.utils.QuintupleTuple;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.products.IAvailabilityCollectionByTargetSegmentByReservationScopeOperations;
 import com.microsoft.store.partnercenter.utils.StringHelper;
 
@@ -74,7 +73,7 @@ public class CustomerAvailabilityCollectionByTargetSegmentByReservationScopeOper
 		(
 			new KeyValuePair<String, String>
 			(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetCustomerProducts").getParameters().get("ReservationScope"),
+				ApiRouteRegistry.getInstance().getRoute("GetCustomerProducts").getParameterName("ReservationScope"),
 				this.getContext().getItem5()
 			) 
 		);
@@ -83,7 +82,7 @@ public class CustomerAvailabilityCollectionByTargetSegmentByReservationScopeOper
 		(
 			new KeyValuePair<String, String>
 			(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetCustomerProducts").getParameters().get("TargetSegment"),
+				ApiRouteRegistry.getInstance().getRoute("GetCustomerProducts").getParameterName("TargetSegment"),
 				this.getContext().getItem4()
 			) 
 		);
@@ -91,8 +90,7 @@ public class CustomerAvailabilityCollectionByTargetSegmentByReservationScopeOper
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<ResourceCollection<Availability>>(){}, 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetCustomerProducts").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetCustomerProducts").render(
                 this.getContext().getItem1(), 
                 this.getContext().getItem2(), 
                 this.getContext().getItem3()),
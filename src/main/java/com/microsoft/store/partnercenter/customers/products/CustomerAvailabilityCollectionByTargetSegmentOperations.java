@@ -3,18 +3,17 @@
 
 package com.microsoft.store.partnercenter.customers.products;
 
-import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collection;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponent;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.ResourceCollection;
 import com.microsoft.store.partnercenter.models.products.Availability;
 import com.microsoft.store.partnercenter.models.utils.KeyValuePair;
 import com.microsoft.store.partnercenter.models.utils.QuadrupleTuple;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.products.IAvailabilityCollectionByTargetSegment;
 import com.microsoft.store.partnercenter.products.IAvailabilityCollectionByTargetSegmentByReservationScopeOperations;
 import com.microsoft.store.partnercenter.utils.StringHelper;
@@ -82,15 +81,13 @@ public class CustomerAvailabilityCollectionByTargetSegmentOperations
 	public ResourceCollection<Availability> get() {
 		Collection<KeyValuePair<String, String>> parameters = new ArrayList<KeyValuePair<String, String>>();
 
-		parameters.add(new KeyValuePair<String, String>(PartnerService.getInstance().getConfiguration().getApis()
-				.get("GetCustomerAvailabilities").getParameters().get("TargetSegment"), this.getContext().getItem4()));
+		parameters.add(new KeyValuePair<String, String>(ApiRouteRegistry.getInstance()
+				.getRoute("GetCustomerAvailabilities").getParameterName("TargetSegment"), this.getContext().getItem4()));
 
 		return this.getPartner().getServiceClient().get(this.getPartner(),
 				new TypeReference<ResourceCollection<Availability>>() {
 				},
-				MessageFormat.format(
-						PartnerService.getInstance().getConfiguration().getApis().get("GetCustomerAvailabilities")
-								.getPath(),
+				ApiRouteRegistry.getInstance().getRoute("GetCustomerAvailabilities").render(
 						this.getContext().getItem1(), this.getContext().getItem2(), this.getContext().getItem3()),
 				parameters);
 	}
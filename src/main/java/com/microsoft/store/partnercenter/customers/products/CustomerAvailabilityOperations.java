@@ -3,14 +3,12 @@
 
 package com.microsoft.store.partnercenter.customers.products;
 
-import java.text.MessageFormat;
-
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponent;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.products.Availability;
 import com.microsoft.store.partnercenter.models.utils.QuadrupleTuple;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.products.IAvailability;
 import com.microsoft.store.partnercenter.utils.StringHelper;
 
@@ -66,8 +64,7 @@ public class CustomerAvailabilityOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<Availability>(){}, 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetCustomerAvailabilities").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetCustomerAvailabilities").render(
 				this.getContext().getItem1(), 
 				this.getContext().getItem2(), 
 				this.getContext().getItem3(),
@@ -3,18 +3,17 @@
 
 package com.microsoft.store.partnercenter.customers.products;
 
-import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collection;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponent;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.ResourceCollection;
 import com.microsoft.store.partnercenter.models.offers.Product;
 import com.microsoft.store.partnercenter.models.utils.KeyValuePair;
 import com.microsoft.store.partnercenter.models.utils.TripletTuple;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.utils.StringHelper;
 
 /**
@@ -66,7 +65,7 @@ public class CustomerProductCollectionByTargetViewByReservationScopeOperations
 		(
 			new KeyValuePair<String, String>
 			(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetCustomerProducts").getParameters().get("ReservationScope"),
+				ApiRouteRegistry.getInstance().getRoute("GetCustomerProducts").getParameterName("ReservationScope"),
 				this.getContext().getItem3()
 			) 
 		);
@@ -75,7 +74,7 @@ public class CustomerProductCollectionByTargetViewByReservationScopeOperations
 		(
 			new KeyValuePair<String, String>
 			(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetCustomerProducts").getParameters().get("TargetView"),
+				ApiRouteRegistry.getInstance().getRoute("GetCustomerProducts").getParameterName("TargetView"),
 				this.getContext().getItem3()
 			) 
 		);
@@ -83,8 +82,7 @@ public class CustomerProductCollectionByTargetViewByReservationScopeOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<ResourceCollection<Product>>(){}, 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetCustomerProducts").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetCustomerProducts").render(
 				this.getContext().getItem1()),
 			parameters);
     }
@@ -3,18 +3,17 @@
 
 package com.microsoft.store.partnercenter.customers.products;
 
-import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collection;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponent;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.ResourceCollection;
 import com.microsoft.store.partnercenter.models.offers.Product;
 import com.microsoft.store.partnercenter.models.utils.KeyValuePair;
 import com.microsoft.store.partnercenter.models.utils.QuadrupleTuple;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.utils.StringHelper;
 
 /**
@@ -72,7 +71,7 @@ public class CustomerProductCollectionByTargetViewByTargetSegmentByReservationSc
 		(
 			new KeyValuePair<String, String>
 			(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetCustomerProducts").getParameters().get("ReservationScope"),
+				ApiRouteRegistry.getInstance().getRoute("GetCustomerProducts").getParameterName("ReservationScope"),
 				this.getContext().getItem4()
 			) 
 		);
@@ -81,7 +80,7 @@ public class CustomerProductCollectionByTargetViewByTargetSegmentByReservationSc
 		(
 			new KeyValuePair<String, String>
 			(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetCustomerProducts").getParameters().get("TargetSegment"),
+				ApiRouteRegistry.getInstance().getRoute("GetCustomerProducts").getParameterName("TargetSegment"),
 				this.getContext().getItem3()
 			) 
 		);
@@ -90,7 +89,7 @@ public class CustomerProductCollectionByTargetViewByTargetSegmentByReservationSc
 		(
 			new KeyValuePair<String, String>
 			(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetCustomerProducts").getParameters().get("TargetView"),
+				ApiRouteRegistry.getInstance().getRoute("GetCustomerProducts").getParameterName("TargetView"),
 				this.getContext().getItem2()
 			) 
 		);
@@ -98,8 +97,7 @@ public class CustomerProductCollectionByTargetViewByTargetSegmentByReservationSc
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<ResourceCollection<Product>>(){}, 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetCustomerProducts").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetCustomerProducts").render(
 				this.getContext().getItem1()),
 			parameters);
     }
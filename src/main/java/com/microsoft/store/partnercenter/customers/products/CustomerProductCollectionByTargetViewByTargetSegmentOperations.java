@@ -3,18 +3,17 @@
 
 package com.microsoft.store.partnercenter.customers.products;
 
-import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collection;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponent;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.ResourceCollection;
 import com.microsoft.store.partnercenter.models.products.Product;
 import com.microsoft.store.partnercenter.models.utils.KeyValuePair;
 import com.microsoft.store.partnercenter.models.utils.TripletTuple;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.utils.StringHelper;
 
 /**
@@ -83,7 +82,7 @@ public class CustomerProductCollectionByTargetViewByTargetSegmentOperations
 		(
 			new KeyValuePair<String, String>
 			(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetCustomerProducts").getParameters().get("TargetSegment"),
+				ApiRouteRegistry.getInstance().getRoute("GetCustomerProducts").getParameterName("TargetSegment"),
 				this.getContext().getItem2()
 			) 
 		);
@@ -92,7 +91,7 @@ public class CustomerProductCollectionByTargetViewByTargetSegmentOperations
 		(
 			new KeyValuePair<String, String>
 			(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetCustomerProducts").getParameters().get("TargetView"),
+				ApiRouteRegistry.getInstance().getRoute("GetCustomerProducts").getParameterName("TargetView"),
 				this.getContext().getItem3()
 			) 
 		);
@@ -100,8 +99,7 @@ public class CustomerProductCollectionByTargetViewByTargetSegmentOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<ResourceCollection<Product>>(){}, 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetCustomerProducts").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetCustomerProducts").render(
 				this.getContext().getItem1()),
 			parameters);
 	}
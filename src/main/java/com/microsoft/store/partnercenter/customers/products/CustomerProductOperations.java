@@ -3,14 +3,12 @@
 
 package com.microsoft.store.partnercenter.customers.products;
 
-import java.text.MessageFormat;
-
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponent;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.products.Product;
 import com.microsoft.store.partnercenter.models.utils.Tuple;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.products.IProduct;
 import com.microsoft.store.partnercenter.products.ISkuCollection;
 import com.microsoft.store.partnercenter.utils.StringHelper;
@@ -57,8 +55,7 @@ public class CustomerProductOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<Product>(){}, 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetCustomerProduct").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetCustomerProduct").render(
 				this.getContext().getItem1(),
 				this.getContext().getItem2()));
 	}
@@ -3,18 +3,17 @@
 
 package com.microsoft.store.partnercenter.customers.products;
 
-import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collection;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponent;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.ResourceCollection;
 import com.microsoft.store.partnercenter.models.products.Sku;
 import com.microsoft.store.partnercenter.models.utils.KeyValuePair;
 import com.microsoft.store.partnercenter.models.utils.TripletTuple;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.products.ISkuCollectionByTargetSegment;
 import com.microsoft.store.partnercenter.utils.StringHelper;
 
@@ -66,7 +65,7 @@ public class CustomerSkuCollectionByTargetSegmentOperations
 		(
 			new KeyValuePair<String, String>
 			(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetCustomerSkus").getParameters().get("TargetSegment"),
+				ApiRouteRegistry.getInstance().getRoute("GetCustomerSkus").getParameterName("TargetSegment"),
 				this.getContext().getItem3()
 			) 
 		);
@@ -74,8 +73,7 @@ public class CustomerSkuCollectionByTargetSegmentOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<ResourceCollection<Sku>>(){}, 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetCustomerSkus").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetCustomerSkus").render(
 				this.getContext().getItem1(),
 				this.getContext().getItem2()),
 			parameters);
@@ -3,15 +3,13 @@
 
 package com.microsoft.store.partnercenter.customers.products;
 
-import java.text.MessageFormat;
-
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponent;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.ResourceCollection;
 import com.microsoft.store.partnercenter.models.products.Sku;
 import com.microsoft.store.partnercenter.models.utils.Tuple;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.products.ISku;
 import com.microsoft.store.partnercenter.products.ISkuCollection;
 import com.microsoft.store.partnercenter.products.ISkuCollectionByTargetSegment;
@@ -79,8 +77,7 @@ public class CustomerSkuCollectionOperations extends BasePartnerComponent<Tuple<
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<ResourceCollection<Sku>>(){}, 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetCustomerSkus").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetCustomerSkus").render(
 				this.getContext().getItem1(),
 				this.getContext().getItem2()));
 	}
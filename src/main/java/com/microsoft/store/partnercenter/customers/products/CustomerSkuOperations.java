@@ -3,14 +3,12 @@
 
 package com.microsoft.store.partnercenter.customers.products;
 
-import java.text.MessageFormat;
-
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponent;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.products.Sku;
 import com.microsoft.store.partnercenter.models.utils.TripletTuple;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.products.IAvailabilityCollection;
 import com.microsoft.store.partnercenter.products.ISku;
 import com.microsoft.store.partnercenter.utils.StringHelper;
@@ -78,8 +76,7 @@ public class CustomerSkuOperations extends BasePartnerComponent<TripletTuple<Str
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<Sku>(){}, 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetCustomerSku").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetCustomerSku").render(
 				this.getContext().getItem1(),
 				this.getContext().getItem2(),
 				this.getContext().getItem3()));
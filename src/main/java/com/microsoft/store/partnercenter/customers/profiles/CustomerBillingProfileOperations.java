@@ -3,13 +3,11 @@
 
 package com.microsoft.store.partnercenter.customers.profiles;
 
-import java.text.MessageFormat;
-
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponentString;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.customers.CustomerBillingProfile;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.utils.StringHelper;
 
 /**
@@ -45,8 +43,7 @@ public class CustomerBillingProfileOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<CustomerBillingProfile>(){}, 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetCustomerBillingProfile").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetCustomerBillingProfile").render(
 				this.getContext()));
 	}
 
@@ -67,8 +64,7 @@ public class CustomerBillingProfileOperations
 		return this.getPartner().getServiceClient().put(
 			this.getPartner(),
 			new TypeReference<CustomerBillingProfile>(){}, 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("UpdateCustomerBillingProfile").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("UpdateCustomerBillingProfile").render(
 				this.getContext()),
 			billingProfile);
 	}
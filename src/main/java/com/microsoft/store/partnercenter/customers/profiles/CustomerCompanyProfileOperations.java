@@ -3,13 +3,11 @@
 
 package com.microsoft.store.partnercenter.customers.profiles;
 
-import java.text.MessageFormat;
-
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponentString;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.customers.CustomerCompanyProfile;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.utils.StringHelper;
 
 /**
@@ -45,8 +43,7 @@ public class CustomerCompanyProfileOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<CustomerCompanyProfile>(){}, 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetCustomerCompanyProfile").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetCustomerCompanyProfile").render(
 				this.getContext()));
 	}
 }
\ No newline at end of file
@@ -3,15 +3,13 @@
 
 package com.microsoft.store.partnercenter.customers.servicecosts;
 
-import java.text.MessageFormat;
-
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponent;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.ResourceCollection;
 import com.microsoft.store.partnercenter.models.servicecosts.ServiceCostLineItem;
 import com.microsoft.store.partnercenter.models.utils.Tuple;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 
 /**
  * Represents the behavior of the customer service cost line items as a whole.
@@ -47,8 +45,7 @@ public class ServiceCostLineItemsOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<ResourceCollection<ServiceCostLineItem>>(){}, 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetCustomerServiceCostLineItems").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetCustomerServiceCostLineItems").render(
 				this.getContext().getItem1(), 
 				this.getContext().getItem2()));
 	}
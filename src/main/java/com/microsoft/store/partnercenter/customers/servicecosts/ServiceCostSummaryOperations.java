@@ -3,14 +3,12 @@
 
 package com.microsoft.store.partnercenter.customers.servicecosts;
 
-import java.text.MessageFormat;
-
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponent;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.servicecosts.ServiceCostsSummary;
 import com.microsoft.store.partnercenter.models.utils.Tuple;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 
 /**
  * This class implements the operations for a customer's service costs summary.
@@ -46,8 +44,7 @@ public class ServiceCostSummaryOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<ServiceCostsSummary>(){}, 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetCustomerServiceCostsSummary").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetCustomerServiceCostsSummary").render(
 				this.getContext().getItem1(), 
 				this.getContext().getItem2()));
 	}
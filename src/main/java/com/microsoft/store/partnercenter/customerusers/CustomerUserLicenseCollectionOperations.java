@@ -3,7 +3,6 @@
 
 package com.microsoft.store.partnercenter.customerusers;
 
-import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -11,12 +10,12 @@ import java.util.List;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponent;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.ResourceCollection;
 import com.microsoft.store.partnercenter.models.licenses.License;
 import com.microsoft.store.partnercenter.models.licenses.LicenseGroupId;
 import com.microsoft.store.partnercenter.models.utils.KeyValuePair;
 import com.microsoft.store.partnercenter.models.utils.Tuple;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.utils.StringHelper;
 
 public class CustomerUserLicenseCollectionOperations 
@@ -54,8 +53,7 @@ public class CustomerUserLicenseCollectionOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<ResourceCollection<License>>(){}, 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetCustomerUserAssignedLicenses").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetCustomerUserAssignedLicenses").render(
 				this.getContext().getItem1(), 
 				this.getContext().getItem2()));
 	}
@@ -76,7 +74,7 @@ public class CustomerUserLicenseCollectionOperations
 			(
 				new KeyValuePair<String, String>
 				(
-					PartnerService.getInstance().getConfiguration().getApis().get("GetCustomerUserAssignedLicenses").getParameters().get("licenseGroupIds"),
+					ApiRouteRegistry.getInstance().getRoute("GetCustomerUserAssignedLicenses").getParameterName("licenseGroupIds"),
 					groupId.toString()
 				) 
 			);
@@ -85,8 +83,7 @@ public class CustomerUserLicenseCollectionOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<ResourceCollection<License>>(){}, 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetCustomerUserAssignedLicenses").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetCustomerUserAssignedLicenses").render(
 				this.getContext().getItem1(), 
 				this.getContext().getItem2()),
 			parameters);
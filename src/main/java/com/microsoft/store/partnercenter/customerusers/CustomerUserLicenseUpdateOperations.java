@@ -3,14 +3,12 @@
 
 package com.microsoft.store.partnercenter.customerusers;
 
-import java.text.MessageFormat;
-
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponent;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.licenses.LicenseUpdate;
 import com.microsoft.store.partnercenter.models.utils.Tuple;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.utils.StringHelper;
 
 public class CustomerUserLicenseUpdateOperations 
@@ -58,8 +56,7 @@ public class CustomerUserLicenseUpdateOperations
 		return this.getPartner().getServiceClient().post(
 			this.getPartner(), 
 			new TypeReference<LicenseUpdate>(){},
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("SetCustomerUserLicenseUpdates").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("SetCustomerUserLicenseUpdates").render(
 				this.getContext().getItem1(),
 				this.getContext().getItem2()),
 			entity);
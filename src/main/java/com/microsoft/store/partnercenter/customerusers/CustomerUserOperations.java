@@ -3,14 +3,12 @@
 
 package com.microsoft.store.partnercenter.customerusers;
 
-import java.text.MessageFormat;
-
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponent;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.users.CustomerUser;
 import com.microsoft.store.partnercenter.models.utils.Tuple;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.utils.StringHelper;
 
 public class CustomerUserOperations 
@@ -63,8 +61,7 @@ public class CustomerUserOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<CustomerUser>(){}, 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetCustomerUserDetails").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetCustomerUserDetails").render(
 				this.getContext().getItem1(), 
 				this.getContext().getItem2()));
 	}
@@ -78,8 +75,7 @@ public class CustomerUserOperations
 		this.getPartner().getServiceClient().delete(
 			this.getPartner(),
 			new TypeReference<CustomerUser>(){}, 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("DeleteCustomerUser").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("DeleteCustomerUser").render(
 				this.getContext().getItem1(), 
 				this.getContext().getItem2()));
 	}
@@ -101,8 +97,7 @@ public class CustomerUserOperations
 		return this.getPartner().getServiceClient().patch(
 			this.getPartner(),
 			new TypeReference<CustomerUser>(){}, 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("UpdateCustomerUser").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("UpdateCustomerUser").render(
 				this.getContext().getItem1(), 
 				this.getContext().getItem2()),
 			customerUser);
@@ -3,15 +3,13 @@
 
 package com.microsoft.store.partnercenter.customerusers;
 
-import java.text.MessageFormat;
-
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponent;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.ResourceCollection;
 import com.microsoft.store.partnercenter.models.roles.DirectoryRole;
 import com.microsoft.store.partnercenter.models.utils.Tuple;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.utils.StringHelper;
 
 public class CustomerUserRoleCollectionOperations 
@@ -45,8 +43,7 @@ public class CustomerUserRoleCollectionOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<ResourceCollection<DirectoryRole>>(){}, 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("CustomerUserDirectoryRoles").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("CustomerUserDirectoryRoles").render(
 				this.getContext().getItem1(), 
 				this.getContext().getItem2()));
 	}
@@ -3,9 +3,6 @@
 
 package com.microsoft.store.partnercenter.customerusers;
 
-import java.io.UnsupportedEncodingException;
-import java.net.URLEncoder;
-import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -16,7 +13,6 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.microsoft.store.partnercenter.BasePartnerComponent;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.exception.PartnerErrorCategory;
 import com.microsoft.store.partnercenter.exception.PartnerException;
 import com.microsoft.store.partnercenter.models.SeekBasedResourceCollection;
@@ -24,6 +20,7 @@ import com.microsoft.store.partnercenter.models.query.IQuery;
 import com.microsoft.store.partnercenter.models.query.QueryType;
 import com.microsoft.store.partnercenter.models.users.CustomerUser;
 import com.microsoft.store.partnercenter.models.utils.KeyValuePair;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.utils.StringHelper;
 
 public class CustomerUsersCollectionOperations 
@@ -62,8 +59,7 @@ public class CustomerUsersCollectionOperations
 		return this.getPartner().getServiceClient().post(
 			this.getPartner(), 
 			new TypeReference<CustomerUser>(){},
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("CreateCustomerUser").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("CreateCustomerUser").render(
 				this.getContext()),
 			newCustomerUser);
 	}
@@ -79,8 +75,7 @@ public class CustomerUsersCollectionOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<SeekBasedResourceCollection<CustomerUser>>(){}, 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetCustomerUsers").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetCustomerUsers").render(
 				this.getContext()));
 	}
 
@@ -127,12 +122,12 @@ public class CustomerUsersCollectionOperations
 			}
 
 			headers.put(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetCustomerUsers").getAdditionalHeaders().get("ContinuationToken"),
+				ApiRouteRegistry.getInstance().getRoute("GetCustomerUsers").getHeaderName("ContinuationToken"),
 				customerUsersQuery.getToken().toString());
 			
 			parameters.add(
 				new KeyValuePair<String, String>(
-					PartnerService.getInstance().getConfiguration().getApis().get("GetCustomerUsers").getParameters().get("SeekOperation"),
+					ApiRouteRegistry.getInstance().getRoute("GetCustomerUsers").getParameterName("SeekOperation"),
 					customerUsersQuery.getSeekOperation().toString()));
 		}
 		else
@@ -141,14 +136,14 @@ public class CustomerUsersCollectionOperations
 			{
 				parameters.add(
 					new KeyValuePair<String, String>(
-						PartnerService.getInstance().getConfiguration().getApis().get("GetCustomerUsers").getParameters().get("Size"),
+						ApiRouteRegistry.getInstance().getRoute("GetCustomerUsers").getParameterName("Size"),
 						String.valueOf(customerUsersQuery.getPageSize())));
 			}
 			else
 			{
 				parameters.add(
 					new KeyValuePair<String, String>(
-						PartnerService.getInstance().getConfiguration().getApis().get("GetCustomerUsers").getParameters().get("Size"),
+						ApiRouteRegistry.getInstance().getRoute("GetCustomerUsers").getParameterName("Size"),
 						"0"));
 			}
 			if (customerUsersQuery.getFilter() != null)
@@ -160,13 +155,8 @@ public class CustomerUsersCollectionOperations
 				{
 					parameters.add(
 						new KeyValuePair<String, String>(
-							PartnerService.getInstance().getConfiguration().getApis().get("GetCustomerUsers").getParameters().get("Filter"),
-							URLEncoder.encode(mapper.writeValueAsString(customerUsersQuery.getFilter()),
-							"UTF-8")));
-				}
-				catch (UnsupportedEncodingException e)
-				{
-					throw new PartnerException("", null, PartnerErrorCategory.REQUEST_PARSING, e);
+							ApiRouteRegistry.getInstance().getRoute("GetCustomerUsers").getParameterName("Filter"),
+							mapper.writeValueAsString(customerUsersQuery.getFilter())));
 				}
 				catch (JsonProcessingException e)
 				{
@@ -177,12 +167,12 @@ public class CustomerUsersCollectionOperations
 			{
 				parameters.add(
 					new KeyValuePair<String, String>(
-						PartnerService.getInstance().getConfiguration().getApis().get("GetCustomerUsers").getParameters().get("SortField"),
+						ApiRouteRegistry.getInstance().getRoute("GetCustomerUsers").getParameterName("SortField"),
 						customerUsersQuery.getSort().getSortField())); 
 
 				parameters.add(
 					new KeyValuePair<String, String>(
-						PartnerService.getInstance().getConfiguration().getApis().get("GetCustomerUsers").getParameters().get("SortDirection"),
+						ApiRouteRegistry.getInstance().getRoute("GetCustomerUsers").getParameterName("SortDirection"),
 						customerUsersQuery.getSort().getSortDirection().toString()));
 			}
 		}
@@ -190,8 +180,7 @@ public class CustomerUsersCollectionOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<SeekBasedResourceCollection<CustomerUser>>(){}, 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetCustomerUsers").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetCustomerUsers").render(
 				this.getContext()),
 			headers,
 			parameters);
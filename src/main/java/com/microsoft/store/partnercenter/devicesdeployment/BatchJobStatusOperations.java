@@ -3,14 +3,12 @@
 
 package com.microsoft.store.partnercenter.devicesdeployment;
 
-import java.text.MessageFormat;
-
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponent;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.devicesdeployment.BatchUploadDetails;
 import com.microsoft.store.partnercenter.models.utils.Tuple;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.utils.StringHelper;
 
 /**
@@ -48,8 +46,7 @@ public class BatchJobStatusOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<BatchUploadDetails>(){}, 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetBatchUploadStatus").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetBatchUploadStatus").render(
 				this.getContext().getItem1(),
 				this.getContext().getItem2()));
 	}
@@ -3,14 +3,12 @@
 
 package com.microsoft.store.partnercenter.devicesdeployment;
 
-import java.text.MessageFormat;
-
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponentString;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.ResourceCollection;
 import com.microsoft.store.partnercenter.models.devicesdeployment.ConfigurationPolicy;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.utils.StringHelper;
 
 /**
@@ -65,8 +63,7 @@ public class ConfigurationPolicyCollectionOperations
 		return this.getPartner().getServiceClient().post(
 			this.getPartner(), 
 			new TypeReference<ConfigurationPolicy>(){},
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("CreateConfigurationPolicy").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("CreateConfigurationPolicy").render(
 				this.getContext()),
 			newPolicy);
 	}
@@ -82,8 +79,7 @@ public class ConfigurationPolicyCollectionOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<ResourceCollection<ConfigurationPolicy>>(){}, 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetConfigurationPolicies").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetConfigurationPolicies").render(
 				this.getContext()));
 	}
 }
\ No newline at end of file
@@ -3,13 +3,11 @@
 
 package com.microsoft.store.partnercenter.devicesdeployment;
 
-import java.text.MessageFormat;
-
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponent;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.devicesdeployment.ConfigurationPolicy;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.utils.StringHelper;
 import com.microsoft.store.partnercenter.models.utils.Tuple;
 
@@ -48,8 +46,7 @@ public class ConfigurationPolicyOperations
         return this.getPartner().getServiceClient().get(
             this.getPartner(),
             new TypeReference<ConfigurationPolicy>(){}, 
-            MessageFormat.format(
-                PartnerService.getInstance().getConfiguration().getApis().get("GetConfigurationPolicy").getPath(),
+            ApiRouteRegistry.getInstance().getRoute("GetConfigurationPolicy").render(
                 this.getContext().getItem1(), 
                 this.getContext().getItem2()));
     }
@@ -66,8 +63,7 @@ public class ConfigurationPolicyOperations
         return this.getPartner().getServiceClient().put(
             this.getPartner(),
             new TypeReference<ConfigurationPolicy>(){}, 
-            MessageFormat.format(
-                PartnerService.getInstance().getConfiguration().getApis().get("UpdateConfigurationPolicy").getPath(),
+            ApiRouteRegistry.getInstance().getRoute("UpdateConfigurationPolicy").render(
                 this.getContext().getItem1(), 
                 this.getContext().getItem2()),
             policy);
@@ -81,8 +77,7 @@ public class ConfigurationPolicyOperations
         this.getPartner().getServiceClient().get(
             this.getPartner(),
             new TypeReference<ConfigurationPolicy>(){}, 
-            MessageFormat.format(
-                PartnerService.getInstance().getConfiguration().getApis().get("DeleteConfigurationPolicy").getPath(),
+            ApiRouteRegistry.getInstance().getRoute("DeleteConfigurationPolicy").render(
                 this.getContext().getItem1(), 
                 this.getContext().getItem2()));
     }
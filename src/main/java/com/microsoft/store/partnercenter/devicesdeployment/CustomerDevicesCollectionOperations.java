@@ -3,13 +3,11 @@
 
 package com.microsoft.store.partnercenter.devicesdeployment;
 
-import java.text.MessageFormat;
-
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponentString;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.devicesdeployment.DevicePolicyUpdateRequest;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.utils.StringHelper;
 
 import okhttp3.Response;
@@ -49,8 +47,7 @@ public class CustomerDevicesCollectionOperations
 		Response response = this.getPartner().getServiceClient().patch(
 			this.getPartner(), 
 			new TypeReference<Response>(){}, 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("UpdateDevicesWithPolicies").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("UpdateDevicesWithPolicies").render(
 				this.getContext()),
 			devicePolicyUpdateRequest);
 
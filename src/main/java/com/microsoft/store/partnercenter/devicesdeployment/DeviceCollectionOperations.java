@@ -3,16 +3,15 @@
 
 package com.microsoft.store.partnercenter.devicesdeployment;
 
-import java.text.MessageFormat;
 import java.util.List;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponent;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.ResourceCollection;
 import com.microsoft.store.partnercenter.models.devicesdeployment.Device;
 import com.microsoft.store.partnercenter.models.utils.Tuple;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.utils.StringHelper;
 
 import okhttp3.Response;
@@ -70,8 +69,7 @@ public class DeviceCollectionOperations
 		Response response = this.getPartner().getServiceClient().post(
 			this.getPartner(), 
 			new TypeReference<Response>(){}, 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("AddDevicestoDeviceBatch").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("AddDevicestoDeviceBatch").render(
 				this.getContext().getItem1(),
 				this.getContext().getItem2()),
 			newDevices);
@@ -90,8 +88,7 @@ public class DeviceCollectionOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<ResourceCollection<Device>>(){}, 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetDevices").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetDevices").render(
 				this.getContext().getItem1(), 
 				this.getContext().getItem2()));
 	}
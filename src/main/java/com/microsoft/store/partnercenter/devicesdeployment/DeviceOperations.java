@@ -3,15 +3,13 @@
 
 package com.microsoft.store.partnercenter.devicesdeployment;
 
-import java.text.MessageFormat;
-
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponent;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.devicesdeployment.ConfigurationPolicy;
 import com.microsoft.store.partnercenter.models.devicesdeployment.Device;
 import com.microsoft.store.partnercenter.models.utils.TripletTuple;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.utils.StringHelper;
 
 /**
@@ -56,8 +54,7 @@ public class DeviceOperations
         return this.getPartner().getServiceClient().put(
             this.getPartner(),
             new TypeReference<Device>(){}, 
-            MessageFormat.format(
-                PartnerService.getInstance().getConfiguration().getApis().get("UpdateDevice").getPath(),
+            ApiRouteRegistry.getInstance().getRoute("UpdateDevice").render(
                 this.getContext().getItem1(), 
                 this.getContext().getItem2()),
             updateDevice);
@@ -71,8 +68,7 @@ public class DeviceOperations
         this.getPartner().getServiceClient().delete(
             this.getPartner(),
             new TypeReference<ConfigurationPolicy>(){}, 
-            MessageFormat.format(
-                PartnerService.getInstance().getConfiguration().getApis().get("DeleteDevice").getPath(),
+            ApiRouteRegistry.getInstance().getRoute("DeleteDevice").render(
                 this.getContext().getItem1(), 
                 this.getContext().getItem2(), 
                 this.getContext().getItem3()));
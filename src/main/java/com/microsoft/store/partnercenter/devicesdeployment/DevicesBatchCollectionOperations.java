@@ -3,15 +3,13 @@
 
 package com.microsoft.store.partnercenter.devicesdeployment;
 
-import java.text.MessageFormat;
-
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponentString;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.ResourceCollection;
 import com.microsoft.store.partnercenter.models.devicesdeployment.DeviceBatch;
 import com.microsoft.store.partnercenter.models.devicesdeployment.DeviceBatchCreationRequest;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.utils.StringHelper;
 
 import okhttp3.Response;
@@ -59,8 +57,7 @@ public class DevicesBatchCollectionOperations
 		Response response = this.getPartner().getServiceClient().post(
 			this.getPartner(), 
 			new TypeReference<Response>(){}, 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("CreateDeviceBatch").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("CreateDeviceBatch").render(
 				this.getContext()),
 			newDeviceBatch);
 
@@ -77,8 +74,7 @@ public class DevicesBatchCollectionOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<ResourceCollection<DeviceBatch>>(){}, 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetDeviceBatches").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetDeviceBatches").render(
 				this.getContext()));
 	}
 }
\ No newline at end of file
@@ -3,14 +3,12 @@
 
 package com.microsoft.store.partnercenter.domains;
 
-import java.text.MessageFormat;
-
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponentString;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.exception.PartnerErrorCategory;
 import com.microsoft.store.partnercenter.exception.PartnerException;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 
 public class DomainOperations extends BasePartnerComponentString implements IDomain
  {
@@ -43,8 +41,7 @@ public class DomainOperations extends BasePartnerComponentString implements IDom
 			this.getPartner().getServiceClient().head(
 				this.getPartner(),
 				new TypeReference<String>(){}, 
-				MessageFormat.format(
-					PartnerService.getInstance().getConfiguration().getApis().get("CheckDomainAvailability").getPath(),
+				ApiRouteRegistry.getInstance().getRoute("CheckDomainAvailability").render(
 					this.getContext()));
 		}
 		catch(PartnerException ex)
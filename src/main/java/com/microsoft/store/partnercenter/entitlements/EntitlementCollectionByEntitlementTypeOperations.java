@@ -3,18 +3,17 @@
 
 package com.microsoft.store.partnercenter.entitlements;
 
-import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collection;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponent;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.ResourceCollection;
 import com.microsoft.store.partnercenter.models.entitlements.Entitlement;
 import com.microsoft.store.partnercenter.models.utils.KeyValuePair;
 import com.microsoft.store.partnercenter.models.utils.Tuple;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.utils.StringHelper;
 
 /**
@@ -72,7 +71,7 @@ public class EntitlementCollectionByEntitlementTypeOperations
 		(
 			new KeyValuePair<String, String>
 			(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetEntitlements").getParameters().get("EntitlementType"),
+				ApiRouteRegistry.getInstance().getRoute("GetEntitlements").getParameterName("EntitlementType"),
 				this.getContext().getItem2()
 			) 
 		);
@@ -81,7 +80,7 @@ public class EntitlementCollectionByEntitlementTypeOperations
 		(
 			new KeyValuePair<String, String>
 			(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetEntitlements").getParameters().get("ShowExpiry"),
+				ApiRouteRegistry.getInstance().getRoute("GetEntitlements").getParameterName("ShowExpiry"),
 				String.valueOf(showExpiry)
 			) 
 		);
@@ -89,8 +88,7 @@ public class EntitlementCollectionByEntitlementTypeOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<ResourceCollection<Entitlement>>(){}, 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetEntitlements").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetEntitlements").render(
 				this.getContext().getItem1()),
 			parameters);
 	}
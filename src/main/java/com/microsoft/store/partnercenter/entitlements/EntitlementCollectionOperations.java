@@ -3,18 +3,17 @@
 
 package com.microsoft.store.partnercenter.entitlements;
 
-import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collection;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponentString;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.genericoperations.IEntireEntityCollectionRetrievalOperations;
 import com.microsoft.store.partnercenter.models.ResourceCollection;
 import com.microsoft.store.partnercenter.models.entitlements.Entitlement;
 import com.microsoft.store.partnercenter.models.utils.KeyValuePair;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.utils.StringHelper;
 
 /**
@@ -78,7 +77,7 @@ public class EntitlementCollectionOperations
 		(
 			new KeyValuePair<String, String>
 			(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetEntitlements").getParameters().get("ShowExpiry"),
+				ApiRouteRegistry.getInstance().getRoute("GetEntitlements").getParameterName("ShowExpiry"),
 				String.valueOf(showExpiry)
 			) 
 		);
@@ -86,8 +85,7 @@ public class EntitlementCollectionOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<ResourceCollection<Entitlement>>(){}, 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetEntitlements").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetEntitlements").render(
 				this.getContext()),
 			parameters);
 	}
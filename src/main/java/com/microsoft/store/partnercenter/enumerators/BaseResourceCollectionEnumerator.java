@@ -3,6 +3,12 @@
 
 package com.microsoft.store.partnercenter.enumerators;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.BiConsumer;
+
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.microsoft.store.partnercenter.BasePartnerComponentString;
@@ -12,7 +18,9 @@ import com.microsoft.store.partnercenter.models.StandardResourceCollectionLinks;
 import com.microsoft.store.partnercenter.requestcontext.IRequestContext;
 
 /**
- * Base implementation for resource collection enumerators.
+ * Base implementation for resource collection enumerators. When a prefetch depth is specified, the pages following the
+ * current one are requested in the background through their next links, so fetching overlaps with the processing of
+ * the current page. A failure to fetch a page is raised by the call to next that would have returned it.
  */
 public abstract class BaseResourceCollectionEnumerator<T extends ResourceBaseWithLinks<StandardResourceCollectionLinks>>
     extends BasePartnerComponentString
@@ -25,6 +33,17 @@ public abstract class BaseResourceCollectionEnumerator<T extends ResourceBaseWit
      */
     private T resourceCollection = null;
 
+    /**
+     * The number of pages to fetch ahead of the current one.
+     */
+    private int prefetchDepth;
+
+    /**
+     * The pages being fetched ahead of the current one, in order. A page that completes with null marks the end of
+     * the collection.
+     */
+    private Deque<CompletableFuture<T>> prefetchedPages = new ArrayDeque<>();
+
     /**
      * Initializes a new instance of the BaseResourceCollectionEnumerator class.
      * 
@@ -36,6 +55,23 @@ public abstract class BaseResourceCollectionEnumerator<T extends ResourceBaseWit
     protected BaseResourceCollectionEnumerator(IPartner rootPartnerOperations, T resourceCollection,
                                                 ObjectMapper resourceCollectionConverter,
                                                 TypeReference<T> responseType)
+    {
+        this(rootPartnerOperations, resourceCollection, resourceCollectionConverter, responseType, 0);
+    }
+
+    /**
+     * Initializes a new instance of the BaseResourceCollectionEnumerator class.
+     * 
+     * @param rootPartnerOperations The root partner operations instance.
+     * @param resourceCollection The initial resource collection.
+     * @param resourceCollectionConverter An optional converter.
+     * @param responseType The type of the resource collection.
+     * @param prefetchDepth The number of pages to fetch ahead of the current one. Zero disables prefetching.
+     */
+    protected BaseResourceCollectionEnumerator(IPartner rootPartnerOperations, T resourceCollection,
+                                                ObjectMapper resourceCollectionConverter,
+                                                TypeReference<T> responseType,
+                                                int prefetchDepth)
     {
         super(rootPartnerOperations);
         if (resourceCollection == null)
@@ -43,8 +79,16 @@ public abstract class BaseResourceCollectionEnumerator<T extends ResourceBaseWit
             throw new IllegalArgumentException("resourceCollection null");
         }
 
+        if (prefetchDepth < 0)
+        {
+            throw new IllegalArgumentException("prefetchDepth cannot be negative");
+        }
+
         this.resourceCollection = resourceCollection;
         this.responseType = responseType;
+        this.prefetchDepth = prefetchDepth;
+
+        this.prefetch();
     }
 
     /**
@@ -127,14 +171,41 @@ public abstract class BaseResourceCollectionEnumerator<T extends ResourceBaseWit
         if (this.isLastPage())
         {
             // we are done
+            this.cancel();
             this.resourceCollection = null;
         }
+        else if (!this.prefetchedPages.isEmpty())
+        {
+            CompletableFuture<T> nextPage = this.prefetchedPages.peekFirst();
+
+            try
+            {
+                this.resourceCollection = nextPage.join();
+            }
+            catch (CompletionException ex)
+            {
+                // the pages after the failed one cannot be fetched, start over from the current page on the next call
+                this.cancel();
+
+                if (ex.getCause() instanceof RuntimeException)
+                {
+                    throw (RuntimeException)ex.getCause();
+                }
+
+                throw ex;
+            }
+
+            this.prefetchedPages.removeFirst();
+            this.prefetch();
+        }
         else
         {
             this.resourceCollection = this.getPartner().getServiceClient().get(
                 this.getPartner(),
                 responseType,
                 this.resourceCollection.getLinks().getNext());
+
+            this.prefetch();
         }
     }
 
@@ -160,6 +231,9 @@ public abstract class BaseResourceCollectionEnumerator<T extends ResourceBaseWit
             throw new UnsupportedOperationException("The enumerator does not have a current value");
         }
 
+        // pages fetched ahead no longer follow the current page
+        this.cancel();
+
         if (this.isFirstPage())
         {
             // we are done
@@ -171,6 +245,106 @@ public abstract class BaseResourceCollectionEnumerator<T extends ResourceBaseWit
                 this.getPartner(),
                 responseType,
                 this.resourceCollection.getLinks().getPrevious());
+
+            this.prefetch();
+        }
+    }
+
+    /**
+     * Cancels the pages that are being fetched ahead of the current one. The enumerator stays usable and fetches the
+     * following pages again when next is called.
+     */
+    @Override
+    public void cancel()
+    {
+        while (!this.prefetchedPages.isEmpty())
+        {
+            this.prefetchedPages.removeFirst().cancel(true);
+        }
+    }
+
+    /**
+     * Requests the pages following the current one until the prefetch depth is reached.
+     */
+    private void prefetch()
+    {
+        if (this.resourceCollection == null)
+        {
+            return;
         }
+
+        while (this.prefetchedPages.size() < this.prefetchDepth)
+        {
+            CompletableFuture<T> previousPage = this.prefetchedPages.isEmpty()
+                ? CompletableFuture.completedFuture(this.resourceCollection)
+                : this.prefetchedPages.peekLast();
+
+            this.prefetchedPages.addLast(this.fetchAfter(previousPage));
+        }
+    }
+
+    /**
+     * Fetches the page that follows the given page once that page is available. Cancelling the returned future
+     * cancels the request for the page.
+     * 
+     * @param previousPage The page preceding the one to fetch.
+     * @return A future that completes with the page, or with null if the previous page was the last one.
+     */
+    private CompletableFuture<T> fetchAfter(CompletableFuture<T> previousPage)
+    {
+        final CompletableFuture<T> page = new CompletableFuture<>();
+
+        previousPage.whenComplete(new BiConsumer<T, Throwable>()
+        {
+            @Override
+            public void accept(T value, Throwable ex)
+            {
+                if (ex != null)
+                {
+                    page.completeExceptionally(ex);
+                }
+                else if (value == null || value.getLinks() == null || value.getLinks().getNext() == null)
+                {
+                    page.complete(null);
+                }
+                else if (!page.isDone())
+                {
+                    final CompletableFuture<T> request = getPartner().getServiceClient().getAsync(
+                        getPartner(),
+                        responseType,
+                        value.getLinks().getNext());
+
+                    request.whenComplete(new BiConsumer<T, Throwable>()
+                    {
+                        @Override
+                        public void accept(T fetchedPage, Throwable failure)
+                        {
+                            if (failure != null)
+                            {
+                                page.completeExceptionally(failure);
+                            }
+                            else
+                            {
+                                page.complete(fetchedPage);
+                            }
+                        }
+                    });
+
+                    page.whenComplete(new BiConsumer<T, Throwable>()
+                    {
+                        @Override
+                        public void accept(T fetchedPage, Throwable failure)
+                        {
+                            if (page.isCancelled())
+                            {
+                                request.cancel(true);
+                            }
+                        }
+                    });
+                }
+            }
+        });
+
+        return page;
     }
 }
\ No newline at end of file
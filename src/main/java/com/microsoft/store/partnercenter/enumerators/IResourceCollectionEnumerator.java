@@ -67,4 +67,9 @@ public interface IResourceCollectionEnumerator<T extends ResourceBaseWithLinks<S
      *            will be used.
      */
     void previous(IRequestContext context);
+
+    /**
+     * Cancels the pages that are being fetched ahead of the current one, if any. The enumerator stays usable.
+     */
+    void cancel();
 }
@@ -31,4 +31,23 @@ public class IndexBasedCollectionEnumerator<T extends ResourceBase, TResourceCol
     {
         super(partnerOperations, pagedResourceCollection, resourceCollectionConverter, responseType);
     }
+
+    /**
+     * Initializes a new instance of the IndexBasedCollectionEnumerator class that fetches pages ahead of the current
+     * one in the background.
+     * 
+     * @param partnerOperations A partner operations instance.
+     * @param pagedResourceCollection The paged resource collection to enumerate from.
+     * @param resourceCollectionConverter The resource collection converter.
+     * @param responseType The type of resource collection.
+     * @param prefetchDepth The number of pages to fetch ahead of the current one. Zero disables prefetching.
+     */
+    public IndexBasedCollectionEnumerator(IPartner partnerOperations,
+                                           TResourceCollection pagedResourceCollection,
+                                           ObjectMapper resourceCollectionConverter,
+                                           TypeReference<TResourceCollection> responseType,
+                                           int prefetchDepth)
+    {
+        super(partnerOperations, pagedResourceCollection, resourceCollectionConverter, responseType, prefetchDepth);
+    }
 }
\ No newline at end of file
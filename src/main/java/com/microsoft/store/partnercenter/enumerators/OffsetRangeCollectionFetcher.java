@@ -0,0 +1,209 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license. See the LICENSE file in the project root for full license information.
+
+package com.microsoft.store.partnercenter.enumerators;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import com.microsoft.store.partnercenter.genericoperations.IPagedEntityCollectionAsyncRetrievalOperations;
+import com.microsoft.store.partnercenter.models.ResourceBase;
+import com.microsoft.store.partnercenter.models.ResourceCollection;
+
+/**
+ * Retrieves an entire offset paged collection by requesting several offset windows at the same time. The first page is
+ * requested on its own, and the number of items it holds becomes the window size, so a service that returns fewer
+ * items than requested still has every window read. When the total count of the first page covers more items, the
+ * remaining windows up to that count are requested. Otherwise windows are requested until one comes back short. At
+ * most the given number of windows are in flight at any time, and the items are returned in offset order.
+ *
+ * @param <T> The type of the items in the collection.
+ * @param <TResourceCollection> The type of the resource collection.
+ */
+public class OffsetRangeCollectionFetcher<T extends ResourceBase, TResourceCollection extends ResourceCollection<T>>
+{
+    /**
+     * The operations used to retrieve each offset window.
+     */
+    private final IPagedEntityCollectionAsyncRetrievalOperations<T, TResourceCollection> operations;
+
+    /**
+     * The number of items requested in each window.
+     */
+    private final int pageSize;
+
+    /**
+     * The maximum number of windows requested at the same time.
+     */
+    private final int maxConcurrency;
+
+    /**
+     * Initializes a new instance of the OffsetRangeCollectionFetcher class.
+     *
+     * @param operations The operations used to retrieve each offset window.
+     * @param pageSize The number of items requested in each window.
+     * @param maxConcurrency The maximum number of windows requested at the same time.
+     */
+    public OffsetRangeCollectionFetcher(IPagedEntityCollectionAsyncRetrievalOperations<T, TResourceCollection> operations, int pageSize, int maxConcurrency)
+    {
+        if (operations == null)
+        {
+            throw new IllegalArgumentException("operations null");
+        }
+
+        if (pageSize <= 0)
+        {
+            throw new IllegalArgumentException("pageSize must be greater than zero");
+        }
+
+        if (maxConcurrency <= 0)
+        {
+            throw new IllegalArgumentException("maxConcurrency must be greater than zero");
+        }
+
+        this.operations = operations;
+        this.pageSize = pageSize;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * Retrieves every item of the collection.
+     *
+     * @return A resource collection that holds every item, in offset order.
+     */
+    public ResourceCollection<T> fetch()
+    {
+        TResourceCollection firstPage = await(operations.getAsync(0, pageSize));
+        List<T> items = new ArrayList<>();
+        int windowSize = addItems(items, firstPage);
+
+        if (windowSize > 0)
+        {
+            if (firstPage.getTotalCount() > windowSize)
+            {
+                fetchWindows(items, windowSize, firstPage.getTotalCount(), false);
+            }
+            else if (windowSize >= pageSize)
+            {
+                // the total count only describes the first page, so keep requesting windows until one comes back short
+                fetchWindows(items, windowSize, Integer.MAX_VALUE, true);
+            }
+        }
+
+        ResourceCollection<T> collection = new ResourceCollection<>(items);
+        collection.setTotalCount(items.size());
+
+        return collection;
+    }
+
+    /**
+     * Requests the windows that follow the first page and adds their items in offset order. A new window is requested
+     * each time the oldest one completes, so no more than the maximum concurrency are in flight.
+     *
+     * @param items The list the items are added to.
+     * @param windowSize The number of items in each window.
+     * @param endOffset The offset at which to stop requesting windows.
+     * @param untilShortWindow A flag indicating whether a window with fewer items than the window size ends the collection.
+     */
+    private void fetchWindows(List<T> items, int windowSize, int endOffset, boolean untilShortWindow)
+    {
+        Deque<CompletableFuture<TResourceCollection>> windows = new ArrayDeque<>();
+        int nextOffset = windowSize;
+
+        try
+        {
+            while (true)
+            {
+                while (windows.size() < maxConcurrency && nextOffset < endOffset)
+                {
+                    windows.add(operations.getAsync(nextOffset, windowSize));
+                    nextOffset = nextOffset > Integer.MAX_VALUE - windowSize ? Integer.MAX_VALUE : nextOffset + windowSize;
+                }
+
+                if (windows.isEmpty())
+                {
+                    return;
+                }
+
+                if (addItems(items, await(windows.poll())) < windowSize && untilShortWindow)
+                {
+                    // a short window marks the end of the collection, so the windows after it are not needed
+                    return;
+                }
+            }
+        }
+        finally
+        {
+            cancel(windows);
+        }
+    }
+
+    /**
+     * Waits for a window and rethrows the failure that completed it exceptionally.
+     *
+     * @param window The window.
+     * @return The items of the window.
+     */
+    private TResourceCollection await(CompletableFuture<TResourceCollection> window)
+    {
+        try
+        {
+            return window.get();
+        }
+        catch (ExecutionException ex)
+        {
+            if (ex.getCause() instanceof RuntimeException)
+            {
+                throw (RuntimeException)ex.getCause();
+            }
+
+            throw new IllegalStateException(ex.getCause());
+        }
+        catch (InterruptedException ex)
+        {
+            Thread.currentThread().interrupt();
+
+            throw new IllegalStateException("Interrupted while retrieving the collection", ex);
+        }
+    }
+
+    /**
+     * Adds the items of a page to the list.
+     *
+     * @param items The list the items are added to.
+     * @param page The page.
+     * @return The number of items in the page.
+     */
+    private int addItems(List<T> items, TResourceCollection page)
+    {
+        int count = 0;
+
+        if (page != null && page.getItems() != null)
+        {
+            for (T item : page.getItems())
+            {
+                items.add(item);
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Cancels the windows that are still being requested.
+     *
+     * @param windows The windows.
+     */
+    private void cancel(Iterable<CompletableFuture<TResourceCollection>> windows)
+    {
+        for (CompletableFuture<TResourceCollection> window : windows)
+        {
+            window.cancel(true);
+        }
+    }
+}
@@ -0,0 +1,222 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license. See the LICENSE file in the project root for full license information.
+
+package com.microsoft.store.partnercenter.enumerators;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.microsoft.store.partnercenter.models.ResourceCollectionWithLinks;
+import com.microsoft.store.partnercenter.models.StandardResourceCollectionLinks;
+
+/**
+ * Exposes the items of the pages returned by a resource collection enumerator as a spliterator. Pages are requested
+ * only when the items of the previous page have been consumed. Splitting hands off the remaining items of the page that
+ * has already been fetched, so a parallel stream processes fetched pages while the following ones are requested.
+ *
+ * @param <T> The type of the items in the collection.
+ * @param <TResourceCollection> The type of the resource collection.
+ */
+public class ResourceCollectionSpliterator<T, TResourceCollection extends ResourceCollectionWithLinks<T, StandardResourceCollectionLinks>>
+    implements Spliterator<T>
+{
+    /**
+     * The enumerator that provides the pages.
+     */
+    private final IResourceCollectionEnumerator<TResourceCollection> enumerator;
+
+    /**
+     * The items of the current page that have not been consumed or handed off yet.
+     */
+    private Spliterator<T> currentItems;
+
+    /**
+     * A value indicating whether the items of the enumerator's current page have been taken.
+     */
+    private boolean currentPageTaken;
+
+    /**
+     * The total number of items expected, or -1 when the service did not report it.
+     */
+    private long expectedSize = -1;
+
+    /**
+     * The number of items consumed or handed off so far.
+     */
+    private long itemsTaken;
+
+    /**
+     * Initializes a new instance of the ResourceCollectionSpliterator class.
+     *
+     * @param enumerator The enumerator that provides the pages, positioned on the first page to read.
+     */
+    public ResourceCollectionSpliterator(IResourceCollectionEnumerator<TResourceCollection> enumerator)
+    {
+        if (enumerator == null)
+        {
+            throw new IllegalArgumentException("enumerator null");
+        }
+
+        this.enumerator = enumerator;
+
+        if (enumerator.hasValue() && enumerator.getCurrent().getItems() != null)
+        {
+            long pageSize = enumerator.getCurrent().getItems().spliterator().getExactSizeIfKnown();
+
+            // some collections report the size of the page only, which does not tell how many items follow
+            if (pageSize >= 0 && enumerator.getCurrent().getTotalCount() > pageSize)
+            {
+                expectedSize = enumerator.getCurrent().getTotalCount();
+            }
+        }
+    }
+
+    /**
+     * Creates a stream over the items of the pages returned by the enumerator. Closing the stream cancels any pages
+     * the enumerator is fetching ahead.
+     *
+     * @param <T> The type of the items in the collection.
+     * @param <TResourceCollection> The type of the resource collection.
+     * @param enumerator The enumerator that provides the pages, positioned on the first page to read.
+     * @param parallel A flag indicating whether the stream is parallel.
+     * @return A stream over the items of the collection.
+     */
+    public static <T, TResourceCollection extends ResourceCollectionWithLinks<T, StandardResourceCollectionLinks>> Stream<T> stream(
+        final IResourceCollectionEnumerator<TResourceCollection> enumerator,
+        boolean parallel)
+    {
+        return StreamSupport.stream(new ResourceCollectionSpliterator<T, TResourceCollection>(enumerator), parallel)
+            .onClose(new Runnable()
+            {
+                @Override
+                public void run()
+                {
+                    enumerator.cancel();
+                }
+            });
+    }
+
+    /**
+     * Performs the action on the next item, fetching the next page if the current one has been consumed.
+     *
+     * @param action The action to perform.
+     * @return A flag indicating whether an item was available.
+     */
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action)
+    {
+        while (currentItems != null || takeNextPage())
+        {
+            if (currentItems.tryAdvance(action))
+            {
+                itemsTaken++;
+                return true;
+            }
+
+            currentItems = null;
+        }
+
+        return false;
+    }
+
+    /**
+     * Hands off the remaining items of the current page. On the last page, the page itself is split.
+     *
+     * @return A spliterator over the handed off items, or null if there are no items left to split.
+     */
+    @Override
+    public Spliterator<T> trySplit()
+    {
+        if (currentItems == null && !takeNextPage())
+        {
+            return null;
+        }
+
+        Spliterator<T> split = isOnLastPage() ? currentItems.trySplit() : currentItems;
+
+        if (split == currentItems)
+        {
+            currentItems = null;
+        }
+
+        if (split != null && split.getExactSizeIfKnown() > 0)
+        {
+            itemsTaken += split.getExactSizeIfKnown();
+        }
+
+        return split;
+    }
+
+    /**
+     * Estimates the number of remaining items. The estimate is exact on the last page, based on the total count when
+     * the service reports one for the collection, and unknown otherwise.
+     *
+     * @return The estimated number of remaining items.
+     */
+    @Override
+    public long estimateSize()
+    {
+        long currentSize = currentItems == null ? 0 : currentItems.estimateSize();
+
+        if (!enumerator.hasValue() || isOnLastPage())
+        {
+            return currentSize;
+        }
+
+        if (expectedSize >= 0)
+        {
+            return Math.max(expectedSize - itemsTaken, currentSize);
+        }
+
+        return Long.MAX_VALUE;
+    }
+
+    /**
+     * Gets the characteristics of the spliterator.
+     *
+     * @return The characteristics of the spliterator.
+     */
+    @Override
+    public int characteristics()
+    {
+        return Spliterator.ORDERED;
+    }
+
+    /**
+     * Takes the items of the next page that has not been taken yet.
+     *
+     * @return A flag indicating whether a page was available.
+     */
+    private boolean takeNextPage()
+    {
+        if (currentPageTaken && enumerator.hasValue())
+        {
+            enumerator.next();
+        }
+
+        if (!enumerator.hasValue())
+        {
+            return false;
+        }
+
+        currentPageTaken = true;
+        currentItems = enumerator.getCurrent().getItems() == null
+            ? Spliterators.<T>emptySpliterator()
+            : enumerator.getCurrent().getItems().spliterator();
+
+        return true;
+    }
+
+    /**
+     * Gets whether the items of the last page have been taken.
+     *
+     * @return A flag indicating whether the items of the last page have been taken.
+     */
+    private boolean isOnLastPage()
+    {
+        return currentPageTaken && enumerator.hasValue() && enumerator.isLastPage();
+    }
+}
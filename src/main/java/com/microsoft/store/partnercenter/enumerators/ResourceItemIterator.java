@@ -0,0 +1,140 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license. See the LICENSE file in the project root for full license information.
+
+package com.microsoft.store.partnercenter.enumerators;
+
+import java.io.Closeable;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.microsoft.store.partnercenter.BasePartnerComponentString;
+import com.microsoft.store.partnercenter.IPartner;
+import com.microsoft.store.partnercenter.models.Link;
+import com.microsoft.store.partnercenter.network.ResourceCollectionReader;
+
+/**
+ * Iterates over the items of a paged resource collection one item at a time. Pages are read from the response
+ * stream as the items are consumed and the next page is requested through the next link, which carries the
+ * continuation token when the collection is seek based. At most one item is held in memory.
+ *
+ * @param <T> The type of the items in the collection.
+ */
+public class ResourceItemIterator<T>
+    extends BasePartnerComponentString
+    implements Iterator<T>, Closeable
+{
+    /**
+     * The type of the items in the collection.
+     */
+    private final TypeReference<T> itemType;
+
+    /**
+     * The reader over the current page, or null once the collection has been fully read.
+     */
+    private ResourceCollectionReader<T> reader;
+
+    /**
+     * Initializes a new instance of the ResourceItemIterator class.
+     *
+     * @param rootPartnerOperations The root partner operations instance.
+     * @param itemType The type of the items in the collection.
+     * @param firstPage The reader over the first page of the collection.
+     */
+    public ResourceItemIterator(IPartner rootPartnerOperations, TypeReference<T> itemType, ResourceCollectionReader<T> firstPage)
+    {
+        super(rootPartnerOperations);
+
+        if (firstPage == null)
+        {
+            throw new IllegalArgumentException("firstPage null");
+        }
+
+        this.itemType = itemType;
+        this.reader = firstPage;
+    }
+
+    /**
+     * Gets whether there are more items in the collection. The next page is requested when the current one has been
+     * read to the end.
+     *
+     * @return A flag indicating whether there are more items in the collection.
+     */
+    @Override
+    public boolean hasNext()
+    {
+        while (reader != null)
+        {
+            if (reader.hasNext())
+            {
+                return true;
+            }
+
+            Link next = reader.getNextLink();
+
+            reader.close();
+            reader = null;
+
+            if (next != null)
+            {
+                reader = this.getPartner().getServiceClient().getItems(this.getPartner(), itemType, next);
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Reads the next item in the collection.
+     *
+     * @return The next item in the collection.
+     */
+    @Override
+    public T next()
+    {
+        if (!hasNext())
+        {
+            throw new NoSuchElementException();
+        }
+
+        return reader.next();
+    }
+
+    /**
+     * Stops the iteration and releases the response of the current page.
+     */
+    @Override
+    public void close()
+    {
+        if (reader != null)
+        {
+            reader.close();
+            reader = null;
+        }
+    }
+
+    /**
+     * Gets a sequential stream over the remaining items. Closing the stream closes this iterator, which should be
+     * done when the stream is not consumed to the end.
+     *
+     * @return A stream over the remaining items.
+     */
+    public Stream<T> stream()
+    {
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED),
+                false)
+            .onClose(new Runnable()
+            {
+                @Override
+                public void run()
+                {
+                    close();
+                }
+            });
+    }
+}
@@ -4,11 +4,11 @@
 package com.microsoft.store.partnercenter.errorhandling;
 
 import java.io.IOException;
-import java.text.MessageFormat;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.microsoft.store.partnercenter.exception.PartnerErrorCategory;
 import com.microsoft.store.partnercenter.exception.PartnerException;
+import com.microsoft.store.partnercenter.logging.LogLevel;
 import com.microsoft.store.partnercenter.logging.PartnerLog;
 import com.microsoft.store.partnercenter.models.ApiFault;
 import com.microsoft.store.partnercenter.network.HttpStatusCode;
@@ -75,7 +75,10 @@ public class DefaultPartnerServiceErrorHandler
         PartnerException partnerException = null;
 
         // log the failed response
-        PartnerLog.getInstance().logError(MessageFormat.format("Partner service failed response:{0}", responsePayload));
+        if (PartnerLog.getInstance().isEnabled(LogLevel.ERROR))
+        {
+            PartnerLog.getInstance().logError("Partner service failed response:" + responsePayload);
+        }
 
         // attempt to deserialize the response into an ApiFault object as this is what the partner service is
         // expected to do when it errors out
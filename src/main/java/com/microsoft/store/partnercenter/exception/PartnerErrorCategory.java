@@ -66,5 +66,15 @@ public enum PartnerErrorCategory
     /**
      * The partner service request body could not be parsed according to the preset expectation.
      */
-    REQUEST_PARSING
+    REQUEST_PARSING, 
+    
+    /**
+     * The request was not sent because the circuit breaker of the API is open after repeated failures.
+     */
+    CIRCUIT_OPEN, 
+    
+    /**
+     * The request was not sent because the API already has as many requests in progress as allowed.
+     */
+    BULKHEAD_FULL
 }
\ No newline at end of file
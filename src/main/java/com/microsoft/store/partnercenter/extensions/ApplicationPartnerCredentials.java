@@ -3,19 +3,26 @@
 
 package com.microsoft.store.partnercenter.extensions;
 
+import java.net.MalformedURLException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Collections;
-import java.util.concurrent.CompletableFuture;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
 
 import com.microsoft.aad.msal4j.ClientCredentialFactory;
 import com.microsoft.aad.msal4j.ClientCredentialParameters;
 import com.microsoft.aad.msal4j.ConfidentialClientApplication;
 import com.microsoft.aad.msal4j.ConfidentialClientApplication.Builder;
 import com.microsoft.aad.msal4j.IAuthenticationResult;
-import com.microsoft.aad.msal4j.IClientCredential;
 import com.microsoft.aad.msal4j.IConfidentialClientApplication;
+import com.microsoft.aad.msal4j.ITokenCacheAccessAspect;
+import com.microsoft.aad.msal4j.SilentParameters;
 import com.microsoft.store.partnercenter.AuthenticationToken;
 import com.microsoft.store.partnercenter.IPartnerCredentials;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.exception.PartnerException;
 import com.microsoft.store.partnercenter.logging.PartnerLog;
 import com.microsoft.store.partnercenter.requestcontext.IRequestContext;
@@ -28,6 +35,29 @@ import org.joda.time.DateTime;
  * credentials.
  */
 public class ApplicationPartnerCredentials extends BasePartnerCredentials {
+    /**
+     * The maximum number of confidential client applications kept for reuse.
+     */
+    static final int MAX_APPLICATIONS = 64;
+
+    /**
+     * The confidential client applications, shared by credentials with the same client, authority and secret so the
+     * MSAL token cache and authority metadata survive between authentications. The least recently used applications
+     * are dropped once there are more than {@link #MAX_APPLICATIONS}, and the secret is only part of the key as a
+     * hash. Guarded by itself.
+     */
+    private static final Map<String, IConfidentialClientApplication> APPLICATIONS = 
+        new LinkedHashMap<String, IConfidentialClientApplication>(16, 0.75f, true)
+        {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, IConfidentialClientApplication> eldest)
+            {
+                return size() > MAX_APPLICATIONS;
+            }
+        };
+
     /**
      * The Azure Active Directory application secret.
      */
@@ -84,8 +114,6 @@ public class ApplicationPartnerCredentials extends BasePartnerCredentials {
 
         this.setActiveDirectoryAuthority(aadAuthorityEndpoint);
         this.setGraphApiEndpoint(graphApiEndpoint);
-
-        PartnerService.getInstance().setRefreshCredentialsHandler(this);
     }
 
     private String activeDirectoryAuthority;
@@ -112,6 +140,8 @@ public class ApplicationPartnerCredentials extends BasePartnerCredentials {
 
     private String graphApiEndpoint;
 
+    private ITokenCacheAccessAspect tokenCacheAccessAspect;
+
     /**
      * Gets the Graph API endpoint.
      * 
@@ -133,41 +163,50 @@ public class ApplicationPartnerCredentials extends BasePartnerCredentials {
     }
 
     /**
-     * Authenticates with the partner service.
+     * Gets the token cache access aspect that persists the MSAL token cache.
+     * 
+     * @return The token cache access aspect, or null if the token cache is only kept in memory.
+     */
+    public ITokenCacheAccessAspect getTokenCacheAccessAspect() 
+    {
+        return tokenCacheAccessAspect;
+    }
+
+    /**
+     * Sets the token cache access aspect that persists the MSAL token cache, for example a {@link FileTokenCache}, so
+     * restarted processes reuse the tokens acquired before instead of all requesting new ones at startup.
+     * 
+     * @param value The token cache access aspect, or null to keep the token cache only in memory.
+     */
+    public void setTokenCacheAccessAspect(ITokenCacheAccessAspect value) 
+    {
+        tokenCacheAccessAspect = value;
+    }
+
+    /**
+     * Authenticates with the partner service. The token is looked up in the MSAL token cache first and only requested
+     * from Azure Active Directory when the cache has no valid token. The MSAL application is shared by credentials
+     * with the same client, authority and secret, so the correlation identifier of the request context is not sent
+     * to Azure Active Directory.
      * 
      * @param requestContext The request context.
      */
     @Override
     public void authenticate(IRequestContext requestContext) 
     {
-        Builder builder;
-        ClientCredentialParameters parameters;
-        CompletableFuture<IAuthenticationResult> future;
         IAuthenticationResult authResult = null;
-        IClientCredential credential;
         IConfidentialClientApplication app;
+        Set<String> scopes = Collections.singleton(getGraphApiEndpoint() + "/.default");
 
         try
         {
-            credential = ClientCredentialFactory.createFromSecret(applicationSecret);
+            app = getApplication();
+            authResult = acquireTokenSilently(app, scopes);
 
-            builder = ConfidentialClientApplication
-                .builder(getClientId(), credential)
-                .authority(getActiveDirectoryAuthority() + "/" + aadApplicationDomain);
-
-            if(requestContext != null)
+            if (authResult == null)
             {
-                builder = builder.correlationId(requestContext.getCorrelationId().toString());
+                authResult = app.acquireToken(ClientCredentialParameters.builder(scopes).build()).get();
             }
-
-            app = builder.build();
-
-            parameters = ClientCredentialParameters
-                .builder(Collections.singleton(getGraphApiEndpoint() + "/.default"))
-                .build();
-
-            future = app.acquireToken(parameters);
-            authResult = future.get();
         }
         catch (Exception e)
         {
@@ -177,6 +216,111 @@ public class ApplicationPartnerCredentials extends BasePartnerCredentials {
         this.setAADToken(new AuthenticationToken(authResult.accessToken(), new DateTime(authResult.expiresOnDate())));
     }
 
+    /**
+     * Gets the confidential client application for these credentials, building it the first time.
+     * 
+     * @return The confidential client application.
+     * @throws MalformedURLException The authority is not a valid address.
+     */
+    private IConfidentialClientApplication getApplication() throws MalformedURLException
+    {
+        String authority = getActiveDirectoryAuthority() + "/" + aadApplicationDomain;
+        String key = getApplicationKey(getClientId(), authority, applicationSecret, tokenCacheAccessAspect);
+
+        synchronized (APPLICATIONS)
+        {
+            IConfidentialClientApplication app = APPLICATIONS.get(key);
+
+            if (app != null)
+            {
+                return app;
+            }
+        }
+
+        Builder builder = ConfidentialClientApplication
+            .builder(getClientId(), ClientCredentialFactory.createFromSecret(applicationSecret))
+            .authority(authority);
+
+        if (tokenCacheAccessAspect != null)
+        {
+            builder = builder.setTokenCacheAccessAspect(tokenCacheAccessAspect);
+        }
+
+        IConfidentialClientApplication created = builder.build();
+
+        synchronized (APPLICATIONS)
+        {
+            IConfidentialClientApplication existing = APPLICATIONS.get(key);
+
+            if (existing != null)
+            {
+                return existing;
+            }
+
+            APPLICATIONS.put(key, created);
+
+            return created;
+        }
+    }
+
+    /**
+     * Gets the key of the shared confidential client application, which holds a hash of the secret instead of the
+     * secret itself.
+     * 
+     * @param clientId The application identifier.
+     * @param authority The authority address.
+     * @param secret The application secret.
+     * @param tokenCacheAccessAspect The token cache access aspect, or null.
+     * @return The key of the application.
+     */
+    static String getApplicationKey(String clientId, String authority, String secret, ITokenCacheAccessAspect tokenCacheAccessAspect)
+    {
+        byte[] hash;
+
+        try
+        {
+            hash = MessageDigest.getInstance("SHA-256").digest(secret.getBytes(StandardCharsets.UTF_8));
+        }
+        catch (NoSuchAlgorithmException e)
+        {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+
+        StringBuilder key = new StringBuilder(160).append(clientId).append('|').append(authority).append('|');
+
+        for (byte b : hash)
+        {
+            key.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+
+        return key.append('|')
+            .append(tokenCacheAccessAspect == null ? "" : System.identityHashCode(tokenCacheAccessAspect))
+            .toString();
+    }
+
+    /**
+     * Looks up a valid token in the MSAL token cache.
+     * 
+     * @param app The confidential client application.
+     * @param scopes The scopes of the token.
+     * @return The cached token, or null if the cache has no valid token.
+     * @throws MalformedURLException The authority is not a valid address.
+     * @throws InterruptedException The thread was interrupted while waiting for the token.
+     */
+    private IAuthenticationResult acquireTokenSilently(IConfidentialClientApplication app, Set<String> scopes) 
+        throws MalformedURLException, InterruptedException
+    {
+        try
+        {
+            return app.acquireTokenSilently(SilentParameters.builder(scopes).build()).get();
+        }
+        catch (ExecutionException e)
+        {
+            // nothing usable in the cache
+            return null;
+        }
+    }
+
     /**
      * Called when a partner credentials instance needs to be refreshed.
      * 
@@ -186,12 +330,10 @@ public class ApplicationPartnerCredentials extends BasePartnerCredentials {
     @Override
     public void onCredentialsRefreshNeeded(IPartnerCredentials credentials, IRequestContext context)
     {
-        ApplicationPartnerCredentials partnerCredentials = (ApplicationPartnerCredentials) credentials;
-
-        if (partnerCredentials != null)
+        if (credentials instanceof ApplicationPartnerCredentials)
         {
-            // we can deal with the partner credentials object, refresh it
-            partnerCredentials.authenticate(context);
+            // we can deal with the partner credentials object, refresh it once for all the waiting requests
+            ((ApplicationPartnerCredentials)credentials).refreshExpiredToken(context);
         }
         else
         {
@@ -3,10 +3,22 @@
 
 package com.microsoft.store.partnercenter.extensions;
 
+import java.lang.ref.WeakReference;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
 import org.joda.time.DateTime;
 
 import com.microsoft.store.partnercenter.AuthenticationToken;
 import com.microsoft.store.partnercenter.IPartnerCredentials;
+import com.microsoft.store.partnercenter.logging.PartnerLog;
+import com.microsoft.store.partnercenter.network.IPartnerServiceMetrics;
+import com.microsoft.store.partnercenter.network.PartnerServiceTransport;
 import com.microsoft.store.partnercenter.requestcontext.IRequestContext;
 import com.microsoft.store.partnercenter.utils.StringHelper;
 
@@ -16,6 +28,47 @@ import com.microsoft.store.partnercenter.utils.StringHelper;
 public abstract class BasePartnerCredentials
     implements IPartnerCredentials
 {
+    /**
+     * The time to wait before trying again when a proactive refresh fails.
+     */
+    static final long PROACTIVE_REFRESH_RETRY_DELAY_IN_MILLISECONDS = TimeUnit.SECONDS.toMillis(30);
+
+    /**
+     * Runs the proactive token refreshes of all credentials.
+     */
+    private static final ScheduledExecutorService REFRESH_SCHEDULER = Executors.newSingleThreadScheduledExecutor(
+        new ThreadFactory()
+        {
+            @Override
+            public Thread newThread(Runnable runnable)
+            {
+                Thread thread = new Thread(runnable, "partner-center-token-refresher");
+                thread.setDaemon(true);
+
+                return thread;
+            }
+        });
+
+    /**
+     * Guards the pending refresh and the proactive refresh state.
+     */
+    private final Object refreshLock = new Object();
+
+    /**
+     * The refresh in progress, which concurrent callers wait on instead of starting their own.
+     */
+    private CompletableFuture<Void> pendingRefresh;
+
+    /**
+     * The next proactive refresh, or null if proactive refresh is disabled.
+     */
+    private ScheduledFuture<?> proactiveRefresh;
+
+    /**
+     * Indicates whether the token is refreshed in the background before it expires.
+     */
+    private boolean proactiveRefreshEnabled;
+
     /**
      * Initializes a new instance of the BasePartnerCredentials class.
      * 
@@ -51,7 +104,7 @@ public abstract class BasePartnerCredentials
         return this.getAADToken().getExpiryTime();
     }
 
-    private AuthenticationToken token;
+    private volatile AuthenticationToken token;
 
     /**
      * Gets the Azure Active Directory token.
@@ -123,4 +176,253 @@ public abstract class BasePartnerCredentials
     {
         // Do nothing, leave it to sub classes
     }
+
+    /**
+     * Refreshes the token if it has expired. When several threads find the token expired at the same time, only one
+     * of them refreshes it and the others wait for that refresh and share its outcome.
+     * 
+     * @param requestContext The request context.
+     */
+    public void refreshExpiredToken(IRequestContext requestContext)
+    {
+        refreshToken(requestContext, true);
+    }
+
+    /**
+     * Refreshes the token now, even if it has not expired. Concurrent refreshes are shared the same way as with
+     * {@link #refreshExpiredToken(IRequestContext)}.
+     * 
+     * @param requestContext The request context.
+     */
+    public void refreshToken(IRequestContext requestContext)
+    {
+        refreshToken(requestContext, false);
+    }
+
+    /**
+     * Gets a new token. Sub classes override this to change how the token is renewed; the default is to authenticate
+     * again.
+     * 
+     * @param requestContext The request context.
+     */
+    protected void renewToken(IRequestContext requestContext)
+    {
+        authenticate(requestContext);
+    }
+
+    /**
+     * Starts refreshing the token in the background, one expiry buffer before the token would be considered expired,
+     * so requests do not wait for Azure Active Directory. The background refresh holds the credentials weakly and
+     * stops once they are no longer used.
+     */
+    public void startProactiveRefresh()
+    {
+        synchronized (refreshLock)
+        {
+            proactiveRefreshEnabled = true;
+        }
+
+        scheduleProactiveRefresh(getProactiveRefreshDelayInMilliseconds());
+    }
+
+    /**
+     * Stops refreshing the token in the background.
+     */
+    public void stopProactiveRefresh()
+    {
+        synchronized (refreshLock)
+        {
+            proactiveRefreshEnabled = false;
+
+            if (proactiveRefresh != null)
+            {
+                proactiveRefresh.cancel(false);
+                proactiveRefresh = null;
+            }
+        }
+    }
+
+    /**
+     * Gets whether the token is refreshed in the background before it expires.
+     * 
+     * @return true if the token is refreshed in the background; otherwise false.
+     */
+    public boolean isProactiveRefreshEnabled()
+    {
+        synchronized (refreshLock)
+        {
+            return proactiveRefreshEnabled;
+        }
+    }
+
+    /**
+     * Refreshes the token, making sure only one refresh runs at a time.
+     * 
+     * @param requestContext The request context.
+     * @param onlyIfExpired true to skip the refresh when the token has not expired.
+     */
+    private void refreshToken(IRequestContext requestContext, boolean onlyIfExpired)
+    {
+        CompletableFuture<Void> refresh;
+        boolean owner = false;
+
+        synchronized (refreshLock)
+        {
+            if (onlyIfExpired && getAADToken() != null && !isExpired())
+            {
+                // another thread refreshed the token while this one was waiting
+                return;
+            }
+
+            if (pendingRefresh == null)
+            {
+                pendingRefresh = new CompletableFuture<>();
+                owner = true;
+            }
+
+            refresh = pendingRefresh;
+        }
+
+        if (!owner)
+        {
+            try
+            {
+                refresh.join();
+            }
+            catch (CompletionException ex)
+            {
+                if (ex.getCause() instanceof RuntimeException)
+                {
+                    throw (RuntimeException)ex.getCause();
+                }
+
+                if (ex.getCause() instanceof Error)
+                {
+                    throw (Error)ex.getCause();
+                }
+
+                throw ex;
+            }
+
+            return;
+        }
+
+        IPartnerServiceMetrics metrics = PartnerServiceTransport.getInstance().getMetrics();
+        long start = System.nanoTime();
+
+        try
+        {
+            renewToken(requestContext);
+            refresh.complete(null);
+        }
+        catch (Throwable ex)
+        {
+            // errors and undeclared checked exceptions are shared too, so the waiting threads are never left blocked
+            refresh.completeExceptionally(ex);
+            metrics.recordTokenRefresh(System.nanoTime() - start, false);
+
+            throw ex;
+        }
+        finally
+        {
+            synchronized (refreshLock)
+            {
+                pendingRefresh = null;
+            }
+        }
+
+        metrics.recordTokenRefresh(System.nanoTime() - start, true);
+
+        long delay = getProactiveRefreshDelayInMilliseconds();
+
+        // a renewal that did not extend the token is tried again later rather than immediately
+        scheduleProactiveRefresh(delay > 0 ? delay : PROACTIVE_REFRESH_RETRY_DELAY_IN_MILLISECONDS);
+    }
+
+    /**
+     * Gets the time until the token should be refreshed in the background, which is one expiry buffer before the
+     * token would be considered expired.
+     * 
+     * @return The delay in milliseconds.
+     */
+    private long getProactiveRefreshDelayInMilliseconds()
+    {
+        AuthenticationToken current = getAADToken();
+
+        if (current == null || current.getExpiryTime() == null)
+        {
+            return 0;
+        }
+
+        long bufferInMilliseconds = current.getExpiryBuffer() == null ? 0 : current.getExpiryBuffer().getMillis();
+        long refreshAt = current.getExpiryTime().getMillis() - 2 * bufferInMilliseconds;
+
+        return Math.max(0, refreshAt - DateTime.now().getMillis());
+    }
+
+    /**
+     * Schedules the next proactive refresh, if proactive refresh is enabled.
+     * 
+     * @param delayInMilliseconds The delay in milliseconds.
+     */
+    private void scheduleProactiveRefresh(long delayInMilliseconds)
+    {
+        synchronized (refreshLock)
+        {
+            if (!proactiveRefreshEnabled)
+            {
+                return;
+            }
+
+            if (proactiveRefresh != null)
+            {
+                proactiveRefresh.cancel(false);
+            }
+
+            proactiveRefresh = REFRESH_SCHEDULER.schedule(
+                new ProactiveRefreshTask(this), 
+                delayInMilliseconds, 
+                TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Refreshes the token of credentials in the background, as long as the credentials are still in use.
+     */
+    private static class ProactiveRefreshTask
+        implements Runnable
+    {
+        /**
+         * The credentials to refresh, held weakly so the task does not keep unused credentials alive.
+         */
+        private final WeakReference<BasePartnerCredentials> credentials;
+
+        ProactiveRefreshTask(BasePartnerCredentials credentials)
+        {
+            this.credentials = new WeakReference<>(credentials);
+        }
+
+        @Override
+        public void run()
+        {
+            BasePartnerCredentials target = credentials.get();
+
+            if (target == null || !target.isProactiveRefreshEnabled())
+            {
+                return;
+            }
+
+            try
+            {
+                target.refreshToken(null, false);
+            }
+            catch (RuntimeException ex)
+            {
+                PartnerLog.getInstance().logWarning(
+                    "Refreshing the partner credentials in the background has failed: " + ex.getMessage());
+
+                target.scheduleProactiveRefresh(PROACTIVE_REFRESH_RETRY_DELAY_IN_MILLISECONDS);
+            }
+        }
+    }
 }
\ No newline at end of file
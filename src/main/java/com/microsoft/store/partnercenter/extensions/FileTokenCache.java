@@ -0,0 +1,120 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license. See the LICENSE file in the project root for full license information.
+
+package com.microsoft.store.partnercenter.extensions;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+import com.microsoft.aad.msal4j.ITokenCacheAccessAspect;
+import com.microsoft.aad.msal4j.ITokenCacheAccessContext;
+import com.microsoft.store.partnercenter.logging.PartnerLog;
+
+/**
+ * Persists the MSAL token cache in a local file, so a restarted process reuses the tokens acquired before. The file
+ * holds access tokens and must be protected like any other secret. Writes go to a temporary file that replaces the
+ * cache file, so a reader never sees a partially written cache.
+ */
+public class FileTokenCache
+    implements ITokenCacheAccessAspect
+{
+    /**
+     * The file that holds the serialized token cache.
+     */
+    private final Path path;
+
+    /**
+     * Initializes a new instance of the FileTokenCache class.
+     *
+     * @param path The file that holds the serialized token cache.
+     */
+    public FileTokenCache(Path path)
+    {
+        if (path == null)
+        {
+            throw new IllegalArgumentException("path null");
+        }
+
+        this.path = path;
+    }
+
+    /**
+     * Gets the file that holds the serialized token cache.
+     *
+     * @return The file that holds the serialized token cache.
+     */
+    public Path getPath()
+    {
+        return path;
+    }
+
+    /**
+     * Loads the token cache from the file before MSAL reads it.
+     *
+     * @param context The token cache access context.
+     */
+    @Override
+    public synchronized void beforeCacheAccess(ITokenCacheAccessContext context)
+    {
+        if (!Files.exists(path))
+        {
+            return;
+        }
+
+        try
+        {
+            context.tokenCache().deserialize(new String(Files.readAllBytes(path), StandardCharsets.UTF_8));
+        }
+        catch (IOException | RuntimeException e)
+        {
+            // an unreadable cache only costs a new token
+            PartnerLog.getInstance().logWarning("Could not read the token cache " + path + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Saves the token cache to the file after MSAL changed it.
+     *
+     * @param context The token cache access context.
+     */
+    @Override
+    public synchronized void afterCacheAccess(ITokenCacheAccessContext context)
+    {
+        if (!context.hasCacheChanged())
+        {
+            return;
+        }
+
+        try
+        {
+            Path directory = path.toAbsolutePath().getParent();
+            Path temporary = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+
+            try
+            {
+                Files.write(temporary, context.tokenCache().serialize().getBytes(StandardCharsets.UTF_8));
+
+                try
+                {
+                    Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                }
+                catch (AtomicMoveNotSupportedException e)
+                {
+                    Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+            finally
+            {
+                Files.deleteIfExists(temporary);
+            }
+        }
+        catch (IOException e)
+        {
+            PartnerLog.getInstance().logWarning("Could not write the token cache " + path + ": " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,22 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license. See the LICENSE file in the project root for full license information.
+
+package com.microsoft.store.partnercenter.extensions;
+
+import com.microsoft.store.partnercenter.IPartnerCredentials;
+import com.microsoft.store.partnercenter.requestcontext.IRequestContext;
+
+/**
+ * Creates the credentials for a tenant.
+ */
+public interface ITenantCredentialsFactory
+{
+    /**
+     * Creates authenticated credentials for the given tenant.
+     * 
+     * @param tenantId The tenant identifier.
+     * @param context The request context.
+     * @return The credentials for the tenant.
+     */
+    IPartnerCredentials create(String tenantId, IRequestContext context);
+}
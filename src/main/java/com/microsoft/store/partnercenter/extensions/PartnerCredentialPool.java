@@ -0,0 +1,425 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license. See the LICENSE file in the project root for full license information.
+
+package com.microsoft.store.partnercenter.extensions;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.joda.time.DateTime;
+
+import com.microsoft.store.partnercenter.IPartnerCredentials;
+import com.microsoft.store.partnercenter.IPartnerCredentialsResolver;
+import com.microsoft.store.partnercenter.logging.PartnerLog;
+import com.microsoft.store.partnercenter.requestcontext.IRequestContext;
+import com.microsoft.store.partnercenter.utils.StringHelper;
+
+/**
+ * Keeps the credentials of many customer tenants, so a partner operations object can call the partner service on
+ * behalf of each of them. Credentials are created once per tenant, even when several threads ask for a new tenant at
+ * the same time, and the least recently used tenants are dropped once the pool is full. Expired credentials are
+ * refreshed once per tenant, and {@link #startPrefetch(long, long)} refreshes the credentials of active tenants before
+ * they expire.
+ */
+public class PartnerCredentialPool
+    implements IPartnerCredentialsResolver
+{
+    /**
+     * Runs the prefetch of all credential pools.
+     */
+    private static final ScheduledExecutorService PREFETCH_SCHEDULER = Executors.newSingleThreadScheduledExecutor(
+        new ThreadFactory()
+        {
+            @Override
+            public Thread newThread(Runnable runnable)
+            {
+                Thread thread = new Thread(runnable, "partner-center-credential-prefetcher");
+                thread.setDaemon(true);
+
+                return thread;
+            }
+        });
+
+    /**
+     * The shortest time between two prefetch runs.
+     */
+    private static final long MINIMUM_PREFETCH_INTERVAL_IN_MILLISECONDS = TimeUnit.SECONDS.toMillis(1);
+
+    /**
+     * The maximum number of tenants kept in the pool.
+     */
+    private final int maxSize;
+
+    /**
+     * Creates the credentials of tenants that are not in the pool.
+     */
+    private final ITenantCredentialsFactory factory;
+
+    /**
+     * The pooled credentials by tenant, in least recently used order. Guarded by itself.
+     */
+    private final LinkedHashMap<String, PooledCredentials> entries;
+
+    /**
+     * The refresh in progress for each tenant.
+     */
+    private final ConcurrentMap<String, CompletableFuture<Void>> refreshes = new ConcurrentHashMap<>();
+
+    /**
+     * The scheduled prefetch, or null if prefetch is disabled. Guarded by this.
+     */
+    private ScheduledFuture<?> prefetch;
+
+    /**
+     * Initializes a new instance of the PartnerCredentialPool class.
+     * 
+     * @param maxSize The maximum number of tenants kept in the pool.
+     * @param factory Creates the credentials of tenants that are not in the pool.
+     */
+    public PartnerCredentialPool(final int maxSize, ITenantCredentialsFactory factory)
+    {
+        if (maxSize <= 0)
+        {
+            throw new IllegalArgumentException("maxSize must be greater than zero");
+        }
+
+        if (factory == null)
+        {
+            throw new IllegalArgumentException("factory null");
+        }
+
+        this.maxSize = maxSize;
+        this.factory = factory;
+        this.entries = new LinkedHashMap<String, PooledCredentials>(16, 0.75f, true)
+        {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, PooledCredentials> eldest)
+            {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Gets the maximum number of tenants kept in the pool.
+     * 
+     * @return The maximum number of tenants kept in the pool.
+     */
+    public int getMaxSize()
+    {
+        return maxSize;
+    }
+
+    /**
+     * Gets the number of tenants in the pool.
+     * 
+     * @return The number of tenants in the pool.
+     */
+    public int size()
+    {
+        synchronized (entries)
+        {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Gets the credentials for requests that address the given customer.
+     * 
+     * @param customerId The customer identifier.
+     * @param context The request context.
+     * @return The credentials for the customer tenant.
+     */
+    @Override
+    public IPartnerCredentials resolve(String customerId, IRequestContext context)
+    {
+        return get(customerId, context);
+    }
+
+    /**
+     * Gets valid credentials for a tenant, creating them if the tenant is not in the pool and refreshing them if
+     * they have expired.
+     * 
+     * @param tenantId The tenant identifier.
+     * @param context The request context.
+     * @return The credentials for the tenant.
+     */
+    public IPartnerCredentials get(String tenantId, IRequestContext context)
+    {
+        if (StringHelper.isNullOrWhiteSpace(tenantId))
+        {
+            throw new IllegalArgumentException("tenantId has to be set");
+        }
+
+        String key = tenantId.toLowerCase(Locale.ROOT);
+        PooledCredentials entry;
+        boolean owner = false;
+
+        synchronized (entries)
+        {
+            entry = entries.get(key);
+
+            if (entry == null)
+            {
+                entry = new PooledCredentials();
+                entries.put(key, entry);
+                owner = true;
+            }
+
+            entry.lastUsed = System.currentTimeMillis();
+        }
+
+        if (owner)
+        {
+            create(key, tenantId, entry, context);
+        }
+
+        IPartnerCredentials credentials = join(entry.credentials);
+
+        if (credentials.isExpired())
+        {
+            refresh(key, credentials, context, false);
+        }
+
+        return credentials;
+    }
+
+    /**
+     * Removes a tenant from the pool, so its credentials are created again on the next request.
+     * 
+     * @param tenantId The tenant identifier.
+     */
+    public void invalidate(String tenantId)
+    {
+        if (StringHelper.isNullOrWhiteSpace(tenantId))
+        {
+            throw new IllegalArgumentException("tenantId has to be set");
+        }
+
+        synchronized (entries)
+        {
+            entries.remove(tenantId.toLowerCase(Locale.ROOT));
+        }
+    }
+
+    /**
+     * Starts refreshing, in the background, the credentials of the tenants used recently that are about to expire,
+     * so requests for active tenants do not wait for Azure Active Directory.
+     * 
+     * @param windowInMilliseconds Credentials that expire within this time are refreshed.
+     * @param idleTimeoutInMilliseconds Tenants not used within this time are not refreshed.
+     */
+    public synchronized void startPrefetch(final long windowInMilliseconds, final long idleTimeoutInMilliseconds)
+    {
+        if (windowInMilliseconds <= 0)
+        {
+            throw new IllegalArgumentException("windowInMilliseconds must be greater than zero");
+        }
+
+        stopPrefetch();
+
+        long interval = Math.max(MINIMUM_PREFETCH_INTERVAL_IN_MILLISECONDS, windowInMilliseconds / 4);
+
+        prefetch = PREFETCH_SCHEDULER.scheduleWithFixedDelay(
+            new Runnable()
+            {
+                @Override
+                public void run()
+                {
+                    prefetch(windowInMilliseconds, idleTimeoutInMilliseconds);
+                }
+            },
+            interval,
+            interval,
+            TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops refreshing credentials in the background.
+     */
+    public synchronized void stopPrefetch()
+    {
+        if (prefetch != null)
+        {
+            prefetch.cancel(false);
+            prefetch = null;
+        }
+    }
+
+    /**
+     * Refreshes the credentials of the tenants used recently that expire soon.
+     * 
+     * @param windowInMilliseconds Credentials that expire within this time are refreshed.
+     * @param idleTimeoutInMilliseconds Tenants not used within this time are not refreshed.
+     */
+    void prefetch(long windowInMilliseconds, long idleTimeoutInMilliseconds)
+    {
+        long now = System.currentTimeMillis();
+        List<String> keys = new ArrayList<>();
+        List<IPartnerCredentials> candidates = new ArrayList<>();
+
+        synchronized (entries)
+        {
+            for (Map.Entry<String, PooledCredentials> entry : entries.entrySet())
+            {
+                IPartnerCredentials credentials = entry.getValue().getCreated();
+
+                if (credentials != null && now - entry.getValue().lastUsed <= idleTimeoutInMilliseconds)
+                {
+                    keys.add(entry.getKey());
+                    candidates.add(credentials);
+                }
+            }
+        }
+
+        for (int i = 0; i < candidates.size(); i++)
+        {
+            DateTime expiresAt = candidates.get(i).getExpiresAt();
+
+            if (expiresAt == null || expiresAt.getMillis() - now > windowInMilliseconds)
+            {
+                continue;
+            }
+
+            try
+            {
+                refresh(keys.get(i), candidates.get(i), null, true);
+            }
+            catch (RuntimeException ex)
+            {
+                PartnerLog.getInstance().logWarning(
+                    "Refreshing the credentials of tenant " + keys.get(i) + " in the background has failed: " + ex.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Creates the credentials of a tenant that was just added to the pool. Failed creations are removed from the
+     * pool, so the next request tries again.
+     */
+    private void create(String key, String tenantId, PooledCredentials entry, IRequestContext context)
+    {
+        try
+        {
+            IPartnerCredentials credentials = factory.create(tenantId, context);
+
+            if (credentials == null)
+            {
+                throw new IllegalStateException("The credentials factory returned no credentials for tenant " + tenantId);
+            }
+
+            entry.credentials.complete(credentials);
+        }
+        catch (RuntimeException ex)
+        {
+            entry.credentials.completeExceptionally(ex);
+
+            synchronized (entries)
+            {
+                if (entries.get(key) == entry)
+                {
+                    entries.remove(key);
+                }
+            }
+
+            throw ex;
+        }
+    }
+
+    /**
+     * Refreshes the credentials of a tenant, making sure only one refresh runs at a time for each tenant.
+     */
+    private void refresh(String key, IPartnerCredentials credentials, IRequestContext context, boolean force)
+    {
+        CompletableFuture<Void> refresh = new CompletableFuture<>();
+        CompletableFuture<Void> pending = refreshes.putIfAbsent(key, refresh);
+
+        if (pending != null)
+        {
+            join(pending);
+
+            return;
+        }
+
+        try
+        {
+            if (force && credentials instanceof BasePartnerCredentials)
+            {
+                ((BasePartnerCredentials)credentials).refreshToken(context);
+            }
+            else if (force || credentials.isExpired())
+            {
+                credentials.onCredentialsRefreshNeeded(credentials, context);
+            }
+
+            refresh.complete(null);
+        }
+        catch (RuntimeException ex)
+        {
+            refresh.completeExceptionally(ex);
+
+            throw ex;
+        }
+        finally
+        {
+            refreshes.remove(key, refresh);
+        }
+    }
+
+    private static <T> T join(CompletableFuture<T> future)
+    {
+        try
+        {
+            return future.join();
+        }
+        catch (CompletionException ex)
+        {
+            if (ex.getCause() instanceof RuntimeException)
+            {
+                throw (RuntimeException)ex.getCause();
+            }
+
+            throw ex;
+        }
+    }
+
+    /**
+     * The credentials of a tenant in the pool.
+     */
+    private static class PooledCredentials
+    {
+        /**
+         * The credentials, completed once they have been created.
+         */
+        private final CompletableFuture<IPartnerCredentials> credentials = new CompletableFuture<>();
+
+        /**
+         * The last time the credentials were requested. Guarded by the pool entries.
+         */
+        private long lastUsed;
+
+        /**
+         * Gets the credentials if they have been created.
+         * 
+         * @return The credentials, or null if they are still being created or their creation failed.
+         */
+        IPartnerCredentials getCreated()
+        {
+            return credentials.isDone() && !credentials.isCompletedExceptionally() ? credentials.join() : null;
+        }
+    }
+}
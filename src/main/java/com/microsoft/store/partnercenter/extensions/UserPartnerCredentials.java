@@ -6,7 +6,6 @@ package com.microsoft.store.partnercenter.extensions;
 import com.microsoft.store.partnercenter.AuthenticationToken;
 import com.microsoft.store.partnercenter.IAadLoginHandler;
 import com.microsoft.store.partnercenter.IPartnerCredentials;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.exception.PartnerErrorCategory;
 import com.microsoft.store.partnercenter.exception.PartnerException;
 import com.microsoft.store.partnercenter.logging.PartnerLog;
@@ -59,8 +58,6 @@ public class UserPartnerCredentials
 
         this.setAADToken(aadAuthenticationToken);
         this.tokenRefresher = loginHandler;
-        
-        PartnerService.getInstance().setRefreshCredentialsHandler(this);
     }
 
     /**
@@ -72,12 +69,10 @@ public class UserPartnerCredentials
     @Override
     public void onCredentialsRefreshNeeded(IPartnerCredentials credentials, IRequestContext context)
     {
-        UserPartnerCredentials partnerCredentials = (UserPartnerCredentials)credentials;
-
-        if (partnerCredentials != null)
+        if (credentials instanceof UserPartnerCredentials)
         {
-            // we can deal with the partner credentials object, refresh it
-            partnerCredentials.refresh(context);
+            // we can deal with the partner credentials object, refresh it once for all the waiting requests
+            ((UserPartnerCredentials)credentials).refreshExpiredToken(context);
         }
         else
         {
@@ -90,9 +85,9 @@ public class UserPartnerCredentials
      * Refreshes the partner credentials.
      *
      * @param context The partner context.
-     * @return A task which is complete when the refresh is done.
      */
-    private void refresh(IRequestContext context)
+    @Override
+    protected void renewToken(IRequestContext context)
     {
         if (this.getAADToken().isExpired())
         {
@@ -10,9 +10,9 @@ import java.util.List;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponentString;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.products.InventoryCheckRequest;
 import com.microsoft.store.partnercenter.models.products.InventoryItem;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.utils.StringHelper;
 import com.microsoft.store.partnercenter.models.utils.KeyValuePair;
 
@@ -48,13 +48,13 @@ public class ProductExtensionsByCountryOperations
 
         parameters.add(
             new KeyValuePair<String, String>(
-                PartnerService.getInstance().getConfiguration().getApis().get("CheckInventory").getParameters().get("Country"),
+                ApiRouteRegistry.getInstance().getRoute("CheckInventory").getParameterName("Country"),
                 this.getContext()));
 
         return this.getPartner().getServiceClient().post(
             this.getPartner(),
             new TypeReference<List<InventoryItem>>(){},
-            PartnerService.getInstance().getConfiguration().getApis().get("CheckInventory").getPath(),
+            ApiRouteRegistry.getInstance().getRoute("CheckInventory").getPath(),
             checkRequest,
             parameters);
     }
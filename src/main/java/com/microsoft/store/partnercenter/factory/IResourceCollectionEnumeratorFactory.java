@@ -19,4 +19,13 @@ public interface IResourceCollectionEnumeratorFactory<T extends ResourceBaseWith
      * @return A customer collection enumerator capable of traversing customers.
      */
     IResourceCollectionEnumerator<T> create(T customerResourceCollection);
+
+    /**
+     * Creates a collection enumerator that fetches the pages following the current one in the background.
+     * 
+     * @param resourceCollection The initial resource collection to start from.
+     * @param prefetchDepth The number of pages to fetch ahead of the current one. Zero disables prefetching.
+     * @return A collection enumerator that fetches pages ahead of the current one.
+     */
+    IResourceCollectionEnumerator<T> create(T resourceCollection, int prefetchDepth);
 }
\ No newline at end of file
@@ -48,4 +48,23 @@ public class IndexBasedCollectionEnumeratorFactory<T extends ResourceBase, TReso
             null,
             responseType);
     }
+
+    /**
+     * Creates a index based collection enumerator that fetches the pages following the current one in the
+     * background.
+     * 
+     * @param resourceCollection The initial resource collection to start from.
+     * @param prefetchDepth The number of pages to fetch ahead of the current one. Zero disables prefetching.
+     * @return A collection enumerator that fetches pages ahead of the current one.
+     */
+    @Override
+    public IResourceCollectionEnumerator<TResourceCollection> create(TResourceCollection resourceCollection, int prefetchDepth)
+    {
+        return new IndexBasedCollectionEnumerator<>(
+            this.getPartner(),
+            resourceCollection, 
+            null,
+            responseType,
+            prefetchDepth);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license. See the LICENSE file in the project root for full license information.
+
+package com.microsoft.store.partnercenter.genericoperations;
+
+/**
+ * Groups operations for getting a single entity only when it changed since a previous instance was retrieved. The
+ * entity type.
+ */
+public interface IEntityConditionalGetOperations<T>
+{
+    /**
+     * Retrieves an entity if it changed since a previous instance was retrieved, which is decided by the ETag in the
+     * attributes of that instance. An unchanged entity is not downloaded again.
+     * 
+     * @param previous The previous instance of the entity, or null to always retrieve the entity.
+     * @return The previous instance if the entity did not change; otherwise the current entity.
+     */
+    T getIfChanged(T previous);
+}
\ No newline at end of file
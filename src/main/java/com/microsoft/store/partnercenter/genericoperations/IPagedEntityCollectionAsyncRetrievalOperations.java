@@ -0,0 +1,27 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license. See the LICENSE file in the project root for full license information.
+
+package com.microsoft.store.partnercenter.genericoperations;
+
+import java.util.concurrent.CompletableFuture;
+
+import com.microsoft.store.partnercenter.models.ResourceBase;
+import com.microsoft.store.partnercenter.models.ResourceCollection;
+
+/**
+ * A generic interface which represents asynchronous paged entity retrieval operations.
+ *
+ * @param <T> The entity type.
+ * @param <TResourceCollection> The entity collection type.
+ */
+public interface IPagedEntityCollectionAsyncRetrievalOperations<T extends ResourceBase, TResourceCollection extends ResourceCollection<T>>
+{
+    /**
+     * Asynchronously retrieves a subset of entities.
+     *
+     * @param offset The starting index.
+     * @param size The maximum number of entities to return.
+     * @return A future that completes with the requested entities subset.
+     */
+    CompletableFuture<TResourceCollection> getAsync(int offset, int size);
+}
@@ -3,14 +3,12 @@
 
 package com.microsoft.store.partnercenter.invoices;
 
-import java.text.MessageFormat;
-
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponentString;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.ResourceCollection;
 import com.microsoft.store.partnercenter.models.invoices.EstimateLink;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.utils.StringHelper;
 
 /**
@@ -46,8 +44,7 @@ public class EstimateLinkCollectionByCurrencyOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
             new TypeReference<ResourceCollection<EstimateLink>>(){}, 
-            MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetEstimatesLinks").getPath(),
+            ApiRouteRegistry.getInstance().getRoute("GetEstimatesLinks").render(
 				this.getContext()));
     }
 }
\ No newline at end of file
@@ -3,6 +3,8 @@
 
 package com.microsoft.store.partnercenter.invoices;
 
+import java.nio.file.Path;
+
 import com.microsoft.store.partnercenter.IPartnerComponentString;
 import com.microsoft.store.partnercenter.genericoperations.IEntityCollectionRetrievalOperations;
 import com.microsoft.store.partnercenter.genericoperations.IEntitySelector;
@@ -58,4 +60,27 @@ public interface IInvoiceCollection
      * @return The invoices.
      */
     ResourceCollection<Invoice> query(IQuery query);
+
+    /**
+     * Downloads the statements of the given invoices into a directory, several at the same time. Statements already
+     * in the directory are not downloaded again, and each file only appears once its statement is complete.
+     * 
+     * @param invoiceIds The invoice identifiers, which are downloaded once however often they are listed.
+     * @param directory The directory that receives the statements.
+     * @param maxConcurrency The maximum number of statements downloaded at the same time.
+     * @return The outcome of the download, with the failures and the throughput.
+     */
+    InvoiceStatementDownloadResult downloadStatements(Iterable<String> invoiceIds, Path directory, int maxConcurrency);
+
+    /**
+     * Downloads the statements of the invoices that match a query into a directory, several at the same time.
+     * Statements already in the directory are not downloaded again, and each file only appears once its statement is
+     * complete.
+     * 
+     * @param query The query that selects the invoices. Every page of the result is downloaded.
+     * @param directory The directory that receives the statements.
+     * @param maxConcurrency The maximum number of statements downloaded at the same time.
+     * @return The outcome of the download, with the failures and the throughput.
+     */
+    InvoiceStatementDownloadResult downloadStatements(IQuery query, Path directory, int maxConcurrency);
 }
\ No newline at end of file
@@ -3,6 +3,9 @@
 
 package com.microsoft.store.partnercenter.invoices;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
 import com.microsoft.store.partnercenter.IPartnerComponentString;
 import com.microsoft.store.partnercenter.genericoperations.IEntityCollectionRetrievalOperations;
 import com.microsoft.store.partnercenter.models.ResourceCollection;
@@ -24,4 +27,35 @@ public interface IInvoiceLineItemCollection
     * @return The subset of invoice line items.
     */
    ResourceCollection<InvoiceLineItem> get(int size, int offset);
+
+   /**
+    * Retrieves all invoice line items for a specific billing provider and invoice line item type by requesting several
+    * pages at the same time
+    * @param pageSize The maximum number of invoice line items requested in each page.
+    * @param maxConcurrency The maximum number of pages requested at the same time.
+    * @return The collection of invoice line items, in invoice order.
+    */
+   ResourceCollection<InvoiceLineItem> getAll(int pageSize, int maxConcurrency);
+
+   /**
+    * Asynchronously retrieves invoice line items for a specific billing provider and invoice line item type
+    * @return A future that completes with the collection of invoice line items.
+    */
+   CompletableFuture<ResourceCollection<InvoiceLineItem>> getAsync();
+
+   /**
+    * Asynchronously retrieves a subset of invoice line items for a specific billing provider and invoice line item type 
+    * @param size The maximum number of invoice line items to return.
+    * @param offset The page offset.
+    * @return A future that completes with the subset of invoice line items.
+    */
+   CompletableFuture<ResourceCollection<InvoiceLineItem>> getAsync(int size, int offset);
+
+   /**
+    * Streams invoice line items for a specific billing provider and invoice line item type one at a time. Line items
+    * are read from the response as the stream is consumed and further pages are requested as needed, so only the
+    * current line item is held in memory. Close the stream if it is not consumed to the end.
+    * @return A stream over the invoice line items.
+    */
+   Stream<InvoiceLineItem> stream();
 }
\ No newline at end of file
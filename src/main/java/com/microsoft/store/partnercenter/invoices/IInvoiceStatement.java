@@ -4,8 +4,11 @@
 package com.microsoft.store.partnercenter.invoices;
 
 import java.io.InputStream;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
 
 import com.microsoft.store.partnercenter.IPartnerComponentString;
+import com.microsoft.store.partnercenter.network.IDownloadProgressListener;
 
 /**
  * Represents the operations available to an invoice statement.
@@ -18,4 +21,33 @@ public interface IInvoiceStatement extends IPartnerComponentString
      * @return The invoice statement.
      */
     InputStream get();
+
+    /**
+     * Downloads the invoice statement into a channel without holding it in memory. A connection that fails during the
+     * download is resumed where it stopped. This operation is currently only supported for user based credentials.
+     * 
+     * @param target The channel that receives the invoice statement.
+     * @param progress Receives the progress of the download, or null.
+     * @return The number of bytes written to the channel.
+     */
+    long download(WritableByteChannel target, IDownloadProgressListener progress);
+
+    /**
+     * Downloads the invoice statement into a file. The file is only replaced once the download is complete, and a download
+     * interrupted earlier is resumed instead of started again. This operation is currently only supported for user
+     * based credentials.
+     * 
+     * @param file The file that receives the invoice statement.
+     * @param progress Receives the progress of the download, or null.
+     * @return The number of bytes downloaded.
+     */
+    long download(Path file, IDownloadProgressListener progress);
+
+    /**
+     * Gets the size of the invoice statement without downloading it. This operation is currently only supported for
+     * user based credentials.
+     * 
+     * @return The size of the invoice statement in bytes, or -1 if the partner service does not state it.
+     */
+    long getLength();
 }
\ No newline at end of file
@@ -4,9 +4,12 @@
 package com.microsoft.store.partnercenter.invoices;
 
 import java.io.InputStream;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
 
 import com.microsoft.store.partnercenter.IPartnerComponent;
 import com.microsoft.store.partnercenter.models.utils.Tuple;
+import com.microsoft.store.partnercenter.network.IDownloadProgressListener;
 
 /**
  * Represents the operations available to an invoice receipt statement.
@@ -19,4 +22,25 @@ public interface IReceiptStatement extends IPartnerComponent<Tuple<String, Strin
      * @return The invoice statement.
      */
     InputStream get();
+
+    /**
+     * Downloads the receipt statement into a channel without holding it in memory. A connection that fails during the
+     * download is resumed where it stopped. This operation is currently only supported for user based credentials.
+     * 
+     * @param target The channel that receives the receipt statement.
+     * @param progress Receives the progress of the download, or null.
+     * @return The number of bytes written to the channel.
+     */
+    long download(WritableByteChannel target, IDownloadProgressListener progress);
+
+    /**
+     * Downloads the receipt statement into a file. The file is only replaced once the download is complete, and a download
+     * interrupted earlier is resumed instead of started again. This operation is currently only supported for user
+     * based credentials.
+     * 
+     * @param file The file that receives the receipt statement.
+     * @param progress Receives the progress of the download, or null.
+     * @return The number of bytes downloaded.
+     */
+    long download(Path file, IDownloadProgressListener progress);
 }
\ No newline at end of file
@@ -3,6 +3,8 @@
 
 package com.microsoft.store.partnercenter.invoices;
 
+import java.util.stream.Stream;
+
 import com.microsoft.store.partnercenter.IPartnerComponent;
 import com.microsoft.store.partnercenter.genericoperations.IEntireEntityCollectionRetrievalOperations;
 import com.microsoft.store.partnercenter.models.SeekBasedResourceCollection;
@@ -14,4 +16,12 @@ import com.microsoft.store.partnercenter.models.invoices.InvoiceLineItem;
 public interface IReconciliationLineItemCollection 
     extends IPartnerComponent<String>, IEntireEntityCollectionRetrievalOperations<InvoiceLineItem, SeekBasedResourceCollection<InvoiceLineItem>>
 {
+    /**
+     * Streams the recon line items of the partner one at a time. Line items are read from the response as the stream
+     * is consumed and further pages are requested with the continuation token as needed, so only the current line
+     * item is held in memory. Close the stream if it is not consumed to the end.
+     * 
+     * @return A stream over the recon line items.
+     */
+    Stream<InvoiceLineItem> stream();
 }
\ No newline at end of file
@@ -3,19 +3,19 @@
 
 package com.microsoft.store.partnercenter.invoices;
 
-import java.io.UnsupportedEncodingException;
-import java.net.URLEncoder;
+import java.nio.file.Path;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.microsoft.store.partnercenter.BasePartnerComponentString;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.exception.PartnerErrorCategory;
+import com.microsoft.store.partnercenter.enumerators.IResourceCollectionEnumerator;
 import com.microsoft.store.partnercenter.exception.PartnerException;
 import com.microsoft.store.partnercenter.models.ResourceCollection;
 import com.microsoft.store.partnercenter.models.SeekBasedResourceCollection;
@@ -23,6 +23,7 @@ import com.microsoft.store.partnercenter.models.invoices.Invoice;
 import com.microsoft.store.partnercenter.models.query.IQuery;
 import com.microsoft.store.partnercenter.models.query.QueryType;
 import com.microsoft.store.partnercenter.models.utils.KeyValuePair;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.utils.ParameterValidator;
 import com.microsoft.store.partnercenter.utils.StringHelper;
 
@@ -110,7 +111,7 @@ public class InvoiceCollection
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<SeekBasedResourceCollection<Invoice>>(){}, 
-			PartnerService.getInstance().getConfiguration().getApis().get("GetInvoices").getPath());
+			ApiRouteRegistry.getInstance().getRoute("GetInvoices").getPath());
 	}
 
 	/**
@@ -133,18 +134,18 @@ public class InvoiceCollection
 
 		parameters.add(
 			new KeyValuePair<String, String>(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetInvoices").getParameters().get("Offset"),
+				ApiRouteRegistry.getInstance().getRoute("GetInvoices").getParameterName("Offset"),
 				String.valueOf(offset)));
 
 		parameters.add(
 			new KeyValuePair<String, String>(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetInvoices").getParameters().get("Size"),
+				ApiRouteRegistry.getInstance().getRoute("GetInvoices").getParameterName("Size"),
 				String.valueOf(size)));
 
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<SeekBasedResourceCollection<Invoice>>(){}, 
-			PartnerService.getInstance().getConfiguration().getApis().get("GetInvoices").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetInvoices").getPath(),
 			parameters);
 	}
 	
@@ -171,12 +172,12 @@ public class InvoiceCollection
 		{
 			parameters.add(
 				new KeyValuePair<String, String>(
-					PartnerService.getInstance().getConfiguration().getApis().get("GetInvoices").getParameters().get("Size"),
+					ApiRouteRegistry.getInstance().getRoute("GetInvoices").getParameterName("Size"),
 					String.valueOf(query.getPageSize())));
 
 			parameters.add(
 				new KeyValuePair<String, String>(
-					PartnerService.getInstance().getConfiguration().getApis().get("GetInvoices").getParameters().get("Offset"),
+					ApiRouteRegistry.getInstance().getRoute("GetInvoices").getParameterName("Offset"),
 					String.valueOf(query.getIndex())));      
 		}
 
@@ -188,13 +189,8 @@ public class InvoiceCollection
 			{
 				parameters.add(
 					new KeyValuePair<String, String>(
-						PartnerService.getInstance().getConfiguration().getApis().get("GetInvoices").getParameters().get("Filter"),
-						URLEncoder.encode(mapper.writeValueAsString(query.getFilter()),
-						"UTF-8")));            	
-			}
-			catch (UnsupportedEncodingException e)
-			{
-				throw new PartnerException("", null, PartnerErrorCategory.REQUEST_PARSING, e);
+						ApiRouteRegistry.getInstance().getRoute("GetInvoices").getParameterName("Filter"),
+						mapper.writeValueAsString(query.getFilter())));            	
 			}
 			catch (JsonProcessingException e)
 			{
@@ -205,7 +201,59 @@ public class InvoiceCollection
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<SeekBasedResourceCollection<Invoice>>(){}, 
-			PartnerService.getInstance().getConfiguration().getApis().get("GetInvoices").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetInvoices").getPath(),
 			parameters);
 	}
+
+	/**
+	 * Downloads the statements of the given invoices into a directory, several at the same time. Statements already
+	 * in the directory are not downloaded again, and each file only appears once its statement is complete.
+	 * 
+	 * @param invoiceIds The invoice identifiers, which are downloaded once however often they are listed.
+	 * @param directory The directory that receives the statements.
+	 * @param maxConcurrency The maximum number of statements downloaded at the same time.
+	 * @return The outcome of the download, with the failures and the throughput.
+	 */
+	@Override
+	public InvoiceStatementDownloadResult downloadStatements(Iterable<String> invoiceIds, Path directory, int maxConcurrency)
+	{
+		return new InvoiceStatementDownloader(this, maxConcurrency).download(invoiceIds, directory);
+	}
+
+	/**
+	 * Downloads the statements of the invoices that match a query into a directory, several at the same time.
+	 * Statements already in the directory are not downloaded again, and each file only appears once its statement is
+	 * complete.
+	 * 
+	 * @param query The query that selects the invoices. Every page of the result is downloaded.
+	 * @param directory The directory that receives the statements.
+	 * @param maxConcurrency The maximum number of statements downloaded at the same time.
+	 * @return The outcome of the download, with the failures and the throughput.
+	 */
+	@Override
+	public InvoiceStatementDownloadResult downloadStatements(IQuery query, Path directory, int maxConcurrency)
+	{
+		if (directory == null)
+		{
+			throw new IllegalArgumentException("directory null");
+		}
+
+		// validate before the query is run, so a bad argument does not cost the requests
+		InvoiceStatementDownloader downloader = new InvoiceStatementDownloader(this, maxConcurrency);
+		IResourceCollectionEnumerator<ResourceCollection<Invoice>> enumerator = 
+			this.getPartner().getEnumerators().getInvoices().create(this.query(query));
+		List<String> invoiceIds = new ArrayList<String>();
+
+		while (enumerator.hasValue())
+		{
+			for (Invoice invoice : enumerator.getCurrent().getItems())
+			{
+				invoiceIds.add(invoice.getId());
+			}
+
+			enumerator.next();
+		}
+
+		return downloader.download(invoiceIds, directory);
+	}
 }
\ No newline at end of file
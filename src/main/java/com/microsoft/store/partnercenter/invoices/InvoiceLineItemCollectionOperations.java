@@ -3,19 +3,23 @@
 
 package com.microsoft.store.partnercenter.invoices;
 
-import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponentString;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
+import com.microsoft.store.partnercenter.enumerators.OffsetRangeCollectionFetcher;
+import com.microsoft.store.partnercenter.enumerators.ResourceItemIterator;
+import com.microsoft.store.partnercenter.genericoperations.IPagedEntityCollectionAsyncRetrievalOperations;
 import com.microsoft.store.partnercenter.models.ResourceCollection;
 import com.microsoft.store.partnercenter.models.invoices.BillingProvider;
 import com.microsoft.store.partnercenter.models.invoices.InvoiceLineItem;
 import com.microsoft.store.partnercenter.models.invoices.InvoiceLineItemType;
 import com.microsoft.store.partnercenter.models.utils.KeyValuePair;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.utils.StringHelper;
 
 public class InvoiceLineItemCollectionOperations
@@ -74,11 +78,7 @@ public class InvoiceLineItemCollectionOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<ResourceCollection<InvoiceLineItem>>(){}, 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetInvoiceLineItems").getPath(),
-				this.getContext(),
-				this.billingProvider.toString(), 
-				this.invoiceLineItemType)); 
+			getRelativeUri()); 
 	}
 
 	/**
@@ -88,27 +88,124 @@ public class InvoiceLineItemCollectionOperations
 	 */
 	@Override
 	public ResourceCollection<InvoiceLineItem> get(int size, int offset)
+	{
+		return this.getPartner().getServiceClient().get(
+			this.getPartner(),
+			new TypeReference<ResourceCollection<InvoiceLineItem>>(){}, 
+			getRelativeUri(),
+			getPagingParameters(size, offset)); 
+	}
+
+	/**
+	 * Retrieves all invoice line items for a specific billing provider and invoice line item type by requesting several
+	 * pages at the same time
+	 * 
+	 * @param pageSize The maximum number of invoice line items requested in each page.
+	 * @param maxConcurrency The maximum number of pages requested at the same time.
+	 * @return The collection of invoice line items, in invoice order.
+	 */
+	@Override
+	public ResourceCollection<InvoiceLineItem> getAll(int pageSize, int maxConcurrency)
+	{
+		return new OffsetRangeCollectionFetcher<>(
+			new IPagedEntityCollectionAsyncRetrievalOperations<InvoiceLineItem, ResourceCollection<InvoiceLineItem>>()
+			{
+				@Override
+				public CompletableFuture<ResourceCollection<InvoiceLineItem>> getAsync(int offset, int size)
+				{
+					// this collection takes the size ahead of the offset
+					return InvoiceLineItemCollectionOperations.this.getAsync(size, offset);
+				}
+			},
+			pageSize,
+			maxConcurrency).fetch();
+	}
+
+	/**
+	 * Asynchronously retrieves invoice line items for a specific billing provider and invoice line item type 
+	 * 
+	 * @return A future that completes with the collection of invoice line items.
+	 */
+	@Override
+	public CompletableFuture<ResourceCollection<InvoiceLineItem>> getAsync()
+	{
+		return this.getPartner().getServiceClient().getAsync(
+			this.getPartner(),
+			new TypeReference<ResourceCollection<InvoiceLineItem>>(){}, 
+			getRelativeUri()); 
+	}
+
+	/**
+	 * Asynchronously retrieves invoice line items for a specific billing provider and invoice line item type and allows paging
+	 * 
+	 * @param size The maximum number of invoice line items to return.
+	 * @param offset The page offset.
+	 * @return A future that completes with the collection of invoice line items.
+	 */
+	@Override
+	public CompletableFuture<ResourceCollection<InvoiceLineItem>> getAsync(int size, int offset)
+	{
+		return this.getPartner().getServiceClient().getAsync(
+			this.getPartner(),
+			new TypeReference<ResourceCollection<InvoiceLineItem>>(){}, 
+			getRelativeUri(),
+			getPagingParameters(size, offset)); 
+	}
+
+	/**
+	 * Streams invoice line items for a specific billing provider and invoice line item type one at a time.
+	 * 
+	 * @return A stream over the invoice line items.
+	 */
+	@Override
+	public Stream<InvoiceLineItem> stream()
+	{
+		TypeReference<InvoiceLineItem> itemType = new TypeReference<InvoiceLineItem>(){};
+
+		return new ResourceItemIterator<>(
+			this.getPartner(),
+			itemType,
+			this.getPartner().getServiceClient().getItems(
+				this.getPartner(),
+				itemType,
+				getRelativeUri(),
+				null)).stream();
+	}
+
+	/**
+	 * Gets the relative address of the invoice line items.
+	 * 
+	 * @return The relative address of the invoice line items.
+	 */
+	private String getRelativeUri()
+	{
+		return ApiRouteRegistry.getInstance().getRoute("GetInvoiceLineItems").render(
+			this.getContext(),
+			this.billingProvider.toString(), 
+			this.invoiceLineItemType);
+	}
+
+	/**
+	 * Gets the parameters used to request a page of invoice line items.
+	 * 
+	 * @param size The maximum number of invoice line items to return.
+	 * @param offset The page offset.
+	 * @return The paging parameters.
+	 */
+	private Collection<KeyValuePair<String, String>> getPagingParameters(int size, int offset)
 	{
 		Collection<KeyValuePair<String, String>> parameters = new ArrayList<KeyValuePair<String, String>>();
 
 		parameters.add(
 			new KeyValuePair<String, String>(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetInvoiceLineItems").getParameters().get("Size"),
+				ApiRouteRegistry.getInstance().getRoute("GetInvoiceLineItems").getParameterName("Size"),
 				String.valueOf(size)));
 
 		parameters.add(
 			new KeyValuePair<String, String>(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetInvoiceLineItems").getParameters().get("Offset"),
+				ApiRouteRegistry.getInstance().getRoute("GetInvoiceLineItems").getParameterName("Offset"),
 				String.valueOf(offset)));
 
-		return this.getPartner().getServiceClient().get(
-			this.getPartner(),
-			new TypeReference<ResourceCollection<InvoiceLineItem>>(){}, 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetInvoiceLineItems").getPath(),
-				this.getContext(),
-				this.billingProvider.toString(), 
-				this.invoiceLineItemType),
-			parameters); 
+		return parameters;
 	}
 }
\ No newline at end of file
@@ -0,0 +1,183 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license. See the LICENSE file in the project root for full license information.
+
+package com.microsoft.store.partnercenter.invoices;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Describes the outcome of a bulk invoice statement download.
+ */
+public class InvoiceStatementDownloadResult
+{
+    /**
+     * The number of bytes in a megabyte, as used by the throughput.
+     */
+    private static final double BYTES_PER_MEGABYTE = 1024 * 1024;
+
+    /**
+     * The directory the statements were downloaded to.
+     */
+    private final Path directory;
+
+    /**
+     * The identifiers of the invoices whose statement was downloaded.
+     */
+    private final List<String> downloaded;
+
+    /**
+     * The identifiers of the invoices whose statement was already in the directory.
+     */
+    private final List<String> skipped;
+
+    /**
+     * The failures, by invoice identifier.
+     */
+    private final Map<String, RuntimeException> failures;
+
+    /**
+     * The number of bytes downloaded.
+     */
+    private final long bytesDownloaded;
+
+    /**
+     * The time the download took, in nanoseconds.
+     */
+    private final long durationInNanoseconds;
+
+    /**
+     * Initializes a new instance of the InvoiceStatementDownloadResult class.
+     *
+     * @param directory The directory the statements were downloaded to.
+     * @param downloaded The identifiers of the invoices whose statement was downloaded.
+     * @param skipped The identifiers of the invoices whose statement was already in the directory.
+     * @param failures The failures, by invoice identifier.
+     * @param bytesDownloaded The number of bytes downloaded.
+     * @param durationInNanoseconds The time the download took, in nanoseconds.
+     */
+    InvoiceStatementDownloadResult(Path directory, List<String> downloaded, List<String> skipped,
+        Map<String, RuntimeException> failures, long bytesDownloaded, long durationInNanoseconds)
+    {
+        this.directory = directory;
+        this.downloaded = Collections.unmodifiableList(downloaded);
+        this.skipped = Collections.unmodifiableList(skipped);
+        this.failures = Collections.unmodifiableMap(failures);
+        this.bytesDownloaded = bytesDownloaded;
+        this.durationInNanoseconds = durationInNanoseconds;
+    }
+
+    /**
+     * Gets the directory the statements were downloaded to.
+     *
+     * @return The directory the statements were downloaded to.
+     */
+    public Path getDirectory()
+    {
+        return directory;
+    }
+
+    /**
+     * Gets the identifiers of the invoices whose statement was downloaded.
+     *
+     * @return The identifiers of the invoices whose statement was downloaded.
+     */
+    public List<String> getDownloaded()
+    {
+        return downloaded;
+    }
+
+    /**
+     * Gets the identifiers of the invoices whose statement was already in the directory and was not downloaded again.
+     *
+     * @return The identifiers of the invoices whose statement was skipped.
+     */
+    public List<String> getSkipped()
+    {
+        return skipped;
+    }
+
+    /**
+     * Gets the failures of the statements that could not be downloaded, by invoice identifier.
+     *
+     * @return The failures, by invoice identifier.
+     */
+    public Map<String, RuntimeException> getFailures()
+    {
+        return failures;
+    }
+
+    /**
+     * Gets a value indicating whether every statement is in the directory.
+     *
+     * @return true if no statement failed to download; otherwise false.
+     */
+    public boolean isSuccessful()
+    {
+        return failures.isEmpty();
+    }
+
+    /**
+     * Gets the number of bytes downloaded, which excludes skipped statements.
+     *
+     * @return The number of bytes downloaded.
+     */
+    public long getBytesDownloaded()
+    {
+        return bytesDownloaded;
+    }
+
+    /**
+     * Gets the time the download took.
+     *
+     * @param unit The unit of the duration.
+     * @return The time the download took.
+     */
+    public long getDuration(TimeUnit unit)
+    {
+        return unit.convert(durationInNanoseconds, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Gets the download throughput in megabytes of 1,048,576 bytes per second.
+     *
+     * @return The number of megabytes downloaded per second.
+     */
+    public double getMegabytesPerSecond()
+    {
+        return perSecond(bytesDownloaded / BYTES_PER_MEGABYTE);
+    }
+
+    /**
+     * Gets the number of statements downloaded per second, which excludes skipped statements.
+     *
+     * @return The number of statements downloaded per second.
+     */
+    public double getFilesPerSecond()
+    {
+        return perSecond(downloaded.size());
+    }
+
+    @Override
+    public String toString()
+    {
+        return String.format(
+            Locale.ROOT,
+            "%d statements downloaded, %d skipped, %d failed in %.1f s (%.2f MB/s, %.2f files/s)",
+            downloaded.size(),
+            skipped.size(),
+            failures.size(),
+            durationInNanoseconds / 1e9,
+            getMegabytesPerSecond(),
+            getFilesPerSecond());
+    }
+
+    private double perSecond(double amount)
+    {
+        return durationInNanoseconds <= 0 ? 0 : amount * 1e9 / durationInNanoseconds;
+    }
+}
@@ -0,0 +1,297 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license. See the LICENSE file in the project root for full license information.
+
+package com.microsoft.store.partnercenter.invoices;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.microsoft.store.partnercenter.logging.PartnerLog;
+import com.microsoft.store.partnercenter.utils.StringHelper;
+
+/**
+ * Downloads the statements of many invoices into a directory, several at the same time. Each statement is written to
+ * a file named after its invoice, through a partial file that only replaces the file once the statement is complete.
+ * A statement whose file is already in the directory with the size the partner service states for the statement is
+ * not downloaded again, and a partial file left by an interrupted run is resumed. A statement that fails, including
+ * one whose invoice identifier is not a valid file name, does not stop the others; its failure is reported in the
+ * result.
+ */
+public class InvoiceStatementDownloader
+{
+    /**
+     * The extension of the statement files.
+     */
+    public static final String FILE_EXTENSION = ".pdf";
+
+    /**
+     * The result of a download task whose statement was already complete.
+     */
+    private static final long SKIPPED = -1;
+
+    /**
+     * The invoice operations used to download each statement.
+     */
+    private final IInvoiceCollection invoices;
+
+    /**
+     * The maximum number of statements downloaded at the same time.
+     */
+    private final int maxConcurrency;
+
+    /**
+     * Initializes a new instance of the InvoiceStatementDownloader class.
+     *
+     * @param invoices The invoice operations used to download each statement.
+     * @param maxConcurrency The maximum number of statements downloaded at the same time.
+     */
+    public InvoiceStatementDownloader(IInvoiceCollection invoices, int maxConcurrency)
+    {
+        if (invoices == null)
+        {
+            throw new IllegalArgumentException("invoices null");
+        }
+
+        if (maxConcurrency <= 0)
+        {
+            throw new IllegalArgumentException("maxConcurrency must be greater than zero");
+        }
+
+        this.invoices = invoices;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * Gets the file the statement of an invoice is downloaded to.
+     *
+     * @param directory The directory of the statements.
+     * @param invoiceId The invoice identifier.
+     * @return The file of the statement.
+     */
+    public static Path getFile(Path directory, String invoiceId)
+    {
+        Path file = directory.resolve(invoiceId + FILE_EXTENSION);
+
+        // an identifier must not lead the file out of the directory
+        if (!directory.equals(file.getParent()))
+        {
+            throw new IllegalArgumentException("The invoice identifier " + invoiceId + " is not a valid file name.");
+        }
+
+        return file;
+    }
+
+    /**
+     * Downloads the statements of the given invoices. Each invoice is downloaded once, however often it is listed.
+     *
+     * @param invoiceIds The invoice identifiers.
+     * @param directory The directory that receives the statements, which is created if it does not exist.
+     * @return The outcome of the download.
+     */
+    public InvoiceStatementDownloadResult download(Iterable<String> invoiceIds, Path directory)
+    {
+        if (invoiceIds == null)
+        {
+            throw new IllegalArgumentException("invoiceIds null");
+        }
+
+        if (directory == null)
+        {
+            throw new IllegalArgumentException("directory null");
+        }
+
+        Set<String> uniqueIds = new LinkedHashSet<>();
+
+        for (String invoiceId : invoiceIds)
+        {
+            if (StringHelper.isNullOrWhiteSpace(invoiceId))
+            {
+                throw new IllegalArgumentException("invoiceId has to be set.");
+            }
+
+            uniqueIds.add(invoiceId.trim());
+        }
+
+        try
+        {
+            Files.createDirectories(directory);
+        }
+        catch (IOException ex)
+        {
+            throw new UncheckedIOException(ex);
+        }
+
+        long startTime = System.nanoTime();
+        List<String> downloaded = new ArrayList<>();
+        List<String> skipped = new ArrayList<>();
+        Map<String, RuntimeException> failures = new LinkedHashMap<>();
+        long bytesDownloaded = 0;
+
+        if (!uniqueIds.isEmpty())
+        {
+            ExecutorService executor = Executors.newFixedThreadPool(
+                Math.min(maxConcurrency, uniqueIds.size()),
+                new DownloadThreadFactory());
+
+            try
+            {
+                Map<String, Future<Long>> downloads = new LinkedHashMap<>();
+
+                for (String invoiceId : uniqueIds)
+                {
+                    downloads.put(invoiceId, executor.submit(newDownload(invoiceId, directory)));
+                }
+
+                for (Map.Entry<String, Future<Long>> download : downloads.entrySet())
+                {
+                    try
+                    {
+                        long count = download.getValue().get();
+
+                        if (count == SKIPPED)
+                        {
+                            skipped.add(download.getKey());
+                        }
+                        else
+                        {
+                            bytesDownloaded += count;
+                            downloaded.add(download.getKey());
+                        }
+                    }
+                    catch (ExecutionException ex)
+                    {
+                        if (!(ex.getCause() instanceof RuntimeException))
+                        {
+                            throw new IllegalStateException(ex.getCause());
+                        }
+
+                        failures.put(download.getKey(), (RuntimeException)ex.getCause());
+                        PartnerLog.getInstance().logWarning(
+                            "Could not download the statement of invoice " + download.getKey() + ": " + ex.getCause().getMessage());
+                    }
+                }
+            }
+            catch (InterruptedException ex)
+            {
+                Thread.currentThread().interrupt();
+
+                throw new IllegalStateException("Interrupted while downloading the invoice statements", ex);
+            }
+            finally
+            {
+                executor.shutdownNow();
+            }
+        }
+
+        InvoiceStatementDownloadResult result = new InvoiceStatementDownloadResult(
+            directory, downloaded, skipped, failures, bytesDownloaded, System.nanoTime() - startTime);
+
+        PartnerLog.getInstance().logInformation("Invoice statements in " + directory + ": " + result);
+
+        return result;
+    }
+
+    /**
+     * Checks whether the statement file is complete, which is the case when it has the size the partner service
+     * states for the statement. A statement file that is not complete is downloaded again.
+     *
+     * @param invoiceId The invoice identifier.
+     * @param statement The statement operations.
+     * @param file The statement file.
+     * @return true if the statement file is complete; otherwise false.
+     */
+    private static boolean isComplete(String invoiceId, IInvoiceStatement statement, Path file)
+    {
+        if (!Files.isRegularFile(file))
+        {
+            return false;
+        }
+
+        long length;
+
+        try
+        {
+            length = statement.getLength();
+        }
+        catch (RuntimeException ex)
+        {
+            // a statement that cannot be checked is downloaded again rather than trusted
+            PartnerLog.getInstance().logWarning(
+                "Could not check the statement of invoice " + invoiceId + ", so it is downloaded again: " + ex.getMessage());
+
+            return false;
+        }
+
+        try
+        {
+            return length > 0 && Files.size(file) == length;
+        }
+        catch (IOException ex)
+        {
+            return false;
+        }
+    }
+
+    /**
+     * Creates the task that downloads the statement of an invoice, unless the statement file is already complete.
+     *
+     * @param invoiceId The invoice identifier.
+     * @param directory The directory of the statements.
+     * @return The task, which returns the number of bytes downloaded, or SKIPPED if the statement was complete.
+     */
+    private Callable<Long> newDownload(final String invoiceId, final Path directory)
+    {
+        return new Callable<Long>()
+        {
+            @Override
+            public Long call()
+            {
+                Path file = getFile(directory, invoiceId);
+                IInvoiceStatement statement = invoices.byId(invoiceId).getDocuments().getStatement();
+
+                if (isComplete(invoiceId, statement, file))
+                {
+                    return SKIPPED;
+                }
+
+                return statement.download(file, null);
+            }
+        };
+    }
+
+    /**
+     * Creates the daemon threads that download the statements.
+     */
+    private static class DownloadThreadFactory
+        implements ThreadFactory
+    {
+        /**
+         * The number of threads created so far.
+         */
+        private static final AtomicInteger threadCount = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable)
+        {
+            Thread thread = new Thread(runnable, "partner-center-statement-downloader-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+
+            return thread;
+        }
+    }
+}
@@ -4,11 +4,13 @@
 package com.microsoft.store.partnercenter.invoices;
 
 import java.io.InputStream;
-import java.text.MessageFormat;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
 
 import com.microsoft.store.partnercenter.BasePartnerComponentString;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
+import com.microsoft.store.partnercenter.network.IDownloadProgressListener;
 import com.microsoft.store.partnercenter.utils.StringHelper;
 
 public class InvoiceStatementOperations
@@ -42,8 +44,65 @@ public class InvoiceStatementOperations
 	{
 		return this.getPartner().getServiceClient().getFileContents(
 			this.getPartner(), 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetInvoiceStatement").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetInvoiceStatement").render(
+				this.getContext()), 
+			"application/pdf");
+	}
+
+	/**
+	 * Downloads the invoice statement into a channel without holding it in memory. A connection that fails during the
+	 * download is resumed where it stopped. This operation is currently only supported for user based credentials.
+	 * 
+	 * @param target The channel that receives the invoice statement.
+	 * @param progress Receives the progress of the download, or null.
+	 * @return The number of bytes written to the channel.
+	 */
+	@Override
+	public long download(WritableByteChannel target, IDownloadProgressListener progress)
+	{
+		return this.getPartner().getServiceClient().downloadFileContents(
+			this.getPartner(), 
+			ApiRouteRegistry.getInstance().getRoute("GetInvoiceStatement").render(
+				this.getContext()), 
+			"application/pdf",
+			target,
+			0,
+			progress);
+	}
+
+	/**
+	 * Downloads the invoice statement into a file. The file is only replaced once the download is complete, and a download
+	 * interrupted earlier is resumed instead of started again. This operation is currently only supported for user
+	 * based credentials.
+	 * 
+	 * @param file The file that receives the invoice statement.
+	 * @param progress Receives the progress of the download, or null.
+	 * @return The number of bytes downloaded.
+	 */
+	@Override
+	public long download(Path file, IDownloadProgressListener progress)
+	{
+		return this.getPartner().getServiceClient().downloadFileContents(
+			this.getPartner(), 
+			ApiRouteRegistry.getInstance().getRoute("GetInvoiceStatement").render(
+				this.getContext()), 
+			"application/pdf",
+			file,
+			progress);
+	}
+
+	/**
+	 * Gets the size of the invoice statement without downloading it. This operation is currently only supported for
+	 * user based credentials.
+	 * 
+	 * @return The size of the invoice statement in bytes, or -1 if the partner service does not state it.
+	 */
+	@Override
+	public long getLength()
+	{
+		return this.getPartner().getServiceClient().getFileLength(
+			this.getPartner(), 
+			ApiRouteRegistry.getInstance().getRoute("GetInvoiceStatement").render(
 				this.getContext()), 
 			"application/pdf");
 	}
@@ -6,9 +6,9 @@ package com.microsoft.store.partnercenter.invoices;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponentString;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.ResourceCollection;
 import com.microsoft.store.partnercenter.models.invoices.InvoiceSummary;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 
 /**
  * Represents the operations that can be done on invoice summary collection.
@@ -35,6 +35,6 @@ public class InvoiceSummaryCollectionOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<ResourceCollection<InvoiceSummary>>(){}, 
-			PartnerService.getInstance().getConfiguration().getApis().get("GetInvoiceSummaries").getPath());
+			ApiRouteRegistry.getInstance().getRoute("GetInvoiceSummaries").getPath());
 	}
 }
\ No newline at end of file
@@ -6,8 +6,8 @@ package com.microsoft.store.partnercenter.invoices;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponentString;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.invoices.InvoiceSummary;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 
 public class InvoiceSummaryOperations
 	extends BasePartnerComponentString
@@ -33,6 +33,6 @@ public class InvoiceSummaryOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<InvoiceSummary>(){}, 
-			PartnerService.getInstance().getConfiguration().getApis().get("GetInvoiceSummary").getPath());
+			ApiRouteRegistry.getInstance().getRoute("GetInvoiceSummary").getPath());
 	}
 }
@@ -4,12 +4,14 @@
 package com.microsoft.store.partnercenter.invoices;
 
 import java.io.InputStream;
-import java.text.MessageFormat;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
 
 import com.microsoft.store.partnercenter.BasePartnerComponent;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.utils.Tuple;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
+import com.microsoft.store.partnercenter.network.IDownloadProgressListener;
 import com.microsoft.store.partnercenter.utils.StringHelper;
 
 public class ReceiptStatementOperations
@@ -49,9 +51,50 @@ public class ReceiptStatementOperations
 	{
 		return this.getPartner().getServiceClient().getFileContents(
 			this.getPartner(), 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetInvoiceTaxReceiptStatement").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetInvoiceTaxReceiptStatement").render(
 				this.getContext()), 
 			"application/pdf");
 	}
+
+	/**
+	 * Downloads the receipt statement into a channel without holding it in memory. A connection that fails during the
+	 * download is resumed where it stopped. This operation is currently only supported for user based credentials.
+	 * 
+	 * @param target The channel that receives the receipt statement.
+	 * @param progress Receives the progress of the download, or null.
+	 * @return The number of bytes written to the channel.
+	 */
+	@Override
+	public long download(WritableByteChannel target, IDownloadProgressListener progress)
+	{
+		return this.getPartner().getServiceClient().downloadFileContents(
+			this.getPartner(), 
+			ApiRouteRegistry.getInstance().getRoute("GetInvoiceTaxReceiptStatement").render(
+				this.getContext()), 
+			"application/pdf",
+			target,
+			0,
+			progress);
+	}
+
+	/**
+	 * Downloads the receipt statement into a file. The file is only replaced once the download is complete, and a download
+	 * interrupted earlier is resumed instead of started again. This operation is currently only supported for user
+	 * based credentials.
+	 * 
+	 * @param file The file that receives the receipt statement.
+	 * @param progress Receives the progress of the download, or null.
+	 * @return The number of bytes downloaded.
+	 */
+	@Override
+	public long download(Path file, IDownloadProgressListener progress)
+	{
+		return this.getPartner().getServiceClient().downloadFileContents(
+			this.getPartner(), 
+			ApiRouteRegistry.getInstance().getRoute("GetInvoiceTaxReceiptStatement").render(
+				this.getContext()), 
+			"application/pdf",
+			file,
+			progress);
+	}
 }
\ No newline at end of file
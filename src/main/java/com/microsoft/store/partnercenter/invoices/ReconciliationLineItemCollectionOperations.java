@@ -3,20 +3,21 @@
 
 package com.microsoft.store.partnercenter.invoices;
 
-import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.stream.Stream;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponent;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
+import com.microsoft.store.partnercenter.enumerators.ResourceItemIterator;
 import com.microsoft.store.partnercenter.models.SeekBasedResourceCollection;
 import com.microsoft.store.partnercenter.models.invoices.BillingPeriod;
 import com.microsoft.store.partnercenter.models.invoices.BillingProvider;
 import com.microsoft.store.partnercenter.models.invoices.InvoiceLineItem;
 import com.microsoft.store.partnercenter.models.invoices.InvoiceLineItemType;
 import com.microsoft.store.partnercenter.models.utils.KeyValuePair;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.utils.StringHelper;
 
 /**
@@ -128,40 +129,79 @@ public class ReconciliationLineItemCollectionOperations
      */
     @Override
     public SeekBasedResourceCollection<InvoiceLineItem> get() 
+    {
+		return this.getPartner().getServiceClient().get(
+			this.getPartner(),
+			new TypeReference<SeekBasedResourceCollection<InvoiceLineItem>>(){}, 
+			getRelativeUri(),
+            getParameters());
+    }
+
+    /**
+     * Streams the recon line items of the partner one at a time.
+     * 
+     * @return A stream over the recon line items.
+     */
+    @Override
+    public Stream<InvoiceLineItem> stream()
+    {
+        TypeReference<InvoiceLineItem> itemType = new TypeReference<InvoiceLineItem>(){};
+
+        return new ResourceItemIterator<>(
+            this.getPartner(),
+            itemType,
+            this.getPartner().getServiceClient().getItems(
+                this.getPartner(),
+                itemType,
+                getRelativeUri(),
+                getParameters())).stream();
+    }
+
+    /**
+     * Gets the relative address of the recon line items.
+     * 
+     * @return The relative address of the recon line items.
+     */
+    private String getRelativeUri()
+    {
+        return ApiRouteRegistry.getInstance().getRoute("GetReconciliationLineItems").render(
+            this.getContext());
+    }
+
+    /**
+     * Gets the parameters used to request recon line items.
+     * 
+     * @return The request parameters.
+     */
+    private Collection<KeyValuePair<String, String>> getParameters()
     {
         Collection<KeyValuePair<String, String>> parameters = new ArrayList<KeyValuePair<String, String>>();
 
 		parameters.add(
 			new KeyValuePair<String, String>(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetReconciliationLineItems").getParameters().get("CurrencyCode"),
+				ApiRouteRegistry.getInstance().getRoute("GetReconciliationLineItems").getParameterName("CurrencyCode"),
                 currencyCode));
         
         parameters.add(
             new KeyValuePair<String, String>(
-                PartnerService.getInstance().getConfiguration().getApis().get("GetReconciliationLineItems").getParameters().get("InvoiceLineItemType"),
+                ApiRouteRegistry.getInstance().getRoute("GetReconciliationLineItems").getParameterName("InvoiceLineItemType"),
                 invoiceLineItemType.toString()));
 
         parameters.add(
             new KeyValuePair<String, String>(
-                PartnerService.getInstance().getConfiguration().getApis().get("GetReconciliationLineItems").getParameters().get("Period"),
+                ApiRouteRegistry.getInstance().getRoute("GetReconciliationLineItems").getParameterName("Period"),
                 period.toString()));
 
         parameters.add(
             new KeyValuePair<String, String>(
-                PartnerService.getInstance().getConfiguration().getApis().get("GetReconciliationLineItems").getParameters().get("Provider"),
+                ApiRouteRegistry.getInstance().getRoute("GetReconciliationLineItems").getParameterName("Provider"),
                 billingProvider.toString()));
 
         parameters.add(
             new KeyValuePair<String, String>(
-                PartnerService.getInstance().getConfiguration().getApis().get("GetReconciliationLineItems").getParameters().get("Size"),
+                ApiRouteRegistry.getInstance().getRoute("GetReconciliationLineItems").getParameterName("Size"),
                 String.valueOf(pageSize)));
 
-		return this.getPartner().getServiceClient().get(
-			this.getPartner(),
-			new TypeReference<SeekBasedResourceCollection<InvoiceLineItem>>(){}, 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetReconciliationLineItems").getPath(),
-                this.getContext()),
-            parameters);
+        return parameters;
     }
 }
\ No newline at end of file
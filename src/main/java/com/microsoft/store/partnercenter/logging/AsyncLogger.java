@@ -0,0 +1,342 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license. See the LICENSE file in the project root for full license information.
+
+package com.microsoft.store.partnercenter.logging;
+
+import java.io.Closeable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A logger that hands messages to another logger on a background thread, so the threads that log never wait on the
+ * other logger, for example on the lock of the standard output. Messages are kept in a ring buffer of fixed size that
+ * is allocated once; when the buffer is full the message is dropped rather than blocking the caller, and the number of
+ * dropped messages is available through {@link #getDroppedCount()}.
+ */
+public class AsyncLogger
+    implements ILogger, Closeable
+{
+    /**
+     * The default number of messages the ring buffer holds.
+     */
+    public static final int DEFAULT_CAPACITY = 8192;
+
+    /**
+     * The time the background thread waits for new messages when the ring buffer is empty.
+     */
+    private static final long IDLE_WAIT_IN_NANOSECONDS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    /**
+     * The time to wait for the background thread to write the remaining messages when the logger is closed.
+     */
+    private static final long CLOSE_TIMEOUT_IN_MILLISECONDS = 5000;
+
+    /**
+     * The logger that writes the messages.
+     */
+    private final ILogger target;
+
+    /**
+     * The position mask, as the capacity is a power of two.
+     */
+    private final int mask;
+
+    /**
+     * The sequence of each slot, which tells whether the slot is free for the writer at a position or holds the
+     * message at a position for the reader.
+     */
+    private final AtomicLongArray sequences;
+
+    /**
+     * The level of the message in each slot.
+     */
+    private final LogLevel[] levels;
+
+    /**
+     * The message in each slot.
+     */
+    private final String[] messages;
+
+    /**
+     * The next position to write.
+     */
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * The next position to read, only used by the background thread.
+     */
+    private long head;
+
+    /**
+     * The number of messages dropped because the ring buffer was full.
+     */
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    /**
+     * The thread that writes the messages.
+     */
+    private final Thread worker;
+
+    /**
+     * A value indicating whether the logger has been closed.
+     */
+    private volatile boolean closed;
+
+    /**
+     * Initializes a new instance of the AsyncLogger class with the default capacity.
+     *
+     * @param target The logger that writes the messages.
+     */
+    public AsyncLogger(ILogger target)
+    {
+        this(target, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Initializes a new instance of the AsyncLogger class.
+     *
+     * @param target The logger that writes the messages.
+     * @param capacity The number of messages the ring buffer holds, rounded up to a power of two.
+     */
+    public AsyncLogger(ILogger target, int capacity)
+    {
+        if (target == null)
+        {
+            throw new IllegalArgumentException("target null");
+        }
+
+        if (capacity <= 0 || capacity > (1 << 30))
+        {
+            throw new IllegalArgumentException("capacity must be between 1 and 2^30");
+        }
+
+        int size = Integer.highestOneBit(capacity);
+
+        if (size < capacity)
+        {
+            size <<= 1;
+        }
+
+        this.target = target;
+        this.mask = size - 1;
+        this.sequences = new AtomicLongArray(size);
+        this.levels = new LogLevel[size];
+        this.messages = new String[size];
+
+        for (int i = 0; i < size; i++)
+        {
+            sequences.set(i, i);
+        }
+
+        worker = new Thread(new Runnable()
+        {
+            @Override
+            public void run()
+            {
+                drainUntilClosed();
+            }
+        }, "PartnerCenter-AsyncLogger");
+
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Gets the number of messages the ring buffer holds.
+     *
+     * @return The number of messages the ring buffer holds.
+     */
+    public int getCapacity()
+    {
+        return mask + 1;
+    }
+
+    /**
+     * Gets the number of messages dropped because the ring buffer was full.
+     *
+     * @return The number of dropped messages.
+     */
+    public long getDroppedCount()
+    {
+        return droppedCount.get();
+    }
+
+    /**
+     * Logs a piece of information.
+     *
+     * @param message The informational message.
+     */
+    @Override
+    public void logInformation(String message)
+    {
+        offer(LogLevel.INFORMATION, message);
+    }
+
+    /**
+     * Logs a warning.
+     *
+     * @param message The warning message.
+     */
+    @Override
+    public void logWarning(String message)
+    {
+        offer(LogLevel.WARNING, message);
+    }
+
+    /**
+     * Logs an error.
+     *
+     * @param message The error message.
+     */
+    @Override
+    public void logError(String message)
+    {
+        offer(LogLevel.ERROR, message);
+    }
+
+    /**
+     * Stops the background thread once it has written the messages already logged. Messages logged after this call
+     * are dropped.
+     */
+    @Override
+    public void close()
+    {
+        closed = true;
+        LockSupport.unpark(worker);
+
+        try
+        {
+            worker.join(CLOSE_TIMEOUT_IN_MILLISECONDS);
+        }
+        catch (InterruptedException ex)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Adds a message to the ring buffer without blocking.
+     *
+     * @param level The level of the message.
+     * @param message The message.
+     */
+    private void offer(LogLevel level, String message)
+    {
+        if (closed)
+        {
+            droppedCount.incrementAndGet();
+            return;
+        }
+
+        long position = tail.get();
+
+        while (true)
+        {
+            int index = (int)(position & mask);
+            long difference = sequences.get(index) - position;
+
+            if (difference == 0)
+            {
+                if (tail.compareAndSet(position, position + 1))
+                {
+                    levels[index] = level;
+                    messages[index] = message;
+
+                    // publishes the message to the background thread
+                    sequences.lazySet(index, position + 1);
+                    return;
+                }
+
+                position = tail.get();
+            }
+            else if (difference < 0)
+            {
+                // the slot still holds a message that has not been written
+                droppedCount.incrementAndGet();
+                return;
+            }
+            else
+            {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Writes messages until the logger is closed and the ring buffer is empty.
+     */
+    private void drainUntilClosed()
+    {
+        while (true)
+        {
+            if (drain())
+            {
+                continue;
+            }
+
+            if (closed)
+            {
+                // messages published while the closed flag was being set
+                drain();
+                return;
+            }
+
+            LockSupport.parkNanos(this, IDLE_WAIT_IN_NANOSECONDS);
+        }
+    }
+
+    /**
+     * Writes the messages in the ring buffer.
+     *
+     * @return true if a message was written; otherwise false.
+     */
+    private boolean drain()
+    {
+        boolean wrote = false;
+
+        while (true)
+        {
+            int index = (int)(head & mask);
+
+            if (sequences.get(index) != head + 1)
+            {
+                return wrote;
+            }
+
+            LogLevel level = levels[index];
+            String message = messages[index];
+
+            messages[index] = null;
+            sequences.lazySet(index, head + mask + 1);
+            head++;
+            wrote = true;
+
+            write(level, message);
+        }
+    }
+
+    private void write(LogLevel level, String message)
+    {
+        try
+        {
+            switch (level)
+            {
+                case INFORMATION:
+                    target.logInformation(message);
+                    break;
+                case WARNING:
+                    target.logWarning(message);
+                    break;
+                default:
+                    target.logError(message);
+                    break;
+            }
+        }
+        catch (RuntimeException ex)
+        {
+            // a failing logger must not stop the messages that follow
+        }
+    }
+}
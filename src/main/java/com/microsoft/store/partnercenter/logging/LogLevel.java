@@ -0,0 +1,30 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license. See the LICENSE file in the project root for full license information.
+
+package com.microsoft.store.partnercenter.logging;
+
+/**
+ * The levels of log messages, from the most to the least verbose.
+ */
+public enum LogLevel
+{
+    /**
+     * Informational messages.
+     */
+    INFORMATION,
+
+    /**
+     * Warnings.
+     */
+    WARNING,
+
+    /**
+     * Errors.
+     */
+    ERROR,
+
+    /**
+     * Nothing is logged.
+     */
+    OFF
+}
@@ -3,13 +3,16 @@
 
 package com.microsoft.store.partnercenter.logging;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
 
 import com.microsoft.store.partnercenter.utils.StringHelper;
 
 /**
- * Use this class for logging messages. This class supports pluggable loggers.
+ * Use this class for logging messages. This class supports pluggable loggers. A {@link SystemOutLogger} is registered
+ * by default; remove it with {@code removeLoggers(SystemOutLogger.class)} to keep messages off the standard output.
+ * Loggers that write slowly can be wrapped in an {@link AsyncLogger} so the calling threads do not wait for them.
  */
 public class PartnerLog
     implements ILogger
@@ -17,18 +20,25 @@ public class PartnerLog
     /**
      * The singleton log manager instance.
      */
-    private static PartnerLog logManagerSingleton = null;
+    private static final PartnerLog logManagerSingleton = new PartnerLog();
 
     /**
-     * The registered loggers collection.
+     * The registered loggers collection. Logging iterates over a snapshot of the loggers without taking a lock.
      */
-    private final List<ILogger> registeredLoggers = new ArrayList<>();
+    private final List<ILogger> registeredLoggers = new CopyOnWriteArrayList<>();
+
+    /**
+     * The least severe level that is logged.
+     */
+    private volatile LogLevel level = LogLevel.INFORMATION;
 
     /**
      * Prevents a default instance of the LogManager class from being created.
      */
     private PartnerLog()
     {
+        // log to the debugger window
+        registeredLoggers.add(new SystemOutLogger());
     }
 
     /**
@@ -38,10 +48,6 @@ public class PartnerLog
      */
     public static PartnerLog getInstance()
     {
-        if (PartnerLog.logManagerSingleton == null)
-        {
-            PartnerLog.logManagerSingleton = new PartnerLog();
-        }
         return PartnerLog.logManagerSingleton;
     }
 
@@ -55,6 +61,65 @@ public class PartnerLog
         return this.registeredLoggers;
     }
 
+    /**
+     * Removes the registered loggers of the given type, such as the default {@link SystemOutLogger}.
+     * 
+     * @param type The type of the loggers to remove.
+     * @return true if a logger was removed; otherwise false.
+     */
+    public boolean removeLoggers(Class<? extends ILogger> type)
+    {
+        boolean removed = false;
+
+        for (ILogger logger : this.registeredLoggers)
+        {
+            if (type.isInstance(logger))
+            {
+                removed |= this.registeredLoggers.remove(logger);
+            }
+        }
+
+        return removed;
+    }
+
+    /**
+     * Gets the least severe level that is logged.
+     * 
+     * @return The least severe level that is logged.
+     */
+    public LogLevel getLevel()
+    {
+        return this.level;
+    }
+
+    /**
+     * Sets the least severe level that is logged. Messages of less severe levels are dropped before they are built.
+     * 
+     * @param value The least severe level that is logged.
+     */
+    public void setLevel(LogLevel value)
+    {
+        if (value == null)
+        {
+            throw new IllegalArgumentException("value null");
+        }
+
+        this.level = value;
+    }
+
+    /**
+     * Checks whether messages of a level are logged. Callers can check this before building an expensive message.
+     * 
+     * @param messageLevel The level of the message.
+     * @return true if messages of the level reach at least one logger; otherwise false.
+     */
+    public boolean isEnabled(LogLevel messageLevel)
+    {
+        return messageLevel != LogLevel.OFF
+            && messageLevel.compareTo(this.level) >= 0
+            && !this.registeredLoggers.isEmpty();
+    }
+
     /**
      * Logs a piece of information.
      * 
@@ -62,7 +127,7 @@ public class PartnerLog
      */
     public void logInformation(String message)
     {
-        if (!StringHelper.isNullOrWhiteSpace(message))
+        if (isEnabled(LogLevel.INFORMATION) && !StringHelper.isNullOrWhiteSpace(message))
         {
             for (ILogger logger : this.registeredLoggers)
             {
@@ -71,6 +136,19 @@ public class PartnerLog
         }
     }
 
+    /**
+     * Logs a piece of information that is built only if it is logged.
+     * 
+     * @param message Builds the informational message.
+     */
+    public void logInformation(Supplier<String> message)
+    {
+        if (isEnabled(LogLevel.INFORMATION))
+        {
+            logInformation(message.get());
+        }
+    }
+
     /**
      * Logs a warning.
      * 
@@ -78,7 +156,7 @@ public class PartnerLog
      */
     public void logWarning(String message)
     {
-        if (!StringHelper.isNullOrWhiteSpace(message))
+        if (isEnabled(LogLevel.WARNING) && !StringHelper.isNullOrWhiteSpace(message))
         {
             for (ILogger logger : this.registeredLoggers)
             {
@@ -87,6 +165,19 @@ public class PartnerLog
         }
     }
 
+    /**
+     * Logs a warning that is built only if it is logged.
+     * 
+     * @param message Builds the warning message.
+     */
+    public void logWarning(Supplier<String> message)
+    {
+        if (isEnabled(LogLevel.WARNING))
+        {
+            logWarning(message.get());
+        }
+    }
+
     /**
      * Logs an error.
      * 
@@ -94,7 +185,7 @@ public class PartnerLog
      */
     public void logError(String message)
     {
-        if (!StringHelper.isNullOrWhiteSpace(message))
+        if (isEnabled(LogLevel.ERROR) && !StringHelper.isNullOrWhiteSpace(message))
         {
             for (ILogger logger : this.registeredLoggers)
             {
@@ -102,4 +193,17 @@ public class PartnerLog
             }
         }
     }
+
+    /**
+     * Logs an error that is built only if it is logged.
+     * 
+     * @param message Builds the error message.
+     */
+    public void logError(Supplier<String> message)
+    {
+        if (isEnabled(LogLevel.ERROR))
+        {
+            logError(message.get());
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,77 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license. See the LICENSE file in the project root for full license information.
+
+package com.microsoft.store.partnercenter.network;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Reads the tenant a request is sent for from the access token in its authorization header, so state shared by every
+ * partner, such as rate limits and cached responses, can be kept apart per tenant.
+ */
+final class AccessTokenTenant
+{
+    /**
+     * Finds the tenant identifier claim in the payload of an access token.
+     */
+    private static final Pattern TENANT_ID_CLAIM = Pattern.compile("\"tid\"\\s*:\\s*\"([^\"]+)\"");
+
+    /**
+     * The tenant of the last authorization header seen, since decoding the token for every request would be wasteful.
+     */
+    private static volatile String[] last = new String[] { null, null };
+
+    private AccessTokenTenant()
+    {
+    }
+
+    /**
+     * Gets the tenant of the access token in an authorization header.
+     *
+     * @param authorization The value of the authorization header.
+     * @return The tenant identifier in lower case, or null if the header does not carry a JSON web token with one.
+     */
+    static String get(String authorization)
+    {
+        if (authorization == null)
+        {
+            return null;
+        }
+
+        String[] cached = last;
+
+        if (authorization.equals(cached[0]))
+        {
+            return cached[1];
+        }
+
+        String tenantId = null;
+        String[] parts = authorization.substring(authorization.indexOf(' ') + 1).split("\\.");
+
+        if (parts.length == 3)
+        {
+            try
+            {
+                Matcher matcher = TENANT_ID_CLAIM.matcher(
+                    new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8));
+
+                if (matcher.find())
+                {
+                    tenantId = matcher.group(1).toLowerCase(Locale.ROOT);
+                }
+            }
+            catch (IllegalArgumentException ex)
+            {
+                // not a JSON web token
+            }
+        }
+
+        last = new String[] { authorization, tenantId };
+
+        return tenantId;
+    }
+}
@@ -0,0 +1,472 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license. See the LICENSE file in the project root for full license information.
+
+package com.microsoft.store.partnercenter.network;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import com.microsoft.store.partnercenter.configuration.Configuration;
+
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * Paces requests to the partner service with token buckets kept per partner, per customer and per API, so callers stay
+ * under the service throttles instead of running into them. Each bucket adapts its rate: a throttled response halves
+ * it, and successful responses raise it again by about one request per second for every second of traffic (additive
+ * increase, multiplicative decrease).
+ *
+ * <p>The limiter is also an HTTP interceptor. Added to the HTTP client it observes every attempt, including retries, so
+ * throttled attempts lower the rate even when a retry eventually succeeds.</p>
+ *
+ * <p>Rate changes, throttled responses and the waits for permits are reported per bucket key to the metrics set with
+ * {@link #setMetrics(IPartnerServiceMetrics)}, which {@link PartnerServiceTransport} does for its shared limiter.</p>
+ */
+public class AdaptiveRateLimiter
+    implements Interceptor
+{
+    /**
+     * The prefix of the keys of partner buckets.
+     */
+    static final String PARTNER_KEY_PREFIX = "partner/";
+
+    /**
+     * The prefix of the keys of customer buckets.
+     */
+    static final String CUSTOMER_KEY_PREFIX = "customer/";
+
+    /**
+     * The prefix of the keys of API buckets.
+     */
+    static final String API_KEY_PREFIX = "api/";
+
+    /**
+     * The number of buckets above which idle buckets are discarded.
+     */
+    static final int MAX_BUCKETS = 10000;
+
+    /**
+     * The time after which an unused bucket can be discarded.
+     */
+    static final long IDLE_BUCKET_TIMEOUT_IN_NANOSECONDS = TimeUnit.MINUTES.toNanos(10);
+
+    /**
+     * The factor applied to the rate of a bucket when a response is throttled.
+     */
+    private static final double DECREASE_FACTOR = 0.5;
+
+    /**
+     * The rate of a new bucket, in requests per second.
+     */
+    private final double initialRequestsPerSecond;
+
+    /**
+     * The lowest rate of a bucket, in requests per second.
+     */
+    private final double minRequestsPerSecond;
+
+    /**
+     * The highest rate of a bucket, in requests per second.
+     */
+    private final double maxRequestsPerSecond;
+
+    /**
+     * The routes used to find the API name and customer of a request.
+     */
+    private final ApiRouteRegistry routes;
+
+    /**
+     * The buckets, keyed by partner, customer or API.
+     */
+    private final ConcurrentMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * Receives the rates, throttles and waits of the buckets.
+     */
+    private volatile IPartnerServiceMetrics metrics = NoOpPartnerServiceMetrics.getInstance();
+
+    /**
+     * Initializes a new instance of the {@link AdaptiveRateLimiter} class.
+     *
+     * @param initialRequestsPerSecond The rate of a new bucket, in requests per second.
+     * @param minRequestsPerSecond The lowest rate of a bucket, in requests per second.
+     * @param maxRequestsPerSecond The highest rate of a bucket, in requests per second.
+     * @param routes The routes used to find the API name and customer of a request.
+     */
+    public AdaptiveRateLimiter(double initialRequestsPerSecond, double minRequestsPerSecond, double maxRequestsPerSecond, ApiRouteRegistry routes)
+    {
+        if (minRequestsPerSecond <= 0
+            || initialRequestsPerSecond < minRequestsPerSecond
+            || maxRequestsPerSecond < initialRequestsPerSecond)
+        {
+            throw new IllegalArgumentException("The rates must be positive and the initial rate must be between the minimum and maximum rates");
+        }
+
+        if (routes == null)
+        {
+            throw new IllegalArgumentException("routes null");
+        }
+
+        this.initialRequestsPerSecond = initialRequestsPerSecond;
+        this.minRequestsPerSecond = minRequestsPerSecond;
+        this.maxRequestsPerSecond = maxRequestsPerSecond;
+        this.routes = routes;
+    }
+
+    /**
+     * Creates a rate limiter from the configured defaults.
+     *
+     * @param configuration The partner service configuration.
+     * @return A rate limiter that uses the configured defaults.
+     */
+    public static AdaptiveRateLimiter fromConfiguration(Configuration configuration)
+    {
+        return new AdaptiveRateLimiter(
+            configuration.getDefaultRateLimitInitialRequestsPerSecond(),
+            configuration.getDefaultRateLimitMinRequestsPerSecond(),
+            configuration.getDefaultRateLimitMaxRequestsPerSecond(),
+            ApiRouteRegistry.getInstance());
+    }
+
+    /**
+     * Gets the metrics that receive the rates, throttles and waits of the buckets.
+     *
+     * @return The metrics, which do nothing unless metrics were set.
+     */
+    public IPartnerServiceMetrics getMetrics()
+    {
+        return metrics;
+    }
+
+    /**
+     * Sets the metrics that receive the rates, throttles and waits of the buckets.
+     *
+     * @param value The metrics, or null to stop reporting.
+     */
+    public void setMetrics(IPartnerServiceMetrics value)
+    {
+        metrics = value == null ? NoOpPartnerServiceMetrics.getInstance() : value;
+    }
+
+    /**
+     * Reserves a permit for the request in each of its buckets.
+     *
+     * @param request The request about to be sent.
+     * @return The time in milliseconds to wait before sending the request.
+     */
+    public long reserve(Request request)
+    {
+        long now = System.nanoTime();
+        long delay = 0;
+
+        if (buckets.size() > MAX_BUCKETS)
+        {
+            discardIdleBuckets(now);
+        }
+
+        IPartnerServiceMetrics currentMetrics = metrics;
+
+        for (String key : getKeys(request))
+        {
+            long bucketDelay = getBucket(key).reserve(now);
+
+            if (bucketDelay > 0 && currentMetrics.isEnabled())
+            {
+                currentMetrics.recordRateLimitWait(key, bucketDelay);
+            }
+
+            delay = Math.max(delay, bucketDelay);
+        }
+
+        return TimeUnit.NANOSECONDS.toMillis(delay);
+    }
+
+    /**
+     * Reserves a permit for the request in each of its buckets and waits until it can be sent.
+     *
+     * @param request The request about to be sent.
+     * @throws InterruptedException The thread was interrupted while waiting.
+     */
+    public void acquire(Request request) throws InterruptedException
+    {
+        long delay = reserve(request);
+
+        if (delay > 0)
+        {
+            Thread.sleep(delay);
+        }
+    }
+
+    /**
+     * Adjusts the buckets of a request after its response was received.
+     *
+     * @param request The request.
+     * @param statusCode The HTTP status code of the response.
+     */
+    public void onResponse(Request request, int statusCode)
+    {
+        boolean throttled = statusCode == HttpStatusCode.TOOMANYREQUESTS;
+
+        if (!throttled && (statusCode < 200 || statusCode >= 300))
+        {
+            // other failures say nothing about the rate the service accepts
+            return;
+        }
+
+        IPartnerServiceMetrics currentMetrics = metrics;
+
+        for (String key : getKeys(request))
+        {
+            TokenBucket bucket = getBucket(key);
+            boolean changed = throttled ? bucket.decrease() : bucket.increase();
+
+            if (!currentMetrics.isEnabled())
+            {
+                continue;
+            }
+
+            if (throttled)
+            {
+                currentMetrics.recordRateLimitThrottle(key);
+            }
+
+            if (changed)
+            {
+                currentMetrics.recordRateLimit(key, bucket.getRate());
+            }
+        }
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException
+    {
+        Response response = chain.proceed(chain.request());
+
+        onResponse(chain.request(), response.code());
+
+        return response;
+    }
+
+    /**
+     * Gets the state of every rate limit.
+     *
+     * @return The state of every rate limit.
+     */
+    public List<RateLimitSnapshot> getSnapshots()
+    {
+        List<RateLimitSnapshot> snapshots = new ArrayList<>();
+
+        for (Map.Entry<String, TokenBucket> bucket : buckets.entrySet())
+        {
+            snapshots.add(bucket.getValue().snapshot(bucket.getKey()));
+        }
+
+        return snapshots;
+    }
+
+    /**
+     * Gets the state of a rate limit.
+     *
+     * @param key The key of the rate limit, for example api/GetCustomer.
+     * @return The state of the rate limit, or null if no request used it.
+     */
+    public RateLimitSnapshot getSnapshot(String key)
+    {
+        TokenBucket bucket = buckets.get(key);
+
+        return bucket == null ? null : bucket.snapshot(key);
+    }
+
+    /**
+     * Gets the keys of the buckets that a request draws from: its partner, its customer when the route addresses one,
+     * and its API.
+     *
+     * @param request The request.
+     * @return The keys of the buckets of the request.
+     */
+    List<String> getKeys(Request request)
+    {
+        List<String> keys = new ArrayList<>(3);
+        String path = request.url().encodedPath();
+        ApiRoute route = routes.resolve(request.method(), path);
+
+        keys.add(PARTNER_KEY_PREFIX + getPartnerKey(request.header("Authorization")));
+
+        if (route != null)
+        {
+            String customerId = routes.getCustomerId(route, path);
+
+            if (customerId != null)
+            {
+                keys.add(CUSTOMER_KEY_PREFIX + customerId.toLowerCase(Locale.ROOT));
+            }
+
+            keys.add(API_KEY_PREFIX + route.getName());
+        }
+
+        return keys;
+    }
+
+    /**
+     * Gets the partner a request is sent for, which is the tenant of its access token.
+     *
+     * @param authorization The value of the authorization header.
+     * @return The tenant identifier, or default if the token does not carry one.
+     */
+    private static String getPartnerKey(String authorization)
+    {
+        String tenantId = AccessTokenTenant.get(authorization);
+
+        // requests whose token is not a JSON web token share the default partner bucket
+        return tenantId == null ? "default" : tenantId;
+    }
+
+    /**
+     * Gets the bucket for a key, creating it when needed.
+     *
+     * @param key The key.
+     * @return The bucket.
+     */
+    private TokenBucket getBucket(String key)
+    {
+        TokenBucket bucket = buckets.get(key);
+
+        if (bucket == null)
+        {
+            TokenBucket created = new TokenBucket(initialRequestsPerSecond, minRequestsPerSecond, maxRequestsPerSecond);
+
+            bucket = buckets.putIfAbsent(key, created);
+
+            if (bucket == null)
+            {
+                bucket = created;
+            }
+        }
+
+        return bucket;
+    }
+
+    /**
+     * Discards the buckets that have not been used for a while and have not learned a lower rate.
+     *
+     * @param now The current time in nanoseconds.
+     */
+    private void discardIdleBuckets(long now)
+    {
+        Iterator<TokenBucket> iterator = buckets.values().iterator();
+
+        while (iterator.hasNext())
+        {
+            if (iterator.next().isIdle(now, initialRequestsPerSecond))
+            {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * A token bucket whose rate adapts to the throttled responses of the service. Tokens can go below zero, which
+     * reserves permits for requests that wait.
+     */
+    private static class TokenBucket
+    {
+        private final double minRate;
+
+        private final double maxRate;
+
+        private double rate;
+
+        private double tokens;
+
+        private long lastRefill;
+
+        private long throttledCount;
+
+        private long delayedCount;
+
+        private long totalDelay;
+
+        TokenBucket(double rate, double minRate, double maxRate)
+        {
+            this.rate = rate;
+            this.minRate = minRate;
+            this.maxRate = maxRate;
+            this.tokens = Math.max(1, rate);
+            this.lastRefill = System.nanoTime();
+        }
+
+        synchronized long reserve(long now)
+        {
+            refill(now);
+
+            tokens -= 1;
+
+            if (tokens >= 0)
+            {
+                return 0;
+            }
+
+            long delay = (long)(-tokens / rate * TimeUnit.SECONDS.toNanos(1));
+
+            delayedCount++;
+            totalDelay += delay;
+
+            return delay;
+        }
+
+        synchronized boolean increase()
+        {
+            double previous = rate;
+
+            rate = Math.min(maxRate, rate + 1 / rate);
+
+            return rate != previous;
+        }
+
+        synchronized boolean decrease()
+        {
+            double previous = rate;
+
+            refill(System.nanoTime());
+
+            throttledCount++;
+            rate = Math.max(minRate, rate * DECREASE_FACTOR);
+            tokens = Math.min(tokens, 0);
+
+            return rate != previous;
+        }
+
+        synchronized double getRate()
+        {
+            return rate;
+        }
+
+        synchronized boolean isIdle(long now, double initialRate)
+        {
+            return now - lastRefill > IDLE_BUCKET_TIMEOUT_IN_NANOSECONDS && rate >= initialRate;
+        }
+
+        synchronized RateLimitSnapshot snapshot(String key)
+        {
+            return new RateLimitSnapshot(key, rate, maxRate, throttledCount, delayedCount, TimeUnit.NANOSECONDS.toMillis(totalDelay));
+        }
+
+        private void refill(long now)
+        {
+            if (now > lastRefill)
+            {
+                tokens = Math.min(Math.max(1, rate), tokens + (now - lastRefill) * rate / TimeUnit.SECONDS.toNanos(1));
+                lastRefill = now;
+            }
+        }
+    }
+}
@@ -0,0 +1,315 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license. See the LICENSE file in the project root for full license information.
+
+package com.microsoft.store.partnercenter.network;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * An API route declared in the partner service configuration, compiled once into path segments so request paths can
+ * be matched against it and rendered from it without parsing the template on every call.
+ */
+public class ApiRoute
+{
+    /**
+     * The name of the API, as declared in the configuration.
+     */
+    private final String name;
+
+    /**
+     * The path template of the API.
+     */
+    private final String path;
+
+    /**
+     * The segments of the path template. Placeholder segments are null.
+     */
+    private final String[] segments;
+
+    /**
+     * The argument index of each placeholder segment, or -1 for literal segments.
+     */
+    private final int[] argumentIndexes;
+
+    /**
+     * Indicates whether the path template ends with a slash, which rendered paths keep.
+     */
+    private final boolean trailingSlash;
+
+    /**
+     * The number of segments that are not placeholders.
+     */
+    private final int literalSegmentCount;
+
+    /**
+     * The number of arguments needed to render the path.
+     */
+    private final int argumentCount;
+
+    /**
+     * The query parameter names of the API, keyed by their configuration name.
+     */
+    private final Map<String, String> parameters;
+
+    /**
+     * The additional header names of the API, keyed by their configuration name.
+     */
+    private final Map<String, String> additionalHeaders;
+
+    /**
+     * The time in seconds the responses of the API can be cached, or 0 if they are not cached.
+     */
+    private final int cacheDurationInSeconds;
+
+    /**
+     * Initializes a new instance of the {@link ApiRoute} class.
+     *
+     * @param name The name of the API.
+     * @param path The path template of the API, for example customers/{0}/subscriptions.
+     */
+    public ApiRoute(String name, String path)
+    {
+        this(name, path, null, null);
+    }
+
+    /**
+     * Initializes a new instance of the {@link ApiRoute} class.
+     *
+     * @param name The name of the API.
+     * @param path The path template of the API, for example customers/{0}/subscriptions.
+     * @param parameters The query parameter names of the API, keyed by their configuration name.
+     * @param additionalHeaders The additional header names of the API, keyed by their configuration name.
+     */
+    public ApiRoute(String name, String path, Map<String, String> parameters, Map<String, String> additionalHeaders)
+    {
+        this(name, path, parameters, additionalHeaders, 0);
+    }
+
+    /**
+     * Initializes a new instance of the {@link ApiRoute} class.
+     *
+     * @param name The name of the API.
+     * @param path The path template of the API, for example customers/{0}/subscriptions.
+     * @param parameters The query parameter names of the API, keyed by their configuration name.
+     * @param additionalHeaders The additional header names of the API, keyed by their configuration name.
+     * @param cacheDurationInSeconds The time in seconds the responses of the API can be cached, or 0 if they are not
+     *        cached.
+     */
+    public ApiRoute(String name, String path, Map<String, String> parameters, Map<String, String> additionalHeaders, 
+        int cacheDurationInSeconds)
+    {
+        if (name == null)
+        {
+            throw new IllegalArgumentException("name null");
+        }
+
+        if (path == null)
+        {
+            throw new IllegalArgumentException("path null");
+        }
+
+        String[] parts = ApiRouteRegistry.splitPath(path);
+        int[] indexes = new int[parts.length];
+        int literals = 0;
+        int arguments = 0;
+
+        for (int i = 0; i < parts.length; i++)
+        {
+            if (parts[i].startsWith("{") && parts[i].endsWith("}"))
+            {
+                try
+                {
+                    indexes[i] = Integer.parseInt(parts[i].substring(1, parts[i].length() - 1));
+                }
+                catch (NumberFormatException e)
+                {
+                    throw new IllegalArgumentException("The path of " + name + " has an invalid placeholder " + parts[i], e);
+                }
+
+                arguments = Math.max(arguments, indexes[i] + 1);
+                parts[i] = null;
+            }
+            else
+            {
+                indexes[i] = -1;
+                literals++;
+            }
+        }
+
+        this.name = name;
+        this.path = path;
+        this.segments = parts;
+        this.argumentIndexes = indexes;
+        this.trailingSlash = path.endsWith("/");
+        this.literalSegmentCount = literals;
+        this.argumentCount = arguments;
+        this.parameters = parameters == null 
+            ? Collections.<String, String>emptyMap() 
+            : Collections.unmodifiableMap(new HashMap<>(parameters));
+        this.additionalHeaders = additionalHeaders == null 
+            ? Collections.<String, String>emptyMap() 
+            : Collections.unmodifiableMap(new HashMap<>(additionalHeaders));
+        this.cacheDurationInSeconds = Math.max(0, cacheDurationInSeconds);
+    }
+
+    /**
+     * Gets the name of the API.
+     *
+     * @return The name of the API.
+     */
+    public String getName()
+    {
+        return name;
+    }
+
+    /**
+     * Gets the path template of the API.
+     *
+     * @return The path template of the API.
+     */
+    public String getPath()
+    {
+        return path;
+    }
+
+    /**
+     * Gets the name of a query parameter of the API.
+     *
+     * @param key The configuration name of the parameter, for example Size.
+     * @return The name of the query parameter, or null if the API does not declare it.
+     */
+    public String getParameterName(String key)
+    {
+        return parameters.get(key);
+    }
+
+    /**
+     * Gets the name of an additional header of the API.
+     *
+     * @param key The configuration name of the header, for example ContinuationToken.
+     * @return The name of the header, or null if the API does not declare it.
+     */
+    public String getHeaderName(String key)
+    {
+        return additionalHeaders.get(key);
+    }
+
+    /**
+     * Gets the time the responses of the API can be cached.
+     *
+     * @return The time in seconds the responses of the API can be cached, or 0 if they are not cached.
+     */
+    public int getCacheDurationInSeconds()
+    {
+        return cacheDurationInSeconds;
+    }
+
+    /**
+     * Renders the path of the API. Each argument replaces the placeholder with its index and is encoded as a path
+     * segment, so identifiers with reserved characters cannot change the path.
+     *
+     * @param arguments The values of the placeholders.
+     * @return The relative path of the API.
+     */
+    public String render(Object... arguments)
+    {
+        StringBuilder builder = new StringBuilder(path.length() + 16 * argumentCount);
+
+        render(builder, arguments);
+
+        return builder.toString();
+    }
+
+    /**
+     * Renders the path of the API into a builder. Each argument replaces the placeholder with its index and is
+     * encoded as a path segment.
+     *
+     * @param builder The builder that receives the path.
+     * @param arguments The values of the placeholders.
+     */
+    public void render(StringBuilder builder, Object... arguments)
+    {
+        if ((arguments == null ? 0 : arguments.length) < argumentCount)
+        {
+            throw new IllegalArgumentException(name + " needs " + argumentCount + " arguments");
+        }
+
+        for (int i = 0; i < segments.length; i++)
+        {
+            if (i > 0)
+            {
+                builder.append('/');
+            }
+
+            if (segments[i] != null)
+            {
+                builder.append(segments[i]);
+            }
+            else
+            {
+                UrlEncoding.appendPathSegment(builder, String.valueOf(arguments[argumentIndexes[i]]));
+            }
+        }
+
+        if (trailingSlash)
+        {
+            builder.append('/');
+        }
+    }
+
+    /**
+     * Gets whether the route addresses a single customer, which is the case when it starts with customers/{0}.
+     *
+     * @return true if the second segment of the route is the customer identifier; false otherwise.
+     */
+    public boolean isCustomerScoped()
+    {
+        return segments.length > 1 && "customers".equalsIgnoreCase(segments[0]) && segments[1] == null;
+    }
+
+    /**
+     * Gets the number of segments that are not placeholders, which ranks how specific the route is.
+     *
+     * @return The number of segments that are not placeholders.
+     */
+    int getLiteralSegmentCount()
+    {
+        return literalSegmentCount;
+    }
+
+    /**
+     * Gets the number of segments of the route.
+     *
+     * @return The number of segments of the route.
+     */
+    int getSegmentCount()
+    {
+        return segments.length;
+    }
+
+    /**
+     * Checks whether the segments of a request path match the route.
+     *
+     * @param pathSegments The segments of the request path, without the API version.
+     * @return true if every literal segment matches and the segment counts are equal; false otherwise.
+     */
+    boolean matches(String[] pathSegments)
+    {
+        if (pathSegments.length != segments.length)
+        {
+            return false;
+        }
+
+        for (int i = 0; i < segments.length; i++)
+        {
+            if (segments[i] != null && !segments[i].equalsIgnoreCase(pathSegments[i]))
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
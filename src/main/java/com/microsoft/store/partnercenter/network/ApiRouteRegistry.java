@@ -0,0 +1,254 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license. See the LICENSE file in the project root for full license information.
+
+package com.microsoft.store.partnercenter.network;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.microsoft.store.partnercenter.PartnerService;
+import com.microsoft.store.partnercenter.configuration.Configuration;
+
+/**
+ * Compiles the API routes declared in the partner service configuration once, so operations render their paths
+ * without parsing templates on every call, and resolves request paths back to their routes. The routes are indexed by
+ * their number of segments, so resolving a path only compares it with routes of the same length.
+ */
+public class ApiRouteRegistry
+{
+    /**
+     * A singleton instance of the registry, built from the partner service configuration.
+     */
+    private static ApiRouteRegistry instance;
+
+    /**
+     * The routes, keyed by their name.
+     */
+    private final Map<String, ApiRoute> routesByName = new HashMap<>();
+
+    /**
+     * The routes, keyed by their number of segments.
+     */
+    private final Map<Integer, List<ApiRoute>> routesBySegmentCount = new HashMap<>();
+
+    /**
+     * The API version that prefixes request paths.
+     */
+    private final String apiVersion;
+
+    /**
+     * Initializes a new instance of the {@link ApiRouteRegistry} class.
+     *
+     * @param apis The APIs declared in the configuration, keyed by name.
+     * @param apiVersion The API version that prefixes request paths.
+     */
+    public ApiRouteRegistry(Map<String, Configuration.Api> apis, String apiVersion)
+    {
+        if (apis == null)
+        {
+            throw new IllegalArgumentException("apis null");
+        }
+
+        // sort the names so that routes sharing a path resolve the same way on every run
+        for (Map.Entry<String, Configuration.Api> api : new TreeMap<>(apis).entrySet())
+        {
+            if (api.getValue() == null || api.getValue().getPath() == null)
+            {
+                continue;
+            }
+
+            ApiRoute route = new ApiRoute(
+                api.getKey(), 
+                api.getValue().getPath(), 
+                api.getValue().getParameters(), 
+                api.getValue().getAdditionalHeaders(),
+                api.getValue().getCacheDurationInSeconds());
+            List<ApiRoute> routes = routesBySegmentCount.get(route.getSegmentCount());
+
+            if (routes == null)
+            {
+                routes = new ArrayList<>();
+                routesBySegmentCount.put(route.getSegmentCount(), routes);
+            }
+
+            routes.add(route);
+            routesByName.put(route.getName(), route);
+        }
+
+        this.apiVersion = apiVersion;
+    }
+
+    /**
+     * Gets the registry built from the partner service configuration.
+     *
+     * @return The registry built from the partner service configuration.
+     */
+    public static synchronized ApiRouteRegistry getInstance()
+    {
+        if (instance == null)
+        {
+            instance = new ApiRouteRegistry(
+                PartnerService.getInstance().getConfiguration().getApis(),
+                PartnerService.getInstance().getPartnerServiceApiVersion());
+        }
+
+        return instance;
+    }
+
+    /**
+     * Gets a route by the name of its API.
+     *
+     * @param name The name of the API, as declared in the configuration.
+     * @return The route of the API.
+     */
+    public ApiRoute getRoute(String name)
+    {
+        ApiRoute route = routesByName.get(name);
+
+        if (route == null)
+        {
+            throw new IllegalArgumentException("The API " + name + " is not configured");
+        }
+
+        return route;
+    }
+
+    /**
+     * Resolves the route of a request. When several routes match, the one with the most literal segments wins, and
+     * among routes that share a path the one whose name matches the HTTP method (for example GetCustomer for GET and
+     * DeleteCustomer for DELETE) is preferred.
+     *
+     * @param method The HTTP method of the request.
+     * @param requestPath The path of the request, with or without the API version.
+     * @return The matching route, or null if no route matches.
+     */
+    public ApiRoute resolve(String method, String requestPath)
+    {
+        String[] segments = getPathSegments(requestPath);
+        List<ApiRoute> candidates = routesBySegmentCount.get(segments.length);
+
+        if (candidates == null)
+        {
+            return null;
+        }
+
+        String preferredPrefix = getNamePrefix(method);
+        ApiRoute match = null;
+
+        for (ApiRoute route : candidates)
+        {
+            if (!route.matches(segments))
+            {
+                continue;
+            }
+
+            if (match == null
+                || route.getLiteralSegmentCount() > match.getLiteralSegmentCount()
+                || (route.getLiteralSegmentCount() == match.getLiteralSegmentCount()
+                    && preferredPrefix != null
+                    && route.getName().startsWith(preferredPrefix)
+                    && !match.getName().startsWith(preferredPrefix)))
+            {
+                match = route;
+            }
+        }
+
+        return match;
+    }
+
+    /**
+     * Gets the customer identifier addressed by a request, when its route is scoped to a single customer.
+     *
+     * @param route The route of the request.
+     * @param requestPath The path of the request, with or without the API version.
+     * @return The customer identifier, or null if the route does not address a single customer.
+     */
+    public String getCustomerId(ApiRoute route, String requestPath)
+    {
+        if (route == null || !route.isCustomerScoped())
+        {
+            return null;
+        }
+
+        return getPathSegments(requestPath)[1];
+    }
+
+    /**
+     * Splits a request path into segments, dropping the API version.
+     *
+     * @param requestPath The path of the request.
+     * @return The segments of the path.
+     */
+    private String[] getPathSegments(String requestPath)
+    {
+        String[] segments = splitPath(requestPath);
+
+        if (segments.length > 0 && apiVersion != null && apiVersion.equalsIgnoreCase(segments[0]))
+        {
+            String[] withoutVersion = new String[segments.length - 1];
+            System.arraycopy(segments, 1, withoutVersion, 0, withoutVersion.length);
+
+            return withoutVersion;
+        }
+
+        return segments;
+    }
+
+    /**
+     * Gets the prefix of the API names that usually correspond to an HTTP method.
+     *
+     * @param method The HTTP method.
+     * @return The prefix of the API names, or null if there is no usual prefix.
+     */
+    private static String getNamePrefix(String method)
+    {
+        if ("GET".equalsIgnoreCase(method) || "HEAD".equalsIgnoreCase(method))
+        {
+            return "Get";
+        }
+        else if ("POST".equalsIgnoreCase(method))
+        {
+            return "Create";
+        }
+        else if ("PATCH".equalsIgnoreCase(method) || "PUT".equalsIgnoreCase(method))
+        {
+            return "Update";
+        }
+        else if ("DELETE".equalsIgnoreCase(method))
+        {
+            return "Delete";
+        }
+
+        return null;
+    }
+
+    /**
+     * Splits a path into its non-empty segments, ignoring any query string.
+     *
+     * @param path The path.
+     * @return The non-empty segments of the path.
+     */
+    static String[] splitPath(String path)
+    {
+        if (path == null)
+        {
+            return new String[0];
+        }
+
+        int query = path.indexOf('?');
+        List<String> segments = new ArrayList<>();
+
+        for (String segment : (query < 0 ? path : path.substring(0, query)).split("/"))
+        {
+            if (!segment.isEmpty())
+            {
+                segments.add(segment);
+            }
+        }
+
+        return segments.toArray(new String[segments.size()]);
+    }
+}
@@ -0,0 +1,222 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license. See the LICENSE file in the project root for full license information.
+
+package com.microsoft.store.partnercenter.network;
+
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * Links a GET request of a cached API route with its entry in the response cache. It travels with the request as its
+ * tag, so the code that processes the final response can store the body it read, or renew the cached response when
+ * the partner service confirms that it did not change.
+ */
+final class CacheableRequest
+{
+    /**
+     * The cache that keeps the response.
+     */
+    private final IResponseCache cache;
+
+    /**
+     * The key of the response in the cache.
+     */
+    private final String key;
+
+    /**
+     * The API route name of the request.
+     */
+    private final String route;
+
+    /**
+     * The time in milliseconds the response can be cached.
+     */
+    private final long timeToLiveInMilliseconds;
+
+    /**
+     * Receives the outcome of the cache lookup.
+     */
+    private final IPartnerServiceMetrics metrics;
+
+    /**
+     * The response found in the cache, which may have expired, or null if there was none.
+     */
+    private final CachedResponse cached;
+
+    private CacheableRequest(IResponseCache cache, String key, String route, long timeToLiveInMilliseconds, 
+        IPartnerServiceMetrics metrics, CachedResponse cached)
+    {
+        this.cache = cache;
+        this.key = key;
+        this.route = route;
+        this.timeToLiveInMilliseconds = timeToLiveInMilliseconds;
+        this.metrics = metrics;
+        this.cached = cached;
+    }
+
+    /**
+     * Looks up the response of a request in the cache, when it is a GET request of an API route that declares a cache
+     * duration and its access token names the tenant it is sent for. When the cached response expired, the request is
+     * made conditional on its validators, unless the caller already made it conditional, so the partner service only
+     * returns a body if the response changed.
+     *
+     * @param request The request.
+     * @param cache The response cache, or null if responses are not cached.
+     * @param metrics Receives the outcome of the cache lookup.
+     * @return The request carrying its cache entry, or the same request when its response is not cached.
+     */
+    static Request attach(Request request, IResponseCache cache, IPartnerServiceMetrics metrics)
+    {
+        if (cache == null || !"GET".equals(request.method()))
+        {
+            return request;
+        }
+
+        ApiRoute route = ApiRouteRegistry.getInstance().resolve(request.method(), request.url().encodedPath());
+
+        if (route == null || route.getCacheDurationInSeconds() <= 0)
+        {
+            return request;
+        }
+
+        String key = getKey(request);
+
+        if (key == null)
+        {
+            return request;
+        }
+
+        CachedResponse cached = cache.get(key);
+        CacheableRequest cacheable = new CacheableRequest(
+            cache, 
+            key, 
+            route.getName(), 
+            route.getCacheDurationInSeconds() * 1000L,
+            metrics,
+            cached);
+        Request.Builder builder = request.newBuilder().tag(CacheableRequest.class, cacheable);
+
+        if (cached == null || !cached.isExpired(System.currentTimeMillis()))
+        {
+            metrics.recordCacheLookup(route.getName(), cached != null);
+        }
+        else if (request.header(PartnerServiceClient.IF_NONE_MATCH_HEADER) == null 
+            && request.header(PartnerServiceClient.IF_MODIFIED_SINCE_HEADER) == null)
+        {
+            // the outcome of a revalidation is recorded once the partner service answered; validators the caller set
+            // are kept, since a 304 response then confirms the instance the caller holds rather than the cached one
+            if (cached.getETag() != null)
+            {
+                builder.header(PartnerServiceClient.IF_NONE_MATCH_HEADER, cached.getETag());
+            }
+
+            if (cached.getLastModified() != null)
+            {
+                builder.header(PartnerServiceClient.IF_MODIFIED_SINCE_HEADER, cached.getLastModified());
+            }
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Gets the cache entry carried by a request.
+     *
+     * @param request The request.
+     * @return The cache entry, or null if the response of the request is not cached.
+     */
+    static CacheableRequest get(Request request)
+    {
+        return request.tag(CacheableRequest.class);
+    }
+
+    /**
+     * Gets the key of the response of a request, which is the tenant of its access token, its locale and its address.
+     * Responses such as offers depend on the partner, so the tenant keeps the responses of one partner from being
+     * served to another.
+     *
+     * @param request The request.
+     * @return The key of the response, or null if the tenant of the request is not known.
+     */
+    static String getKey(Request request)
+    {
+        String tenantId = AccessTokenTenant.get(request.header(PartnerServiceClient.AUTHORIZATION_HEADER));
+
+        if (tenantId == null)
+        {
+            return null;
+        }
+
+        StringBuilder key = new StringBuilder(128).append(tenantId).append(' ');
+        String locale = request.header(PartnerServiceClient.LOCALE_HEADER);
+
+        if (locale != null)
+        {
+            key.append(locale).append(' ');
+        }
+
+        return key.append(request.url()).toString();
+    }
+
+    /**
+     * Gets the cached response, if it has not expired.
+     *
+     * @return The cached response, or null if there is none or it must be revalidated.
+     */
+    CachedResponse getFreshResponse()
+    {
+        return cached == null || cached.isExpired(System.currentTimeMillis()) ? null : cached;
+    }
+
+    /**
+     * Renews the cached response after the partner service answered that it did not change.
+     *
+     * @return The renewed response, or null if there was no cached response to revalidate.
+     */
+    CachedResponse onNotModified()
+    {
+        if (cached == null)
+        {
+            return null;
+        }
+
+        CachedResponse renewed = cached.withExpiresAt(System.currentTimeMillis() + timeToLiveInMilliseconds);
+
+        metrics.recordCacheLookup(route, true);
+        cache.put(key, renewed);
+
+        return renewed;
+    }
+
+    /**
+     * Stores the body of a response in the cache, with its validators.
+     *
+     * @param body The JSON body of the response.
+     * @param response The response.
+     */
+    void store(byte[] body, Response response)
+    {
+        if (cached != null && cached.isExpired(System.currentTimeMillis()))
+        {
+            // the revalidated response changed
+            metrics.recordCacheLookup(route, false);
+        }
+
+        cache.put(
+            key, 
+            new CachedResponse(
+                route, 
+                body, 
+                System.currentTimeMillis() + timeToLiveInMilliseconds,
+                response.header(PartnerServiceClient.ETAG_HEADER),
+                response.header(PartnerServiceClient.LAST_MODIFIED_HEADER)));
+    }
+
+    /**
+     * Removes the response from the cache.
+     */
+    void invalidate()
+    {
+        cache.remove(key);
+    }
+}
@@ -0,0 +1,159 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license. See the LICENSE file in the project root for full license information.
+
+package com.microsoft.store.partnercenter.network;
+
+/**
+ * A response body kept by a response cache, with the API route it belongs to, the time it expires and the validators
+ * the partner service returned with it. A response with a validator can be revalidated once it expires, so the body is
+ * only downloaded again when it changed.
+ */
+public final class CachedResponse
+{
+    /**
+     * The API route name of the response.
+     */
+    private final String route;
+
+    /**
+     * The JSON body of the response.
+     */
+    private final byte[] body;
+
+    /**
+     * The time the response expires, in milliseconds since the epoch.
+     */
+    private final long expiresAt;
+
+    /**
+     * The ETag header of the response, or null if there was none.
+     */
+    private final String eTag;
+
+    /**
+     * The Last-Modified header of the response, or null if there was none.
+     */
+    private final String lastModified;
+
+    /**
+     * Initializes a new instance of the {@link CachedResponse} class.
+     *
+     * @param route The API route name of the response.
+     * @param body The JSON body of the response.
+     * @param expiresAt The time the response expires, in milliseconds since the epoch.
+     */
+    public CachedResponse(String route, byte[] body, long expiresAt)
+    {
+        this(route, body, expiresAt, null, null);
+    }
+
+    /**
+     * Initializes a new instance of the {@link CachedResponse} class.
+     *
+     * @param route The API route name of the response.
+     * @param body The JSON body of the response.
+     * @param expiresAt The time the response expires, in milliseconds since the epoch.
+     * @param eTag The ETag header of the response, or null if there was none.
+     * @param lastModified The Last-Modified header of the response, or null if there was none.
+     */
+    public CachedResponse(String route, byte[] body, long expiresAt, String eTag, String lastModified)
+    {
+        if (route == null)
+        {
+            throw new IllegalArgumentException("route null");
+        }
+
+        if (body == null)
+        {
+            throw new IllegalArgumentException("body null");
+        }
+
+        this.route = route;
+        this.body = body;
+        this.expiresAt = expiresAt;
+        this.eTag = eTag;
+        this.lastModified = lastModified;
+    }
+
+    /**
+     * Gets the API route name of the response.
+     *
+     * @return The API route name of the response.
+     */
+    public String getRoute()
+    {
+        return route;
+    }
+
+    /**
+     * Gets the JSON body of the response. The array is shared and must not be modified.
+     *
+     * @return The JSON body of the response.
+     */
+    public byte[] getBody()
+    {
+        return body;
+    }
+
+    /**
+     * Gets the time the response expires.
+     *
+     * @return The time the response expires, in milliseconds since the epoch.
+     */
+    public long getExpiresAt()
+    {
+        return expiresAt;
+    }
+
+    /**
+     * Gets the ETag header of the response.
+     *
+     * @return The ETag header of the response, or null if there was none.
+     */
+    public String getETag()
+    {
+        return eTag;
+    }
+
+    /**
+     * Gets the Last-Modified header of the response.
+     *
+     * @return The Last-Modified header of the response, or null if there was none.
+     */
+    public String getLastModified()
+    {
+        return lastModified;
+    }
+
+    /**
+     * Checks whether the response can be revalidated once it expires.
+     *
+     * @return true if the response has an ETag or Last-Modified header; otherwise false.
+     */
+    public boolean hasValidator()
+    {
+        return eTag != null || lastModified != null;
+    }
+
+    /**
+     * Copies the response with a new expiry time, after the partner service confirmed that it did not change.
+     *
+     * @param value The time the copy expires, in milliseconds since the epoch.
+     * @return The copy of the response.
+     */
+    public CachedResponse withExpiresAt(long value)
+    {
+        return new CachedResponse(route, body, value, eTag, lastModified);
+    }
+
+    /**
+     * Checks whether the response has expired.
+     *
+     * @param now The current time, in milliseconds since the epoch.
+     * @return true if the response has expired; otherwise false.
+     */
+    public boolean isExpired(long now)
+    {
+        return now >= expiresAt;
+    }
+}
@@ -0,0 +1,402 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license. See the LICENSE file in the project root for full license information.
+
+package com.microsoft.store.partnercenter.network;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import com.microsoft.store.partnercenter.exception.PartnerErrorCategory;
+import com.microsoft.store.partnercenter.exception.PartnerException;
+import com.microsoft.store.partnercenter.requestcontext.IRequestContext;
+
+/**
+ * Keeps a circuit breaker and a bulkhead per API route, so an API that fails or slows down cannot hold all the threads
+ * that call the partner service. After a number of consecutive failures the circuit of the route opens and requests
+ * fail at once with {@link PartnerErrorCategory#CIRCUIT_OPEN}; once the open duration has passed a single trial
+ * request decides whether the circuit closes or stays open. The bulkhead caps the requests in progress per route, and
+ * requests above the cap fail at once with {@link PartnerErrorCategory#BULKHEAD_FULL}.
+ *
+ * <p>A request counts as a failure when its error category trips the circuit, which by default are server errors,
+ * server busy responses and timeouts. Errors caused by the request itself, such as bad input or a missing resource,
+ * do not open the circuit.</p>
+ */
+public class CircuitBreaker
+{
+    /**
+     * The maximum number of concurrent requests that means no limit.
+     */
+    public static final int UNLIMITED_CONCURRENT_CALLS = 0;
+
+    /**
+     * The number of consecutive failures that opens a circuit.
+     */
+    private final int failureThreshold;
+
+    /**
+     * The time a circuit stays open before a trial request is sent, in nanoseconds.
+     */
+    private final long openDurationInNanoseconds;
+
+    /**
+     * The maximum number of concurrent requests per route, or {@link #UNLIMITED_CONCURRENT_CALLS}.
+     */
+    private final int maxConcurrentCalls;
+
+    /**
+     * The error categories that count as failures.
+     */
+    private final Set<PartnerErrorCategory> trippingCategories = ConcurrentHashMap.newKeySet();
+
+    /**
+     * The circuit of each route.
+     */
+    private final ConcurrentMap<String, RouteCircuit> circuits = new ConcurrentHashMap<>();
+
+    /**
+     * Creates the circuit of a route.
+     */
+    private final Function<String, RouteCircuit> circuitFactory = new Function<String, RouteCircuit>()
+    {
+        @Override
+        public RouteCircuit apply(String route)
+        {
+            return new RouteCircuit(route, maxConcurrentCalls);
+        }
+    };
+
+    /**
+     * Initializes a new instance of the {@link CircuitBreaker} class.
+     *
+     * @param failureThreshold The number of consecutive failures that opens the circuit of a route.
+     * @param openDurationInMilliseconds The time a circuit stays open before a trial request is sent.
+     * @param maxConcurrentCalls The maximum number of concurrent requests per route, or
+     *            {@link #UNLIMITED_CONCURRENT_CALLS}.
+     */
+    public CircuitBreaker(int failureThreshold, long openDurationInMilliseconds, int maxConcurrentCalls)
+    {
+        if (failureThreshold <= 0)
+        {
+            throw new IllegalArgumentException("failureThreshold must be greater than zero");
+        }
+
+        if (openDurationInMilliseconds <= 0)
+        {
+            throw new IllegalArgumentException("openDurationInMilliseconds must be greater than zero");
+        }
+
+        if (maxConcurrentCalls < 0)
+        {
+            throw new IllegalArgumentException("maxConcurrentCalls cannot be negative");
+        }
+
+        this.failureThreshold = failureThreshold;
+        this.openDurationInNanoseconds = TimeUnit.MILLISECONDS.toNanos(openDurationInMilliseconds);
+        this.maxConcurrentCalls = maxConcurrentCalls;
+
+        trippingCategories.addAll(EnumSet.of(
+            PartnerErrorCategory.SERVER_ERROR,
+            PartnerErrorCategory.SERVER_BUSY,
+            PartnerErrorCategory.TIMEOUT));
+    }
+
+    /**
+     * Sets whether failures of an error category count toward opening a circuit.
+     *
+     * @param category The error category.
+     * @param trips true if failures of the category count toward opening a circuit; otherwise false.
+     */
+    public void setTripping(PartnerErrorCategory category, boolean trips)
+    {
+        if (category == null)
+        {
+            throw new IllegalArgumentException("category null");
+        }
+
+        if (trips)
+        {
+            trippingCategories.add(category);
+        }
+        else
+        {
+            trippingCategories.remove(category);
+        }
+    }
+
+    /**
+     * Checks whether failures of an error category count toward opening a circuit.
+     *
+     * @param category The error category.
+     * @return true if failures of the category count toward opening a circuit; otherwise false.
+     */
+    public boolean isTripping(PartnerErrorCategory category)
+    {
+        return category != null && trippingCategories.contains(category);
+    }
+
+    /**
+     * Gets the state of the circuits of the routes that have been called.
+     *
+     * @return The state of the circuits.
+     */
+    public List<CircuitBreakerSnapshot> getSnapshots()
+    {
+        List<CircuitBreakerSnapshot> snapshots = new ArrayList<>();
+
+        for (RouteCircuit circuit : circuits.values())
+        {
+            snapshots.add(circuit.snapshot());
+        }
+
+        return snapshots;
+    }
+
+    /**
+     * Gets the state of the circuit of a route.
+     *
+     * @param route The API route name.
+     * @return The state of the circuit, or null if the route has not been called.
+     */
+    public CircuitBreakerSnapshot getSnapshot(String route)
+    {
+        RouteCircuit circuit = circuits.get(route);
+
+        return circuit == null ? null : circuit.snapshot();
+    }
+
+    /**
+     * Lets a request through, or rejects it when the bulkhead is full or the circuit is open.
+     *
+     * @param route The API route name.
+     * @param context The request context, used in the exception of a rejected request.
+     * @param metrics Receives the state changes of the circuit.
+     * @return The permit of the request, which must be released once the request completed.
+     * @throws PartnerException The request is rejected.
+     */
+    Permit acquire(String route, IRequestContext context, IPartnerServiceMetrics metrics)
+    {
+        RouteCircuit circuit = circuits.computeIfAbsent(route, circuitFactory);
+
+        if (circuit.bulkhead != null && !circuit.bulkhead.tryAcquire())
+        {
+            circuit.rejectedCount.incrementAndGet();
+
+            throw new PartnerException(
+                "Too many requests to " + route + " are in progress.", 
+                context, 
+                PartnerErrorCategory.BULKHEAD_FULL);
+        }
+
+        Boolean trial = circuit.enter(System.nanoTime(), openDurationInNanoseconds, metrics);
+
+        if (trial == null)
+        {
+            if (circuit.bulkhead != null)
+            {
+                circuit.bulkhead.release();
+            }
+
+            circuit.rejectedCount.incrementAndGet();
+
+            throw new PartnerException(
+                "The circuit breaker for " + route + " is open after repeated failures.", 
+                context, 
+                PartnerErrorCategory.CIRCUIT_OPEN);
+        }
+
+        circuit.activeCalls.incrementAndGet();
+
+        return new Permit(this, circuit, trial, metrics);
+    }
+
+    /**
+     * Allows one request through the circuit breaker and bulkhead of a route. Releasing the permit records the outcome
+     * of the request.
+     */
+    static final class Permit
+    {
+        private final CircuitBreaker breaker;
+
+        private final RouteCircuit circuit;
+
+        /**
+         * A value indicating whether the request is the trial request of a half-open circuit.
+         */
+        private final boolean trial;
+
+        private final IPartnerServiceMetrics metrics;
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(CircuitBreaker breaker, RouteCircuit circuit, boolean trial, IPartnerServiceMetrics metrics)
+        {
+            this.breaker = breaker;
+            this.circuit = circuit;
+            this.trial = trial;
+            this.metrics = metrics;
+        }
+
+        /**
+         * Records the outcome of the request and frees its place in the bulkhead. Only the first call has an effect.
+         *
+         * @param failure The failure of the request, or null if it succeeded.
+         */
+        void release(Throwable failure)
+        {
+            if (!released.compareAndSet(false, true))
+            {
+                return;
+            }
+
+            circuit.activeCalls.decrementAndGet();
+
+            if (circuit.bulkhead != null)
+            {
+                circuit.bulkhead.release();
+            }
+
+            Throwable cause = RequestMetrics.unwrap(failure);
+
+            if (cause instanceof CancellationException)
+            {
+                // a cancelled request tells nothing about the health of the route
+                circuit.leave(trial);
+                return;
+            }
+
+            boolean failed = cause != null && breaker.isTripping(RequestMetrics.getErrorCategory(cause));
+
+            circuit.complete(trial, failed, System.nanoTime(), breaker.failureThreshold, metrics);
+        }
+    }
+
+    /**
+     * The circuit and bulkhead of one route.
+     */
+    private static final class RouteCircuit
+    {
+        private final String route;
+
+        /**
+         * Limits the concurrent requests, or null if they are not limited.
+         */
+        private final Semaphore bulkhead;
+
+        private final AtomicInteger activeCalls = new AtomicInteger();
+
+        private final AtomicLong rejectedCount = new AtomicLong();
+
+        private CircuitState state = CircuitState.CLOSED;
+
+        private int consecutiveFailures;
+
+        /**
+         * The time the circuit opened, from {@link System#nanoTime()}.
+         */
+        private long openedAt;
+
+        /**
+         * A value indicating whether the trial request of the half-open circuit is in progress.
+         */
+        private boolean trialInProgress;
+
+        RouteCircuit(String route, int maxConcurrentCalls)
+        {
+            this.route = route;
+            this.bulkhead = maxConcurrentCalls == UNLIMITED_CONCURRENT_CALLS ? null : new Semaphore(maxConcurrentCalls);
+        }
+
+        /**
+         * Lets a request through the circuit.
+         *
+         * @return false for a request through the closed circuit, true for the trial request of the half-open
+         *         circuit, or null if the request is rejected.
+         */
+        synchronized Boolean enter(long now, long openDurationInNanoseconds, IPartnerServiceMetrics metrics)
+        {
+            if (state == CircuitState.CLOSED)
+            {
+                return Boolean.FALSE;
+            }
+
+            if (state == CircuitState.OPEN && now - openedAt >= openDurationInNanoseconds)
+            {
+                changeState(CircuitState.HALF_OPEN, metrics);
+            }
+
+            if (state == CircuitState.HALF_OPEN && !trialInProgress)
+            {
+                trialInProgress = true;
+
+                return Boolean.TRUE;
+            }
+
+            return null;
+        }
+
+        /**
+         * Records the outcome of a request.
+         */
+        synchronized void complete(boolean trial, boolean failed, long now, int failureThreshold, IPartnerServiceMetrics metrics)
+        {
+            if (trial)
+            {
+                trialInProgress = false;
+            }
+
+            if (!failed)
+            {
+                consecutiveFailures = 0;
+
+                if (trial && state == CircuitState.HALF_OPEN)
+                {
+                    changeState(CircuitState.CLOSED, metrics);
+                }
+
+                return;
+            }
+
+            consecutiveFailures++;
+
+            if ((trial && state == CircuitState.HALF_OPEN) 
+                || (state == CircuitState.CLOSED && consecutiveFailures >= failureThreshold))
+            {
+                openedAt = now;
+                changeState(CircuitState.OPEN, metrics);
+            }
+        }
+
+        /**
+         * Records a request that ended without an outcome.
+         */
+        synchronized void leave(boolean trial)
+        {
+            if (trial)
+            {
+                trialInProgress = false;
+            }
+        }
+
+        synchronized CircuitBreakerSnapshot snapshot()
+        {
+            return new CircuitBreakerSnapshot(route, state, consecutiveFailures, activeCalls.get(), rejectedCount.get());
+        }
+
+        private void changeState(CircuitState value, IPartnerServiceMetrics metrics)
+        {
+            state = value;
+            metrics.recordCircuitState(route, value);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license. See the LICENSE file in the project root for full license information.
+
+package com.microsoft.store.partnercenter.network;
+
+/**
+ * The state of the circuit breaker and bulkhead of one API route at the time it was read.
+ */
+public class CircuitBreakerSnapshot
+{
+    /**
+     * The API route name.
+     */
+    private final String route;
+
+    /**
+     * The state of the circuit.
+     */
+    private final CircuitState state;
+
+    /**
+     * The number of failures since the last success.
+     */
+    private final int consecutiveFailures;
+
+    /**
+     * The number of requests in progress.
+     */
+    private final int activeCalls;
+
+    /**
+     * The number of requests rejected without being sent.
+     */
+    private final long rejectedCount;
+
+    /**
+     * Initializes a new instance of the {@link CircuitBreakerSnapshot} class.
+     *
+     * @param route The API route name.
+     * @param state The state of the circuit.
+     * @param consecutiveFailures The number of failures since the last success.
+     * @param activeCalls The number of requests in progress.
+     * @param rejectedCount The number of requests rejected without being sent.
+     */
+    public CircuitBreakerSnapshot(String route, CircuitState state, int consecutiveFailures, int activeCalls, long rejectedCount)
+    {
+        this.route = route;
+        this.state = state;
+        this.consecutiveFailures = consecutiveFailures;
+        this.activeCalls = activeCalls;
+        this.rejectedCount = rejectedCount;
+    }
+
+    /**
+     * Gets the API route name.
+     *
+     * @return The API route name.
+     */
+    public String getRoute()
+    {
+        return route;
+    }
+
+    /**
+     * Gets the state of the circuit.
+     *
+     * @return The state of the circuit.
+     */
+    public CircuitState getState()
+    {
+        return state;
+    }
+
+    /**
+     * Gets the number of failures since the last success.
+     *
+     * @return The number of failures since the last success.
+     */
+    public int getConsecutiveFailures()
+    {
+        return consecutiveFailures;
+    }
+
+    /**
+     * Gets the number of requests in progress.
+     *
+     * @return The number of requests in progress.
+     */
+    public int getActiveCalls()
+    {
+        return activeCalls;
+    }
+
+    /**
+     * Gets the number of requests rejected without being sent, because the circuit was open or the bulkhead was full.
+     *
+     * @return The number of rejected requests.
+     */
+    public long getRejectedCount()
+    {
+        return rejectedCount;
+    }
+}
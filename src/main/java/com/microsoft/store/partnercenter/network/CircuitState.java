@@ -0,0 +1,25 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license. See the LICENSE file in the project root for full license information.
+
+package com.microsoft.store.partnercenter.network;
+
+/**
+ * The states of the circuit breaker of an API route.
+ */
+public enum CircuitState
+{
+    /**
+     * Requests are sent, and failures are counted.
+     */
+    CLOSED,
+
+    /**
+     * Requests fail without being sent until the open duration has passed.
+     */
+    OPEN,
+
+    /**
+     * One trial request is sent; its outcome closes or opens the circuit again.
+     */
+    HALF_OPEN
+}
@@ -0,0 +1,242 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license. See the LICENSE file in the project root for full license information.
+
+package com.microsoft.store.partnercenter.network;
+
+import java.io.IOException;
+import java.util.zip.Inflater;
+
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.BufferedSink;
+import okio.ForwardingSource;
+import okio.GzipSink;
+import okio.GzipSource;
+import okio.InflaterSource;
+import okio.Okio;
+import okio.Source;
+
+/**
+ * Compresses request bodies and decompresses response bodies according to a {@link CompressionPolicy}. Setting the
+ * Accept-Encoding header turns off the transparent gzip handling of OkHttp, so this interceptor decompresses the
+ * responses itself and can report how much the compression saved.
+ */
+final class CompressionInterceptor
+    implements Interceptor
+{
+    /**
+     * The name of the header that lists the accepted response encodings.
+     */
+    static final String ACCEPT_ENCODING_HEADER = "Accept-Encoding";
+
+    /**
+     * The name of the header that tells how a body is encoded.
+     */
+    static final String CONTENT_ENCODING_HEADER = "Content-Encoding";
+
+    /**
+     * Decides which bodies are compressed.
+     */
+    private final CompressionPolicy policy;
+
+    /**
+     * Initializes a new instance of the {@link CompressionInterceptor} class.
+     *
+     * @param policy Decides which bodies are compressed.
+     */
+    CompressionInterceptor(CompressionPolicy policy)
+    {
+        if (policy == null)
+        {
+            throw new IllegalArgumentException("policy null");
+        }
+
+        this.policy = policy;
+    }
+
+    /**
+     * Gets the policy that decides which bodies are compressed.
+     *
+     * @return The policy that decides which bodies are compressed.
+     */
+    CompressionPolicy getPolicy()
+    {
+        return policy;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException
+    {
+        Request request = chain.request();
+        RequestMetrics measurement = RequestMetrics.get(request);
+
+        if (request.body() != null 
+            && policy.shouldCompressRequest(request.method(), request.body().contentLength(), request.header(CONTENT_ENCODING_HEADER)))
+        {
+            request = compress(request, measurement);
+        }
+
+        // a range of an encoded body cannot be decoded on its own
+        if (!policy.isResponseCompressionEnabled() 
+            || request.header(ACCEPT_ENCODING_HEADER) != null 
+            || request.header("Range") != null)
+        {
+            return chain.proceed(request);
+        }
+
+        Response response = chain.proceed(request.newBuilder().header(ACCEPT_ENCODING_HEADER, CompressionPolicy.ACCEPTED_ENCODINGS).build());
+
+        return decompress(response, measurement);
+    }
+
+    /**
+     * Replaces the body of a request with its gzip encoding. The body is compressed into memory, so its length is
+     * known and the request can be sent again when it is retried.
+     *
+     * @param request The request.
+     * @param measurement The measurement of the call, or null if the call is not measured.
+     * @return The request with the compressed body.
+     * @throws IOException The body could not be compressed.
+     */
+    private static Request compress(Request request, RequestMetrics measurement) throws IOException
+    {
+        RequestBody body = request.body();
+        Buffer compressed = new Buffer();
+        BufferedSink sink = Okio.buffer(new GzipSink(compressed));
+
+        body.writeTo(sink);
+        sink.close();
+
+        if (measurement != null)
+        {
+            measurement.onCompressed(true, body.contentLength(), compressed.size());
+        }
+
+        return request.newBuilder()
+            .header(CONTENT_ENCODING_HEADER, "gzip")
+            .method(request.method(), RequestBody.create(body.contentType(), compressed.readByteString()))
+            .build();
+    }
+
+    /**
+     * Replaces the body of a gzip or deflate encoded response with a body that decompresses it as it is read.
+     *
+     * @param response The response.
+     * @param measurement The measurement of the call, or null if the call is not measured.
+     * @return The response with the decompressed body, or the same response if its body is not encoded.
+     */
+    private static Response decompress(Response response, RequestMetrics measurement)
+    {
+        ResponseBody body = response.body();
+        String encoding = response.header(CONTENT_ENCODING_HEADER);
+
+        if (body == null 
+            || encoding == null 
+            || body.contentLength() == 0 
+            || response.code() == HttpStatusCode.NOCONTENT 
+            || response.code() == HttpStatusCode.NOTMODIFIED)
+        {
+            return response;
+        }
+
+        CountingSource compressed = new CountingSource(body.source(), null, measurement);
+        Source decompressed;
+
+        if ("gzip".equalsIgnoreCase(encoding))
+        {
+            decompressed = new GzipSource(compressed);
+        }
+        else if ("deflate".equalsIgnoreCase(encoding))
+        {
+            decompressed = new InflaterSource(compressed, new Inflater());
+        }
+        else
+        {
+            return response;
+        }
+
+        MediaType contentType = body.contentType();
+
+        return response.newBuilder()
+            .removeHeader(CONTENT_ENCODING_HEADER)
+            .removeHeader("Content-Length")
+            .body(ResponseBody.create(contentType, -1, Okio.buffer(new CountingSource(decompressed, compressed, measurement))))
+            .build();
+    }
+
+    /**
+     * Counts the bytes read from a source. The source of the decompressed body reports both counts once the body has
+     * been read to its end.
+     */
+    private static final class CountingSource
+        extends ForwardingSource
+    {
+        /**
+         * The source of the compressed body when this is the source of the decompressed body; otherwise null.
+         */
+        private final CountingSource compressed;
+
+        /**
+         * The measurement of the call, or null if the call is not measured.
+         */
+        private final RequestMetrics measurement;
+
+        /**
+         * The number of bytes read.
+         */
+        private long byteCount;
+
+        /**
+         * A value indicating whether the counts have been reported.
+         */
+        private boolean reported;
+
+        CountingSource(Source source, CountingSource compressed, RequestMetrics measurement)
+        {
+            super(source);
+
+            this.compressed = compressed;
+            this.measurement = measurement;
+        }
+
+        @Override
+        public long read(Buffer sink, long count) throws IOException
+        {
+            long read = super.read(sink, count);
+
+            if (read == -1)
+            {
+                report();
+            }
+            else
+            {
+                byteCount += read;
+            }
+
+            return read;
+        }
+
+        @Override
+        public void close() throws IOException
+        {
+            report();
+            super.close();
+        }
+
+        private void report()
+        {
+            if (reported || compressed == null || measurement == null || byteCount == 0)
+            {
+                return;
+            }
+
+            reported = true;
+            measurement.onCompressed(false, byteCount, compressed.byteCount);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license. See the LICENSE file in the project root for full license information.
+
+package com.microsoft.store.partnercenter.network;
+
+/**
+ * Decides which request and response bodies are compressed. Responses are requested with gzip or deflate encoding and
+ * decompressed as they are read; request bodies at least as large as the threshold are sent gzip encoded. The sizes
+ * before and after compression are reported to the metrics of the client.
+ */
+public class CompressionPolicy
+{
+    /**
+     * The encodings accepted for response bodies.
+     */
+    static final String ACCEPTED_ENCODINGS = "gzip, deflate";
+
+    /**
+     * The request compression threshold that disables request compression.
+     */
+    public static final long REQUEST_COMPRESSION_DISABLED = -1;
+
+    /**
+     * The suggested request compression threshold in bytes. Smaller bodies gain too little to be worth compressing.
+     */
+    public static final long DEFAULT_REQUEST_COMPRESSION_THRESHOLD_IN_BYTES = 16 * 1024;
+
+    /**
+     * A value indicating whether compressed responses are requested.
+     */
+    private final boolean responseCompressionEnabled;
+
+    /**
+     * The size from which request bodies are compressed, or {@link #REQUEST_COMPRESSION_DISABLED}.
+     */
+    private final long requestCompressionThresholdInBytes;
+
+    /**
+     * Initializes a new instance of the {@link CompressionPolicy} class.
+     *
+     * @param responseCompressionEnabled true to request compressed responses; otherwise false.
+     * @param requestCompressionThresholdInBytes The size from which request bodies are sent gzip encoded, or
+     *            {@link #REQUEST_COMPRESSION_DISABLED} to send them as they are. Only enable request compression for
+     *            endpoints known to accept encoded bodies.
+     */
+    public CompressionPolicy(boolean responseCompressionEnabled, long requestCompressionThresholdInBytes)
+    {
+        if (requestCompressionThresholdInBytes < 0 && requestCompressionThresholdInBytes != REQUEST_COMPRESSION_DISABLED)
+        {
+            throw new IllegalArgumentException("requestCompressionThresholdInBytes cannot be negative");
+        }
+
+        this.responseCompressionEnabled = responseCompressionEnabled;
+        this.requestCompressionThresholdInBytes = requestCompressionThresholdInBytes;
+    }
+
+    /**
+     * Gets a value indicating whether compressed responses are requested.
+     *
+     * @return true if compressed responses are requested; otherwise false.
+     */
+    public boolean isResponseCompressionEnabled()
+    {
+        return responseCompressionEnabled;
+    }
+
+    /**
+     * Gets the size from which request bodies are compressed.
+     *
+     * @return The size in bytes, or {@link #REQUEST_COMPRESSION_DISABLED} if request bodies are not compressed.
+     */
+    public long getRequestCompressionThresholdInBytes()
+    {
+        return requestCompressionThresholdInBytes;
+    }
+
+    /**
+     * Checks whether a request body is compressed.
+     *
+     * @param method The HTTP method of the request.
+     * @param contentLength The size of the request body, or -1 if unknown.
+     * @param contentEncoding The encoding already applied to the body, or null.
+     * @return true if the request body is compressed; otherwise false.
+     */
+    public boolean shouldCompressRequest(String method, long contentLength, String contentEncoding)
+    {
+        return requestCompressionThresholdInBytes != REQUEST_COMPRESSION_DISABLED
+            && contentEncoding == null
+            && contentLength >= requestCompressionThresholdInBytes
+            && ("POST".equals(method) || "PUT".equals(method) || "PATCH".equals(method));
+    }
+}
@@ -0,0 +1,76 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license. See the LICENSE file in the project root for full license information.
+
+package com.microsoft.store.partnercenter.network;
+
+import com.microsoft.store.partnercenter.models.ResourceBase;
+
+import okhttp3.Request;
+
+/**
+ * Makes a GET request conditional on the ETag of an instance the caller already holds. It travels with the request as
+ * its tag, so a 304 Not Modified response returns that instance without reading or deserializing a body.
+ */
+final class ConditionalRequest
+{
+    /**
+     * The instance returned when the resource did not change.
+     */
+    private final Object previous;
+
+    private ConditionalRequest(Object previous)
+    {
+        this.previous = previous;
+    }
+
+    /**
+     * Makes a request conditional on the ETag of a previous instance of the resource.
+     *
+     * @param request The request.
+     * @param previous The previous instance of the resource, or null.
+     * @return The conditional request, or the same request when there is no previous instance or it has no ETag.
+     */
+    static Request attach(Request request, ResourceBase previous)
+    {
+        String eTag = previous == null || previous.getAttributes() == null ? null : previous.getAttributes().getEtag();
+
+        if (eTag == null || eTag.isEmpty())
+        {
+            return request;
+        }
+
+        return request.newBuilder()
+            .header(PartnerServiceClient.IF_NONE_MATCH_HEADER, toEntityTag(eTag))
+            .tag(ConditionalRequest.class, new ConditionalRequest(previous))
+            .build();
+    }
+
+    /**
+     * Gets the instance a request returns when the resource did not change.
+     *
+     * @param request The request.
+     * @return The previous instance of the resource, or null if the request is not conditional.
+     */
+    static Object getPrevious(Request request)
+    {
+        ConditionalRequest conditional = request.tag(ConditionalRequest.class);
+
+        return conditional == null ? null : conditional.previous;
+    }
+
+    /**
+     * Quotes an ETag that the resource attributes carry without quotes, as the If-None-Match header requires.
+     *
+     * @param eTag The ETag.
+     * @return The entity tag.
+     */
+    static String toEntityTag(String eTag)
+    {
+        if (eTag.startsWith("\"") || eTag.startsWith("W/\""))
+        {
+            return eTag;
+        }
+
+        return "\"" + eTag + "\"";
+    }
+}
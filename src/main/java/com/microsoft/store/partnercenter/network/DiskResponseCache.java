@@ -0,0 +1,471 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license. See the LICENSE file in the project root for full license information.
+
+package com.microsoft.store.partnercenter.network;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import com.microsoft.store.partnercenter.logging.PartnerLog;
+
+/**
+ * Keeps responses in files of a local directory, bounded by their total size, so large catalogs and rate cards do not
+ * stay in the heap and survive a restart of the process. Only the keys, routes and expiry times of the responses are
+ * held in memory. When a new response does not fit, the least recently used responses are evicted until it does, and
+ * expired responses without a validator are removed when they are looked up.
+ *
+ * <p>Responses are written to a temporary file that replaces the response file, so a reader never sees a partially
+ * written response. The directory must not be shared with other caches or hold other files.</p>
+ */
+public class DiskResponseCache
+    implements IResponseCache
+{
+    /**
+     * The extension of the response files.
+     */
+    private static final String FILE_EXTENSION = ".response";
+
+    /**
+     * The version of the response file format.
+     */
+    private static final int FORMAT_VERSION = 2;
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    /**
+     * The responses, from the least to the most recently used.
+     */
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * The directory that holds the response files.
+     */
+    private final Path directory;
+
+    /**
+     * The maximum total size of the response bodies.
+     */
+    private final long maxSizeInBytes;
+
+    /**
+     * The total size of the response bodies.
+     */
+    private long size;
+
+    /**
+     * Initializes a new instance of the {@link DiskResponseCache} class. Responses left in the directory by a previous
+     * process are kept until they expire.
+     *
+     * @param directory The directory that holds the response files, which is created if it does not exist.
+     * @param maxSizeInBytes The maximum total size of the response bodies.
+     * @throws IOException The directory could not be created or read.
+     */
+    public DiskResponseCache(Path directory, long maxSizeInBytes)
+        throws IOException
+    {
+        if (directory == null)
+        {
+            throw new IllegalArgumentException("directory null");
+        }
+
+        if (maxSizeInBytes <= 0)
+        {
+            throw new IllegalArgumentException("maxSizeInBytes must be positive");
+        }
+
+        this.directory = Files.createDirectories(directory);
+        this.maxSizeInBytes = maxSizeInBytes;
+
+        load();
+    }
+
+    /**
+     * Gets the directory that holds the response files.
+     *
+     * @return The directory that holds the response files.
+     */
+    public Path getDirectory()
+    {
+        return directory;
+    }
+
+    /**
+     * Gets the maximum total size of the response bodies.
+     *
+     * @return The maximum total size in bytes of the response bodies.
+     */
+    public long getMaxSize()
+    {
+        return maxSizeInBytes;
+    }
+
+    @Override
+    public CachedResponse get(String key)
+    {
+        Entry entry;
+
+        synchronized (this)
+        {
+            entry = entries.get(key);
+
+            if (entry == null)
+            {
+                return null;
+            }
+
+            if (!entry.validated && System.currentTimeMillis() >= entry.expiresAt)
+            {
+                remove(key);
+                return null;
+            }
+        }
+
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(entry.file))))
+        {
+            Entry stored = readEntry(input, entry.file);
+
+            if (stored != null && key.equals(stored.key))
+            {
+                String eTag = readOptional(input);
+                String lastModified = readOptional(input);
+                byte[] body = new byte[(int)stored.size];
+
+                input.readFully(body);
+
+                return new CachedResponse(stored.route, body, stored.expiresAt, eTag, lastModified);
+            }
+        }
+        catch (IOException e)
+        {
+            // the response was evicted or replaced while it was read
+        }
+
+        return null;
+    }
+
+    @Override
+    public void put(String key, CachedResponse response)
+    {
+        byte[] body = response.getBody();
+
+        if (body.length > maxSizeInBytes)
+        {
+            remove(key);
+            return;
+        }
+
+        Path file = directory.resolve(getFileName(key));
+
+        try
+        {
+            Path temporary = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+
+            try
+            {
+                try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary))))
+                {
+                    output.writeInt(FORMAT_VERSION);
+                    output.writeUTF(key);
+                    output.writeUTF(response.getRoute());
+                    output.writeLong(response.getExpiresAt());
+                    output.writeBoolean(response.hasValidator());
+                    output.writeInt(body.length);
+                    writeOptional(output, response.getETag());
+                    writeOptional(output, response.getLastModified());
+                    output.write(body);
+                }
+
+                synchronized (this)
+                {
+                    move(temporary, file);
+
+                    Entry previous = entries.remove(key);
+
+                    if (previous != null)
+                    {
+                        size -= previous.size;
+                    }
+
+                    evict(body.length);
+                    entries.put(key, new Entry(key, response.getRoute(), response.getExpiresAt(), response.hasValidator(), body.length, file));
+                    size += body.length;
+                }
+            }
+            finally
+            {
+                Files.deleteIfExists(temporary);
+            }
+        }
+        catch (IOException e)
+        {
+            PartnerLog.getInstance().logWarning("Could not write the cached response " + file + ": " + e.getMessage());
+        }
+    }
+
+    @Override
+    public synchronized void remove(String key)
+    {
+        Entry entry = entries.remove(key);
+
+        if (entry != null)
+        {
+            delete(entry);
+        }
+    }
+
+    @Override
+    public synchronized void removeRoute(String route)
+    {
+        Iterator<Entry> iterator = entries.values().iterator();
+
+        while (iterator.hasNext())
+        {
+            Entry entry = iterator.next();
+
+            if (entry.route.equals(route))
+            {
+                iterator.remove();
+                delete(entry);
+            }
+        }
+    }
+
+    @Override
+    public synchronized void clear()
+    {
+        for (Entry entry : entries.values())
+        {
+            delete(entry);
+        }
+
+        entries.clear();
+    }
+
+    @Override
+    public synchronized int getCount()
+    {
+        return entries.size();
+    }
+
+    @Override
+    public synchronized long getSize()
+    {
+        return size;
+    }
+
+    /**
+     * Indexes the response files left in the directory, from the least to the most recently written, and deletes the
+     * ones that expired or cannot be read.
+     *
+     * @throws IOException The directory could not be read.
+     */
+    private synchronized void load() throws IOException
+    {
+        List<Path> files = new ArrayList<>();
+
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + FILE_EXTENSION))
+        {
+            for (Path file : stream)
+            {
+                files.add(file);
+            }
+        }
+
+        Collections.sort(files, new Comparator<Path>()
+        {
+            @Override
+            public int compare(Path first, Path second)
+            {
+                return Long.compare(first.toFile().lastModified(), second.toFile().lastModified());
+            }
+        });
+
+        long now = System.currentTimeMillis();
+
+        for (Path file : files)
+        {
+            Entry entry = null;
+
+            try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file))))
+            {
+                entry = readEntry(input, file);
+            }
+            catch (IOException e)
+            {
+                // an unreadable response only costs a new request
+            }
+
+            if (entry == null || (!entry.validated && now >= entry.expiresAt) || entry.size > maxSizeInBytes)
+            {
+                Files.deleteIfExists(file);
+                continue;
+            }
+
+            evict(entry.size);
+            entries.put(entry.key, entry);
+            size += entry.size;
+        }
+    }
+
+    /**
+     * Evicts the least recently used responses until a new response fits.
+     *
+     * @param required The size of the new response.
+     */
+    private void evict(long required)
+    {
+        Iterator<Entry> eldest = entries.values().iterator();
+
+        while (size + required > maxSizeInBytes && eldest.hasNext())
+        {
+            Entry entry = eldest.next();
+
+            eldest.remove();
+            delete(entry);
+        }
+    }
+
+    /**
+     * Deletes the file of a response that was removed from the index.
+     *
+     * @param entry The response.
+     */
+    private void delete(Entry entry)
+    {
+        size -= entry.size;
+
+        try
+        {
+            Files.deleteIfExists(entry.file);
+        }
+        catch (IOException e)
+        {
+            PartnerLog.getInstance().logWarning("Could not delete the cached response " + entry.file + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Reads the header of a response file, leaving the input at the validators of the response.
+     *
+     * @param input The content of the file.
+     * @param file The file.
+     * @return The response described by the header, or null if the file has another format.
+     * @throws IOException The file could not be read.
+     */
+    private static Entry readEntry(DataInputStream input, Path file) throws IOException
+    {
+        if (input.readInt() != FORMAT_VERSION)
+        {
+            return null;
+        }
+
+        String key = input.readUTF();
+        String route = input.readUTF();
+        long expiresAt = input.readLong();
+        boolean validated = input.readBoolean();
+        int bodyLength = input.readInt();
+
+        return new Entry(key, route, expiresAt, validated, bodyLength, file);
+    }
+
+    private static String readOptional(DataInputStream input) throws IOException
+    {
+        return input.readBoolean() ? input.readUTF() : null;
+    }
+
+    private static void writeOptional(DataOutputStream output, String value) throws IOException
+    {
+        output.writeBoolean(value != null);
+
+        if (value != null)
+        {
+            output.writeUTF(value);
+        }
+    }
+
+    private static void move(Path source, Path target) throws IOException
+    {
+        try
+        {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        catch (AtomicMoveNotSupportedException e)
+        {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Gets the name of the file of a response, which is the SHA-256 hash of its key.
+     *
+     * @param key The key of the response.
+     * @return The name of the file.
+     */
+    private static String getFileName(String key)
+    {
+        byte[] hash;
+
+        try
+        {
+            hash = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+        }
+        catch (NoSuchAlgorithmException e)
+        {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+
+        StringBuilder builder = new StringBuilder(hash.length * 2 + FILE_EXTENSION.length());
+
+        for (byte b : hash)
+        {
+            builder.append(HEX_DIGITS[(b >> 4) & 0x0F]).append(HEX_DIGITS[b & 0x0F]);
+        }
+
+        return builder.append(FILE_EXTENSION).toString();
+    }
+
+    /**
+     * Describes a response kept in a file.
+     */
+    private static class Entry
+    {
+        private final String key;
+
+        private final String route;
+
+        private final long expiresAt;
+
+        private final boolean validated;
+
+        private final long size;
+
+        private final Path file;
+
+        Entry(String key, String route, long expiresAt, boolean validated, long size, Path file)
+        {
+            this.key = key;
+            this.route = route;
+            this.expiresAt = expiresAt;
+            this.validated = validated;
+            this.size = size;
+            this.file = file;
+        }
+    }
+}
@@ -0,0 +1,440 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license. See the LICENSE file in the project root for full license information.
+
+package com.microsoft.store.partnercenter.network;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import okhttp3.Request;
+import okhttp3.Response;
+import okio.BufferedSource;
+
+/**
+ * Copies file contents from response bodies into a channel, across the attempts of a download. The body is read from
+ * the connection into one direct buffer and written from it to the channel, so no chunk is copied into a byte array
+ * and the file is never held in memory. The transfer keeps its position, so an interrupted attempt can be resumed with
+ * a Range request. The Range request carries the ETag of the file in an If-Range header, so bytes of a file that changed
+ * in between are never joined with bytes of the new one: the channel is truncated and the file downloaded again.
+ */
+final class FileTransfer
+{
+    /**
+     * The extension of the partial file a download to a file writes to until it is complete.
+     */
+    static final String PARTIAL_FILE_EXTENSION = ".part";
+
+    /**
+     * The extension of the file that holds the ETag of a partial file, which a later download needs to resume it.
+     */
+    static final String VALIDATOR_FILE_EXTENSION = ".etag";
+
+    /**
+     * The name of the Range header.
+     */
+    static final String RANGE_HEADER = "Range";
+
+    /**
+     * The name of the Content-Range header.
+     */
+    static final String CONTENT_RANGE_HEADER = "Content-Range";
+
+    /**
+     * The name of the If-Range header.
+     */
+    static final String IF_RANGE_HEADER = "If-Range";
+
+    /**
+     * The size of the buffer between the connection and the channel.
+     */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * The channel that receives the file contents.
+     */
+    private final WritableByteChannel target;
+
+    /**
+     * Receives the progress of the download, or null.
+     */
+    private final IDownloadProgressListener progress;
+
+    /**
+     * The file the ETag of the file is saved to as soon as it is known, or null.
+     */
+    private final Path validatorFile;
+
+    /**
+     * The strong ETag of the file the channel holds the start of, or null if it is not known.
+     */
+    private String validator;
+
+    /**
+     * The buffer between the connection and the channel, allocated on first use.
+     */
+    private ByteBuffer buffer;
+
+    /**
+     * The number of bytes of the file written to the channel.
+     */
+    private long position;
+
+    /**
+     * The number of bytes this transfer wrote to the channel.
+     */
+    private long count;
+
+    /**
+     * The size of the file, or -1 if it is not known.
+     */
+    private long length = -1;
+
+    /**
+     * Initializes a new instance of the {@link FileTransfer} class.
+     *
+     * @param target The channel that receives the file contents.
+     * @param offset The number of bytes of the file the channel already holds.
+     * @param validator The ETag of the file the channel holds the start of, or null if it is not known.
+     * @param validatorFile The file the ETag of the file is saved to as soon as it is known, or null.
+     * @param progress Receives the progress of the download, or null.
+     */
+    FileTransfer(WritableByteChannel target, long offset, String validator, Path validatorFile, 
+        IDownloadProgressListener progress)
+    {
+        if (target == null)
+        {
+            throw new IllegalArgumentException("target null");
+        }
+
+        if (offset < 0)
+        {
+            throw new IllegalArgumentException("offset must not be negative");
+        }
+
+        this.target = target;
+        this.position = offset;
+        this.validator = validator;
+        this.validatorFile = validatorFile;
+        this.progress = progress;
+    }
+
+    /**
+     * Gets the partial file a download to a file writes to until it is complete.
+     *
+     * @param file The file.
+     * @return The partial file, next to the file.
+     */
+    static Path getPartialFile(Path file)
+    {
+        return file.resolveSibling(file.getFileName() + PARTIAL_FILE_EXTENSION);
+    }
+
+    /**
+     * Gets the file that holds the ETag of the partial file of a download to a file.
+     *
+     * @param file The file.
+     * @return The file that holds the ETag, next to the partial file.
+     */
+    static Path getValidatorFile(Path file)
+    {
+        return file.resolveSibling(file.getFileName() + PARTIAL_FILE_EXTENSION + VALIDATOR_FILE_EXTENSION);
+    }
+
+    /**
+     * Reads the ETag saved for a partial file.
+     *
+     * @param validatorFile The file that holds the ETag.
+     * @return The ETag, or null if none was saved.
+     * @throws IOException The file could not be read.
+     */
+    static String readValidator(Path validatorFile) throws IOException
+    {
+        if (!Files.exists(validatorFile))
+        {
+            return null;
+        }
+
+        String validator = new String(Files.readAllBytes(validatorFile), StandardCharsets.UTF_8).trim();
+
+        return validator.isEmpty() ? null : validator;
+    }
+
+    /**
+     * Gets the number of bytes of the file written to the channel.
+     *
+     * @return The number of bytes of the file written to the channel.
+     */
+    long getPosition()
+    {
+        return position;
+    }
+
+    /**
+     * Gets the number of bytes this transfer wrote to the channel, which excludes the bytes the channel held before.
+     *
+     * @return The number of bytes this transfer wrote to the channel.
+     */
+    long getCount()
+    {
+        return count;
+    }
+
+    /**
+     * Gets the strong ETag of the file the channel holds the start of.
+     *
+     * @return The ETag, or null if it is not known.
+     */
+    String getValidator()
+    {
+        return validator;
+    }
+
+    /**
+     * Requests the part of the file the channel does not hold yet, on the condition that the file did not change.
+     *
+     * @param request The request of the whole file.
+     * @return The request of the rest of the file.
+     */
+    Request prepare(Request request)
+    {
+        if (position == 0)
+        {
+            return request;
+        }
+
+        Request.Builder builder = request.newBuilder().header(RANGE_HEADER, "bytes=" + position + "-");
+
+        if (validator != null)
+        {
+            builder.header(IF_RANGE_HEADER, validator);
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Checks whether a response says the channel already holds the whole file, which is the case when the requested
+     * range starts at the end of the file.
+     *
+     * @param response The response.
+     * @return true if the channel holds the whole file; otherwise false.
+     */
+    boolean isComplete(Response response)
+    {
+        if (position == 0 || response.code() != HttpStatusCode.RANGENOTSATISFIABLE)
+        {
+            return false;
+        }
+
+        // the header of an unsatisfiable range is bytes */<size>
+        String contentRange = response.header(CONTENT_RANGE_HEADER);
+
+        return contentRange != null && contentRange.endsWith("/" + position);
+    }
+
+    /**
+     * Copies the body of a response into the channel. The body continues the file only when it is a range that starts
+     * at the position of the transfer. When the partner service returned the whole file instead, because the file
+     * changed or the range was ignored, the channel is truncated and receives the whole file. When it returned a range
+     * that starts elsewhere, the channel is truncated and the body is discarded, so the file is requested again.
+     *
+     * @param response The successful response.
+     * @return true if the body was copied into the channel; false if the file has to be requested again.
+     * @throws IOException The body could not be read from the connection, or the channel cannot be truncated.
+     * @throws UncheckedIOException The channel could not be written.
+     */
+    boolean transfer(Response response) throws IOException
+    {
+        long contentLength = response.body().contentLength();
+        BufferedSource source = response.body().source();
+
+        if (response.code() == HttpStatusCode.PARTIALCONTENT)
+        {
+            String contentRange = response.header(CONTENT_RANGE_HEADER);
+
+            // a range that starts anywhere else would leave a gap or an overlap in the file
+            if (getStart(contentRange) != position)
+            {
+                restart();
+
+                return false;
+            }
+
+            length = getLength(contentRange, contentLength < 0 ? -1 : position + contentLength);
+        }
+        else
+        {
+            if (position > 0)
+            {
+                restart();
+            }
+
+            length = contentLength;
+        }
+
+        setValidator(response.header(PartnerServiceClient.ETAG_HEADER));
+
+        if (buffer == null)
+        {
+            buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        }
+
+        while (source.read(buffer) != -1)
+        {
+            buffer.flip();
+
+            try
+            {
+                while (buffer.hasRemaining())
+                {
+                    int written = target.write(buffer);
+
+                    position += written;
+                    count += written;
+                }
+            }
+            catch (IOException e)
+            {
+                throw new UncheckedIOException(e);
+            }
+
+            buffer.clear();
+
+            if (progress != null)
+            {
+                progress.onProgress(position, length);
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Truncates the channel, so the file is written again from its start.
+     *
+     * @throws IOException The channel cannot be truncated.
+     * @throws UncheckedIOException The channel could not be truncated.
+     */
+    private void restart() throws IOException
+    {
+        if (!(target instanceof SeekableByteChannel))
+        {
+            throw new IOException("The partner service did not return the rest of the file at byte " + position 
+                + " and the channel cannot be truncated to download it again.");
+        }
+
+        try
+        {
+            ((SeekableByteChannel)target).truncate(0).position(0);
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+
+        position = 0;
+    }
+
+    /**
+     * Keeps the ETag of the file, and saves it to the validator file. Weak ETags are not kept, since If-Range only
+     * accepts strong ones.
+     *
+     * @param eTag The ETag header of the response, or null.
+     * @throws UncheckedIOException The validator file could not be written.
+     */
+    private void setValidator(String eTag)
+    {
+        String value = eTag == null || eTag.isEmpty() || eTag.startsWith("W/") ? null : eTag;
+
+        if (value == null ? validator == null : value.equals(validator))
+        {
+            return;
+        }
+
+        validator = value;
+
+        if (validatorFile == null)
+        {
+            return;
+        }
+
+        try
+        {
+            if (value == null)
+            {
+                Files.deleteIfExists(validatorFile);
+            }
+            else
+            {
+                Files.write(validatorFile, value.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Gets the first byte of the range from a Content-Range header such as bytes 100-199/200.
+     *
+     * @param contentRange The value of the header, or null.
+     * @return The first byte of the range, or -1 if the header does not state it.
+     */
+    static long getStart(String contentRange)
+    {
+        if (contentRange == null || !contentRange.startsWith("bytes "))
+        {
+            return -1;
+        }
+
+        int dash = contentRange.indexOf('-');
+
+        if (dash < 0)
+        {
+            return -1;
+        }
+
+        try
+        {
+            return Long.parseLong(contentRange.substring("bytes ".length(), dash).trim());
+        }
+        catch (NumberFormatException e)
+        {
+            return -1;
+        }
+    }
+
+    /**
+     * Gets the size of the file from a Content-Range header such as bytes 100-199/200.
+     *
+     * @param contentRange The value of the header, or null.
+     * @param defaultValue The size to return when the header does not state it.
+     * @return The size of the file.
+     */
+    static long getLength(String contentRange, long defaultValue)
+    {
+        int slash = contentRange == null ? -1 : contentRange.lastIndexOf('/');
+
+        if (slash < 0)
+        {
+            return defaultValue;
+        }
+
+        try
+        {
+            return Long.parseLong(contentRange.substring(slash + 1).trim());
+        }
+        catch (NumberFormatException e)
+        {
+            // the size is * when the partner service does not know it
+            return defaultValue;
+        }
+    }
+}
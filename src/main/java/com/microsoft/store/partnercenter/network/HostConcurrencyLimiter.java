@@ -0,0 +1,199 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license. See the LICENSE file in the project root for full license information.
+
+package com.microsoft.store.partnercenter.network;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import okhttp3.Interceptor;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.ForwardingSource;
+import okio.Okio;
+import okio.Source;
+
+/**
+ * Limits the number of concurrent calls to each host. The dispatcher of OkHttp only limits asynchronous calls, so this
+ * interceptor enforces the limit for the calls executed on the caller thread as well. A call holds its permit from
+ * the moment it is sent, including its retries, until its response body is closed.
+ */
+final class HostConcurrencyLimiter
+    implements Interceptor
+{
+    /**
+     * The maximum number of concurrent calls to a single host.
+     */
+    private final int maxRequestsPerHost;
+
+    /**
+     * The permits of each host.
+     */
+    private final ConcurrentMap<String, Semaphore> permits = new ConcurrentHashMap<>();
+
+    /**
+     * Initializes a new instance of the {@link HostConcurrencyLimiter} class.
+     *
+     * @param maxRequestsPerHost The maximum number of concurrent calls to a single host.
+     */
+    HostConcurrencyLimiter(int maxRequestsPerHost)
+    {
+        if (maxRequestsPerHost <= 0)
+        {
+            throw new IllegalArgumentException("maxRequestsPerHost must be greater than zero");
+        }
+
+        this.maxRequestsPerHost = maxRequestsPerHost;
+    }
+
+    /**
+     * Gets the maximum number of concurrent calls to a single host.
+     *
+     * @return The maximum number of concurrent calls to a single host.
+     */
+    int getMaxRequestsPerHost()
+    {
+        return maxRequestsPerHost;
+    }
+
+    /**
+     * Gets the number of calls to a host that can start without waiting.
+     *
+     * @param host The host.
+     * @return The number of available permits of the host.
+     */
+    int getAvailablePermits(String host)
+    {
+        Semaphore semaphore = permits.get(host);
+
+        return semaphore == null ? maxRequestsPerHost : semaphore.availablePermits();
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException
+    {
+        Semaphore semaphore = getPermits(chain.request().url().host());
+
+        try
+        {
+            semaphore.acquire();
+        }
+        catch (InterruptedException ex)
+        {
+            Thread.currentThread().interrupt();
+
+            InterruptedIOException exception = new InterruptedIOException("Interrupted while waiting for a connection to the host.");
+            exception.initCause(ex);
+
+            throw exception;
+        }
+
+        Permit permit = new Permit(semaphore);
+        Response response;
+
+        try
+        {
+            response = chain.proceed(chain.request());
+        }
+        catch (IOException | RuntimeException | Error ex)
+        {
+            permit.release();
+
+            throw ex;
+        }
+
+        ResponseBody body = response.body();
+
+        if (body == null)
+        {
+            permit.release();
+
+            return response;
+        }
+
+        return response.newBuilder()
+            .body(ResponseBody.create(body.contentType(), body.contentLength(), Okio.buffer(new ReleasingSource(body.source(), permit))))
+            .build();
+    }
+
+    /**
+     * Gets the permits of a host, creating them when needed.
+     *
+     * @param host The host.
+     * @return The permits of the host.
+     */
+    private Semaphore getPermits(String host)
+    {
+        Semaphore semaphore = permits.get(host);
+
+        if (semaphore == null)
+        {
+            Semaphore created = new Semaphore(maxRequestsPerHost, true);
+
+            semaphore = permits.putIfAbsent(host, created);
+
+            if (semaphore == null)
+            {
+                semaphore = created;
+            }
+        }
+
+        return semaphore;
+    }
+
+    /**
+     * A permit that is returned at most once.
+     */
+    private static final class Permit
+    {
+        private final Semaphore semaphore;
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        Permit(Semaphore semaphore)
+        {
+            this.semaphore = semaphore;
+        }
+
+        void release()
+        {
+            if (released.compareAndSet(false, true))
+            {
+                semaphore.release();
+            }
+        }
+    }
+
+    /**
+     * Returns the permit of a call when its response body is closed.
+     */
+    private static final class ReleasingSource
+        extends ForwardingSource
+    {
+        private final Permit permit;
+
+        ReleasingSource(Source source, Permit permit)
+        {
+            super(source);
+
+            this.permit = permit;
+        }
+
+        @Override
+        public void close() throws IOException
+        {
+            try
+            {
+                super.close();
+            }
+            finally
+            {
+                permit.release();
+            }
+        }
+    }
+}
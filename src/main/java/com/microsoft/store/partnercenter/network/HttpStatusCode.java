@@ -5,6 +5,12 @@ package com.microsoft.store.partnercenter.network;
 
 public class HttpStatusCode
 {
+	public static final int NOCONTENT = 204;
+
+	public static final int PARTIALCONTENT = 206;
+
+	public static final int NOTMODIFIED = 304;
+
 	public static final int BADREQUEST = 400;
 
 	public static final int UNAUTHORIZED = 401;
@@ -13,9 +19,40 @@ public class HttpStatusCode
 
 	public static final int NOTFOUND = 404;
 
+	public static final int REQUESTTIMEOUT = 408;
+
 	public static final int CONFLICT = 409;
 
+	public static final int RANGENOTSATISFIABLE = 416;
+
+	public static final int TOOMANYREQUESTS = 429;
+
 	public static final int SERVICEUNAVAILABLE = 503;
 
 	public static final int EXPECTATIONFAILED = 417;
+
+	/**
+	 * Gets the class of a status code, such as 2xx or 5xx.
+	 * 
+	 * @param statusCode The status code.
+	 * @return The class of the status code, or "none" when there was no response.
+	 */
+	public static String getStatusClass(int statusCode)
+	{
+		switch (statusCode / 100)
+		{
+			case 1:
+				return "1xx";
+			case 2:
+				return "2xx";
+			case 3:
+				return "3xx";
+			case 4:
+				return "4xx";
+			case 5:
+				return "5xx";
+			default:
+				return "none";
+		}
+	}
 }
\ No newline at end of file
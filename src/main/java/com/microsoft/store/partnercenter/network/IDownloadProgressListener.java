@@ -0,0 +1,20 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license. See the LICENSE file in the project root for full license information.
+
+package com.microsoft.store.partnercenter.network;
+
+/**
+ * Receives the progress of a file download. It is called on the downloading thread after every chunk written, so it
+ * must return quickly.
+ */
+public interface IDownloadProgressListener
+{
+    /**
+     * Reports the progress of a download.
+     * 
+     * @param bytesDownloaded The number of bytes of the file written so far, including the bytes of a resumed download
+     *        that were written before.
+     * @param totalBytes The size of the file, or -1 if the partner service did not report it.
+     */
+    void onProgress(long bytesDownloaded, long totalBytes);
+}
@@ -4,12 +4,16 @@
 package com.microsoft.store.partnercenter.network;
 
 import java.io.InputStream;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
 import java.util.Collection;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.IPartner;
 import com.microsoft.store.partnercenter.models.Link;
+import com.microsoft.store.partnercenter.models.ResourceBase;
 import com.microsoft.store.partnercenter.models.utils.KeyValuePair;
 
 public interface IPartnerServiceClient 
@@ -60,7 +64,46 @@ public interface IPartnerServiceClient
      * @return The response from the GET operation.
      */
     <T> T get(IPartner rootPartnerOperations, TypeReference<T> responseType, String relativeUri, Collection<KeyValuePair<String, String>> parameters);
+
+    /**
+     * Executes a GET operation against the partner service that only returns a new instance if the resource changed
+     * since a previous instance was retrieved, according to the ETag of that instance.
+     * 
+     * @param <T> The type of the response. 
+     * @param rootPartnerOperations An instance of the partner operations.
+     * @param responseType The type of object to be returned.
+     * @param relativeUri The relative address of the request. 
+     * @param parameters Parameters to be added to the request.
+     * @param previous The previous instance of the resource, or null to always retrieve the resource.
+     * @return The previous instance if the resource did not change; otherwise the response from the GET operation.
+     */
+    <T extends ResourceBase> T getIfChanged(IPartner rootPartnerOperations, TypeReference<T> responseType, String relativeUri, Collection<KeyValuePair<String, String>> parameters, T previous);
     
+    /**
+     * Executes a GET operation against the partner service and reads the items of the returned collection one at a
+     * time from the response stream. The returned reader must be closed if it is not read to the end.
+     * 
+     * @param <T> The type of the items in the collection.
+     * @param rootPartnerOperations An instance of the partner operations.
+     * @param itemType The type of the items in the collection.
+     * @param link A link object that represents the action for accessing the resource. 
+     * @return A reader over the items of the collection.
+     */
+    <T> ResourceCollectionReader<T> getItems(IPartner rootPartnerOperations, TypeReference<T> itemType, Link link);
+
+    /**
+     * Executes a GET operation against the partner service and reads the items of the returned collection one at a
+     * time from the response stream. The returned reader must be closed if it is not read to the end.
+     * 
+     * @param <T> The type of the items in the collection.
+     * @param rootPartnerOperations An instance of the partner operations.
+     * @param itemType The type of the items in the collection.
+     * @param relativeUri The relative address of the request. 
+     * @param parameters Parameters to be added to the request.
+     * @return A reader over the items of the collection.
+     */
+    <T> ResourceCollectionReader<T> getItems(IPartner rootPartnerOperations, TypeReference<T> itemType, String relativeUri, Collection<KeyValuePair<String, String>> parameters);
+
     /**
      * Executes a file content request against the partner service.
      * 
@@ -71,6 +114,43 @@ public interface IPartnerServiceClient
      */
     InputStream getFileContents(IPartner rootPartnerOperations, String relativeUri, String acceptType);
 
+    /**
+     * Downloads file contents into a channel without holding them in memory. A connection that fails during the
+     * transfer is resumed with a Range request.
+     * 
+     * @param rootPartnerOperations An instance of the partner operations.
+     * @param relativeUri The relative address of the request. 
+     * @param acceptType The value for the accept type header.
+     * @param target The channel that receives the file contents.
+     * @param offset The number of bytes of the file the channel already holds, which are not downloaded again.
+     * @param progress Receives the progress of the download, or null.
+     * @return The number of bytes written to the channel.
+     */
+    long downloadFileContents(IPartner rootPartnerOperations, String relativeUri, String acceptType, WritableByteChannel target, long offset, IDownloadProgressListener progress);
+
+    /**
+     * Downloads file contents into a file, through a partial file that replaces the file once it is complete. A
+     * partial file left by an interrupted download is resumed.
+     * 
+     * @param rootPartnerOperations An instance of the partner operations.
+     * @param relativeUri The relative address of the request. 
+     * @param acceptType The value for the accept type header.
+     * @param file The file that receives the contents.
+     * @param progress Receives the progress of the download, or null.
+     * @return The number of bytes downloaded, which excludes the bytes of a resumed partial file.
+     */
+    long downloadFileContents(IPartner rootPartnerOperations, String relativeUri, String acceptType, Path file, IDownloadProgressListener progress);
+
+    /**
+     * Gets the size of file contents with a HEAD request, without downloading them.
+     * 
+     * @param rootPartnerOperations An instance of the partner operations.
+     * @param relativeUri The relative address of the request. 
+     * @param acceptType The value for the accept type header.
+     * @return The size of the file contents in bytes, or -1 if the partner service does not state it.
+     */
+    long getFileLength(IPartner rootPartnerOperations, String relativeUri, String acceptType);
+
     /**
      * Executes a HEAD operation against the partner service. 
      * 
@@ -144,4 +224,115 @@ public interface IPartnerServiceClient
      * @param relativeUri The relative address fo the request.
      */
     <T> void delete(IPartner rootPartnerOperations, TypeReference<T> responseType, String relativeUri);
+
+    /**
+     * Executes an asynchronous GET operation against the partner service. 
+     * 
+     * @param <T> The type of the response. 
+     * @param rootPartnerOperations An instance of the partner operations.
+     * @param responseType The type of object to be returned.
+     * @param link A link object that represents the action for accessing the resource. 
+     * @return A future that completes with the response from the GET operation.
+     */
+    <T> CompletableFuture<T> getAsync(IPartner rootPartnerOperations, TypeReference<T> responseType, Link link);
+
+    /**
+     * Executes an asynchronous GET operation against the partner service. 
+     * 
+     * @param <T> The type of the response. 
+     * @param rootPartnerOperations An instance of the partner operations.
+     * @param responseType The type of object to be returned.
+     * @param relativeUri The relative address of the request. 
+     * @return A future that completes with the response from the GET operation.
+     */
+    <T> CompletableFuture<T> getAsync(IPartner rootPartnerOperations, TypeReference<T> responseType, String relativeUri);
+
+    /**
+     * Executes an asynchronous GET operation against the partner service. 
+     * 
+     * @param <T> The type of the response. 
+     * @param rootPartnerOperations An instance of the partner operations.
+     * @param responseType The type of object to be returned.
+     * @param relativeUri The relative address of the request. 
+     * @param headers Headers to be added to the request.
+     * @param parameters Parameters to be added to the request.
+     * @return A future that completes with the response from the GET operation. 
+     */
+    <T> CompletableFuture<T> getAsync(IPartner rootPartnerOperations, TypeReference<T> responseType, String relativeUri, Map<String, String> headers, Collection<KeyValuePair<String, String>> parameters);
+
+    /**
+     * Executes an asynchronous GET operation against the partner service. 
+     * 
+     * @param <T> The type of the response. 
+     * @param rootPartnerOperations An instance of the partner operations.
+     * @param responseType The type of object to be returned.
+     * @param relativeUri The relative address of the request. 
+     * @param parameters Parameters to be added to the request.
+     * @return A future that completes with the response from the GET operation.
+     */
+    <T> CompletableFuture<T> getAsync(IPartner rootPartnerOperations, TypeReference<T> responseType, String relativeUri, Collection<KeyValuePair<String, String>> parameters);
+
+    /**
+     * Executes an asynchronous PATCH operation against the partner service.
+     * 
+     * @param <T> The type of the request.
+     * @param <U> The type of the response.
+     * @param rootPartnerOperations An instance of the partner operations.
+     * @param responseType The type of object to be returned.
+     * @param relativeUri The relative address of the request. 
+     * @param content The content for the body of the request.
+     * @return A future that completes with the response from the PATCH operation.
+     */
+    <T, U> CompletableFuture<U> patchAsync(IPartner rootPartnerOperations, TypeReference<U> responseType, String relativeUri, T content);
+
+    /**
+     * Executes an asynchronous POST operation against the partner service. 
+     * 
+     * @param <T> The type of the request.
+     * @param <U> The type of the response.
+     * @param rootPartnerOperations An instance of the partner operations. 
+     * @param responseType The type of object to be returned.
+     * @param relativeUri The relative address fo the request.
+     * @param content The content for the body of the request.
+     * @return A future that completes with the response from the POST operation.
+     */
+    <T, U> CompletableFuture<U> postAsync(IPartner rootPartnerOperations, TypeReference<U> responseType, String relativeUri, T content);
+
+    /**
+     * Executes an asynchronous POST operation against the partner service. 
+     * 
+     * @param <T> The type of the request.
+     * @param <U> The type of the response.
+     * @param rootPartnerOperations An instance of the partner operations. 
+     * @param responseType The type of object to be returned.
+     * @param relativeUri The relative address fo the request.
+     * @param content The content for the body of the request.
+     * @param parameters Parameters to be added to the request.
+     * @return A future that completes with the response from the POST operation.
+     */
+    <T, U> CompletableFuture<U> postAsync(IPartner rootPartnerOperations, TypeReference<U> responseType, String relativeUri, T content, Collection<KeyValuePair<String, String>> parameters);
+
+    /**
+     * Executes an asynchronous PUT operation against the partner service. 
+     * 
+     * @param <T> The type of the request.
+     * @param <U> The type of the response.
+     * @param rootPartnerOperations An instance of the partner operations. 
+     * @param responseType The type of object to be returned.
+     * @param relativeUri The relative address fo the request.
+     * @param content The content for the body of the request.
+     * @return A future that completes with the response from the PUT operation.    
+     */
+    <T, U> CompletableFuture<U> putAsync(IPartner rootPartnerOperations, TypeReference<U> responseType, String relativeUri, T content);
+
+    /**
+     * Executes an asynchronous DELETE operation against the partner service. 
+     * 
+     * @param <T> The type of the response. 
+     * @param rootPartnerOperations An instance of the partner operations. 
+     * @param responseType The type of object to be returned.
+     * @param relativeUri The relative address fo the request.
+     * @return A future that completes when the DELETE operation has finished.
+     */
+    <T> CompletableFuture<Void> deleteAsync(IPartner rootPartnerOperations, TypeReference<T> responseType, String relativeUri);
 }
\ No newline at end of file
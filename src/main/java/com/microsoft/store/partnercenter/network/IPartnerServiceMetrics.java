@@ -0,0 +1,153 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license. See the LICENSE file in the project root for full license information.
+
+package com.microsoft.store.partnercenter.network;
+
+import com.microsoft.store.partnercenter.exception.PartnerErrorCategory;
+
+/**
+ * Receives the measurements of partner service calls, so they can be forwarded to a metrics library. Routes are the
+ * API names declared in the partner service configuration, such as GetCustomer, or "unknown" for addresses that do not
+ * match a configured API. Implementations are called on the threads that send requests and must be thread-safe and
+ * fast; {@link NoOpPartnerServiceMetrics} is used unless another implementation is set with
+ * {@link PartnerServiceTransport#setMetrics(IPartnerServiceMetrics)}. Every measurement is ignored by default, so
+ * implementations only override the ones they forward, and keep compiling when measurements are added.
+ */
+public interface IPartnerServiceMetrics
+{
+    /**
+     * Gets whether measurements are recorded. When false, calls are not measured at all.
+     * 
+     * @return true if measurements are recorded; otherwise false.
+     */
+    boolean isEnabled();
+
+    /**
+     * Records a completed call, including all of its retries.
+     * 
+     * @param route The API route name.
+     * @param method The HTTP method.
+     * @param statusCode The status code of the last response, or 0 if no response was received.
+     * @param errorCategory The category of the failure, or null if the call succeeded.
+     * @param latencyInNanoseconds The time from sending the first attempt to processing the last response.
+     * @param bytesSent The size of the request body, or -1 if unknown.
+     * @param bytesReceived The size of the last response body, or -1 if unknown.
+     */
+    default void recordRequest(String route, String method, int statusCode, PartnerErrorCategory errorCategory, 
+        long latencyInNanoseconds, long bytesSent, long bytesReceived)
+    {
+    }
+
+    /**
+     * Records that a call is retried.
+     * 
+     * @param route The API route name.
+     * @param method The HTTP method.
+     * @param statusCode The status code of the response that is retried.
+     */
+    default void recordRetry(String route, String method, int statusCode)
+    {
+    }
+
+    /**
+     * Records that the partner service throttled a request with a 429 response.
+     * 
+     * @param route The API route name.
+     * @param method The HTTP method.
+     */
+    default void recordThrottle(String route, String method)
+    {
+    }
+
+    /**
+     * Records the time taken to deserialize a response.
+     * 
+     * @param route The API route name.
+     * @param durationInNanoseconds The time taken to deserialize the response.
+     */
+    default void recordDeserialization(String route, long durationInNanoseconds)
+    {
+    }
+
+    /**
+     * Records the compression of a request or response body. The compression ratio is the uncompressed size divided by
+     * the compressed size, and the bytes saved are their difference.
+     * 
+     * @param route The API route name.
+     * @param requestBody true if the request body was compressed; false if the response body was decompressed.
+     * @param uncompressedBytes The size of the body before compression.
+     * @param compressedBytes The size of the body after compression, as sent or received.
+     */
+    default void recordCompression(String route, boolean requestBody, long uncompressedBytes, long compressedBytes)
+    {
+    }
+
+    /**
+     * Records that the circuit breaker of a route changed state.
+     * 
+     * @param route The API route name.
+     * @param state The new state of the circuit.
+     */
+    default void recordCircuitState(String route, CircuitState state)
+    {
+    }
+
+    /**
+     * Records that a GET request shared the identical request in progress instead of being sent.
+     * 
+     * @param route The API route name.
+     */
+    default void recordCoalesced(String route)
+    {
+    }
+
+    /**
+     * Records the lookup of a GET request in the response cache.
+     * 
+     * @param route The API route name.
+     * @param hit true if the response was found in the cache; false if the request was sent.
+     */
+    default void recordCacheLookup(String route, boolean hit)
+    {
+    }
+
+    /**
+     * Records the time taken to refresh a credentials token.
+     * 
+     * @param durationInNanoseconds The time taken to refresh the token.
+     * @param succeeded true if the token was refreshed; false if the refresh failed.
+     */
+    default void recordTokenRefresh(long durationInNanoseconds, boolean succeeded)
+    {
+    }
+
+    /**
+     * Records the rate of a rate limit after it changed. Rates are kept per bucket key, for example api/GetCustomer or
+     * customer/{id}, and suit a gauge.
+     * 
+     * @param key The key of the rate limit.
+     * @param requestsPerSecond The new rate, in requests per second.
+     */
+    default void recordRateLimit(String key, double requestsPerSecond)
+    {
+    }
+
+    /**
+     * Records that a throttled response lowered the rate of a rate limit, or would have below its minimum.
+     * 
+     * @param key The key of the rate limit.
+     */
+    default void recordRateLimitThrottle(String key)
+    {
+    }
+
+    /**
+     * Records that a request waits for a permit of a rate limit before it is sent.
+     * 
+     * @param key The key of the rate limit.
+     * @param waitInNanoseconds The time the request waits for the permit.
+     */
+    default void recordRateLimitWait(String key, long waitInNanoseconds)
+    {
+    }
+}
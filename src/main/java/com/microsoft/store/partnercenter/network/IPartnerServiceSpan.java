@@ -0,0 +1,36 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license. See the LICENSE file in the project root for full license information.
+
+package com.microsoft.store.partnercenter.network;
+
+import com.microsoft.store.partnercenter.exception.PartnerErrorCategory;
+
+/**
+ * The span of one partner service call, opened by {@link IPartnerServiceTracer#startSpan}.
+ */
+public interface IPartnerServiceSpan
+{
+    /**
+     * Gets the W3C traceparent header value that identifies this span, which {@link TraceParent#format} can build.
+     * 
+     * @return The traceparent header value, or null to send none.
+     */
+    String getTraceParent();
+
+    /**
+     * Records that the call is retried.
+     * 
+     * @param statusCode The status code of the response that is retried.
+     */
+    void recordRetry(int statusCode);
+
+    /**
+     * Closes the span once the call completed.
+     * 
+     * @param statusCode The status code of the last response, or 0 if no response was received.
+     * @param retryCount The number of times the call was retried.
+     * @param errorCategory The category of the failure, or null if the call succeeded.
+     * @param failure The failure of the call, or null if it succeeded.
+     */
+    void end(int statusCode, int retryCount, PartnerErrorCategory errorCategory, Throwable failure);
+}
@@ -0,0 +1,34 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license. See the LICENSE file in the project root for full license information.
+
+package com.microsoft.store.partnercenter.network;
+
+import com.microsoft.store.partnercenter.requestcontext.IRequestContext;
+
+/**
+ * Opens a span for each partner service call, so the calls show up in the traces of a tracing library. The span
+ * covers all attempts of the call and its trace context is sent with every attempt in the W3C traceparent header.
+ * Implementations are called on the threads that send requests and must be thread-safe;
+ * {@link NoOpPartnerServiceTracer} is used unless another implementation is set with
+ * {@link PartnerServiceTransport#setTracer(IPartnerServiceTracer)}.
+ */
+public interface IPartnerServiceTracer
+{
+    /**
+     * Gets whether spans are opened. When false, calls are not traced at all.
+     * 
+     * @return true if spans are opened; otherwise false.
+     */
+    boolean isEnabled();
+
+    /**
+     * Opens the span of a call. The span should be a child of the span that is current on the calling thread.
+     * 
+     * @param route The API route name, such as GetCustomer, or "unknown" for addresses that do not match a
+     *        configured API.
+     * @param method The HTTP method.
+     * @param requestContext The request context, which holds the correlation and request identifiers.
+     * @return The span of the call, or null to leave the call untraced.
+     */
+    IPartnerServiceSpan startSpan(String route, String method, IRequestContext requestContext);
+}
@@ -0,0 +1,66 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license. See the LICENSE file in the project root for full license information.
+
+package com.microsoft.store.partnercenter.network;
+
+/**
+ * Keeps the responses of API routes that declare a cache duration in the partner service configuration, such as
+ * offers, products and rate cards, so they are not fetched again until they expire. The cache holds response bodies
+ * rather than deserialized objects, so every caller receives its own copy.
+ *
+ * <p>Entries are keyed by the tenant of the access token, the locale and the address of the request, so partners that
+ * share the cache never receive each other's responses. Requests whose access token does not name a tenant are not
+ * cached. Implementations must be thread safe.</p>
+ */
+public interface IResponseCache
+{
+    /**
+     * Gets a response. A response that expired is still returned when it has a validator, so it can be revalidated
+     * with a conditional request; otherwise it is removed.
+     *
+     * @param key The key of the response.
+     * @return The response, or null if there is no response or it expired without a validator.
+     */
+    CachedResponse get(String key);
+
+    /**
+     * Adds or replaces a response.
+     *
+     * @param key The key of the response.
+     * @param response The response.
+     */
+    void put(String key, CachedResponse response);
+
+    /**
+     * Removes a response.
+     *
+     * @param key The key of the response.
+     */
+    void remove(String key);
+
+    /**
+     * Removes every response of an API route.
+     *
+     * @param route The API route name, as declared in the configuration.
+     */
+    void removeRoute(String route);
+
+    /**
+     * Removes every response.
+     */
+    void clear();
+
+    /**
+     * Gets the number of responses kept.
+     *
+     * @return The number of responses kept.
+     */
+    int getCount();
+
+    /**
+     * Gets the total size of the responses kept.
+     *
+     * @return The total size in bytes of the responses kept.
+     */
+    long getSize();
+}
@@ -0,0 +1,148 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license. See the LICENSE file in the project root for full license information.
+
+package com.microsoft.store.partnercenter.network;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Keeps responses in the heap, bounded by their total size. When a new response does not fit, the least recently used
+ * responses are evicted until it does, and expired responses without a validator are removed when they are looked up.
+ */
+public class MemoryResponseCache
+    implements IResponseCache
+{
+    /**
+     * The responses, from the least to the most recently used.
+     */
+    private final LinkedHashMap<String, CachedResponse> responses = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * The maximum total size of the responses.
+     */
+    private final long maxSizeInBytes;
+
+    /**
+     * The total size of the responses.
+     */
+    private long size;
+
+    /**
+     * Initializes a new instance of the {@link MemoryResponseCache} class.
+     *
+     * @param maxSizeInBytes The maximum total size of the responses, counting their bodies and keys.
+     */
+    public MemoryResponseCache(long maxSizeInBytes)
+    {
+        if (maxSizeInBytes <= 0)
+        {
+            throw new IllegalArgumentException("maxSizeInBytes must be positive");
+        }
+
+        this.maxSizeInBytes = maxSizeInBytes;
+    }
+
+    /**
+     * Gets the maximum total size of the responses.
+     *
+     * @return The maximum total size in bytes of the responses.
+     */
+    public long getMaxSize()
+    {
+        return maxSizeInBytes;
+    }
+
+    @Override
+    public synchronized CachedResponse get(String key)
+    {
+        CachedResponse response = responses.get(key);
+
+        if (response != null && !response.hasValidator() && response.isExpired(System.currentTimeMillis()))
+        {
+            remove(key);
+            return null;
+        }
+
+        return response;
+    }
+
+    @Override
+    public synchronized void put(String key, CachedResponse response)
+    {
+        remove(key);
+
+        long entrySize = getSize(key, response);
+
+        if (entrySize > maxSizeInBytes)
+        {
+            return;
+        }
+
+        Iterator<Map.Entry<String, CachedResponse>> eldest = responses.entrySet().iterator();
+
+        while (size + entrySize > maxSizeInBytes && eldest.hasNext())
+        {
+            Map.Entry<String, CachedResponse> entry = eldest.next();
+
+            size -= getSize(entry.getKey(), entry.getValue());
+            eldest.remove();
+        }
+
+        responses.put(key, response);
+        size += entrySize;
+    }
+
+    @Override
+    public synchronized void remove(String key)
+    {
+        CachedResponse response = responses.remove(key);
+
+        if (response != null)
+        {
+            size -= getSize(key, response);
+        }
+    }
+
+    @Override
+    public synchronized void removeRoute(String route)
+    {
+        Iterator<Map.Entry<String, CachedResponse>> entries = responses.entrySet().iterator();
+
+        while (entries.hasNext())
+        {
+            Map.Entry<String, CachedResponse> entry = entries.next();
+
+            if (entry.getValue().getRoute().equals(route))
+            {
+                size -= getSize(entry.getKey(), entry.getValue());
+                entries.remove();
+            }
+        }
+    }
+
+    @Override
+    public synchronized void clear()
+    {
+        responses.clear();
+        size = 0;
+    }
+
+    @Override
+    public synchronized int getCount()
+    {
+        return responses.size();
+    }
+
+    @Override
+    public synchronized long getSize()
+    {
+        return size;
+    }
+
+    private static long getSize(String key, CachedResponse response)
+    {
+        return response.getBody().length + 2L * key.length();
+    }
+}
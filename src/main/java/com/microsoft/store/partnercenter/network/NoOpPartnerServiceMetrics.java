@@ -0,0 +1,36 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license. See the LICENSE file in the project root for full license information.
+
+package com.microsoft.store.partnercenter.network;
+
+/**
+ * Metrics that record nothing. Calls are not measured while this is in use.
+ */
+public final class NoOpPartnerServiceMetrics
+    implements IPartnerServiceMetrics
+{
+    /**
+     * A singleton instance of the no-op metrics.
+     */
+    private static final NoOpPartnerServiceMetrics instance = new NoOpPartnerServiceMetrics();
+
+    private NoOpPartnerServiceMetrics()
+    {
+    }
+
+    /**
+     * Gets an instance of the no-op metrics.
+     * 
+     * @return An instance of the no-op metrics.
+     */
+    public static NoOpPartnerServiceMetrics getInstance()
+    {
+        return instance;
+    }
+
+    @Override
+    public boolean isEnabled()
+    {
+        return false;
+    }
+}
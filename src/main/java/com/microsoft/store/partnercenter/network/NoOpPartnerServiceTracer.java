@@ -0,0 +1,44 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license. See the LICENSE file in the project root for full license information.
+
+package com.microsoft.store.partnercenter.network;
+
+import com.microsoft.store.partnercenter.requestcontext.IRequestContext;
+
+/**
+ * A tracer that opens no spans. Calls are not traced while this is in use.
+ */
+public final class NoOpPartnerServiceTracer
+    implements IPartnerServiceTracer
+{
+    /**
+     * A singleton instance of the no-op tracer.
+     */
+    private static final NoOpPartnerServiceTracer instance = new NoOpPartnerServiceTracer();
+
+    private NoOpPartnerServiceTracer()
+    {
+    }
+
+    /**
+     * Gets an instance of the no-op tracer.
+     * 
+     * @return An instance of the no-op tracer.
+     */
+    public static NoOpPartnerServiceTracer getInstance()
+    {
+        return instance;
+    }
+
+    @Override
+    public boolean isEnabled()
+    {
+        return false;
+    }
+
+    @Override
+    public IPartnerServiceSpan startSpan(String route, String method, IRequestContext requestContext)
+    {
+        return null;
+    }
+}
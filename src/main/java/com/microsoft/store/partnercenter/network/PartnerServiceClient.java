@@ -3,30 +3,61 @@
 
 package com.microsoft.store.partnercenter.network;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Type;
 import java.net.URI;
 import java.net.SocketTimeoutException;
-import java.text.MessageFormat;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.text.SimpleDateFormat;
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.datatype.joda.JodaModule;
 import com.microsoft.rest.RestClient;
 import com.microsoft.rest.ServiceClient;
 import com.microsoft.rest.ServiceResponseBuilder;
+import com.microsoft.rest.retry.RetryHandler;
 import com.microsoft.rest.serializer.JacksonAdapter;
 import com.microsoft.store.partnercenter.IPartner;
+import com.microsoft.store.partnercenter.IPartnerCredentials;
+import com.microsoft.store.partnercenter.IPartnerCredentialsResolver;
 import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.errorhandling.DefaultPartnerServiceErrorHandler;
 import com.microsoft.store.partnercenter.errorhandling.IFailedPartnerServiceResponseHandler;
@@ -35,6 +66,7 @@ import com.microsoft.store.partnercenter.exception.PartnerException;
 import com.microsoft.store.partnercenter.exception.PartnerResponseParseException;
 import com.microsoft.store.partnercenter.logging.PartnerLog;
 import com.microsoft.store.partnercenter.models.Link;
+import com.microsoft.store.partnercenter.models.ResourceBase;
 import com.microsoft.store.partnercenter.models.entitlements.Artifact;
 import com.microsoft.store.partnercenter.models.invoices.InvoiceLineItem;
 import com.microsoft.store.partnercenter.models.utils.KeyValuePair;
@@ -45,8 +77,12 @@ import com.microsoft.store.partnercenter.utils.InvoiceLineItemDeserializer;
 import com.microsoft.store.partnercenter.utils.StringHelper;
 import com.microsoft.store.partnercenter.utils.UriDeserializer;
 
+import okhttp3.Call;
+import okhttp3.Callback;
 import okhttp3.Headers;
+import okhttp3.Interceptor;
 import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.RequestBody;
 import okhttp3.Response;
@@ -80,6 +116,11 @@ public class PartnerServiceClient
 	 */
 	static final String CLIENT_HEADER = "MS-PartnerCenter-Client";
 
+	/**
+	 * The name of the Content-Length header.
+	 */
+	static final String CONTENT_LENGTH_HEADER = "Content-Length";
+
 	/**
 	 * The name of the MS-Contract-Version header.
 	 */
@@ -90,6 +131,26 @@ public class PartnerServiceClient
 	 */
 	static final String CORRELATION_ID_HEADER = "MS-CorrelationId";
 
+	/**
+	 * The name of the ETag header.
+	 */
+	static final String ETAG_HEADER = "ETag";
+
+	/**
+	 * The name of the If-Modified-Since header.
+	 */
+	static final String IF_MODIFIED_SINCE_HEADER = "If-Modified-Since";
+
+	/**
+	 * The name of the If-None-Match header.
+	 */
+	static final String IF_NONE_MATCH_HEADER = "If-None-Match";
+
+	/**
+	 * The name of the Last-Modified header.
+	 */
+	static final String LAST_MODIFIED_HEADER = "Last-Modified";
+
 	/**
 	 * The name of the X-Locale header.
 	 */
@@ -115,15 +176,115 @@ public class PartnerServiceClient
 	 */
 	static final String SDK_VERSION_HEADER = "MS-SdkVersion";
 
+	/**
+	 * The request identifier that asks for a new identifier on each request.
+	 */
+	private static final UUID EMPTY_REQUEST_ID = new UUID(0, 0);
+
+	/**
+	 * The headers shared by every request, built from the partner service settings.
+	 */
+	private static volatile SharedRequestHeaders sharedRequestHeaders;
+
+	/**
+	 * The last token used and its authorization header value.
+	 */
+	private volatile String[] authorizationHeader;
+
 	/**
 	 * Provides the ability to handle failed responses.
 	 */
 	private IFailedPartnerServiceResponseHandler errorHandler;
 
 	/**
-	 * Provides the ability to serialize and deserialize objects.
+	 * Provides the ability to serialize and deserialize objects. The converter is built once and shared, since it is
+	 * thread-safe once configured.
+	 */
+	private static final ObjectMapper JSON_CONVERTER = createJsonConverter();
+
+	/**
+	 * Schedules the delayed attempts of asynchronous requests, so no thread waits while a retry or a rate limit is
+	 * pending.
+	 */
+	private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(
+		new ThreadFactory()
+		{
+			@Override
+			public Thread newThread(Runnable runnable)
+			{
+				Thread thread = new Thread(runnable, "partner-center-scheduler");
+				thread.setDaemon(true);
+
+				return thread;
+			}
+		});
+
+	/**
+	 * The policy that decides whether to retry failed asynchronous requests and how long to wait.
+	 */
+	private final RetryPolicy retryPolicy;
+
+	/**
+	 * The HTTP client used for asynchronous requests. It shares the connection pool and dispatcher of the REST client
+	 * but not its blocking retry handler, since asynchronous retries are scheduled instead.
+	 */
+	private volatile OkHttpClient asyncHttpClient;
+
+	/**
+	 * The rate limiter that paces requests, or null if requests are not paced.
+	 */
+	private volatile AdaptiveRateLimiter rateLimiter;
+
+	/**
+	 * Receives the measurements of the calls made by this client.
+	 */
+	private volatile IPartnerServiceMetrics metrics = NoOpPartnerServiceMetrics.getInstance();
+
+	/**
+	 * Opens the spans of the calls made by this client.
+	 */
+	private volatile IPartnerServiceTracer tracer = NoOpPartnerServiceTracer.getInstance();
+
+	/**
+	 * A value indicating whether the trace identifier of a traced call is sent as its correlation identifier.
+	 */
+	private volatile boolean traceIdAsCorrelationId;
+
+	/**
+	 * Compresses the request and response bodies, or null to leave the compression to the HTTP client.
+	 */
+	private volatile CompressionInterceptor compression;
+
+	/**
+	 * The circuit breakers and bulkheads of the API routes, or null if requests are always sent.
+	 */
+	private volatile CircuitBreaker circuitBreaker;
+
+	/**
+	 * Shares one call between concurrent identical GET requests, or null if every request is sent.
+	 */
+	private volatile RequestCoalescer requestCoalescer;
+
+	/**
+	 * The cache of the responses of cached API routes, or null if responses are not cached.
+	 */
+	private volatile IResponseCache responseCache;
+
+	/**
+	 * The HTTP client used for blocking requests when interceptors for the rate limiter, the metrics, the tracer or
+	 * the compression see every attempt.
 	 */
-	private ObjectMapper jsonConverter;
+	private volatile OkHttpClient blockingHttpClient;
+
+	/**
+	 * The readers used to deserialize responses, keyed by the response type.
+	 */
+	private static final ConcurrentMap<Type, ObjectReader> READERS = new ConcurrentHashMap<>();
+
+	/**
+	 * The writers used to serialize request content, keyed by the content class.
+	 */
+	private static final ConcurrentMap<Class<?>, ObjectWriter> WRITERS = new ConcurrentHashMap<>();
 
 	/**
 	 * Initializes a new instance of the PartnerServiceClient class.
@@ -131,18 +292,28 @@ public class PartnerServiceClient
 	 * @param baseUrl The base service endpoint address.
 	 */
 	public PartnerServiceClient(String baseUrl)
+	{
+		this(baseUrl, RetryPolicy.fromConfiguration(PartnerService.getInstance().getConfiguration()));
+	}
+
+	/**
+	 * Initializes a new instance of the PartnerServiceClient class.
+	 *
+	 * @param baseUrl The base service endpoint address.
+	 * @param retryPolicy The policy that decides whether to retry failed requests and how long to wait.
+	 */
+	private PartnerServiceClient(String baseUrl, RetryPolicy retryPolicy)
 	{
 		super(
 			new RestClient.Builder()
 				.withBaseUrl(baseUrl)
-				.withRetryStrategy(
-					new PartnerServiceRetryStrategy(
-						PartnerService.getInstance().getConfiguration().getDefaultMaxRetryAttempts()))
+				.withRetryStrategy(new PartnerServiceRetryStrategy(retryPolicy))
 				.withSerializerAdapter(new JacksonAdapter())
 				.withResponseBuilderFactory(new ServiceResponseBuilder.Factory())
 				.build());
 
 		errorHandler = new DefaultPartnerServiceErrorHandler();
+		this.retryPolicy = retryPolicy;
 	}
 
 	/**
@@ -152,465 +323,2083 @@ public class PartnerServiceClient
 	 */
 	public PartnerServiceClient(RestClient restClient)
 	{
-		super(restClient);
-
-		errorHandler = new DefaultPartnerServiceErrorHandler();
+		this(restClient, RetryPolicy.fromConfiguration(PartnerService.getInstance().getConfiguration()));
 	}
-	
+
 	/**
-	 * Executes a GET operation against the partner service. 
-	 * 
-     * @param <T> The type of the response. 
-	 * @param rootPartnerOperations An instance of the partner operations.
-	 * @param responseType The type of object to be returned.
-	 * @param link A link object that represents the action for accessing the resource. 
-     * @return The response from the GET operation.
+	 * Initializes a new instance of the ServiceClient class.
+	 *
+	 * @param restClient The client for performing REST operations.
+	 * @param retryPolicy The policy used to retry asynchronous requests. It should be the policy of the retry strategy
+	 *            of the REST client, so both kinds of requests share the same retry budget.
 	 */
-	public <T> T get(IPartner rootPartnerOperations, TypeReference<T> responseType, Link link)
+	public PartnerServiceClient(RestClient restClient, RetryPolicy retryPolicy)
 	{
-		Map<String, String> requestHeaders;
-		Request request;
-
-		requestHeaders = getRequestHeaders(rootPartnerOperations, ACCEPT_HEADER_VALUE);
+		super(restClient);
 
-		if(link.getHeaders() != null)
+		if (retryPolicy == null)
 		{
-			for (KeyValuePair<String, String> header : link.getHeaders())
-			{
-				requestHeaders.put(header.getKey(), header.getValue());
-			}
+			throw new IllegalArgumentException("retryPolicy null");
 		}
 
-		request = new Request.Builder().headers(Headers.of(requestHeaders)).url(buildUrl(link.getUri().toString(), null, true)).get().build();
-		return handleResponse(rootPartnerOperations, request, responseType);
+		errorHandler = new DefaultPartnerServiceErrorHandler();
+		this.retryPolicy = retryPolicy;
 	}
 
 	/**
-	 * Executes a GET operation against the partner service. 
+	 * Gets the rate limiter that paces requests.
 	 * 
-     * @param <T> The type of the response.  
-	 * @param rootPartnerOperations An instance of the partner operations.
-	 * @param responseType The type of object to be returned.
-	 * @param relativeUri The relative address of the request. 
-     * @return The response from the GET operation.
+	 * @return The rate limiter that paces requests, or null if requests are not paced.
 	 */
-	public <T> T get(IPartner rootPartnerOperations, TypeReference<T> responseType, String relativeUri)
+	public AdaptiveRateLimiter getRateLimiter()
 	{
-		return get(rootPartnerOperations, responseType, relativeUri, null);
+		return rateLimiter;
 	}
 
 	/**
-	 * Executes a GET operation against the partner service. 
+	 * Sets the rate limiter that paces requests. The rate limiter should be shared by the clients that send requests
+	 * for the same partner, so their requests draw from the same limits.
 	 * 
-     * @param <T> The type of the response. 	 
-	 * @param rootPartnerOperations An instance of the partner operations.
-	 * @param responseType The type of object to be returned.
-	 * @param relativeUri The relative address of the request. 
-	 * @param headers Headers to be added to the request.
-	 * @param parameters Parameters to be added to the request.
-     * @return The response from the GET operation.
+	 * @param value The rate limiter, or null to stop pacing requests.
 	 */
-	public <T> T get(IPartner rootPartnerOperations, TypeReference<T> responseType, String relativeUri, Map<String, String> headers, Collection<KeyValuePair<String, String>> parameters)
+	public synchronized void setRateLimiter(AdaptiveRateLimiter value)
 	{
-		Map<String, String> requestHeaders;
-		Request request;
-
-		requestHeaders = getRequestHeaders(rootPartnerOperations, ACCEPT_HEADER_VALUE);
-
-		if(headers != null)
-		{
-			requestHeaders.putAll(headers);
-		}
-
-		request = new Request.Builder().headers(Headers.of(requestHeaders)).url(buildUrl(relativeUri, parameters, false)).get().build();
-		return handleResponse(rootPartnerOperations, request, responseType);
+		rateLimiter = value;
+		blockingHttpClient = null;
+		asyncHttpClient = null;
 	}
 
 	/**
-	 * Executes a file content request against the partner service.
+	 * Gets the metrics that receive the measurements of the calls made by this client.
 	 * 
-	 * @param rootPartnerOperations An instance of the partner operations.
-	 * @param relativeUri The relative address of the request. 
-	 * @param acceptType The value for the accept type header.
-     * @return The response from the file content request.
+	 * @return The metrics that receive the measurements of the calls made by this client.
 	 */
-	public InputStream getFileContents(IPartner rootPartnerOperations, String relativeUri, String acceptType)
+	public IPartnerServiceMetrics getMetrics()
 	{
-		InputStream responseStream; 
-		Request request; 
-		Response response; 
-
-		try
-		{
-			request = new Request.Builder().headers(Headers.of(getRequestHeaders(rootPartnerOperations, acceptType))).url(buildUrl(relativeUri, null, false)).get().build();
-			response = httpClient().newCall(request).execute();
-
-			responseStream = response.body().byteStream();
-
-			return responseStream;
-		} 
-		catch (IOException ex) 
-		{
-			PartnerLog.getInstance().logError(ex.getLocalizedMessage());
-		}
-	   
-		return null;
+		return metrics;
 	}
 
 	/**
-	 * Executes a GET operation against the partner service. 
+	 * Sets the metrics that receive the measurements of the calls made by this client.
 	 * 
-     * @param <T> The type of the response. 	 
-	 * @param rootPartnerOperations An instance of the partner operations.
-	 * @param responseType The type of object to be returned.
-	 * @param relativeUri The relative address of the request. 
-	 * @param parameters Parameters to be added to the request.
-     * @return The response from the GET operation.
+	 * @param value The metrics, or null to stop measuring calls.
 	 */
-	public <T> T get(IPartner rootPartnerOperations, TypeReference<T> responseType, String relativeUri, Collection<KeyValuePair<String, String>> parameters)
+	public synchronized void setMetrics(IPartnerServiceMetrics value)
 	{
-		return get(rootPartnerOperations, responseType, relativeUri, null, parameters);
+		metrics = value == null ? NoOpPartnerServiceMetrics.getInstance() : value;
+		blockingHttpClient = null;
+		asyncHttpClient = null;
 	}
 
 	/**
-	 * Executes a HEAD operation against the partner service. 
+	 * Gets the tracer that opens the spans of the calls made by this client.
 	 * 
-     * @param <T> The type of the response. 	 
-	 * @param rootPartnerOperations An instance of the partner operations.
-	 * @param responseType The type of object to be returned.
-	 * @param relativeUri The relative address of the request. 
-     * @return The response from the HEAD operation.
+	 * @return The tracer that opens the spans of the calls made by this client.
 	 */
-	public <T> T head(IPartner rootPartnerOperations, TypeReference<T> responseType, String relativeUri)
+	public IPartnerServiceTracer getTracer()
 	{
-		Headers headers = Headers.of(getRequestHeaders(rootPartnerOperations, ACCEPT_HEADER_VALUE));
-		Request request = new Request.Builder().headers(headers).url(buildUrl(relativeUri, null, false)).head().build();
-
-		return handleResponse(rootPartnerOperations, request, responseType);
+		return tracer;
 	}
 
 	/**
-	 * Executes a PATCH operation against the partner service.
+	 * Sets the tracer that opens the spans of the calls made by this client.
 	 * 
-	 * @param <T> The type of the request.
-     * @param <U> The type of the response.
-	 * @param rootPartnerOperations An instance of the partner operations.
-	 * @param responseType The type of object to be returned.
-	 * @param relativeUri The relative address of the request. 
-	 * @param content The content for the body of the request.
-     * @return The response from the PATCH operation.
+	 * @param value The tracer, or null to stop tracing calls.
 	 */
-	public <T, U> U patch(IPartner rootPartnerOperations, TypeReference<U> responseType, String relativeUri, T content)
+	public synchronized void setTracer(IPartnerServiceTracer value)
 	{
-		Headers headers = Headers.of(getRequestHeaders(rootPartnerOperations, ACCEPT_HEADER_VALUE));
-		Request request;
-
-		try
-		{
-			request = new Request.Builder()
-				.headers(headers)
-				.url(buildUrl(relativeUri, null, false))
-				.patch(RequestBody.create(JSON_MEDIA_TYPE, getJsonConverter().writeValueAsString(content)))
-				.build();
-
-			return handleResponse(rootPartnerOperations, request, responseType);
-		}
-		catch (JsonProcessingException e)
-		{
-			throw new PartnerException("", rootPartnerOperations.getRequestContext(), PartnerErrorCategory.REQUEST_PARSING);
-		}	
+		tracer = value == null ? NoOpPartnerServiceTracer.getInstance() : value;
+		blockingHttpClient = null;
+		asyncHttpClient = null;
 	}
 
 	/**
-	 * Executes a POST operation against the partner service. 
+	 * Gets a value indicating whether the trace identifier of a traced call is sent as its correlation identifier.
 	 * 
-     * @param <T> The type of the request.
-     * @param <U> The type of the response.
-	 * @param rootPartnerOperations An instance of the partner operations. 
-	 * @param responseType The type of object to be returned.
-	 * @param relativeUri The relative address fo the request.
-	 * @param content The content for the body of the request.
-     * @return The response from the POST operation.
+	 * @return true if the trace identifier is sent as the correlation identifier; otherwise false.
 	 */
-	public <T, U> U post(IPartner rootPartnerOperations, TypeReference<U> responseType, String relativeUri, T content)
+	public boolean isTraceIdAsCorrelationId()
 	{
-		return post(rootPartnerOperations, responseType, relativeUri, content, null);
+		return traceIdAsCorrelationId;
 	}
 
 	/**
-	 * Executes a POST operation against the partner service. 
+	 * Sets a value indicating whether the trace identifier of a traced call is sent as its correlation identifier, so
+	 * the partner service logs can be searched by trace. The correlation identifier of the request context is sent
+	 * for calls that are not traced.
 	 * 
-	 * @param <T> The type of the request.
-     * @param <U> The type of the response.
-	 * @param rootPartnerOperations An instance of the partner operations. 
-	 * @param responseType The type of object to be returned.
-	 * @param relativeUri The relative address fo the request.
-	 * @param content The content for the body of the request.
-	 * @param parameters Parameters to be added to the request.
-     * @return The response from the POST operation.
+	 * @param value true to send the trace identifier as the correlation identifier; otherwise false.
 	 */
-	public <T, U> U post(IPartner rootPartnerOperations, TypeReference<U> responseType, String relativeUri, T content, Collection<KeyValuePair<String, String>> parameters)
+	public void setTraceIdAsCorrelationId(boolean value)
 	{
-		Headers headers = Headers.of(getRequestHeaders(rootPartnerOperations, ACCEPT_HEADER_VALUE));
-		Request request;
-
-		try
-		{
-			request = new Request.Builder()
-				.headers(headers)
-				.url(buildUrl(relativeUri, parameters, false))
-				.post(RequestBody.create(JSON_MEDIA_TYPE, getJsonConverter().writeValueAsString(content)))
-				.build();
-
-			return handleResponse(rootPartnerOperations, request, responseType);
-		}
-		catch (JsonProcessingException e)
-		{
-			throw new PartnerException("", rootPartnerOperations.getRequestContext(), PartnerErrorCategory.REQUEST_PARSING);
-		}	
+		traceIdAsCorrelationId = value;
 	}
 
 	/**
-	 * Executes a PUT operation against the partner service. 
+	 * Gets the policy that decides which request and response bodies are compressed.
 	 * 
-	 * @param <T> The type of the request.
-     * @param <U> The type of the response.
-	 * @param rootPartnerOperations An instance of the partner operations. 
-	 * @param responseType The type of object to be returned.
-	 * @param relativeUri The relative address fo the request.
-	 * @param content The content for the body of the request.
-     * @return The response from the POST operation.
+	 * @return The compression policy, or null if the compression is left to the HTTP client.
 	 */
-	public <T, U> U put(IPartner rootPartnerOperations, TypeReference<U> responseType, String relativeUri, T content)
+	public CompressionPolicy getCompressionPolicy()
 	{
-		Headers headers = Headers.of(getRequestHeaders(rootPartnerOperations, ACCEPT_HEADER_VALUE));
-		Request request;
-
-		try
-		{
-			request = new Request.Builder()
-				.headers(headers)
-				.url(buildUrl(relativeUri, null, false))
-				.put(RequestBody.create(JSON_MEDIA_TYPE, getJsonConverter().writeValueAsString(content)))
-				.build();
+		CompressionInterceptor interceptor = compression;
 
-			return handleResponse(rootPartnerOperations, request, responseType);
-		}
-		catch (JsonProcessingException e)
-		{
-			throw new PartnerException("", rootPartnerOperations.getRequestContext(), PartnerErrorCategory.REQUEST_PARSING);
-		}	
+		return interceptor == null ? null : interceptor.getPolicy();
 	}
 
 	/**
-	 * Executes a DELETE operation against the partner service. 
+	 * Gets the circuit breakers and bulkheads of the API routes.
 	 * 
-     * @param <T> The type of the response. 	 	 
-	 * @param rootPartnerOperations An instance of the partner operations. 
-	 * @param responseType The type of object to be returned.
-	 * @param relativeUri The relative address fo the request.
+	 * @return The circuit breakers and bulkheads, or null if requests are always sent.
 	 */
-	public <T> void delete(IPartner rootPartnerOperations, TypeReference<T> responseType, String relativeUri)
+	public CircuitBreaker getCircuitBreaker()
 	{
-		Headers headers = Headers.of(getRequestHeaders(rootPartnerOperations, ACCEPT_HEADER_VALUE));
-		Request request = new Request.Builder().headers(headers).url(buildUrl(relativeUri, null, false)).delete().build();
-
-		handleResponse(rootPartnerOperations, request, responseType);
+		return circuitBreaker;
 	}
 
 	/**
-	 * Gets the JSON converter. 
+	 * Sets the circuit breakers and bulkheads of the API routes.
 	 * 
-	 * @return The configured JSON converter.
+	 * @param value The circuit breakers and bulkheads, or null to always send requests.
 	 */
-	private ObjectMapper getJsonConverter() 
+	public void setCircuitBreaker(CircuitBreaker value)
 	{
-		if (jsonConverter == null) 
-		{
-			jsonConverter = new ObjectMapper();
-		
-			jsonConverter.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-			jsonConverter.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-			jsonConverter.registerModule(new JodaModule());
-			jsonConverter.registerModule(new SimpleModule().addDeserializer(Artifact.class, new ArtifactDeserializer()));
-			jsonConverter.registerModule(new SimpleModule().addDeserializer(InvoiceLineItem.class, new InvoiceLineItemDeserializer()));
-			jsonConverter.registerModule(new SimpleModule().addDeserializer(URI.class, new UriDeserializer()));
-			jsonConverter.setDateFormat(new SimpleDateFormat("yyyy-MM-dd"));
-			jsonConverter.setSerializationInclusion(Include.NON_NULL);
-		}
-
-		return jsonConverter;
+		circuitBreaker = value;
 	}
-	
+
 	/**
-	 * Constructs the address for the request.
+	 * Gets the coalescer that shares one call between concurrent identical GET requests.
 	 * 
-	 * @param relativeUri Relative address for the resource being requested.
-	 * @param parameters The parameters to be added to the request.
-	 * @return The address for the request.
+	 * @return The request coalescer, or null if every request is sent.
 	 */
-	private String buildUrl(String relativeUri, Collection<KeyValuePair<String, String>> parameters, boolean isBuilt)
+	public RequestCoalescer getRequestCoalescer()
 	{
-		if(StringHelper.isNullOrEmpty(relativeUri))
+		return requestCoalescer;
+	}
+
+	/**
+	 * Sets the coalescer that shares one call between concurrent identical GET requests.
+	 * 
+	 * @param value The request coalescer, or null to send every request.
+	 */
+	public void setRequestCoalescer(RequestCoalescer value)
+	{
+		requestCoalescer = value;
+	}
+
+	/**
+	 * Gets the cache of the responses of the API routes that declare a cache duration.
+	 * 
+	 * @return The response cache, or null if responses are not cached.
+	 */
+	public IResponseCache getResponseCache()
+	{
+		return responseCache;
+	}
+
+	/**
+	 * Sets the cache of the responses of the API routes that declare a cache duration.
+	 * 
+	 * @param value The response cache, or null to send every request.
+	 */
+	public void setResponseCache(IResponseCache value)
+	{
+		responseCache = value;
+	}
+
+	/**
+	 * Sets the policy that decides which request and response bodies are compressed.
+	 * 
+	 * @param value The compression policy, or null to leave the compression to the HTTP client, which only requests
+	 *        gzip encoded responses.
+	 */
+	public synchronized void setCompressionPolicy(CompressionPolicy value)
+	{
+		compression = value == null ? null : new CompressionInterceptor(value);
+		blockingHttpClient = null;
+		asyncHttpClient = null;
+	}
+	
+	/**
+	 * Executes a GET operation against the partner service. 
+	 * 
+     * @param <T> The type of the response. 
+	 * @param rootPartnerOperations An instance of the partner operations.
+	 * @param responseType The type of object to be returned.
+	 * @param link A link object that represents the action for accessing the resource. 
+     * @return The response from the GET operation.
+	 */
+	public <T> T get(IPartner rootPartnerOperations, TypeReference<T> responseType, Link link)
+	{
+		return handleResponse(rootPartnerOperations, buildGetRequest(rootPartnerOperations, link), responseType);
+	}
+
+	/**
+	 * Executes a GET operation against the partner service and reads the items of the returned collection one at a
+	 * time from the response stream. The returned reader must be closed if it is not read to the end.
+	 * 
+	 * @param <T> The type of the items in the collection.
+	 * @param rootPartnerOperations An instance of the partner operations.
+	 * @param itemType The type of the items in the collection.
+	 * @param link A link object that represents the action for accessing the resource. 
+	 * @return A reader over the items of the collection.
+	 */
+	public <T> ResourceCollectionReader<T> getItems(IPartner rootPartnerOperations, TypeReference<T> itemType, Link link)
+	{
+		return openReader(rootPartnerOperations, buildGetRequest(rootPartnerOperations, link), itemType);
+	}
+
+	/**
+	 * Executes a GET operation against the partner service and reads the items of the returned collection one at a
+	 * time from the response stream. The returned reader must be closed if it is not read to the end.
+	 * 
+	 * @param <T> The type of the items in the collection.
+	 * @param rootPartnerOperations An instance of the partner operations.
+	 * @param itemType The type of the items in the collection.
+	 * @param relativeUri The relative address of the request. 
+	 * @param parameters Parameters to be added to the request.
+	 * @return A reader over the items of the collection.
+	 */
+	public <T> ResourceCollectionReader<T> getItems(IPartner rootPartnerOperations, TypeReference<T> itemType, String relativeUri, Collection<KeyValuePair<String, String>> parameters)
+	{
+		return openReader(rootPartnerOperations, buildGetRequest(rootPartnerOperations, relativeUri, null, parameters), itemType);
+	}
+
+	/**
+	 * Executes an asynchronous GET operation against the partner service. 
+	 * 
+	 * @param <T> The type of the response. 
+	 * @param rootPartnerOperations An instance of the partner operations.
+	 * @param responseType The type of object to be returned.
+	 * @param link A link object that represents the action for accessing the resource. 
+	 * @return A future that completes with the response from the GET operation.
+	 */
+	public <T> CompletableFuture<T> getAsync(IPartner rootPartnerOperations, TypeReference<T> responseType, Link link)
+	{
+		return handleResponseAsync(rootPartnerOperations, buildGetRequest(rootPartnerOperations, link), responseType);
+	}
+
+	/**
+	 * Executes a GET operation against the partner service. 
+	 * 
+     * @param <T> The type of the response.  
+	 * @param rootPartnerOperations An instance of the partner operations.
+	 * @param responseType The type of object to be returned.
+	 * @param relativeUri The relative address of the request. 
+     * @return The response from the GET operation.
+	 */
+	public <T> T get(IPartner rootPartnerOperations, TypeReference<T> responseType, String relativeUri)
+	{
+		return get(rootPartnerOperations, responseType, relativeUri, null);
+	}
+
+	/**
+	 * Executes an asynchronous GET operation against the partner service. 
+	 * 
+	 * @param <T> The type of the response.  
+	 * @param rootPartnerOperations An instance of the partner operations.
+	 * @param responseType The type of object to be returned.
+	 * @param relativeUri The relative address of the request. 
+	 * @return A future that completes with the response from the GET operation.
+	 */
+	public <T> CompletableFuture<T> getAsync(IPartner rootPartnerOperations, TypeReference<T> responseType, String relativeUri)
+	{
+		return getAsync(rootPartnerOperations, responseType, relativeUri, null);
+	}
+
+	/**
+	 * Executes a GET operation against the partner service. 
+	 * 
+     * @param <T> The type of the response. 	 
+	 * @param rootPartnerOperations An instance of the partner operations.
+	 * @param responseType The type of object to be returned.
+	 * @param relativeUri The relative address of the request. 
+	 * @param headers Headers to be added to the request.
+	 * @param parameters Parameters to be added to the request.
+     * @return The response from the GET operation.
+	 */
+	public <T> T get(IPartner rootPartnerOperations, TypeReference<T> responseType, String relativeUri, Map<String, String> headers, Collection<KeyValuePair<String, String>> parameters)
+	{
+		return handleResponse(
+			rootPartnerOperations, 
+			buildGetRequest(rootPartnerOperations, relativeUri, headers, parameters), 
+			responseType);
+	}
+
+	/**
+	 * Executes a GET operation against the partner service that sends the ETag of a previous instance in the
+	 * If-None-Match header. A 304 Not Modified response returns the previous instance without reading a body.
+	 * 
+	 * @param <T> The type of the response.
+	 * @param rootPartnerOperations An instance of the partner operations.
+	 * @param responseType The type of object to be returned.
+	 * @param relativeUri The relative address of the request. 
+	 * @param parameters Parameters to be added to the request.
+	 * @param previous The previous instance of the resource, or null to always retrieve the resource.
+	 * @return The previous instance if the resource did not change; otherwise the response from the GET operation.
+	 */
+	public <T extends ResourceBase> T getIfChanged(IPartner rootPartnerOperations, TypeReference<T> responseType, String relativeUri, Collection<KeyValuePair<String, String>> parameters, T previous)
+	{
+		return handleResponse(
+			rootPartnerOperations, 
+			ConditionalRequest.attach(buildGetRequest(rootPartnerOperations, relativeUri, null, parameters), previous), 
+			responseType);
+	}
+
+	/**
+	 * Executes an asynchronous GET operation against the partner service. 
+	 * 
+	 * @param <T> The type of the response. 	 
+	 * @param rootPartnerOperations An instance of the partner operations.
+	 * @param responseType The type of object to be returned.
+	 * @param relativeUri The relative address of the request. 
+	 * @param headers Headers to be added to the request.
+	 * @param parameters Parameters to be added to the request.
+	 * @return A future that completes with the response from the GET operation.
+	 */
+	public <T> CompletableFuture<T> getAsync(IPartner rootPartnerOperations, TypeReference<T> responseType, String relativeUri, Map<String, String> headers, Collection<KeyValuePair<String, String>> parameters)
+	{
+		return handleResponseAsync(
+			rootPartnerOperations, 
+			buildGetRequest(rootPartnerOperations, relativeUri, headers, parameters), 
+			responseType);
+	}
+
+	/**
+	 * Executes a file content request against the partner service.
+	 * 
+	 * @param rootPartnerOperations An instance of the partner operations.
+	 * @param relativeUri The relative address of the request. 
+	 * @param acceptType The value for the accept type header.
+	 * @return The response from the file content request, which must be closed to release the connection.
+	 */
+	public InputStream getFileContents(IPartner rootPartnerOperations, String relativeUri, String acceptType)
+	{
+		Request request; 
+		Response response; 
+
+		request = observe(rootPartnerOperations, buildFileRequest(rootPartnerOperations, relativeUri, acceptType));
+
+		try
+		{
+			response = send(rootPartnerOperations, request);
+		} 
+		catch (IOException ex) 
+		{
+			PartnerException failure = toDownloadException(rootPartnerOperations, ex);
+
+			onCompleted(request, failure);
+			throw failure;
+		}
+
+		if (!response.isSuccessful())
+		{
+			PartnerException failure;
+
+			try
+			{
+				failure = errorHandler.handleFailedResponse(response, rootPartnerOperations.getRequestContext());
+			}
+			finally
+			{
+				response.close();
+			}
+
+			onCompleted(request, failure);
+			throw failure;
+		}
+
+		onCompleted(request, null);
+
+		return response.body().byteStream();
+	}
+
+	/**
+	 * Downloads file contents into a channel. The response body is copied from the connection into the channel
+	 * through a direct buffer, so the file is never held in memory. When the connection fails during the transfer,
+	 * the download resumes where it stopped with a Range request, up to the maximum retry attempts of the retry
+	 * policy. The Range request is conditional on the ETag of the first response, and when the partner service returns
+	 * anything but the rest of the same file, a seekable channel is truncated and the file downloaded again from its
+	 * start. The connection is released whether the download succeeds or fails.
+	 * 
+	 * @param rootPartnerOperations An instance of the partner operations.
+	 * @param relativeUri The relative address of the request. 
+	 * @param acceptType The value for the accept type header.
+	 * @param target The channel that receives the file contents.
+	 * @param offset The number of bytes of the file the channel already holds, which are not downloaded again.
+	 * @param progress Receives the progress of the download, or null.
+	 * @return The number of bytes written to the channel.
+	 */
+	public long downloadFileContents(IPartner rootPartnerOperations, String relativeUri, String acceptType, 
+		WritableByteChannel target, long offset, IDownloadProgressListener progress)
+	{
+		return downloadFileContents(rootPartnerOperations, relativeUri, acceptType, new FileTransfer(target, offset, null, null, progress));
+	}
+
+	/**
+	 * Runs a file transfer to completion, resuming it when the connection fails part way.
+	 * 
+	 * @param rootPartnerOperations An instance of the partner operations.
+	 * @param relativeUri The relative address of the request. 
+	 * @param acceptType The value for the accept type header.
+	 * @param transfer The file transfer.
+	 * @return The number of bytes written to the channel.
+	 */
+	private long downloadFileContents(IPartner rootPartnerOperations, String relativeUri, String acceptType, FileTransfer transfer)
+	{
+		Request fileRequest = buildFileRequest(rootPartnerOperations, relativeUri, acceptType);
+		int resumeCount = 0;
+
+		while (true)
+		{
+			long start = transfer.getPosition();
+			Request request = observe(rootPartnerOperations, transfer.prepare(fileRequest));
+			Response response = null;
+
+			try
+			{
+				response = send(rootPartnerOperations, request);
+
+				if (!transfer.isComplete(response))
+				{
+					if (!response.isSuccessful())
+					{
+						throw errorHandler.handleFailedResponse(response, rootPartnerOperations.getRequestContext());
+					}
+
+					if (!transfer.transfer(response))
+					{
+						// the channel was truncated, so the next request is for the whole file
+						onCompleted(request, null);
+						PartnerLog.getInstance().logWarning("Downloading " + relativeUri + " again, since the partner service did not return the rest of the file.");
+						continue;
+					}
+				}
+
+				onCompleted(request, null);
+
+				return transfer.getCount();
+			}
+			catch (IOException ex)
+			{
+				PartnerException failure = toDownloadException(rootPartnerOperations, ex);
+
+				onCompleted(request, failure);
+
+				// only an attempt that made progress is resumed, so a connection that keeps failing is not retried forever
+				if (response == null || transfer.getPosition() == start || resumeCount++ >= retryPolicy.getMaxRetryAttempts())
+				{
+					throw failure;
+				}
+
+				PartnerLog.getInstance().logWarning("Resuming the download of " + relativeUri + " at byte " + transfer.getPosition() + ": " + ex.getMessage());
+			}
+			catch (RuntimeException ex)
+			{
+				onCompleted(request, ex);
+				throw ex;
+			}
+			finally
+			{
+				if (response != null)
+				{
+					response.close();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Downloads file contents into a file. The contents are written to a partial file next to the file, which replaces
+	 * the file once it is complete, so the file is never left partially written. A partial file left by an
+	 * interrupted download is resumed with a Range request instead of being downloaded again. The ETag of the file is
+	 * kept next to the partial file, so the Range request is conditional on the file not having changed; a partial
+	 * file without one is downloaded again from its start.
+	 * 
+	 * @param rootPartnerOperations An instance of the partner operations.
+	 * @param relativeUri The relative address of the request. 
+	 * @param acceptType The value for the accept type header.
+	 * @param file The file that receives the contents.
+	 * @param progress Receives the progress of the download, or null.
+	 * @return The number of bytes downloaded, which excludes the bytes of a resumed partial file.
+	 * @throws UncheckedIOException The file could not be written.
+	 */
+	public long downloadFileContents(IPartner rootPartnerOperations, String relativeUri, String acceptType, 
+		Path file, IDownloadProgressListener progress)
+	{
+		Path partialFile = FileTransfer.getPartialFile(file);
+		Path validatorFile = FileTransfer.getValidatorFile(file);
+		long count;
+
+		try
+		{
+			try (FileChannel channel = FileChannel.open(partialFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE))
+			{
+				String validator = FileTransfer.readValidator(validatorFile);
+
+				// without the ETag of the first response nothing shows the partial file holds the start of the same file
+				if (validator == null)
+				{
+					channel.truncate(0);
+				}
+
+				long offset = channel.size();
+
+				channel.position(offset);
+				count = downloadFileContents(rootPartnerOperations, relativeUri, acceptType, 
+					new FileTransfer(channel, offset, validator, validatorFile, progress));
+			}
+
+			try
+			{
+				Files.move(partialFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			}
+			catch (AtomicMoveNotSupportedException ex)
+			{
+				Files.move(partialFile, file, StandardCopyOption.REPLACE_EXISTING);
+			}
+
+			Files.deleteIfExists(validatorFile);
+		}
+		catch (IOException ex)
+		{
+			throw new UncheckedIOException(ex);
+		}
+
+		return count;
+	}
+
+	/**
+	 * Gets the size of file contents with a HEAD request, without downloading them.
+	 * 
+	 * @param rootPartnerOperations An instance of the partner operations.
+	 * @param relativeUri The relative address of the request. 
+	 * @param acceptType The value for the accept type header.
+	 * @return The size of the file contents in bytes, or -1 if the partner service does not state it.
+	 */
+	public long getFileLength(IPartner rootPartnerOperations, String relativeUri, String acceptType)
+	{
+		Request request = buildFileRequest(rootPartnerOperations, relativeUri, acceptType);
+
+		request = observe(rootPartnerOperations, request.newBuilder().head().build());
+
+		try (Response response = send(rootPartnerOperations, request))
+		{
+			if (!response.isSuccessful())
+			{
+				throw errorHandler.handleFailedResponse(response, rootPartnerOperations.getRequestContext());
+			}
+
+			onCompleted(request, null);
+
+			return getContentLength(response.header(CONTENT_LENGTH_HEADER));
+		}
+		catch (IOException ex)
+		{
+			PartnerException failure = toDownloadException(rootPartnerOperations, ex);
+
+			onCompleted(request, failure);
+			throw failure;
+		}
+		catch (RuntimeException ex)
+		{
+			onCompleted(request, ex);
+			throw ex;
+		}
+	}
+
+	/**
+	 * Reads the value of a Content-Length header.
+	 * 
+	 * @param contentLength The value of the header, or null.
+	 * @return The length, or -1 if the header does not state it.
+	 */
+	static long getContentLength(String contentLength)
+	{
+		if (contentLength == null)
+		{
+			return -1;
+		}
+
+		try
+		{
+			return Math.max(-1, Long.parseLong(contentLength.trim()));
+		}
+		catch (NumberFormatException ex)
+		{
+			return -1;
+		}
+	}
+
+	/**
+	 * Builds a GET request for file contents.
+	 * 
+	 * @param rootPartnerOperations An instance of the partner operations.
+	 * @param relativeUri The relative address of the request. 
+	 * @param acceptType The value for the accept type header.
+	 * @return The GET request.
+	 */
+	private Request buildFileRequest(IPartner rootPartnerOperations, String relativeUri, String acceptType)
+	{
+		return new Request.Builder()
+			.headers(getRequestHeaders(rootPartnerOperations, "GET", acceptType, relativeUri).build())
+			.url(buildUrl(relativeUri, null, false))
+			.get()
+			.build();
+	}
+
+	/**
+	 * Executes a GET operation against the partner service. 
+	 * 
+     * @param <T> The type of the response. 	 
+	 * @param rootPartnerOperations An instance of the partner operations.
+	 * @param responseType The type of object to be returned.
+	 * @param relativeUri The relative address of the request. 
+	 * @param parameters Parameters to be added to the request.
+     * @return The response from the GET operation.
+	 */
+	public <T> T get(IPartner rootPartnerOperations, TypeReference<T> responseType, String relativeUri, Collection<KeyValuePair<String, String>> parameters)
+	{
+		return get(rootPartnerOperations, responseType, relativeUri, null, parameters);
+	}
+
+	/**
+	 * Executes an asynchronous GET operation against the partner service. 
+	 * 
+	 * @param <T> The type of the response. 	 
+	 * @param rootPartnerOperations An instance of the partner operations.
+	 * @param responseType The type of object to be returned.
+	 * @param relativeUri The relative address of the request. 
+	 * @param parameters Parameters to be added to the request.
+	 * @return A future that completes with the response from the GET operation.
+	 */
+	public <T> CompletableFuture<T> getAsync(IPartner rootPartnerOperations, TypeReference<T> responseType, String relativeUri, Collection<KeyValuePair<String, String>> parameters)
+	{
+		return getAsync(rootPartnerOperations, responseType, relativeUri, null, parameters);
+	}
+
+	/**
+	 * Executes a HEAD operation against the partner service. 
+	 * 
+     * @param <T> The type of the response. 	 
+	 * @param rootPartnerOperations An instance of the partner operations.
+	 * @param responseType The type of object to be returned.
+	 * @param relativeUri The relative address of the request. 
+     * @return The response from the HEAD operation.
+	 */
+	public <T> T head(IPartner rootPartnerOperations, TypeReference<T> responseType, String relativeUri)
+	{
+		Headers headers = getRequestHeaders(rootPartnerOperations, "HEAD", ACCEPT_HEADER_VALUE, relativeUri).build();
+		Request request = new Request.Builder().headers(headers).url(buildUrl(relativeUri, null, false)).head().build();
+
+		return handleResponse(rootPartnerOperations, request, responseType);
+	}
+
+	/**
+	 * Executes a PATCH operation against the partner service.
+	 * 
+	 * @param <T> The type of the request.
+     * @param <U> The type of the response.
+	 * @param rootPartnerOperations An instance of the partner operations.
+	 * @param responseType The type of object to be returned.
+	 * @param relativeUri The relative address of the request. 
+	 * @param content The content for the body of the request.
+     * @return The response from the PATCH operation.
+	 */
+	public <T, U> U patch(IPartner rootPartnerOperations, TypeReference<U> responseType, String relativeUri, T content)
+	{
+		return handleResponse(
+			rootPartnerOperations, 
+			buildRequestWithContent(rootPartnerOperations, "PATCH", relativeUri, content, null), 
+			responseType);
+	}
+
+	/**
+	 * Executes an asynchronous PATCH operation against the partner service.
+	 * 
+	 * @param <T> The type of the request.
+	 * @param <U> The type of the response.
+	 * @param rootPartnerOperations An instance of the partner operations.
+	 * @param responseType The type of object to be returned.
+	 * @param relativeUri The relative address of the request. 
+	 * @param content The content for the body of the request.
+	 * @return A future that completes with the response from the PATCH operation.
+	 */
+	public <T, U> CompletableFuture<U> patchAsync(IPartner rootPartnerOperations, TypeReference<U> responseType, String relativeUri, T content)
+	{
+		return handleResponseAsync(
+			rootPartnerOperations, 
+			buildRequestWithContent(rootPartnerOperations, "PATCH", relativeUri, content, null), 
+			responseType);
+	}
+
+	/**
+	 * Executes a POST operation against the partner service. 
+	 * 
+     * @param <T> The type of the request.
+     * @param <U> The type of the response.
+	 * @param rootPartnerOperations An instance of the partner operations. 
+	 * @param responseType The type of object to be returned.
+	 * @param relativeUri The relative address fo the request.
+	 * @param content The content for the body of the request.
+     * @return The response from the POST operation.
+	 */
+	public <T, U> U post(IPartner rootPartnerOperations, TypeReference<U> responseType, String relativeUri, T content)
+	{
+		return post(rootPartnerOperations, responseType, relativeUri, content, null);
+	}
+
+	/**
+	 * Executes an asynchronous POST operation against the partner service. 
+	 * 
+	 * @param <T> The type of the request.
+	 * @param <U> The type of the response.
+	 * @param rootPartnerOperations An instance of the partner operations. 
+	 * @param responseType The type of object to be returned.
+	 * @param relativeUri The relative address fo the request.
+	 * @param content The content for the body of the request.
+	 * @return A future that completes with the response from the POST operation.
+	 */
+	public <T, U> CompletableFuture<U> postAsync(IPartner rootPartnerOperations, TypeReference<U> responseType, String relativeUri, T content)
+	{
+		return postAsync(rootPartnerOperations, responseType, relativeUri, content, null);
+	}
+
+	/**
+	 * Executes a POST operation against the partner service. 
+	 * 
+	 * @param <T> The type of the request.
+     * @param <U> The type of the response.
+	 * @param rootPartnerOperations An instance of the partner operations. 
+	 * @param responseType The type of object to be returned.
+	 * @param relativeUri The relative address fo the request.
+	 * @param content The content for the body of the request.
+	 * @param parameters Parameters to be added to the request.
+     * @return The response from the POST operation.
+	 */
+	public <T, U> U post(IPartner rootPartnerOperations, TypeReference<U> responseType, String relativeUri, T content, Collection<KeyValuePair<String, String>> parameters)
+	{
+		return handleResponse(
+			rootPartnerOperations, 
+			buildRequestWithContent(rootPartnerOperations, "POST", relativeUri, content, parameters), 
+			responseType);
+	}
+
+	/**
+	 * Executes an asynchronous POST operation against the partner service. 
+	 * 
+	 * @param <T> The type of the request.
+	 * @param <U> The type of the response.
+	 * @param rootPartnerOperations An instance of the partner operations. 
+	 * @param responseType The type of object to be returned.
+	 * @param relativeUri The relative address fo the request.
+	 * @param content The content for the body of the request.
+	 * @param parameters Parameters to be added to the request.
+	 * @return A future that completes with the response from the POST operation.
+	 */
+	public <T, U> CompletableFuture<U> postAsync(IPartner rootPartnerOperations, TypeReference<U> responseType, String relativeUri, T content, Collection<KeyValuePair<String, String>> parameters)
+	{
+		return handleResponseAsync(
+			rootPartnerOperations, 
+			buildRequestWithContent(rootPartnerOperations, "POST", relativeUri, content, parameters), 
+			responseType);
+	}
+
+	/**
+	 * Executes a PUT operation against the partner service. 
+	 * 
+	 * @param <T> The type of the request.
+     * @param <U> The type of the response.
+	 * @param rootPartnerOperations An instance of the partner operations. 
+	 * @param responseType The type of object to be returned.
+	 * @param relativeUri The relative address fo the request.
+	 * @param content The content for the body of the request.
+     * @return The response from the POST operation.
+	 */
+	public <T, U> U put(IPartner rootPartnerOperations, TypeReference<U> responseType, String relativeUri, T content)
+	{
+		return handleResponse(
+			rootPartnerOperations, 
+			buildRequestWithContent(rootPartnerOperations, "PUT", relativeUri, content, null), 
+			responseType);
+	}
+
+	/**
+	 * Executes an asynchronous PUT operation against the partner service. 
+	 * 
+	 * @param <T> The type of the request.
+	 * @param <U> The type of the response.
+	 * @param rootPartnerOperations An instance of the partner operations. 
+	 * @param responseType The type of object to be returned.
+	 * @param relativeUri The relative address fo the request.
+	 * @param content The content for the body of the request.
+	 * @return A future that completes with the response from the PUT operation.
+	 */
+	public <T, U> CompletableFuture<U> putAsync(IPartner rootPartnerOperations, TypeReference<U> responseType, String relativeUri, T content)
+	{
+		return handleResponseAsync(
+			rootPartnerOperations, 
+			buildRequestWithContent(rootPartnerOperations, "PUT", relativeUri, content, null), 
+			responseType);
+	}
+
+	/**
+	 * Executes a DELETE operation against the partner service. 
+	 * 
+     * @param <T> The type of the response. 	 	 
+	 * @param rootPartnerOperations An instance of the partner operations. 
+	 * @param responseType The type of object to be returned.
+	 * @param relativeUri The relative address fo the request.
+	 */
+	public <T> void delete(IPartner rootPartnerOperations, TypeReference<T> responseType, String relativeUri)
+	{
+		Headers headers = getRequestHeaders(rootPartnerOperations, "DELETE", ACCEPT_HEADER_VALUE, relativeUri).build();
+		Request request = new Request.Builder().headers(headers).url(buildUrl(relativeUri, null, false)).delete().build();
+
+		handleResponse(rootPartnerOperations, request, responseType);
+	}
+
+	/**
+	 * Executes an asynchronous DELETE operation against the partner service. 
+	 * 
+	 * @param <T> The type of the response. 	 	 
+	 * @param rootPartnerOperations An instance of the partner operations. 
+	 * @param responseType The type of object to be returned.
+	 * @param relativeUri The relative address fo the request.
+	 * @return A future that completes when the DELETE operation has finished.
+	 */
+	public <T> CompletableFuture<Void> deleteAsync(IPartner rootPartnerOperations, TypeReference<T> responseType, String relativeUri)
+	{
+		Headers headers = getRequestHeaders(rootPartnerOperations, "DELETE", ACCEPT_HEADER_VALUE, relativeUri).build();
+		Request request = new Request.Builder().headers(headers).url(buildUrl(relativeUri, null, false)).delete().build();
+
+		return handleResponseAsync(rootPartnerOperations, request, responseType).thenAccept(
+			new Consumer<T>()
+			{
+				@Override
+				public void accept(T value)
+				{
+				}
+			});
+	}
+
+	/**
+	 * Gets the JSON converter. 
+	 * 
+	 * @return The configured JSON converter.
+	 */
+	private ObjectMapper getJsonConverter() 
+	{
+		return JSON_CONVERTER;
+	}
+
+	/**
+	 * Creates the JSON converter. 
+	 * 
+	 * @return The configured JSON converter.
+	 */
+	private static ObjectMapper createJsonConverter() 
+	{
+		ObjectMapper jsonConverter = new ObjectMapper();
+		
+		jsonConverter.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+		jsonConverter.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+		jsonConverter.registerModule(new JodaModule());
+		jsonConverter.registerModule(new SimpleModule().addDeserializer(Artifact.class, new ArtifactDeserializer()));
+		jsonConverter.registerModule(new SimpleModule().addDeserializer(InvoiceLineItem.class, new InvoiceLineItemDeserializer()));
+		jsonConverter.registerModule(new SimpleModule().addDeserializer(URI.class, new UriDeserializer()));
+		jsonConverter.setDateFormat(new SimpleDateFormat("yyyy-MM-dd"));
+		jsonConverter.setSerializationInclusion(Include.NON_NULL);
+
+		return jsonConverter;
+	}
+
+	/**
+	 * Gets the reader for the specified response type. Readers are resolved once per type and reused, so the
+	 * generic type of a type reference is not resolved again on every request.
+	 * 
+	 * @param <T> The type of the response.
+	 * @param responseType The type of object to be returned.
+	 * @return The reader for the response type.
+	 */
+	private <T> ObjectReader getReader(TypeReference<T> responseType)
+	{
+		ObjectReader reader = READERS.get(responseType.getType());
+
+		if (reader == null)
+		{
+			reader = getJsonConverter().readerFor(getJsonConverter().getTypeFactory().constructType(responseType));
+
+			ObjectReader existing = READERS.putIfAbsent(responseType.getType(), reader);
+
+			if (existing != null)
+			{
+				reader = existing;
+			}
+		}
+
+		return reader;
+	}
+
+	/**
+	 * Gets the writer for the specified content class.
+	 * 
+	 * @param contentType The class of the content being serialized.
+	 * @return The writer for the content class.
+	 */
+	private ObjectWriter getWriter(Class<?> contentType)
+	{
+		ObjectWriter writer = WRITERS.get(contentType);
+
+		if (writer == null)
+		{
+			writer = getJsonConverter().writerFor(contentType);
+
+			ObjectWriter existing = WRITERS.putIfAbsent(contentType, writer);
+
+			if (existing != null)
+			{
+				writer = existing;
+			}
+		}
+
+		return writer;
+	}
+	
+	/**
+	 * Builds a GET request for the specified link.
+	 * 
+	 * @param rootPartnerOperations An instance of the partner operations.
+	 * @param link A link object that represents the action for accessing the resource. 
+	 * @return The GET request.
+	 */
+	private Request buildGetRequest(IPartner rootPartnerOperations, Link link)
+	{
+		Headers.Builder requestHeaders = getRequestHeaders(rootPartnerOperations, "GET", ACCEPT_HEADER_VALUE, link.getUri().toString());
+
+		if(link.getHeaders() != null)
+		{
+			for (KeyValuePair<String, String> header : link.getHeaders())
+			{
+				requestHeaders.set(header.getKey(), header.getValue());
+			}
+		}
+
+		return new Request.Builder().headers(requestHeaders.build()).url(buildUrl(link.getUri().toString(), null, true)).get().build();
+	}
+
+	/**
+	 * Builds a GET request for the specified relative address.
+	 * 
+	 * @param rootPartnerOperations An instance of the partner operations.
+	 * @param relativeUri The relative address of the request. 
+	 * @param headers Headers to be added to the request.
+	 * @param parameters Parameters to be added to the request.
+	 * @return The GET request.
+	 */
+	private Request buildGetRequest(IPartner rootPartnerOperations, String relativeUri, Map<String, String> headers, Collection<KeyValuePair<String, String>> parameters)
+	{
+		Headers.Builder requestHeaders = getRequestHeaders(rootPartnerOperations, "GET", ACCEPT_HEADER_VALUE, relativeUri);
+
+		if(headers != null)
+		{
+			for (Map.Entry<String, String> header : headers.entrySet())
+			{
+				requestHeaders.set(header.getKey(), header.getValue());
+			}
+		}
+
+		return new Request.Builder().headers(requestHeaders.build()).url(buildUrl(relativeUri, parameters, false)).get().build();
+	}
+
+	/**
+	 * Builds a request that carries the specified content as a JSON body.
+	 * 
+	 * @param <T> The type of the request.
+	 * @param rootPartnerOperations An instance of the partner operations.
+	 * @param method The HTTP method of the request.
+	 * @param relativeUri The relative address of the request. 
+	 * @param content The content for the body of the request.
+	 * @param parameters Parameters to be added to the request.
+	 * @return The request.
+	 */
+	private <T> Request buildRequestWithContent(IPartner rootPartnerOperations, String method, String relativeUri, T content, Collection<KeyValuePair<String, String>> parameters)
+	{
+		Headers headers = getRequestHeaders(rootPartnerOperations, method, ACCEPT_HEADER_VALUE, relativeUri).build();
+		ObjectWriter writer = getWriter(content == null ? Object.class : content.getClass());
+
+		try
+		{
+			return new Request.Builder()
+				.headers(headers)
+				.url(buildUrl(relativeUri, parameters, false))
+				.method(method, RequestBody.create(JSON_MEDIA_TYPE, writer.writeValueAsString(content)))
+				.build();
+		}
+		catch (JsonProcessingException e)
+		{
+			throw new PartnerException("", rootPartnerOperations.getRequestContext(), PartnerErrorCategory.REQUEST_PARSING);
+		}	
+	}
+
+	/**
+	 * Constructs the address for the request. The names and values of the parameters are percent-encoded.
+	 * 
+	 * @param relativeUri Relative address for the resource being requested.
+	 * @param parameters The parameters to be added to the request.
+	 * @return The address for the request.
+	 */
+	private String buildUrl(String relativeUri, Collection<KeyValuePair<String, String>> parameters, boolean isBuilt)
+	{
+		if(StringHelper.isNullOrEmpty(relativeUri))
+		{
+			throw new IllegalArgumentException("resourcePath cannot be null");
+		}
+
+		String apiRootUrl = PartnerService.getInstance().getApiRootUrl();
+		String apiVersion = PartnerService.getInstance().getPartnerServiceApiVersion();
+		StringBuilder address = new StringBuilder(apiRootUrl.length() + apiVersion.length() + relativeUri.length() + 64);
+
+		address.append(apiRootUrl).append('/').append(apiVersion).append('/').append(relativeUri);
+
+		if(!isBuilt && parameters != null)
+		{
+			char separator = '?';
+
+			for (KeyValuePair<String, String> queryParameter : parameters)
+			{
+				address.append(separator);
+				UrlEncoding.appendQueryComponent(address, queryParameter.getKey());
+				address.append('=');
+				UrlEncoding.appendQueryComponent(address, String.valueOf(queryParameter.getValue()));
+				separator = '&';
+			}
+		}
+
+		return address.toString();
+	}
+
+	/**
+	 * Gets the headers for the HTTP request. The headers shared by every request are copied from a prebuilt block,
+	 * and only the per-request values are added to it.
+	 * 
+	 * @param rootPartnerOperations An instance of the root partner operations.
+	 * @param method The HTTP method of the request, used to find the route it addresses.
+	 * @param acceptType The value for the accept type header.
+	 * @param relativeUri The relative address of the request, used to find the customer it addresses.
+	 * @return A builder holding the headers for the HTTP request.
+	 */
+	private Headers.Builder getRequestHeaders(IPartner rootPartnerOperations, String method, String acceptType, String relativeUri)
+	{
+		IPartnerCredentials credentials = getCredentials(rootPartnerOperations, method, relativeUri);
+		IRequestContext requestContext; 
+
+		if (rootPartnerOperations.getRequestContext().getRequestId().equals(EMPTY_REQUEST_ID))
+		{
+			requestContext = RequestContextFactory.getInstance().create(
+				rootPartnerOperations.getRequestContext().getCorrelationId(),
+				UUID.randomUUID(),
+				rootPartnerOperations.getRequestContext().getLocale());
+		}
+		else
+		{
+			requestContext = rootPartnerOperations.getRequestContext();
+		}
+
+		return getSharedRequestHeaders().newBuilder()
+			.add(AUTHORIZATION_HEADER, getAuthorizationHeader(credentials.getPartnerServiceToken()))
+			.add(CORRELATION_ID_HEADER, requestContext.getCorrelationId().toString())
+			.add(LOCALE_HEADER, requestContext.getLocale())
+			.add(REQUEST_ID_HEADER, requestContext.getRequestId().toString())
+			.add(ACCEPT_HEADER, acceptType);
+	}
+
+	/**
+	 * Gets the headers shared by every request, building them again only when the partner service settings they come
+	 * from have changed.
+	 * 
+	 * @return The headers shared by every request.
+	 */
+	private static Headers getSharedRequestHeaders()
+	{
+		String contractVersion = PartnerService.getInstance().getPartnerServiceApiVersion();
+		String sdkVersion = PartnerService.getInstance().getSdkVersion();
+		String applicationName = PartnerService.getInstance().getApplicationName();
+		String client = PartnerService.getInstance().getConfiguration().getPartnerCenterClient();
+		SharedRequestHeaders current = sharedRequestHeaders;
+
+		if (current == null || !current.isBuiltFrom(contractVersion, sdkVersion, applicationName, client))
+		{
+			current = new SharedRequestHeaders(contractVersion, sdkVersion, applicationName, client);
+			sharedRequestHeaders = current;
+		}
+
+		return current.headers;
+	}
+
+	/**
+	 * Gets the value of the authorization header for a token, reusing the value built for the previous request
+	 * while the token does not change.
+	 * 
+	 * @param token The partner service token.
+	 * @return The value of the authorization header.
+	 */
+	private String getAuthorizationHeader(String token)
+	{
+		String[] current = authorizationHeader;
+
+		if (current == null || !Objects.equals(current[0], token))
+		{
+			current = new String[] { token, AUTHORIZATION_SCHEME + " " + token };
+			authorizationHeader = current;
+		}
+
+		return current[1];
+	}
+
+	/**
+	 * Gets valid credentials for a request. When the partner operations have a credentials resolver and the request
+	 * addresses a customer, the resolver can supply credentials for the customer tenant. The resolver owns the refresh
+	 * of the credentials it supplies, so they are rejected if they have expired. Otherwise the partner credentials are
+	 * used and refreshed through the refresh credentials handler of the partner service when they have expired.
+	 * 
+	 * @param rootPartnerOperations An instance of the root partner operations.
+	 * @param method The HTTP method of the request.
+	 * @param relativeUri The relative address of the request.
+	 * @return The credentials for the request.
+	 */
+	private IPartnerCredentials getCredentials(IPartner rootPartnerOperations, String method, String relativeUri)
+	{
+		IPartnerCredentialsResolver resolver = rootPartnerOperations.getCredentialsResolver();
+
+		if (resolver != null && relativeUri != null)
+		{
+			ApiRouteRegistry routes = ApiRouteRegistry.getInstance();
+			String customerId = routes.getCustomerId(routes.resolve(method, relativeUri), relativeUri);
+
+			if (customerId != null)
+			{
+				IPartnerCredentials credentials = resolver.resolve(customerId, rootPartnerOperations.getRequestContext());
+
+				if (credentials != null)
+				{
+					if (credentials.isExpired())
+					{
+						throw new PartnerException(
+							"The credentials resolved for the customer have expired.",
+							rootPartnerOperations.getRequestContext(), 
+							PartnerErrorCategory.UNAUTHORIZED);
+					}
+
+					return credentials;
+				}
+			}
+		}
+
+		IPartnerCredentials credentials = rootPartnerOperations.getCredentials();
+
+		if (credentials.isExpired())
+		{
+			// each credentials object refreshes itself, so partners with different credentials never share a handler
+			try 
+			{
+				credentials.onCredentialsRefreshNeeded(credentials, rootPartnerOperations.getRequestContext());
+			} 
+			catch (Exception refreshProblem) 
+			{
+				throw new PartnerException("Refreshing the credentials has failed.", rootPartnerOperations.getRequestContext(),
+					PartnerErrorCategory.UNAUTHORIZED, refreshProblem);
+			}
+
+			if (credentials.isExpired()) 
+			{
+				throw new PartnerException("The credential refresh mechanism provided expired credentials.",
+					rootPartnerOperations.getRequestContext(), PartnerErrorCategory.UNAUTHORIZED);
+			}
+		}
+
+		return credentials;
+	}
+
+	private <T> T handleResponse(final IPartner rootPartnerOperations, Request uncachedRequest, final TypeReference<T> responseType)
+	{
+		final Request request = CacheableRequest.attach(uncachedRequest, responseCache, metrics);
+		T cached = readCachedResponse(request, responseType);
+
+		if (cached != null)
+		{
+			return cached;
+		}
+
+		RequestCoalescer coalescer = requestCoalescer;
+
+		if (coalescer == null || !RequestCoalescer.isCoalescable(request))
+		{
+			return executeRequest(rootPartnerOperations, request, responseType);
+		}
+
+		return coalescer.execute(request, responseType.getType(), metrics, new Supplier<T>()
+		{
+			@Override
+			public T get()
+			{
+				return executeRequest(rootPartnerOperations, request, responseType);
+			}
+		});
+	}
+
+	/**
+	 * Reads the response of a request from the response cache.
+	 * 
+	 * @param <T> The type of the response.
+	 * @param request The request.
+	 * @param responseType The type of object to be returned.
+	 * @return The cached response, or null if the response of the request is not cached, not in the cache or must be
+	 *         revalidated.
+	 */
+	private <T> T readCachedResponse(Request request, TypeReference<T> responseType)
+	{
+		CacheableRequest cacheable = CacheableRequest.get(request);
+		CachedResponse cached = cacheable == null ? null : cacheable.getFreshResponse();
+
+		if (cached == null)
+		{
+			return null;
+		}
+
+		try
+		{
+			return getReader(responseType).readValue(cached.getBody());
+		}
+		catch (IOException ex)
+		{
+			// an unreadable response is fetched again
+			cacheable.invalidate();
+			return null;
+		}
+	}
+
+	/**
+	 * Sends the request and processes the response.
+	 * 
+	 * @param <T> The type of the response.
+	 * @param rootPartnerOperations An instance of the partner operations.
+	 * @param request The request to send.
+	 * @param responseType The type of object to be returned.
+	 * @return The processed response.
+	 */
+	private <T> T executeRequest(IPartner rootPartnerOperations, Request request, TypeReference<T> responseType)
+	{
+		Response response; 
+		T result;
+
+		request = observe(rootPartnerOperations, request);
+
+		try
+		{
+			response = send(rootPartnerOperations, request);
+			result = processResponse(rootPartnerOperations, response, responseType);
+		}
+		catch (IOException ex) 
+		{
+			PartnerException failure = toPartnerException(rootPartnerOperations, ex, null);
+
+			onCompleted(request, failure);
+			throw failure;
+		}
+		catch (RuntimeException ex)
+		{
+			onCompleted(request, ex);
+			throw ex;
+		}
+
+		onCompleted(request, null);
+
+		return result;
+	}
+
+	/**
+	 * Starts measuring and tracing a call, when metrics or a tracer are enabled, and lets it through the circuit
+	 * breaker of its route, when there is one.
+	 * 
+	 * @param rootPartnerOperations An instance of the partner operations.
+	 * @param request The request of the call.
+	 * @return The request carrying the measurement, the trace and the circuit breaker permit, or the same request when
+	 *         the call is not observed.
+	 * @throws PartnerException The circuit breaker rejected the call.
+	 */
+	private Request observe(IPartner rootPartnerOperations, Request request)
+	{
+		request = RequestMetrics.attach(request, metrics);
+		request = RequestTrace.attach(request, tracer, rootPartnerOperations.getRequestContext(), traceIdAsCorrelationId);
+
+		CircuitBreaker breaker = circuitBreaker;
+
+		if (breaker == null)
+		{
+			return request;
+		}
+
+		CircuitBreaker.Permit permit;
+
+		try
+		{
+			permit = breaker.acquire(RequestMetrics.getRouteName(request), rootPartnerOperations.getRequestContext(), metrics);
+		}
+		catch (PartnerException ex)
+		{
+			onCompleted(request, ex);
+			throw ex;
+		}
+
+		return request.newBuilder().tag(CircuitBreaker.Permit.class, permit).build();
+	}
+
+	/**
+	 * Gets a value indicating whether requests go through interceptors of this client, which are added to the HTTP
+	 * client of the REST client.
+	 * 
+	 * @return true if requests go through interceptors of this client; otherwise false.
+	 */
+	private boolean hasInterceptors()
+	{
+		return rateLimiter != null || metrics.isEnabled() || tracer.isEnabled() || compression != null;
+	}
+
+	/**
+	 * Records the end of an observed call.
+	 * 
+	 * @param request The request of the call.
+	 * @param failure The failure of the call, or null if it succeeded.
+	 */
+	private static void onCompleted(Request request, Throwable failure)
+	{
+		RequestMetrics measurement = RequestMetrics.get(request);
+		RequestTrace trace = RequestTrace.get(request);
+		CircuitBreaker.Permit permit = request.tag(CircuitBreaker.Permit.class);
+
+		if (permit != null)
+		{
+			permit.release(failure);
+		}
+
+		if (measurement != null)
+		{
+			measurement.onCompleted(failure);
+		}
+
+		if (trace != null)
+		{
+			trace.onCompleted(failure);
+		}
+	}
+
+	/**
+	 * Sends the request and waits for the response, pacing it with the rate limiter when there is one.
+	 * 
+	 * @param rootPartnerOperations An instance of the partner operations.
+	 * @param request The request to send.
+	 * @return The response.
+	 * @throws IOException The request could not be sent.
+	 */
+	private Response send(IPartner rootPartnerOperations, Request request) throws IOException
+	{
+		AdaptiveRateLimiter limiter = rateLimiter;
+
+		if (limiter == null)
+		{
+			return (hasInterceptors() ? getBlockingHttpClient() : httpClient()).newCall(request).execute();
+		}
+
+		try
+		{
+			limiter.acquire(request);
+		}
+		catch (InterruptedException ex)
+		{
+			Thread.currentThread().interrupt();
+
+			throw new PartnerException("Interrupted while waiting for the rate limit.", rootPartnerOperations.getRequestContext(),
+				PartnerErrorCategory.TIMEOUT, ex);
+		}
+
+		return getBlockingHttpClient().newCall(request).execute();
+	}
+
+	/**
+	 * Gets the HTTP client used for blocking requests when requests go through interceptors of this client. It is the
+	 * HTTP client of the REST client with the interceptors added after the retry handler, so they see every attempt.
+	 * 
+	 * @return The HTTP client used for blocking requests when requests go through interceptors of this client.
+	 */
+	private synchronized OkHttpClient getBlockingHttpClient()
+	{
+		if (blockingHttpClient == null)
+		{
+			blockingHttpClient = addInterceptors(httpClient().newBuilder()).build();
+		}
+
+		return blockingHttpClient;
+	}
+
+	/**
+	 * Adds the interceptors of this client. The compression comes last, so the other interceptors see the requests
+	 * and responses as they are before compression.
+	 * 
+	 * @param builder The builder of the HTTP client.
+	 * @return The builder of the HTTP client.
+	 */
+	private OkHttpClient.Builder addInterceptors(OkHttpClient.Builder builder)
+	{
+		if (rateLimiter != null)
+		{
+			builder.addInterceptor(rateLimiter);
+		}
+
+		if (metrics.isEnabled())
+		{
+			builder.addInterceptor(RequestMetrics.INTERCEPTOR);
+		}
+
+		if (tracer.isEnabled())
+		{
+			builder.addInterceptor(RequestTrace.INTERCEPTOR);
+		}
+
+		if (compression != null)
+		{
+			builder.addInterceptor(compression);
+		}
+
+		return builder;
+	}
+
+	/**
+	 * Sends the request and opens a reader over the items of the returned collection.
+	 * 
+	 * @param <T> The type of the items in the collection.
+	 * @param rootPartnerOperations An instance of the partner operations.
+	 * @param request The request to send.
+	 * @param itemType The type of the items in the collection.
+	 * @return A reader over the items of the collection.
+	 */
+	private <T> ResourceCollectionReader<T> openReader(IPartner rootPartnerOperations, Request request, TypeReference<T> itemType)
+	{
+		Response response; 
+		JsonParser parser;
+
+		request = observe(rootPartnerOperations, request);
+
+		try
+		{
+			response = send(rootPartnerOperations, request);
+		}
+		catch (IOException ex) 
 		{
-			throw new IllegalArgumentException("resourcePath cannot be null");
+			PartnerException failure = toPartnerException(rootPartnerOperations, ex, null);
+
+			onCompleted(request, failure);
+			throw failure;
+		}
+
+		if (!response.isSuccessful())
+		{
+			PartnerException failure = errorHandler.handleFailedResponse(response, rootPartnerOperations.getRequestContext());
+
+			onCompleted(request, failure);
+			throw failure;
+		}
+
+		onCompleted(request, null);
+
+		try
+		{
+			parser = getJsonConverter().getFactory().createParser(response.body().byteStream());
+		}
+		catch (IOException ex) 
+		{
+			response.close();
+			throw toPartnerException(rootPartnerOperations, ex, null);
+		}
+
+		return new ResourceCollectionReader<>(
+			rootPartnerOperations.getRequestContext(), 
+			response, 
+			parser, 
+			getReader(itemType));
+	}
+
+	/**
+	 * Sends the request without blocking the calling thread, unless its response is in the response cache or the
+	 * identical GET request in progress can be shared when requests are coalesced.
+	 * 
+	 * @param <T> The type of the response.
+	 * @param rootPartnerOperations An instance of the partner operations.
+	 * @param uncachedRequest The request to send.
+	 * @param responseType The type of object to be returned.
+	 * @return A future that completes with the processed response.
+	 */
+	private <T> CompletableFuture<T> handleResponseAsync(final IPartner rootPartnerOperations, Request uncachedRequest, final TypeReference<T> responseType)
+	{
+		final Request request = CacheableRequest.attach(uncachedRequest, responseCache, metrics);
+		T cached = readCachedResponse(request, responseType);
+
+		if (cached != null)
+		{
+			return CompletableFuture.completedFuture(cached);
+		}
+
+		RequestCoalescer coalescer = requestCoalescer;
+
+		if (coalescer == null || !RequestCoalescer.isCoalescable(request))
+		{
+			return executeRequestAsync(rootPartnerOperations, request, responseType);
 		}
 
-		StringBuilder address = new StringBuilder(
-			PartnerService.getInstance().getApiRootUrl() + "/"
-				+ PartnerService.getInstance().getPartnerServiceApiVersion() + "/" + relativeUri);
+		return coalescer.executeAsync(request, responseType.getType(), metrics, new Supplier<CompletableFuture<T>>()
+		{
+			@Override
+			public CompletableFuture<T> get()
+			{
+				return executeRequestAsync(rootPartnerOperations, request, responseType);
+			}
+		});
+	}
+
+	/**
+	 * Sends the request without blocking the calling thread. The returned future completes on an HTTP dispatcher
+	 * thread once the response has been processed. Failed attempts are retried according to the retry policy, with
+	 * the delay scheduled rather than waited for. Cancelling the future cancels the pending call.
+	 * 
+	 * @param <T> The type of the response.
+	 * @param rootPartnerOperations An instance of the partner operations.
+	 * @param request The request to send.
+	 * @param responseType The type of object to be returned.
+	 * @return A future that completes with the processed response.
+	 */
+	private <T> CompletableFuture<T> executeRequestAsync(final IPartner rootPartnerOperations, Request request, final TypeReference<T> responseType)
+	{
+		final CompletableFuture<T> future = new CompletableFuture<>();
+		final AtomicReference<Call> currentCall = new AtomicReference<>();
+		final Request observedRequest;
+
+		try
+		{
+			observedRequest = observe(rootPartnerOperations, request);
+		}
+		catch (PartnerException ex)
+		{
+			future.completeExceptionally(ex);
+			return future;
+		}
 
-		if(!isBuilt)
+		if (observedRequest != request)
 		{
-			if(parameters != null)
+			future.whenComplete(new BiConsumer<T, Throwable>()
 			{
-				if (!parameters.isEmpty()) 
+				@Override
+				public void accept(T value, Throwable ex)
 				{
-					address.append("?");
+					onCompleted(observedRequest, ex);
 				}
+			});
+		}
 
-				boolean firstParameter = true;
-				for (KeyValuePair<String, String> queryParameter : parameters)
-				{
-					if (!firstParameter) {
-						address.append("&");
-					}
+		future.whenComplete(new BiConsumer<T, Throwable>()
+		{
+			@Override
+			public void accept(T value, Throwable ex)
+			{
+				Call call = currentCall.get();
 
-					address.append(
-						MessageFormat.format(
-							"{0}={1}", 
-							queryParameter.getKey(), 
-							queryParameter.getValue()));
-					firstParameter = false;
-				} 
+				if (ex instanceof CancellationException && call != null)
+				{
+					call.cancel();
+				}
 			}
-		} 
+		});
 
-		return address.toString();
+		AdaptiveRateLimiter limiter = rateLimiter;
+		long delay = limiter == null ? 0 : limiter.reserve(observedRequest);
+
+		if (delay > 0)
+		{
+			scheduleSendAsync(rootPartnerOperations, observedRequest, responseType, future, currentCall, 0, delay);
+		}
+		else
+		{
+			sendAsync(rootPartnerOperations, observedRequest, responseType, future, currentCall, 0);
+		}
+
+		return future;
 	}
 
 	/**
-	 * Gets the headers for the HTTP request.
+	 * Sends one attempt of an asynchronous request and either completes the future or schedules the next attempt.
 	 * 
-	 * @param rootPartnerOperations An instance of the root partner operations.
-	 * @return The headers for the HTTP request.
+	 * @param <T> The type of the response.
+	 * @param rootPartnerOperations An instance of the partner operations.
+	 * @param request The request to send.
+	 * @param responseType The type of object to be returned.
+	 * @param future The future to complete.
+	 * @param currentCall Holds the call of the current attempt, so it can be cancelled.
+	 * @param retryCount The number of retries already made.
 	 */
-	private Map<String, String> getRequestHeaders(IPartner rootPartnerOperations, String acceptType)
+	private <T> void sendAsync(final IPartner rootPartnerOperations, final Request request, final TypeReference<T> responseType,
+		final CompletableFuture<T> future, final AtomicReference<Call> currentCall, final int retryCount)
 	{
-		Map<String, String> headers = new HashMap<>();
-		IRequestContext requestContext; 
-
-		if (rootPartnerOperations.getRequestContext().getRequestId().equals(new UUID(0, 0)))
+		if (future.isDone())
 		{
-			requestContext = RequestContextFactory.getInstance().create(
-				rootPartnerOperations.getRequestContext().getCorrelationId(),
-				UUID.randomUUID(),
-				rootPartnerOperations.getRequestContext().getLocale());
+			return;
 		}
-		else
+
+		Call call = getAsyncHttpClient().newCall(request);
+
+		currentCall.set(call);
+
+		if (future.isCancelled())
 		{
-			requestContext = rootPartnerOperations.getRequestContext();
+			call.cancel();
 		}
 
-		if(rootPartnerOperations.getCredentials().isExpired())
+		call.enqueue(new Callback()
 		{
-			if (PartnerService.getInstance().getRefreshCredentialsHandler() != null) 
+			@Override
+			public void onFailure(Call failedCall, IOException ex)
+			{
+				future.completeExceptionally(toPartnerException(rootPartnerOperations, ex, null));
+			}
+
+			@Override
+			public void onResponse(Call completedCall, Response response)
 			{
-				try 
+				long delay = retryPolicy.getRetryDelayInMilliseconds(retryCount, response);
+
+				if (delay >= 0)
+				{
+					response.close();
+					scheduleSendAsync(rootPartnerOperations, request, responseType, future, currentCall, retryCount + 1, delay);
+
+					return;
+				}
+
+				try
+				{
+					future.complete(processResponse(rootPartnerOperations, response, responseType));
+				}
+				catch (RuntimeException ex)
 				{
-					PartnerService.getInstance().getRefreshCredentialsHandler()
-						.onCredentialsRefreshNeeded(rootPartnerOperations.getCredentials(), rootPartnerOperations.getRequestContext());
-				} 
-				catch (Exception refreshProblem) 
+					future.completeExceptionally(ex);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Schedules an attempt of an asynchronous request after a delay.
+	 * 
+	 * @param <T> The type of the response.
+	 * @param rootPartnerOperations An instance of the partner operations.
+	 * @param request The request to send.
+	 * @param responseType The type of object to be returned.
+	 * @param future The future to complete.
+	 * @param currentCall Holds the call of the current attempt, so it can be cancelled.
+	 * @param retryCount The number of retries already made.
+	 * @param delay The delay in milliseconds.
+	 */
+	private <T> void scheduleSendAsync(final IPartner rootPartnerOperations, final Request request, final TypeReference<T> responseType,
+		final CompletableFuture<T> future, final AtomicReference<Call> currentCall, final int retryCount, long delay)
+	{
+		SCHEDULER.schedule(
+			new Runnable()
+			{
+				@Override
+				public void run()
 				{
-					throw new PartnerException("Refreshing the credentials has failed.", rootPartnerOperations.getRequestContext(),
-						PartnerErrorCategory.UNAUTHORIZED, refreshProblem);
+					sendAsync(rootPartnerOperations, request, responseType, future, currentCall, retryCount);
 				}
+			},
+			delay,
+			TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Gets the HTTP client used for asynchronous requests, which is the HTTP client of the REST client without its
+	 * blocking retry handler, plus the rate limiter when requests are paced.
+	 * 
+	 * @return The HTTP client used for asynchronous requests.
+	 */
+	private synchronized OkHttpClient getAsyncHttpClient()
+	{
+		if (asyncHttpClient == null)
+		{
+			OkHttpClient.Builder builder = httpClient().newBuilder();
+			Iterator<Interceptor> interceptors = builder.interceptors().iterator();
 
-				if (rootPartnerOperations.getCredentials().isExpired()) 
+			while (interceptors.hasNext())
+			{
+				if (interceptors.next() instanceof RetryHandler)
 				{
-					throw new PartnerException("The credential refresh mechanism provided expired credentials.",
-						rootPartnerOperations.getRequestContext(), PartnerErrorCategory.UNAUTHORIZED);
+					interceptors.remove();
 				}
 			}
-			else
-            {            
-                throw new PartnerException(
-                    "The partner credentials have expired. Please provide updated credentials.",
-                    rootPartnerOperations.getRequestContext(), 
-                    PartnerErrorCategory.UNAUTHORIZED);
-            }
-		} 
 
-		headers.put(AUTHORIZATION_HEADER, AUTHORIZATION_SCHEME + " " +  rootPartnerOperations.getCredentials().getPartnerServiceToken());
-		headers.put(CONTRACT_VERSION_HEADER, PartnerService.getInstance().getPartnerServiceApiVersion());
-		headers.put(CORRELATION_ID_HEADER, requestContext.getCorrelationId().toString());
-		headers.put(LOCALE_HEADER, requestContext.getLocale());
-		headers.put(REQUEST_ID_HEADER, requestContext.getRequestId().toString());
-		headers.put(SDK_VERSION_HEADER, PartnerService.getInstance().getSdkVersion());
+			asyncHttpClient = addInterceptors(builder).build();
+		}
+
+		return asyncHttpClient;
+	}
+
+	/**
+	 * Converts the response into the requested type or into the exception describing the failure.
+	 * 
+	 * @param <T> The type of the response.
+	 * @param rootPartnerOperations An instance of the partner operations.
+	 * @param response The response received from the partner service.
+	 * @param responseType The type of object to be returned.
+	 * @return The response converted into the requested type.
+	 */
+	@SuppressWarnings("unchecked")
+	private <T> T processResponse(IPartner rootPartnerOperations, Response response, TypeReference<T> responseType)
+	{
+		if (response.code() == HttpStatusCode.NOTMODIFIED)
+		{
+			T unchanged = readUnchangedResponse(rootPartnerOperations, response, responseType);
+
+			if (unchanged != null)
+			{
+				return unchanged;
+			}
+		}
+
+		if (!response.isSuccessful())
+		{
+			throw errorHandler.handleFailedResponse(response, rootPartnerOperations.getRequestContext());
+		}
+
+		CacheableRequest cacheable = CacheableRequest.get(response.request());
+		byte[] body = null;
 
-		if (PartnerService.getInstance().getApplicationName() != null
-			&& PartnerService.getInstance().getApplicationName().trim().isEmpty() != true) 
+		if (cacheable != null)
 		{
-			headers.put(
-				PARTNER_CENTER_APP_HEADER, 
-				PartnerService.getInstance().getApplicationName());
+			// the body of a cached response is kept as a whole, so it is read before it is deserialized
+			try
+			{
+				body = response.body().bytes();
+			}
+			catch (IOException ex)
+			{
+				response.close();
+				throw toPartnerException(rootPartnerOperations, ex, null);
+			}
 		}
 
-		headers.put(
-			CLIENT_HEADER,
-			PartnerService.getInstance().getConfiguration().getPartnerCenterClient());
+		PayloadCapturingInputStream payload = new PayloadCapturingInputStream(
+			body == null ? response.body().byteStream() : new ByteArrayInputStream(body));
+		RequestMetrics measurement = RequestMetrics.get(response.request());
+		long deserializationStart = measurement == null ? 0 : System.nanoTime();
+
+		try (JsonParser parser = getJsonConverter().getFactory().createParser(payload))
+		{
+			// An empty body is returned as the response itself, which is how delete and head calls are surfaced.
+			if (parser.nextToken() == null)
+			{
+				return (T)response;
+			}
+
+			T result = getReader(responseType).readValue(parser);
+
+			if (cacheable != null)
+			{
+				cacheable.store(body, response);
+			}
 
-		headers.put(ACCEPT_HEADER, acceptType);
+			if (measurement != null)
+			{
+				measurement.onDeserialized(System.nanoTime() - deserializationStart, payload.getByteCount());
+			}
 
-		return headers;
+			return result;
+		}
+		catch (IOException ex) 
+		{
+			throw toPartnerException(rootPartnerOperations, ex, payload.getCapturedPayload());
+		}
+		finally
+		{
+			response.close();
+		}
 	}
 
+	/**
+	 * Gets the response of a conditional request that the partner service answered with 304 Not Modified, which is
+	 * the instance the caller already holds or the revalidated cached response. The unchanged response is resolved
+	 * before the 304 response is released, and when the cached response cannot be read any more, the request is sent
+	 * again without its validators.
+	 * 
+	 * @param <T> The type of the response.
+	 * @param rootPartnerOperations An instance of the partner operations.
+	 * @param response The 304 Not Modified response.
+	 * @param responseType The type of object to be returned.
+	 * @return The unchanged response, or null if the request was not conditional.
+	 */
 	@SuppressWarnings("unchecked")
-	private <T> T handleResponse(IPartner rootPartnerOperations, Request request, TypeReference<T> responseType)
+	private <T> T readUnchangedResponse(IPartner rootPartnerOperations, Response response, TypeReference<T> responseType)
 	{
-		Response response; 
-		String responseBody = null; 
-		T value; 
+		Request request = response.request();
+		Object previous = ConditionalRequest.getPrevious(request);
+
+		if (previous != null)
+		{
+			response.close();
+
+			return (T)previous;
+		}
+
+		CacheableRequest cacheable = CacheableRequest.get(request);
+
+		if (cacheable == null || (request.header(IF_NONE_MATCH_HEADER) == null && request.header(IF_MODIFIED_SINCE_HEADER) == null))
+		{
+			return null;
+		}
+
+		T unchanged = null;
+		CachedResponse cached = cacheable.onNotModified();
+
+		if (cached != null)
+		{
+			try
+			{
+				unchanged = getReader(responseType).readValue(cached.getBody());
+			}
+			catch (IOException ex) 
+			{
+				cacheable.invalidate();
+			}
+		}
+
+		response.close();
+
+		if (unchanged != null)
+		{
+			return unchanged;
+		}
+
+		// the response the validators stood for is gone, so the request is sent again for the whole response
+		Request unconditional = request.newBuilder()
+			.removeHeader(IF_NONE_MATCH_HEADER)
+			.removeHeader(IF_MODIFIED_SINCE_HEADER)
+			.build();
 
 		try
 		{
-			response = httpClient().newCall(request).execute();
-		
-			if(response.isSuccessful())
+			return processResponse(rootPartnerOperations, send(rootPartnerOperations, unconditional), responseType);
+		}
+		catch (IOException ex)
+		{
+			throw toPartnerException(rootPartnerOperations, ex, null);
+		}
+	}
+
+	/**
+	 * Converts an I/O failure of a file download into the matching partner exception.
+	 * 
+	 * @param rootPartnerOperations An instance of the partner operations.
+	 * @param ex The I/O failure.
+	 * @return The partner exception that describes the failure.
+	 */
+	private PartnerException toDownloadException(IPartner rootPartnerOperations, IOException ex)
+	{
+		if (ex instanceof SocketTimeoutException)
+		{
+			return toPartnerException(rootPartnerOperations, ex, null);
+		}
+
+		return new PartnerException(
+			"Could not download the file contents. Detailed message: " + ex.getMessage(),
+			rootPartnerOperations.getRequestContext(),
+			PartnerErrorCategory.NOT_SPECIFIED,
+			ex);
+	}
+
+	/**
+	 * Converts an I/O failure into the matching partner exception.
+	 * 
+	 * @param rootPartnerOperations An instance of the partner operations.
+	 * @param ex The I/O failure.
+	 * @param responseBody The response payload, if one was read.
+	 * @return The partner exception that describes the failure.
+	 */
+	private PartnerException toPartnerException(IPartner rootPartnerOperations, IOException ex, String responseBody)
+	{
+		if (ex instanceof SocketTimeoutException)
+		{
+			return new PartnerException(
+				"Socket timeout exception",
+				rootPartnerOperations.getRequestContext(),
+				PartnerErrorCategory.TIMEOUT,
+				ex);
+		}
+
+		return new PartnerResponseParseException(
+			responseBody, 
+			rootPartnerOperations.getRequestContext(), 
+			"Could not deserialize response. Detailed message: " + ex.getMessage(),
+			ex);
+	}
+
+	/**
+	 * Wraps the response stream so the leading part of the payload is still available when the response cannot be
+	 * deserialized. Only the first bytes are retained, so large responses are never held in memory as a whole.
+	 */
+	private static class PayloadCapturingInputStream
+		extends FilterInputStream
+	{
+		/**
+		 * The maximum number of bytes retained for diagnostics.
+		 */
+		private static final int MAX_CAPTURED_BYTES = 8192;
+
+		/**
+		 * The bytes read so far, up to the maximum.
+		 */
+		private final ByteArrayOutputStream captured = new ByteArrayOutputStream();
+
+		/**
+		 * A value indicating whether bytes beyond the maximum have been read.
+		 */
+		private boolean truncated;
+
+		/**
+		 * The number of bytes read.
+		 */
+		private long byteCount;
+
+		/**
+		 * Initializes a new instance of the PayloadCapturingInputStream class.
+		 * 
+		 * @param in The response stream.
+		 */
+		PayloadCapturingInputStream(InputStream in)
+		{
+			super(in);
+		}
+
+		@Override
+		public int read() throws IOException
+		{
+			int value = super.read();
+
+			if (value != -1)
 			{
-				responseBody = response.body().string();
+				capture(new byte[] { (byte)value }, 0, 1);
+			}
 
-				if(StringHelper.isNullOrEmpty(responseBody))
-				{
-					value = (T)response;
-				}
-				else
-				{
-					value = getJsonConverter().readValue(responseBody, responseType);
-				}
+			return value;
+		}
 
-				response.close();
-				return value; 
+		@Override
+		public int read(byte[] buffer, int offset, int length) throws IOException
+		{
+			int count = super.read(buffer, offset, length);
+
+			if (count > 0)
+			{
+				capture(buffer, offset, count);
 			}
 
-			throw errorHandler.handleFailedResponse(response, rootPartnerOperations.getRequestContext());
+			return count;
 		}
-		catch (SocketTimeoutException ex)
+
+		/**
+		 * Gets the number of bytes read.
+		 * 
+		 * @return The number of bytes read.
+		 */
+		long getByteCount()
 		{
-			throw new PartnerException(
-					"Socket timeout exception",
-					rootPartnerOperations.getRequestContext(),
-					PartnerErrorCategory.TIMEOUT,
-					ex);
+			return byteCount;
 		}
-		catch (IOException ex) 
+
+		/**
+		 * Gets the captured part of the payload.
+		 * 
+		 * @return The captured part of the payload, followed by an ellipsis when the payload was longer.
+		 */
+		String getCapturedPayload()
 		{
-			throw new PartnerResponseParseException(
-				responseBody, 
-				rootPartnerOperations.getRequestContext(), 
-				"Could not deserialize response. Detailed message: " + ex.getMessage(),
-				ex);
+			String value = new String(captured.toByteArray(), StandardCharsets.UTF_8);
+
+			return truncated ? value + "..." : value;
+		}
+
+		private void capture(byte[] buffer, int offset, int count)
+		{
+			byteCount += count;
+
+			int remaining = MAX_CAPTURED_BYTES - captured.size();
+
+			if (count > remaining)
+			{
+				truncated = true;
+			}
+
+			if (remaining > 0)
+			{
+				captured.write(buffer, offset, Math.min(count, remaining));
+			}
+		}
+	}
+
+	/**
+	 * The headers shared by every request, with the partner service settings they were built from.
+	 */
+	private static class SharedRequestHeaders
+	{
+		private final String contractVersion;
+
+		private final String sdkVersion;
+
+		private final String applicationName;
+
+		private final String client;
+
+		private final Headers headers;
+
+		SharedRequestHeaders(String contractVersion, String sdkVersion, String applicationName, String client)
+		{
+			Headers.Builder builder = new Headers.Builder()
+				.add(CONTRACT_VERSION_HEADER, contractVersion)
+				.add(SDK_VERSION_HEADER, sdkVersion)
+				.add(CLIENT_HEADER, client);
+
+			if (applicationName != null && !applicationName.trim().isEmpty())
+			{
+				builder.add(PARTNER_CENTER_APP_HEADER, applicationName);
+			}
+
+			this.contractVersion = contractVersion;
+			this.sdkVersion = sdkVersion;
+			this.applicationName = applicationName;
+			this.client = client;
+			this.headers = builder.build();
+		}
+
+		/**
+		 * Checks whether the headers were built from the given settings.
+		 * 
+		 * @param contractVersion The contract version.
+		 * @param sdkVersion The SDK version.
+		 * @param applicationName The application name.
+		 * @param client The partner center client name.
+		 * @return true if the headers were built from the given settings; otherwise false.
+		 */
+		boolean isBuiltFrom(String contractVersion, String sdkVersion, String applicationName, String client)
+		{
+			return Objects.equals(this.contractVersion, contractVersion)
+				&& Objects.equals(this.sdkVersion, sdkVersion)
+				&& Objects.equals(this.applicationName, applicationName)
+				&& Objects.equals(this.client, client);
 		}
 	}
 }
\ No newline at end of file
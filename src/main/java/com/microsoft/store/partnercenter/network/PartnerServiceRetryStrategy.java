@@ -7,19 +7,21 @@ import java.util.Arrays;
 import java.util.List;
 
 import com.microsoft.rest.retry.RetryStrategy;
+import com.microsoft.store.partnercenter.PartnerService;
 
 import okhttp3.Response;
 
 /**
  * Represents a retry strategy that determines the number of retry attempts and
- * the interval between retries.
+ * the interval between retries. The decision and the delay come from a {@link RetryPolicy};
+ * this strategy waits for the delay on the thread that executes the request.
  */
 public class PartnerServiceRetryStrategy extends RetryStrategy 
 {
     /**
-     * The maximum number of retry attempts. 
+     * The policy that decides whether to retry and how long to wait. 
      */
-    private int maxRetryAttempts;
+    private final RetryPolicy retryPolicy;
 
     /**
      * The name of the retry strategy.
@@ -39,20 +41,53 @@ public class PartnerServiceRetryStrategy extends RetryStrategy
             HttpStatusCode.EXPECTATIONFAILED);
 
     /**
-     * Initializes a new instance of the {@link PartnerServiceRetryStrategy} class.
+     * Initializes a new instance of the {@link PartnerServiceRetryStrategy} class that uses the configured backoff
+     * and retry budget.
      * 
      * @param maxRetryAttempts The maximum number of retry attempts.
      */
     public PartnerServiceRetryStrategy(int maxRetryAttempts)
+    {
+        this(
+            new RetryPolicy(
+                maxRetryAttempts,
+                PartnerService.getInstance().getConfiguration().getDefaultRetryBaseDelayInSeconds() * 1000L,
+                PartnerService.getInstance().getConfiguration().getDefaultRetryMaxDelayInSeconds() * 1000L,
+                new RetryBudget(
+                    PartnerService.getInstance().getConfiguration().getDefaultRetryBudgetPercentage(),
+                    RetryPolicy.RETRY_BUDGET_RESERVE)));
+    }   
+
+    /**
+     * Initializes a new instance of the {@link PartnerServiceRetryStrategy} class.
+     * 
+     * @param retryPolicy The policy that decides whether to retry and how long to wait.
+     */
+    public PartnerServiceRetryStrategy(RetryPolicy retryPolicy)
     {
         super(Name, true);
 
-        this.maxRetryAttempts = maxRetryAttempts;
+        if (retryPolicy == null)
+        {
+            throw new IllegalArgumentException("retryPolicy null");
+        }
+
+        this.retryPolicy = retryPolicy;
     }   
 
+    /**
+     * Gets the policy that decides whether to retry and how long to wait.
+     * 
+     * @return The retry policy.
+     */
+    public RetryPolicy getRetryPolicy()
+    {
+        return retryPolicy;
+    }
+
     /**
      * Returns if a request should be retried based on the retry count, current response,
-     * and the current strategy.
+     * and the current strategy. When the request is retried, this waits for the retry delay first.
      *
      * @param retryCount The current retry attempt count.
      * @param response The exception that caused the retry conditions to occur.
@@ -61,24 +96,22 @@ public class PartnerServiceRetryStrategy extends RetryStrategy
     @Override
     public boolean shouldRetry(int retryCount, Response response)
     {
-        double exponentialBackOffTime = (Math.pow(2, retryCount) - 1) / 2;
+        long delay = retryPolicy.getRetryDelayInMilliseconds(retryCount, response);
 
-        if(retryCount > maxRetryAttempts && nonRetryableHttpCodes.contains(response.code()))
-        {
-            return false;
-        }
-
-        if(response.isSuccessful())
+        if (delay < 0)
         {
             return false;
         }
 
         try
         {
-            Thread.sleep((long)exponentialBackOffTime);
+            Thread.sleep(delay);
         }
         catch (InterruptedException ex)
         {
+            Thread.currentThread().interrupt();
+
+            return false;
         }
         
         return true;
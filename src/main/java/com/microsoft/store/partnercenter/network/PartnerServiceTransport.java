@@ -0,0 +1,499 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license. See the LICENSE file in the project root for full license information.
+
+package com.microsoft.store.partnercenter.network;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import com.microsoft.rest.RestClient;
+import com.microsoft.rest.ServiceResponseBuilder;
+import com.microsoft.rest.serializer.JacksonAdapter;
+import com.microsoft.store.partnercenter.PartnerService;
+import com.microsoft.store.partnercenter.configuration.Configuration;
+
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import retrofit2.Retrofit;
+
+/**
+ * Holds the HTTP transport that is shared by all partner service clients in the process. Every partner operations
+ * instance reuses the same connection pool and dispatcher, so creating partner operations for each request context
+ * does not open new connections or repeat TLS handshakes.
+ */
+public class PartnerServiceTransport
+{
+    /**
+     * A singleton instance of the partner service transport.
+     */
+    private static PartnerServiceTransport instance = new PartnerServiceTransport();
+
+    /**
+     * The connection pool shared by all partner service clients.
+     */
+    private ConnectionPool connectionPool;
+
+    /**
+     * The dispatcher shared by all partner service clients.
+     */
+    private Dispatcher dispatcher;
+
+    /**
+     * Limits the concurrent calls to each host, including the calls that the dispatcher does not run.
+     */
+    private HostConcurrencyLimiter hostConcurrencyLimiter;
+
+    /**
+     * The REST client built on top of the shared connection pool and dispatcher.
+     */
+    private RestClient restClient;
+
+    /**
+     * The retry policy shared by all partner service clients, so they draw from the same retry budget.
+     */
+    private RetryPolicy retryPolicy;
+
+    /**
+     * The rate limiter shared by all partner service clients, or null if requests are not paced.
+     */
+    private AdaptiveRateLimiter rateLimiter;
+
+    /**
+     * The metrics shared by all partner service clients.
+     */
+    private IPartnerServiceMetrics metrics = NoOpPartnerServiceMetrics.getInstance();
+
+    /**
+     * The tracer shared by all partner service clients.
+     */
+    private IPartnerServiceTracer tracer = NoOpPartnerServiceTracer.getInstance();
+
+    /**
+     * A value indicating whether the trace identifier of a traced call is sent as its correlation identifier.
+     */
+    private boolean traceIdAsCorrelationId;
+
+    /**
+     * The compression policy shared by all partner service clients, or null to leave the compression to the HTTP client.
+     */
+    private CompressionPolicy compressionPolicy;
+
+    /**
+     * A value indicating whether HTTP/2 is negotiated with servers that support it.
+     */
+    private boolean http2Enabled = true;
+
+    /**
+     * The circuit breakers and bulkheads shared by all partner service clients, or null if requests are always sent.
+     */
+    private CircuitBreaker circuitBreaker;
+
+    /**
+     * The request coalescer shared by all partner service clients, or null if every request is sent.
+     */
+    private RequestCoalescer requestCoalescer;
+
+    /**
+     * The response cache shared by all partner service clients, or null if responses are not cached.
+     */
+    private IResponseCache responseCache;
+
+    /**
+     * The maximum number of idle connections kept in the pool.
+     */
+    private int maxIdleConnections;
+
+    /**
+     * The time in seconds an idle connection is kept alive.
+     */
+    private long keepAliveDurationInSeconds;
+
+    /**
+     * The maximum number of concurrent requests to a single host.
+     */
+    private int maxRequestsPerHost;
+
+    /**
+     * Prevents a default instance of the PartnerServiceTransport class from being created.
+     */
+    private PartnerServiceTransport()
+    {
+        Configuration configuration = PartnerService.getInstance().getConfiguration();
+
+        retryPolicy = RetryPolicy.fromConfiguration(configuration);
+
+        configure(
+            configuration.getDefaultMaxIdleConnections(),
+            configuration.getDefaultKeepAliveDurationInSeconds(),
+            configuration.getDefaultMaxRequestsPerHost());
+    }
+
+    /**
+     * Gets an instance of the partner service transport.
+     *
+     * @return An instance of the partner service transport.
+     */
+    public static PartnerServiceTransport getInstance()
+    {
+        return PartnerServiceTransport.instance;
+    }
+
+    /**
+     * Configures the shared transport. Partner operations created after this call use the new settings, while
+     * existing instances keep the transport they were created with.
+     *
+     * @param maxIdleConnections The maximum number of idle connections kept in the pool.
+     * @param keepAliveDurationInSeconds The time in seconds an idle connection is kept alive.
+     * @param maxRequestsPerHost The maximum number of concurrent requests to a single host, for both synchronous and
+     * asynchronous calls. A call holds its slot until its response body is closed.
+     */
+    public synchronized void configure(int maxIdleConnections, long keepAliveDurationInSeconds, int maxRequestsPerHost)
+    {
+        if (maxIdleConnections < 0)
+        {
+            throw new IllegalArgumentException("maxIdleConnections cannot be negative");
+        }
+
+        if (keepAliveDurationInSeconds <= 0)
+        {
+            throw new IllegalArgumentException("keepAliveDurationInSeconds must be greater than zero");
+        }
+
+        if (maxRequestsPerHost <= 0)
+        {
+            throw new IllegalArgumentException("maxRequestsPerHost must be greater than zero");
+        }
+
+        this.maxIdleConnections = maxIdleConnections;
+        this.keepAliveDurationInSeconds = keepAliveDurationInSeconds;
+        this.maxRequestsPerHost = maxRequestsPerHost;
+
+        connectionPool = new ConnectionPool(maxIdleConnections, keepAliveDurationInSeconds, TimeUnit.SECONDS);
+
+        dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(Math.max(dispatcher.getMaxRequests(), maxRequestsPerHost));
+        dispatcher.setMaxRequestsPerHost(maxRequestsPerHost);
+
+        // the dispatcher only limits enqueued calls, so the limit of the calls executed by their caller is kept here
+        hostConcurrencyLimiter = new HostConcurrencyLimiter(maxRequestsPerHost);
+
+        restClient = null;
+    }
+
+    /**
+     * Gets the maximum number of idle connections kept in the pool.
+     *
+     * @return The maximum number of idle connections kept in the pool.
+     */
+    public synchronized int getMaxIdleConnections()
+    {
+        return maxIdleConnections;
+    }
+
+    /**
+     * Gets the time in seconds an idle connection is kept alive.
+     *
+     * @return The time in seconds an idle connection is kept alive.
+     */
+    public synchronized long getKeepAliveDurationInSeconds()
+    {
+        return keepAliveDurationInSeconds;
+    }
+
+    /**
+     * Gets the maximum number of concurrent requests to a single host. The limit applies to both synchronous and
+     * asynchronous calls.
+     *
+     * @return The maximum number of concurrent requests to a single host.
+     */
+    public synchronized int getMaxRequestsPerHost()
+    {
+        return maxRequestsPerHost;
+    }
+
+    /**
+     * Gets the shared connection pool.
+     *
+     * @return The shared connection pool.
+     */
+    public synchronized ConnectionPool getConnectionPool()
+    {
+        return connectionPool;
+    }
+
+    /**
+     * Gets the shared dispatcher. The dispatcher runs the asynchronous calls and limits only those; the per-host limit
+     * of synchronous calls is kept by an interceptor of the shared client.
+     *
+     * @return The shared dispatcher.
+     */
+    public synchronized Dispatcher getDispatcher()
+    {
+        return dispatcher;
+    }
+
+    /**
+     * Gets the retry policy shared by all partner service clients.
+     *
+     * @return The shared retry policy.
+     */
+    public synchronized RetryPolicy getRetryPolicy()
+    {
+        return retryPolicy;
+    }
+
+    /**
+     * Sets the retry policy shared by all partner service clients. Partner operations created after this call use the
+     * new policy.
+     *
+     * @param value The retry policy.
+     */
+    public synchronized void setRetryPolicy(RetryPolicy value)
+    {
+        if (value == null)
+        {
+            throw new IllegalArgumentException("value null");
+        }
+
+        retryPolicy = value;
+        restClient = null;
+    }
+
+    /**
+     * Gets the rate limiter shared by all partner service clients.
+     *
+     * @return The shared rate limiter, or null if requests are not paced.
+     */
+    public synchronized AdaptiveRateLimiter getRateLimiter()
+    {
+        return rateLimiter;
+    }
+
+    /**
+     * Sets the rate limiter shared by all partner service clients. Requests are not paced unless a rate limiter is set,
+     * for example with {@code setRateLimiter(AdaptiveRateLimiter.fromConfiguration(configuration))}. Partner operations
+     * created after this call use the new rate limiter, which reports to the shared metrics.
+     *
+     * @param value The rate limiter, or null to stop pacing requests.
+     */
+    public synchronized void setRateLimiter(AdaptiveRateLimiter value)
+    {
+        rateLimiter = value;
+
+        if (rateLimiter != null)
+        {
+            rateLimiter.setMetrics(metrics);
+        }
+    }
+
+    /**
+     * Gets the metrics shared by all partner service clients.
+     *
+     * @return The shared metrics, which do nothing unless metrics were set.
+     */
+    public synchronized IPartnerServiceMetrics getMetrics()
+    {
+        return metrics;
+    }
+
+    /**
+     * Sets the metrics shared by all partner service clients. Calls are not measured unless metrics are set. Partner
+     * operations created after this call report to the new metrics.
+     *
+     * @param value The metrics, or null to stop measuring calls.
+     */
+    public synchronized void setMetrics(IPartnerServiceMetrics value)
+    {
+        metrics = value == null ? NoOpPartnerServiceMetrics.getInstance() : value;
+
+        if (rateLimiter != null)
+        {
+            rateLimiter.setMetrics(metrics);
+        }
+    }
+
+    /**
+     * Gets the tracer shared by all partner service clients.
+     *
+     * @return The shared tracer, which opens no spans unless a tracer was set.
+     */
+    public synchronized IPartnerServiceTracer getTracer()
+    {
+        return tracer;
+    }
+
+    /**
+     * Sets the tracer shared by all partner service clients. Calls are not traced unless a tracer is set. Partner
+     * operations created after this call use the new tracer.
+     *
+     * @param value The tracer, or null to stop tracing calls.
+     */
+    public synchronized void setTracer(IPartnerServiceTracer value)
+    {
+        tracer = value == null ? NoOpPartnerServiceTracer.getInstance() : value;
+    }
+
+    /**
+     * Gets a value indicating whether the trace identifier of a traced call is sent as its correlation identifier.
+     *
+     * @return true if the trace identifier is sent as the correlation identifier; otherwise false.
+     */
+    public synchronized boolean isTraceIdAsCorrelationId()
+    {
+        return traceIdAsCorrelationId;
+    }
+
+    /**
+     * Sets a value indicating whether the trace identifier of a traced call is sent as its correlation identifier
+     * instead of the correlation identifier of the request context. Partner operations created after this call use
+     * the new value.
+     *
+     * @param value true to send the trace identifier as the correlation identifier; otherwise false.
+     */
+    public synchronized void setTraceIdAsCorrelationId(boolean value)
+    {
+        traceIdAsCorrelationId = value;
+    }
+
+    /**
+     * Gets the compression policy shared by all partner service clients.
+     *
+     * @return The shared compression policy, or null if the compression is left to the HTTP client.
+     */
+    public synchronized CompressionPolicy getCompressionPolicy()
+    {
+        return compressionPolicy;
+    }
+
+    /**
+     * Sets the compression policy shared by all partner service clients, for example
+     * {@code new CompressionPolicy(true, CompressionPolicy.REQUEST_COMPRESSION_DISABLED)} to accept gzip and deflate
+     * encoded responses and report the bytes saved. Partner operations created after this call use the new policy.
+     *
+     * @param value The compression policy, or null to leave the compression to the HTTP client.
+     */
+    public synchronized void setCompressionPolicy(CompressionPolicy value)
+    {
+        compressionPolicy = value;
+    }
+
+    /**
+     * Gets the circuit breakers and bulkheads shared by all partner service clients.
+     *
+     * @return The shared circuit breakers and bulkheads, or null if requests are always sent.
+     */
+    public synchronized CircuitBreaker getCircuitBreaker()
+    {
+        return circuitBreaker;
+    }
+
+    /**
+     * Sets the circuit breakers and bulkheads shared by all partner service clients, for example
+     * {@code setCircuitBreaker(new CircuitBreaker(5, 30000, 16))} to open the circuit of an API after five consecutive
+     * failures for thirty seconds and allow sixteen concurrent requests per API. Partner operations created after this
+     * call use the new circuit breakers.
+     *
+     * @param value The circuit breakers and bulkheads, or null to always send requests.
+     */
+    public synchronized void setCircuitBreaker(CircuitBreaker value)
+    {
+        circuitBreaker = value;
+    }
+
+    /**
+     * Gets the request coalescer shared by all partner service clients.
+     *
+     * @return The shared request coalescer, or null if every request is sent.
+     */
+    public synchronized RequestCoalescer getRequestCoalescer()
+    {
+        return requestCoalescer;
+    }
+
+    /**
+     * Sets the request coalescer shared by all partner service clients. Concurrent identical GET requests from any
+     * partner operations then share one call and one result. Partner operations created after this call use the new
+     * coalescer.
+     *
+     * @param value The request coalescer, or null to send every request.
+     */
+    public synchronized void setRequestCoalescer(RequestCoalescer value)
+    {
+        requestCoalescer = value;
+    }
+
+    /**
+     * Gets the response cache shared by all partner service clients.
+     *
+     * @return The shared response cache, or null if responses are not cached.
+     */
+    public synchronized IResponseCache getResponseCache()
+    {
+        return responseCache;
+    }
+
+    /**
+     * Sets the response cache shared by all partner service clients. The responses of the API routes that declare a
+     * cache duration in the partner service configuration are then kept until they expire. Partner operations created
+     * after this call use the new cache.
+     *
+     * @param value The response cache, or null to send every request.
+     */
+    public synchronized void setResponseCache(IResponseCache value)
+    {
+        responseCache = value;
+    }
+
+    /**
+     * Gets a value indicating whether HTTP/2 is negotiated with servers that support it.
+     *
+     * @return true if HTTP/2 is negotiated; otherwise false.
+     */
+    public synchronized boolean isHttp2Enabled()
+    {
+        return http2Enabled;
+    }
+
+    /**
+     * Sets a value indicating whether HTTP/2 is negotiated with servers that support it. With HTTP/2, concurrent
+     * requests to the partner service share one multiplexed connection instead of opening a connection each.
+     *
+     * @param value true to negotiate HTTP/2; false to only use HTTP/1.1.
+     */
+    public synchronized void setHttp2Enabled(boolean value)
+    {
+        http2Enabled = value;
+        restClient = null;
+    }
+
+    /**
+     * Gets the REST client that uses the shared connection pool and dispatcher.
+     *
+     * @return The REST client that uses the shared connection pool and dispatcher.
+     */
+    public synchronized RestClient getRestClient()
+    {
+        if (restClient == null)
+        {
+            restClient = new RestClient.Builder(
+                    new OkHttpClient.Builder()
+                        .connectionPool(connectionPool)
+                        .dispatcher(dispatcher)
+                        .addInterceptor(hostConcurrencyLimiter)
+                        .protocols(http2Enabled 
+                            ? Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1) 
+                            : Collections.singletonList(Protocol.HTTP_1_1)),
+                    new Retrofit.Builder())
+                .withBaseUrl(PartnerService.getInstance().getApiRootUrl())
+                .withRetryStrategy(new PartnerServiceRetryStrategy(retryPolicy))
+                .withSerializerAdapter(new JacksonAdapter())
+                .withResponseBuilderFactory(new ServiceResponseBuilder.Factory())
+                .build();
+        }
+
+        return restClient;
+    }
+}
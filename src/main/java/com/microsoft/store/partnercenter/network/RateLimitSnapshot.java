@@ -0,0 +1,120 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license. See the LICENSE file in the project root for full license information.
+
+package com.microsoft.store.partnercenter.network;
+
+/**
+ * The state of one rate limit kept by the {@link AdaptiveRateLimiter} at the time it was read.
+ */
+public class RateLimitSnapshot
+{
+    /**
+     * The key of the rate limit, for example partner/{tenant}, customer/{id} or api/{name}.
+     */
+    private final String key;
+
+    /**
+     * The rate currently allowed, in requests per second.
+     */
+    private final double requestsPerSecond;
+
+    /**
+     * The highest rate the limit can grow back to, in requests per second.
+     */
+    private final double maxRequestsPerSecond;
+
+    /**
+     * The number of throttled responses received for the key.
+     */
+    private final long throttledCount;
+
+    /**
+     * The number of requests that had to wait for the limit.
+     */
+    private final long delayedCount;
+
+    /**
+     * The total time requests waited for the limit, in milliseconds.
+     */
+    private final long totalDelayInMilliseconds;
+
+    /**
+     * Initializes a new instance of the {@link RateLimitSnapshot} class.
+     *
+     * @param key The key of the rate limit.
+     * @param requestsPerSecond The rate currently allowed, in requests per second.
+     * @param maxRequestsPerSecond The highest rate the limit can grow back to, in requests per second.
+     * @param throttledCount The number of throttled responses received for the key.
+     * @param delayedCount The number of requests that had to wait for the limit.
+     * @param totalDelayInMilliseconds The total time requests waited for the limit, in milliseconds.
+     */
+    public RateLimitSnapshot(String key, double requestsPerSecond, double maxRequestsPerSecond, long throttledCount, long delayedCount, long totalDelayInMilliseconds)
+    {
+        this.key = key;
+        this.requestsPerSecond = requestsPerSecond;
+        this.maxRequestsPerSecond = maxRequestsPerSecond;
+        this.throttledCount = throttledCount;
+        this.delayedCount = delayedCount;
+        this.totalDelayInMilliseconds = totalDelayInMilliseconds;
+    }
+
+    /**
+     * Gets the key of the rate limit.
+     *
+     * @return The key of the rate limit.
+     */
+    public String getKey()
+    {
+        return key;
+    }
+
+    /**
+     * Gets the rate currently allowed.
+     *
+     * @return The rate currently allowed, in requests per second.
+     */
+    public double getRequestsPerSecond()
+    {
+        return requestsPerSecond;
+    }
+
+    /**
+     * Gets the highest rate the limit can grow back to.
+     *
+     * @return The highest rate the limit can grow back to, in requests per second.
+     */
+    public double getMaxRequestsPerSecond()
+    {
+        return maxRequestsPerSecond;
+    }
+
+    /**
+     * Gets the number of throttled responses received for the key.
+     *
+     * @return The number of throttled responses.
+     */
+    public long getThrottledCount()
+    {
+        return throttledCount;
+    }
+
+    /**
+     * Gets the number of requests that had to wait for the limit.
+     *
+     * @return The number of requests that had to wait.
+     */
+    public long getDelayedCount()
+    {
+        return delayedCount;
+    }
+
+    /**
+     * Gets the total time requests waited for the limit.
+     *
+     * @return The total wait in milliseconds.
+     */
+    public long getTotalDelayInMilliseconds()
+    {
+        return totalDelayInMilliseconds;
+    }
+}
@@ -0,0 +1,238 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license. See the LICENSE file in the project root for full license information.
+
+package com.microsoft.store.partnercenter.network;
+
+import java.lang.reflect.Type;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import okhttp3.Headers;
+import okhttp3.Request;
+
+/**
+ * Shares one call between concurrent identical GET requests (single flight). A GET request that matches a request
+ * already in progress, with the same address, the same headers and so the same credentials, and the same response
+ * type, does not go to the partner service; it waits for the request in progress and receives the same result or
+ * failure. The identifiers of the request and its trace are not compared, as they differ for every request.
+ *
+ * <p>Callers that share a call also share the deserialized result, so the result must not be modified. Only requests
+ * that overlap in time are coalesced; nothing is cached once a request has completed.</p>
+ */
+public class RequestCoalescer
+{
+    /**
+     * The calls in progress by key.
+     */
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * The number of requests that shared a call in progress.
+     */
+    private final AtomicLong coalescedCount = new AtomicLong();
+
+    /**
+     * Gets the number of requests that shared a call in progress instead of sending their own.
+     *
+     * @return The number of coalesced requests.
+     */
+    public long getCoalescedCount()
+    {
+        return coalescedCount.get();
+    }
+
+    /**
+     * Gets the number of calls in progress that requests can share.
+     *
+     * @return The number of calls in progress.
+     */
+    public int getInFlightCount()
+    {
+        return inFlight.size();
+    }
+
+    /**
+     * Checks whether a request can be coalesced. Requests conditional on an instance held by the caller are not, as
+     * each caller expects its own instance back when the resource did not change.
+     *
+     * @param request The request.
+     * @return true if the request can be coalesced; otherwise false.
+     */
+    static boolean isCoalescable(Request request)
+    {
+        return "GET".equals(request.method()) && request.tag(ConditionalRequest.class) == null;
+    }
+
+    /**
+     * Runs a call, or waits for the identical call in progress and returns its result.
+     *
+     * @param <T> The type of the result.
+     * @param request The request of the call.
+     * @param responseType The type of the result.
+     * @param metrics Receives the count of coalesced requests.
+     * @param call Runs the call.
+     * @return The result of the call.
+     */
+    @SuppressWarnings("unchecked")
+    <T> T execute(Request request, Type responseType, IPartnerServiceMetrics metrics, Supplier<T> call)
+    {
+        String key = getKey(request, responseType);
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, flight);
+
+        if (existing != null)
+        {
+            onCoalesced(request, metrics);
+
+            try
+            {
+                return (T)existing.join();
+            }
+            catch (CompletionException ex)
+            {
+                if (ex.getCause() instanceof RuntimeException)
+                {
+                    throw (RuntimeException)ex.getCause();
+                }
+
+                throw ex;
+            }
+        }
+
+        try
+        {
+            T result = call.get();
+
+            flight.complete(result);
+
+            return result;
+        }
+        catch (RuntimeException ex)
+        {
+            flight.completeExceptionally(ex);
+
+            throw ex;
+        }
+        finally
+        {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * Starts a call, or returns a future that completes with the identical call in progress. Cancelling the returned
+     * future does not cancel the shared call.
+     *
+     * @param <T> The type of the result.
+     * @param request The request of the call.
+     * @param responseType The type of the result.
+     * @param metrics Receives the count of coalesced requests.
+     * @param call Starts the call.
+     * @return A future that completes with the result of the call.
+     */
+    @SuppressWarnings("unchecked")
+    <T> CompletableFuture<T> executeAsync(Request request, Type responseType, IPartnerServiceMetrics metrics, Supplier<CompletableFuture<T>> call)
+    {
+        final String key = getKey(request, responseType);
+        final CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, flight);
+
+        if (existing != null)
+        {
+            onCoalesced(request, metrics);
+
+            return (CompletableFuture<T>)existing.thenApply(Function.identity());
+        }
+
+        CompletableFuture<T> started;
+
+        try
+        {
+            started = call.get();
+        }
+        catch (RuntimeException ex)
+        {
+            inFlight.remove(key, flight);
+            flight.completeExceptionally(ex);
+
+            throw ex;
+        }
+
+        started.whenComplete(new BiConsumer<T, Throwable>()
+        {
+            @Override
+            public void accept(T value, Throwable ex)
+            {
+                inFlight.remove(key, flight);
+
+                if (ex != null)
+                {
+                    flight.completeExceptionally(ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex);
+                }
+                else
+                {
+                    flight.complete(value);
+                }
+            }
+        });
+
+        return (CompletableFuture<T>)flight.thenApply(Function.identity());
+    }
+
+    /**
+     * Builds the key that identifies identical requests: the method, the address, the headers other than the request
+     * and trace identifiers, and the response type.
+     *
+     * @param request The request.
+     * @param responseType The type of the result.
+     * @return The key of the request.
+     */
+    static String getKey(Request request, Type responseType)
+    {
+        StringBuilder key = new StringBuilder(256)
+            .append(request.method())
+            .append(' ')
+            .append(request.url())
+            .append('\n')
+            .append(responseType.getTypeName());
+
+        Headers headers = request.headers();
+
+        // the names are sorted, so the same headers always give the same key
+        for (String name : headers.names())
+        {
+            if (name.equalsIgnoreCase(PartnerServiceClient.REQUEST_ID_HEADER) 
+                || name.equalsIgnoreCase(PartnerServiceClient.CORRELATION_ID_HEADER) 
+                || name.equalsIgnoreCase(TraceParent.HEADER))
+            {
+                continue;
+            }
+
+            key.append('\n').append(name.toLowerCase(Locale.ROOT)).append(':');
+
+            for (String value : headers.values(name))
+            {
+                key.append(value).append('\u0000');
+            }
+        }
+
+        return key.toString();
+    }
+
+    private void onCoalesced(Request request, IPartnerServiceMetrics metrics)
+    {
+        coalescedCount.incrementAndGet();
+
+        if (metrics.isEnabled())
+        {
+            metrics.recordCoalesced(RequestMetrics.getRouteName(request));
+        }
+    }
+}
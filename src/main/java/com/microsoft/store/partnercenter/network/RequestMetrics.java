@@ -0,0 +1,261 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license. See the LICENSE file in the project root for full license information.
+
+package com.microsoft.store.partnercenter.network;
+
+import java.io.IOException;
+import java.util.concurrent.CompletionException;
+
+import com.microsoft.store.partnercenter.exception.PartnerErrorCategory;
+import com.microsoft.store.partnercenter.exception.PartnerException;
+
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * Measures one partner service call across all of its attempts. The measurement travels with the request as its tag,
+ * so the interceptor that sees each attempt and the code that processes the final response add to the same
+ * measurement.
+ */
+final class RequestMetrics
+{
+    /**
+     * The route name reported for addresses that do not match a configured API.
+     */
+    static final String UNKNOWN_ROUTE = "unknown";
+
+    /**
+     * Observes every attempt of a measured request. It must be added after the retry handler.
+     */
+    static final Interceptor INTERCEPTOR = new Interceptor()
+    {
+        @Override
+        public Response intercept(Chain chain) throws IOException
+        {
+            Response response = chain.proceed(chain.request());
+            RequestMetrics measurement = RequestMetrics.get(chain.request());
+
+            if (measurement != null)
+            {
+                measurement.onResponse(response);
+            }
+
+            return response;
+        }
+    };
+
+    /**
+     * Receives the measurements.
+     */
+    private final IPartnerServiceMetrics metrics;
+
+    /**
+     * The API route name of the request.
+     */
+    private final String route;
+
+    /**
+     * The HTTP method of the request.
+     */
+    private final String method;
+
+    /**
+     * The size of the request body, or -1 if unknown.
+     */
+    private final long bytesSent;
+
+    /**
+     * The time the call started, from {@link System#nanoTime()}.
+     */
+    private final long startTime;
+
+    /**
+     * The number of attempts that received a response.
+     */
+    private volatile int attempts;
+
+    /**
+     * The status code of the last response, or 0 if no response was received.
+     */
+    private volatile int statusCode;
+
+    /**
+     * The size of the last response body, or -1 if unknown.
+     */
+    private volatile long bytesReceived = -1;
+
+    private RequestMetrics(IPartnerServiceMetrics metrics, String route, String method, long bytesSent)
+    {
+        this.metrics = metrics;
+        this.route = route;
+        this.method = method;
+        this.bytesSent = bytesSent;
+        this.startTime = System.nanoTime();
+    }
+
+    /**
+     * Starts measuring a call, unless the metrics are disabled.
+     *
+     * @param request The request of the call.
+     * @param metrics Receives the measurements.
+     * @return The request carrying the measurement, or the same request when the metrics are disabled.
+     */
+    static Request attach(Request request, IPartnerServiceMetrics metrics)
+    {
+        if (metrics == null || !metrics.isEnabled())
+        {
+            return request;
+        }
+
+        long bytesSent;
+
+        try
+        {
+            bytesSent = request.body() == null ? 0 : request.body().contentLength();
+        }
+        catch (IOException e)
+        {
+            bytesSent = -1;
+        }
+
+        RequestMetrics measurement = new RequestMetrics(metrics, getRouteName(request), request.method(), bytesSent);
+
+        return request.newBuilder().tag(RequestMetrics.class, measurement).build();
+    }
+
+    /**
+     * Gets the API route name of a request.
+     *
+     * @param request The request.
+     * @return The API route name, or {@link #UNKNOWN_ROUTE} if the address does not match a configured API.
+     */
+    static String getRouteName(Request request)
+    {
+        ApiRoute route = ApiRouteRegistry.getInstance().resolve(request.method(), request.url().encodedPath());
+
+        return route == null ? UNKNOWN_ROUTE : route.getName();
+    }
+
+    /**
+     * Gets the measurement carried by a request.
+     *
+     * @param request The request.
+     * @return The measurement, or null if the call is not measured.
+     */
+    static RequestMetrics get(Request request)
+    {
+        return request.tag(RequestMetrics.class);
+    }
+
+    /**
+     * Gets the API route name of the request.
+     *
+     * @return The API route name of the request.
+     */
+    String getRoute()
+    {
+        return route;
+    }
+
+    /**
+     * Records the response of an attempt.
+     *
+     * @param response The response of the attempt.
+     */
+    void onResponse(Response response)
+    {
+        if (attempts++ > 0)
+        {
+            metrics.recordRetry(route, method, statusCode);
+        }
+
+        statusCode = response.code();
+        bytesReceived = response.body() == null ? -1 : response.body().contentLength();
+
+        if (statusCode == HttpStatusCode.TOOMANYREQUESTS)
+        {
+            metrics.recordThrottle(route, method);
+        }
+    }
+
+    /**
+     * Records the deserialization of the final response.
+     *
+     * @param durationInNanoseconds The time taken to deserialize the response.
+     * @param byteCount The number of bytes read from the response body.
+     */
+    void onDeserialized(long durationInNanoseconds, long byteCount)
+    {
+        bytesReceived = byteCount;
+        metrics.recordDeserialization(route, durationInNanoseconds);
+    }
+
+    /**
+     * Records the compression of a request or response body.
+     *
+     * @param requestBody true if the request body was compressed; false if the response body was decompressed.
+     * @param uncompressedBytes The size of the body before compression.
+     * @param compressedBytes The size of the body after compression.
+     */
+    void onCompressed(boolean requestBody, long uncompressedBytes, long compressedBytes)
+    {
+        metrics.recordCompression(route, requestBody, uncompressedBytes, compressedBytes);
+    }
+
+    /**
+     * Records the end of the call.
+     *
+     * @param failure The failure of the call, or null if it succeeded.
+     */
+    void onCompleted(Throwable failure)
+    {
+        metrics.recordRequest(
+            route,
+            method,
+            statusCode,
+            getErrorCategory(failure),
+            System.nanoTime() - startTime,
+            bytesSent,
+            bytesReceived);
+    }
+
+    /**
+     * Gets the failure of a call, unwrapping the exception that completed an asynchronous call.
+     *
+     * @param failure The failure, or null if the call succeeded.
+     * @return The failure of the call, or null if it succeeded.
+     */
+    static Throwable unwrap(Throwable failure)
+    {
+        if (failure instanceof CompletionException && failure.getCause() != null)
+        {
+            return failure.getCause();
+        }
+
+        return failure;
+    }
+
+    /**
+     * Gets the category of the failure of a call.
+     *
+     * @param failure The failure, or null if the call succeeded.
+     * @return The category of the failure, or null if the call succeeded.
+     */
+    static PartnerErrorCategory getErrorCategory(Throwable failure)
+    {
+        failure = unwrap(failure);
+
+        if (failure == null)
+        {
+            return null;
+        }
+
+        if (failure instanceof PartnerException && ((PartnerException)failure).getErrorCategory() != null)
+        {
+            return ((PartnerException)failure).getErrorCategory();
+        }
+
+        return PartnerErrorCategory.NOT_SPECIFIED;
+    }
+}
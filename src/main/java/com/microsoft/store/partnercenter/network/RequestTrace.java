@@ -0,0 +1,141 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license. See the LICENSE file in the project root for full license information.
+
+package com.microsoft.store.partnercenter.network;
+
+import java.io.IOException;
+
+import com.microsoft.store.partnercenter.requestcontext.IRequestContext;
+
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * Traces one partner service call across all of its attempts. Like {@link RequestMetrics}, the trace travels with the
+ * request as its tag, so the interceptor that sees each attempt and the code that completes the call use the same
+ * span.
+ */
+final class RequestTrace
+{
+    /**
+     * Observes every attempt of a traced request. It must be added after the retry handler.
+     */
+    static final Interceptor INTERCEPTOR = new Interceptor()
+    {
+        @Override
+        public Response intercept(Chain chain) throws IOException
+        {
+            Response response = chain.proceed(chain.request());
+            RequestTrace trace = RequestTrace.get(chain.request());
+
+            if (trace != null)
+            {
+                trace.onResponse(response);
+            }
+
+            return response;
+        }
+    };
+
+    /**
+     * The span of the call.
+     */
+    private final IPartnerServiceSpan span;
+
+    /**
+     * The number of attempts that received a response.
+     */
+    private volatile int attempts;
+
+    /**
+     * The status code of the last response, or 0 if no response was received.
+     */
+    private volatile int statusCode;
+
+    private RequestTrace(IPartnerServiceSpan span)
+    {
+        this.span = span;
+    }
+
+    /**
+     * Opens the span of a call and adds its trace context to the request, unless the tracer is disabled.
+     *
+     * @param request The request of the call.
+     * @param tracer Opens the span.
+     * @param requestContext The request context of the call.
+     * @param traceIdAsCorrelationId true to send the trace identifier as the correlation identifier.
+     * @return The request carrying the trace, or the same request when the call is not traced.
+     */
+    static Request attach(Request request, IPartnerServiceTracer tracer, IRequestContext requestContext, boolean traceIdAsCorrelationId)
+    {
+        if (tracer == null || !tracer.isEnabled())
+        {
+            return request;
+        }
+
+        IPartnerServiceSpan span = tracer.startSpan(RequestMetrics.getRouteName(request), request.method(), requestContext);
+
+        if (span == null)
+        {
+            return request;
+        }
+
+        Request.Builder builder = request.newBuilder().tag(RequestTrace.class, new RequestTrace(span));
+        String traceParent = span.getTraceParent();
+
+        if (TraceParent.isValid(traceParent))
+        {
+            builder.header(TraceParent.HEADER, traceParent);
+
+            if (traceIdAsCorrelationId)
+            {
+                builder.header(
+                    PartnerServiceClient.CORRELATION_ID_HEADER, 
+                    TraceParent.toCorrelationId(TraceParent.getTraceId(traceParent)).toString());
+            }
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Gets the trace carried by a request.
+     *
+     * @param request The request.
+     * @return The trace, or null if the call is not traced.
+     */
+    static RequestTrace get(Request request)
+    {
+        return request.tag(RequestTrace.class);
+    }
+
+    /**
+     * Records the response of an attempt.
+     *
+     * @param response The response of the attempt.
+     */
+    void onResponse(Response response)
+    {
+        if (attempts++ > 0)
+        {
+            span.recordRetry(statusCode);
+        }
+
+        statusCode = response.code();
+    }
+
+    /**
+     * Closes the span of the call.
+     *
+     * @param failure The failure of the call, or null if it succeeded.
+     */
+    void onCompleted(Throwable failure)
+    {
+        span.end(
+            statusCode, 
+            Math.max(0, attempts - 1), 
+            RequestMetrics.getErrorCategory(failure), 
+            RequestMetrics.unwrap(failure));
+    }
+}
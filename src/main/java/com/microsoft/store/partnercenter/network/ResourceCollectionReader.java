@@ -0,0 +1,319 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license. See the LICENSE file in the project root for full license information.
+
+package com.microsoft.store.partnercenter.network;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.microsoft.store.partnercenter.exception.PartnerResponseParseException;
+import com.microsoft.store.partnercenter.models.Link;
+import com.microsoft.store.partnercenter.models.StandardResourceCollectionLinks;
+import com.microsoft.store.partnercenter.requestcontext.IRequestContext;
+
+import okhttp3.Response;
+
+/**
+ * Reads the items of a single resource collection page one at a time, directly from the response stream. Only the
+ * item being returned is held in memory. The links, continuation token and total count of the page are available
+ * once all of the items have been read.
+ *
+ * @param <T> The type of the items in the collection.
+ */
+public class ResourceCollectionReader<T>
+    implements Iterator<T>, Closeable
+{
+    /**
+     * The name of the property that contains the items.
+     */
+    private static final String ITEMS_PROPERTY = "items";
+
+    /**
+     * The name of the property that contains the links.
+     */
+    private static final String LINKS_PROPERTY = "links";
+
+    /**
+     * The name of the property that contains the continuation token.
+     */
+    private static final String CONTINUATION_TOKEN_PROPERTY = "continuationToken";
+
+    /**
+     * The name of the property that contains the total count.
+     */
+    private static final String TOTAL_COUNT_PROPERTY = "totalCount";
+
+    /**
+     * The context of the request that returned the page.
+     */
+    private final IRequestContext requestContext;
+
+    /**
+     * The response being read.
+     */
+    private final Response response;
+
+    /**
+     * The parser reading the response stream.
+     */
+    private final JsonParser parser;
+
+    /**
+     * The reader used to deserialize each item.
+     */
+    private final ObjectReader itemReader;
+
+    /**
+     * A value indicating whether the parser is inside the items array.
+     */
+    private boolean readingItems;
+
+    /**
+     * A value indicating whether the parser has already been advanced to the next item.
+     */
+    private boolean positioned;
+
+    /**
+     * A value indicating whether the reader has been closed.
+     */
+    private boolean closed;
+
+    /**
+     * The links of the page.
+     */
+    private StandardResourceCollectionLinks links;
+
+    /**
+     * The continuation token of the page.
+     */
+    private String continuationToken;
+
+    /**
+     * The total count of the page, or -1 when it was not returned.
+     */
+    private int totalCount = -1;
+
+    /**
+     * Initializes a new instance of the ResourceCollectionReader class and positions it on the first item.
+     *
+     * @param requestContext The context of the request that returned the page.
+     * @param response The successful response to read.
+     * @param parser The parser reading the response stream.
+     * @param itemReader The reader used to deserialize each item.
+     */
+    public ResourceCollectionReader(IRequestContext requestContext, Response response, JsonParser parser, ObjectReader itemReader)
+    {
+        this.requestContext = requestContext;
+        this.response = response;
+        this.parser = parser;
+        this.itemReader = itemReader;
+
+        try
+        {
+            if (parser.nextToken() == JsonToken.START_OBJECT)
+            {
+                readProperties();
+            }
+            else
+            {
+                close();
+            }
+        }
+        catch (IOException ex)
+        {
+            close();
+            throw toParseException(ex);
+        }
+    }
+
+    /**
+     * Gets whether there are more items in the page.
+     *
+     * @return A flag indicating whether there are more items in the page.
+     */
+    @Override
+    public boolean hasNext()
+    {
+        if (!readingItems)
+        {
+            return false;
+        }
+
+        if (!positioned)
+        {
+            try
+            {
+                if (parser.nextToken() == JsonToken.END_ARRAY)
+                {
+                    readingItems = false;
+                    readProperties();
+
+                    return false;
+                }
+            }
+            catch (IOException ex)
+            {
+                close();
+                throw toParseException(ex);
+            }
+
+            positioned = true;
+        }
+
+        return true;
+    }
+
+    /**
+     * Reads the next item in the page.
+     *
+     * @return The next item in the page.
+     */
+    @Override
+    public T next()
+    {
+        if (!hasNext())
+        {
+            throw new NoSuchElementException();
+        }
+
+        positioned = false;
+
+        try
+        {
+            return itemReader.readValue(parser);
+        }
+        catch (IOException ex)
+        {
+            close();
+            throw toParseException(ex);
+        }
+    }
+
+    /**
+     * Gets the link to the next page. This is only available once all of the items have been read.
+     *
+     * @return The link to the next page, or null when this is the last page.
+     */
+    public Link getNextLink()
+    {
+        return links == null ? null : links.getNext();
+    }
+
+    /**
+     * Gets the links of the page. This is only available once all of the items have been read.
+     *
+     * @return The links of the page.
+     */
+    public StandardResourceCollectionLinks getLinks()
+    {
+        return links;
+    }
+
+    /**
+     * Gets the continuation token of the page. This is only available once all of the items have been read.
+     *
+     * @return The continuation token of the page.
+     */
+    public String getContinuationToken()
+    {
+        return continuationToken;
+    }
+
+    /**
+     * Gets the total count returned with the page. This is only reliable once all of the items have been read,
+     * unless the service returned it ahead of the items.
+     *
+     * @return The total count, or -1 when it was not returned.
+     */
+    public int getTotalCount()
+    {
+        return totalCount;
+    }
+
+    /**
+     * Closes the underlying response. Any items that have not been read are discarded.
+     */
+    @Override
+    public void close()
+    {
+        if (closed)
+        {
+            return;
+        }
+
+        closed = true;
+        readingItems = false;
+
+        try
+        {
+            parser.close();
+        }
+        catch (IOException ex)
+        {
+            // the response is closed below regardless
+        }
+        finally
+        {
+            response.close();
+        }
+    }
+
+    /**
+     * Reads the properties of the page until the items array is reached or the page ends. The response is closed
+     * when the page ends.
+     *
+     * @throws IOException The response could not be read.
+     */
+    private void readProperties() throws IOException
+    {
+        while (parser.nextToken() == JsonToken.FIELD_NAME)
+        {
+            String name = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+
+            if (ITEMS_PROPERTY.equals(name) && token == JsonToken.START_ARRAY)
+            {
+                readingItems = true;
+                return;
+            }
+            else if (LINKS_PROPERTY.equals(name) && token == JsonToken.START_OBJECT)
+            {
+                links = parser.readValueAs(StandardResourceCollectionLinks.class);
+            }
+            else if (CONTINUATION_TOKEN_PROPERTY.equals(name))
+            {
+                continuationToken = parser.getValueAsString();
+            }
+            else if (TOTAL_COUNT_PROPERTY.equals(name))
+            {
+                totalCount = parser.getValueAsInt(-1);
+            }
+            else
+            {
+                parser.skipChildren();
+            }
+        }
+
+        close();
+    }
+
+    /**
+     * Converts a read failure into a response parse exception.
+     *
+     * @param ex The read failure.
+     * @return The response parse exception.
+     */
+    private PartnerResponseParseException toParseException(IOException ex)
+    {
+        return new PartnerResponseParseException(
+            null,
+            requestContext,
+            "Could not deserialize response. Detailed message: " + ex.getMessage(),
+            ex);
+    }
+}
@@ -0,0 +1,85 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license. See the LICENSE file in the project root for full license information.
+
+package com.microsoft.store.partnercenter.network;
+
+/**
+ * Limits retries to a share of the requests sent, so an outage of the partner service is not amplified by every client
+ * retrying every request. Each request deposits a fraction of a retry and each retry withdraws a whole one. The balance
+ * starts at, and never exceeds, a small reserve that allows retries when there is little traffic.
+ */
+public class RetryBudget
+{
+    /**
+     * The number of retries available at the start, which is also the most the balance can grow to.
+     */
+    private final double reserve;
+
+    /**
+     * The fraction of a retry deposited by each request.
+     */
+    private final double ratio;
+
+    /**
+     * The retries currently available.
+     */
+    private double balance;
+
+    /**
+     * Initializes a new instance of the {@link RetryBudget} class.
+     *
+     * @param retryPercentage The maximum percentage of requests that can be retried over time.
+     * @param reserve The number of retries available at the start, which is also the most the balance can grow to.
+     */
+    public RetryBudget(int retryPercentage, int reserve)
+    {
+        if (retryPercentage < 0)
+        {
+            throw new IllegalArgumentException("retryPercentage cannot be negative");
+        }
+
+        if (reserve < 0)
+        {
+            throw new IllegalArgumentException("reserve cannot be negative");
+        }
+
+        this.ratio = retryPercentage / 100.0;
+        this.reserve = reserve;
+        this.balance = reserve;
+    }
+
+    /**
+     * Records a request, which makes part of a retry available.
+     */
+    public synchronized void recordRequest()
+    {
+        balance = Math.min(reserve, balance + ratio);
+    }
+
+    /**
+     * Withdraws a retry from the budget.
+     *
+     * @return true if a retry was available; false if the budget is exhausted.
+     */
+    public synchronized boolean tryAcquireRetry()
+    {
+        if (balance < 1)
+        {
+            return false;
+        }
+
+        balance--;
+
+        return true;
+    }
+
+    /**
+     * Gets the number of retries currently available.
+     *
+     * @return The number of retries currently available.
+     */
+    public synchronized double getBalance()
+    {
+        return balance;
+    }
+}
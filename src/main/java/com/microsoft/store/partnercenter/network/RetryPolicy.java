@@ -0,0 +1,258 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license. See the LICENSE file in the project root for full license information.
+
+package com.microsoft.store.partnercenter.network;
+
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.microsoft.store.partnercenter.configuration.Configuration;
+
+import okhttp3.Response;
+
+/**
+ * Decides whether a failed response is retried and how long to wait before the retry. The wait is the delay from the
+ * Retry-After header when the service sends one, and otherwise a random delay between zero and an exponentially
+ * growing cap (full jitter). The policy only computes delays, so it can be used both by blocking callers and by
+ * asynchronous callers that schedule the retry.
+ */
+public class RetryPolicy
+{
+    /**
+     * The name of the header that tells how long to wait before retrying.
+     */
+    static final String RETRY_AFTER_HEADER = "Retry-After";
+
+    /**
+     * The number of retries available in the retry budget when there is little traffic.
+     */
+    static final int RETRY_BUDGET_RESERVE = 10;
+
+    /**
+     * The maximum number of retry attempts.
+     */
+    private final int maxRetryAttempts;
+
+    /**
+     * The base delay of the exponential backoff in milliseconds.
+     */
+    private final long baseDelayInMilliseconds;
+
+    /**
+     * The maximum delay between attempts in milliseconds.
+     */
+    private final long maxDelayInMilliseconds;
+
+    /**
+     * The budget that limits the share of requests that are retried.
+     */
+    private final RetryBudget retryBudget;
+
+    /**
+     * The status codes whose retry behavior has been set explicitly.
+     */
+    private final Map<Integer, Boolean> statusCodeRules = new ConcurrentHashMap<>();
+
+    /**
+     * Initializes a new instance of the {@link RetryPolicy} class.
+     *
+     * @param maxRetryAttempts The maximum number of retry attempts.
+     * @param baseDelayInMilliseconds The base delay of the exponential backoff in milliseconds.
+     * @param maxDelayInMilliseconds The maximum delay between attempts in milliseconds. A Retry-After delay above this
+     *            value is not waited for and the response is returned instead.
+     * @param retryBudget The budget that limits the share of requests that are retried.
+     */
+    public RetryPolicy(int maxRetryAttempts, long baseDelayInMilliseconds, long maxDelayInMilliseconds, RetryBudget retryBudget)
+    {
+        if (maxRetryAttempts < 0)
+        {
+            throw new IllegalArgumentException("maxRetryAttempts cannot be negative");
+        }
+
+        if (baseDelayInMilliseconds < 0 || maxDelayInMilliseconds < baseDelayInMilliseconds)
+        {
+            throw new IllegalArgumentException("The delays must be positive and the base delay cannot exceed the maximum delay");
+        }
+
+        if (retryBudget == null)
+        {
+            throw new IllegalArgumentException("retryBudget null");
+        }
+
+        this.maxRetryAttempts = maxRetryAttempts;
+        this.baseDelayInMilliseconds = baseDelayInMilliseconds;
+        this.maxDelayInMilliseconds = maxDelayInMilliseconds;
+        this.retryBudget = retryBudget;
+
+        for (Integer statusCode : PartnerServiceRetryStrategy.nonRetryableHttpCodes)
+        {
+            statusCodeRules.put(statusCode, false);
+        }
+    }
+
+    /**
+     * Creates a retry policy from the configured defaults.
+     *
+     * @param configuration The partner service configuration.
+     * @return A retry policy that uses the configured defaults.
+     */
+    public static RetryPolicy fromConfiguration(Configuration configuration)
+    {
+        return new RetryPolicy(
+            configuration.getDefaultMaxRetryAttempts(),
+            configuration.getDefaultRetryBaseDelayInSeconds() * 1000L,
+            configuration.getDefaultRetryMaxDelayInSeconds() * 1000L,
+            new RetryBudget(configuration.getDefaultRetryBudgetPercentage(), RETRY_BUDGET_RESERVE));
+    }
+
+    /**
+     * Gets the maximum number of retry attempts.
+     *
+     * @return The maximum number of retry attempts.
+     */
+    public int getMaxRetryAttempts()
+    {
+        return maxRetryAttempts;
+    }
+
+    /**
+     * Gets the budget that limits the share of requests that are retried.
+     *
+     * @return The retry budget.
+     */
+    public RetryBudget getRetryBudget()
+    {
+        return retryBudget;
+    }
+
+    /**
+     * Sets whether responses with the given status code are retried, overriding the default rule.
+     *
+     * @param statusCode The HTTP status code.
+     * @param retryable true if responses with the status code are retried; false otherwise.
+     */
+    public void setRetryable(int statusCode, boolean retryable)
+    {
+        statusCodeRules.put(statusCode, retryable);
+    }
+
+    /**
+     * Gets whether responses with the given status code are retried. Unless set otherwise, request timeouts, throttled
+     * requests and server errors are retried.
+     *
+     * @param statusCode The HTTP status code.
+     * @return true if responses with the status code are retried; false otherwise.
+     */
+    public boolean isRetryable(int statusCode)
+    {
+        Boolean rule = statusCodeRules.get(statusCode);
+
+        if (rule != null)
+        {
+            return rule;
+        }
+
+        return statusCode == HttpStatusCode.REQUESTTIMEOUT
+            || statusCode == HttpStatusCode.TOOMANYREQUESTS
+            || statusCode >= 500;
+    }
+
+    /**
+     * Gets how long to wait before retrying the request that produced the response.
+     *
+     * @param retryCount The number of retries already made for the request.
+     * @param response The response received for the last attempt.
+     * @return The delay in milliseconds, or -1 if the request should not be retried.
+     */
+    public long getRetryDelayInMilliseconds(int retryCount, Response response)
+    {
+        if (retryCount == 0)
+        {
+            retryBudget.recordRequest();
+        }
+
+        if (response.isSuccessful()
+            || retryCount >= maxRetryAttempts
+            || !isRetryable(response.code()))
+        {
+            return -1;
+        }
+
+        long delay = parseRetryAfter(response.header(RETRY_AFTER_HEADER), System.currentTimeMillis());
+
+        if (delay < 0)
+        {
+            delay = getBackoffDelayInMilliseconds(retryCount);
+        }
+        else if (delay > maxDelayInMilliseconds)
+        {
+            // the service asked for a longer pause than the caller is willing to wait
+            return -1;
+        }
+
+        if (!retryBudget.tryAcquireRetry())
+        {
+            return -1;
+        }
+
+        return delay;
+    }
+
+    /**
+     * Gets a random delay between zero and the exponential backoff cap for the retry.
+     *
+     * @param retryCount The number of retries already made for the request.
+     * @return The delay in milliseconds.
+     */
+    long getBackoffDelayInMilliseconds(int retryCount)
+    {
+        long cap = retryCount < 31
+            ? Math.min(maxDelayInMilliseconds, baseDelayInMilliseconds << retryCount)
+            : maxDelayInMilliseconds;
+
+        return cap == 0 ? 0 : ThreadLocalRandom.current().nextLong(cap + 1);
+    }
+
+    /**
+     * Parses the value of a Retry-After header, which is either a number of seconds or an HTTP date.
+     *
+     * @param value The value of the header.
+     * @param nowInMilliseconds The current time in milliseconds, used to convert a date into a delay.
+     * @return The delay in milliseconds, or -1 if the value is missing or invalid.
+     */
+    public static long parseRetryAfter(String value, long nowInMilliseconds)
+    {
+        if (value == null || value.trim().isEmpty())
+        {
+            return -1;
+        }
+
+        String trimmed = value.trim();
+
+        try
+        {
+            long seconds = Long.parseLong(trimmed);
+
+            return seconds < 0 ? -1 : seconds * 1000;
+        }
+        catch (NumberFormatException ex)
+        {
+            // not a number of seconds, try an HTTP date
+        }
+
+        try
+        {
+            long retryAt = ZonedDateTime.parse(trimmed, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+
+            return Math.max(0, retryAt - nowInMilliseconds);
+        }
+        catch (DateTimeParseException ex)
+        {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license. See the LICENSE file in the project root for full license information.
+
+package com.microsoft.store.partnercenter.network;
+
+import java.util.UUID;
+
+/**
+ * Builds and reads the W3C traceparent header, which carries the trace context of a call in the form
+ * version-traceid-parentid-flags, such as 00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01.
+ */
+public final class TraceParent
+{
+    /**
+     * The name of the traceparent header.
+     */
+    public static final String HEADER = "traceparent";
+
+    /**
+     * The number of hexadecimal digits in a trace identifier.
+     */
+    private static final int TRACE_ID_LENGTH = 32;
+
+    /**
+     * The number of hexadecimal digits in a span identifier.
+     */
+    private static final int SPAN_ID_LENGTH = 16;
+
+    private TraceParent()
+    {
+    }
+
+    /**
+     * Builds a traceparent header value.
+     *
+     * @param traceId The trace identifier, as 32 lowercase hexadecimal digits.
+     * @param spanId The span identifier, as 16 lowercase hexadecimal digits.
+     * @param sampled true if the trace is sampled; otherwise false.
+     * @return The traceparent header value.
+     */
+    public static String format(String traceId, String spanId, boolean sampled)
+    {
+        if (!isValidId(traceId, TRACE_ID_LENGTH))
+        {
+            throw new IllegalArgumentException("traceId must be 32 lowercase hexadecimal digits that are not all zero");
+        }
+
+        if (!isValidId(spanId, SPAN_ID_LENGTH))
+        {
+            throw new IllegalArgumentException("spanId must be 16 lowercase hexadecimal digits that are not all zero");
+        }
+
+        return new StringBuilder(55)
+            .append("00-")
+            .append(traceId)
+            .append('-')
+            .append(spanId)
+            .append(sampled ? "-01" : "-00")
+            .toString();
+    }
+
+    /**
+     * Checks whether a value is a valid traceparent header value.
+     *
+     * @param value The value to check.
+     * @return true if the value is a valid traceparent header value; otherwise false.
+     */
+    public static boolean isValid(String value)
+    {
+        // the version is followed by the trace identifier, the span identifier and the flags
+        return value != null
+            && value.length() >= 55
+            && isHex(value, 0, 2)
+            && !value.startsWith("ff")
+            && value.charAt(2) == '-'
+            && isValidId(value.substring(3, 35), TRACE_ID_LENGTH)
+            && value.charAt(35) == '-'
+            && isValidId(value.substring(36, 52), SPAN_ID_LENGTH)
+            && value.charAt(52) == '-'
+            && isHex(value, 53, 55)
+            && (value.length() == 55 || (!value.startsWith("00") && value.charAt(55) == '-'));
+    }
+
+    /**
+     * Gets the trace identifier of a traceparent header value.
+     *
+     * @param value The traceparent header value.
+     * @return The trace identifier, or null if the value is not a valid traceparent header value.
+     */
+    public static String getTraceId(String value)
+    {
+        return isValid(value) ? value.substring(3, 35) : null;
+    }
+
+    /**
+     * Converts a trace identifier into a correlation identifier. Both are 128 bits long, so the correlation
+     * identifier holds the same digits and the partner service logs can be searched by trace.
+     *
+     * @param traceId The trace identifier, as 32 lowercase hexadecimal digits.
+     * @return The correlation identifier.
+     */
+    public static UUID toCorrelationId(String traceId)
+    {
+        if (!isValidId(traceId, TRACE_ID_LENGTH))
+        {
+            throw new IllegalArgumentException("traceId must be 32 lowercase hexadecimal digits that are not all zero");
+        }
+
+        return new UUID(
+            Long.parseUnsignedLong(traceId.substring(0, 16), 16),
+            Long.parseUnsignedLong(traceId.substring(16), 16));
+    }
+
+    private static boolean isValidId(String value, int length)
+    {
+        if (value == null || value.length() != length || !isHex(value, 0, length))
+        {
+            return false;
+        }
+
+        for (int i = 0; i < length; i++)
+        {
+            if (value.charAt(i) != '0')
+            {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean isHex(String value, int start, int end)
+    {
+        for (int i = start; i < end; i++)
+        {
+            char c = value.charAt(i);
+
+            if ((c < '0' || c > '9') && (c < 'a' || c > 'f'))
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
@@ -0,0 +1,137 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license. See the LICENSE file in the project root for full license information.
+
+package com.microsoft.store.partnercenter.network;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Percent-encodes the parts of request addresses.
+ */
+final class UrlEncoding
+{
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+    /**
+     * The ASCII characters that can appear unencoded in a path segment.
+     */
+    private static final boolean[] PATH_SEGMENT_CHARACTERS = allowed("!$&'()*+,;=:@");
+
+    /**
+     * The ASCII characters that can appear unencoded in a query parameter name or value. Plus signs are encoded, since
+     * servers read them as spaces.
+     */
+    private static final boolean[] QUERY_CHARACTERS = allowed("!$'()*,;:@/?");
+
+    private UrlEncoding()
+    {
+    }
+
+    /**
+     * Appends a value encoded as a single path segment, so slashes, question marks and percent signs in the value
+     * cannot change the path.
+     *
+     * @param builder The builder that receives the encoded value.
+     * @param value The value to encode.
+     */
+    static void appendPathSegment(StringBuilder builder, String value)
+    {
+        append(builder, value, PATH_SEGMENT_CHARACTERS);
+    }
+
+    /**
+     * Appends a value encoded as a query parameter name or value. Values are passed unencoded, such as JSON filters,
+     * and are encoded exactly once here, so percent signs and plus signs in the value are sent as they are.
+     *
+     * @param builder The builder that receives the encoded value.
+     * @param value The value to encode.
+     */
+    static void appendQueryComponent(StringBuilder builder, String value)
+    {
+        append(builder, value, QUERY_CHARACTERS);
+    }
+
+    private static void append(StringBuilder builder, String value, boolean[] allowed)
+    {
+        int length = value.length();
+        int i = 0;
+
+        // most values need no encoding at all
+        while (i < length && isAllowed(value.charAt(i), allowed))
+        {
+            i++;
+        }
+
+        builder.append(value, 0, i);
+
+        while (i < length)
+        {
+            char c = value.charAt(i);
+
+            if (isAllowed(c, allowed))
+            {
+                builder.append(c);
+                i++;
+            }
+            else if (c < 0x80)
+            {
+                appendEscape(builder, c);
+                i++;
+            }
+            else
+            {
+                int codePoint = value.codePointAt(i);
+                int count = Character.charCount(codePoint);
+
+                for (byte b : value.substring(i, i + count).getBytes(StandardCharsets.UTF_8))
+                {
+                    appendEscape(builder, b & 0xFF);
+                }
+
+                i += count;
+            }
+        }
+    }
+
+    private static boolean isAllowed(char c, boolean[] allowed)
+    {
+        return c < 0x80 && allowed[c];
+    }
+
+    private static void appendEscape(StringBuilder builder, int b)
+    {
+        builder.append('%').append(HEX_DIGITS[b >> 4]).append(HEX_DIGITS[b & 0x0F]);
+    }
+
+    private static boolean[] allowed(String delimiters)
+    {
+        boolean[] allowed = new boolean[0x80];
+
+        for (char c = 'a'; c <= 'z'; c++)
+        {
+            allowed[c] = true;
+        }
+
+        for (char c = 'A'; c <= 'Z'; c++)
+        {
+            allowed[c] = true;
+        }
+
+        for (char c = '0'; c <= '9'; c++)
+        {
+            allowed[c] = true;
+        }
+
+        for (char c : "-._~".toCharArray())
+        {
+            allowed[c] = true;
+        }
+
+        for (char c : delimiters.toCharArray())
+        {
+            allowed[c] = true;
+        }
+
+        return allowed;
+    }
+}
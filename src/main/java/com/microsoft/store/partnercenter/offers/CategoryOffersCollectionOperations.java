@@ -9,11 +9,11 @@ import java.util.Collection;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponent;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.ResourceCollection;
 import com.microsoft.store.partnercenter.models.offers.Offer;
 import com.microsoft.store.partnercenter.models.utils.KeyValuePair;
 import com.microsoft.store.partnercenter.models.utils.Tuple;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 
 public class CategoryOffersCollectionOperations 
 	extends BasePartnerComponent<Tuple<String, String>>
@@ -45,7 +45,7 @@ public class CategoryOffersCollectionOperations
 		(
 			new KeyValuePair<String, String>
 			(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetOffers").getParameters().get("OfferCategoryId"),
+				ApiRouteRegistry.getInstance().getRoute("GetOffers").getParameterName("OfferCategoryId"),
 				this.getContext().getItem1()
 			) 
 		);
@@ -54,7 +54,7 @@ public class CategoryOffersCollectionOperations
 		(
 			new KeyValuePair<String, String>
 			(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetOffers").getParameters().get("Country"),
+				ApiRouteRegistry.getInstance().getRoute("GetOffers").getParameterName("Country"),
 				this.getContext().getItem2()
 			) 
 		);
@@ -62,7 +62,7 @@ public class CategoryOffersCollectionOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<ResourceCollection<Offer>>(){}, 
-			PartnerService.getInstance().getConfiguration().getApis().get("GetOffers").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetOffers").getPath(),
 			parameters);
 	}
 
@@ -82,7 +82,7 @@ public class CategoryOffersCollectionOperations
 		(
 			new KeyValuePair<String, String>
 			(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetOffers").getParameters().get("OfferCategoryId"),
+				ApiRouteRegistry.getInstance().getRoute("GetOffers").getParameterName("OfferCategoryId"),
 				this.getContext().getItem1()
 			) 
 		);
@@ -91,7 +91,7 @@ public class CategoryOffersCollectionOperations
 		(
 			new KeyValuePair<String, String>
 			(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetOffers").getParameters().get("Country"),
+				ApiRouteRegistry.getInstance().getRoute("GetOffers").getParameterName("Country"),
 				this.getContext().getItem2()
 			) 
 		);
@@ -100,7 +100,7 @@ public class CategoryOffersCollectionOperations
 		(
 			new KeyValuePair<String, String>
 			(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetOffers").getParameters().get("Offset"),
+				ApiRouteRegistry.getInstance().getRoute("GetOffers").getParameterName("Offset"),
 				String.valueOf(offset)
 			) 
 		);
@@ -109,7 +109,7 @@ public class CategoryOffersCollectionOperations
 		(
 			new KeyValuePair<String, String>
 			(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetOffers").getParameters().get("Size"),
+				ApiRouteRegistry.getInstance().getRoute("GetOffers").getParameterName("Size"),
 				String.valueOf(size)
 			) 
 		);
@@ -117,7 +117,7 @@ public class CategoryOffersCollectionOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<ResourceCollection<Offer>>(){}, 
-			PartnerService.getInstance().getConfiguration().getApis().get("GetOffers").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetOffers").getPath(),
 			parameters);
 	}
 }
\ No newline at end of file
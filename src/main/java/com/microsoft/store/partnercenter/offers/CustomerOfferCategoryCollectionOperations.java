@@ -3,14 +3,12 @@
 
 package com.microsoft.store.partnercenter.offers;
 
-import java.text.MessageFormat;
-
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponentString;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.ResourceCollection;
 import com.microsoft.store.partnercenter.models.offers.OfferCategory;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.utils.StringHelper;
 
 public class CustomerOfferCategoryCollectionOperations 
@@ -43,8 +41,7 @@ public class CustomerOfferCategoryCollectionOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<ResourceCollection<OfferCategory>>(){}, 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetCustomerOfferCategories").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetCustomerOfferCategories").render(
 				this.getContext()));
 	}
 }
\ No newline at end of file
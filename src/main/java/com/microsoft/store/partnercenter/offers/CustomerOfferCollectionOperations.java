@@ -3,17 +3,16 @@
 
 package com.microsoft.store.partnercenter.offers;
 
-import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collection;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponentString;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.ResourceCollection;
 import com.microsoft.store.partnercenter.models.offers.Offer;
 import com.microsoft.store.partnercenter.models.utils.KeyValuePair;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.utils.StringHelper;
 
 /**
@@ -47,8 +46,7 @@ public class CustomerOfferCollectionOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<ResourceCollection<Offer>>(){}, 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetCustomerOffers").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetCustomerOffers").render(
 				this.getContext()));
 	}
 
@@ -67,7 +65,7 @@ public class CustomerOfferCollectionOperations
 		(
 			new KeyValuePair<String, String>
 			(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetCustomerOffers").getParameters().get("Offset"),
+				ApiRouteRegistry.getInstance().getRoute("GetCustomerOffers").getParameterName("Offset"),
 				String.valueOf(offset)
 			) 
 		);
@@ -76,7 +74,7 @@ public class CustomerOfferCollectionOperations
 		(
 			new KeyValuePair<String, String>
 			(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetCustomerOffers").getParameters().get("Size"),
+				ApiRouteRegistry.getInstance().getRoute("GetCustomerOffers").getParameterName("Size"),
 				String.valueOf(size)
 			) 
 		);
@@ -84,8 +82,7 @@ public class CustomerOfferCollectionOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<ResourceCollection<Offer>>(){}, 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetCustomerOffers").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetCustomerOffers").render(
 				this.getContext()),
 			parameters);
 	}
@@ -3,6 +3,8 @@
 
 package com.microsoft.store.partnercenter.offers;
 
+import java.util.concurrent.CompletableFuture;
+
 import com.microsoft.store.partnercenter.IPartnerComponentString;
 import com.microsoft.store.partnercenter.models.ResourceCollection;
 import com.microsoft.store.partnercenter.models.offers.Offer;
@@ -38,6 +40,24 @@ public interface IOfferCollection
      */
     ResourceCollection<Offer> get(int offset, int size);
 
+    /**
+     * Asynchronously retrieves all the offers for the provided country.
+     * 
+     * @param offset The starting index
+     * @param size The maximum number of offers to return.
+     * @return A future that completes with the requested segment of the offers for the given country.
+     */
+    CompletableFuture<ResourceCollection<Offer>> getAsync(int offset, int size);
+
+    /**
+     * Retrieves all the offers for the provided country by requesting several pages at the same time.
+     * 
+     * @param pageSize The maximum number of offers requested in each page.
+     * @param maxConcurrency The maximum number of pages requested at the same time.
+     * @return The offers for the provided country, in the order returned by the service.
+     */
+    ResourceCollection<Offer> getAll(int pageSize, int maxConcurrency);
+
     /**
      * Retrieves the operations that can be applied on offers that belong to an offer category.
      * 
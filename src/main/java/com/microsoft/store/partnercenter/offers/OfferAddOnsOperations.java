@@ -3,18 +3,17 @@
 
 package com.microsoft.store.partnercenter.offers;
 
-import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collection;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponent;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.ResourceCollection;
 import com.microsoft.store.partnercenter.models.offers.Offer;
 import com.microsoft.store.partnercenter.models.utils.KeyValuePair;
 import com.microsoft.store.partnercenter.models.utils.Tuple;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.utils.ParameterValidator;
 
 /**
@@ -51,7 +50,7 @@ public class OfferAddOnsOperations
 		(
 			new KeyValuePair<String, String>
 			(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetOfferAddons").getParameters().get("Country"),
+				ApiRouteRegistry.getInstance().getRoute("GetOfferAddons").getParameterName("Country"),
 				this.getContext().getItem2()
 			) 
 		);
@@ -59,8 +58,7 @@ public class OfferAddOnsOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<ResourceCollection<Offer>>(){}, 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetOfferAddons").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetOfferAddons").render(
 				this.getContext().getItem1()),
 			parameters);
 	}
@@ -84,7 +82,7 @@ public class OfferAddOnsOperations
 		(
 			new KeyValuePair<String, String>
 			(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetOfferAddons").getParameters().get("Country"),
+				ApiRouteRegistry.getInstance().getRoute("GetOfferAddons").getParameterName("Country"),
 				this.getContext().getItem2()
 			) 
 		);
@@ -93,7 +91,7 @@ public class OfferAddOnsOperations
 		(
 			new KeyValuePair<String, String>
 			(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetOfferAddons").getParameters().get("Offset"),
+				ApiRouteRegistry.getInstance().getRoute("GetOfferAddons").getParameterName("Offset"),
 				String.valueOf(offset)
 			) 
 		);
@@ -102,7 +100,7 @@ public class OfferAddOnsOperations
 		(
 			new KeyValuePair<String, String>
 			(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetOfferAddons").getParameters().get("Size"),
+				ApiRouteRegistry.getInstance().getRoute("GetOfferAddons").getParameterName("Size"),
 				String.valueOf(size)
 			) 
 		);
@@ -110,8 +108,7 @@ public class OfferAddOnsOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<ResourceCollection<Offer>>(){}, 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetOfferAddons").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetOfferAddons").render(
 				this.getContext().getItem1()),
 			parameters);
 	}
@@ -9,10 +9,10 @@ import java.util.Collection;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponentString;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.ResourceCollection;
 import com.microsoft.store.partnercenter.models.offers.OfferCategory;
 import com.microsoft.store.partnercenter.models.utils.KeyValuePair;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.utils.ParameterValidator;
 
 /**
@@ -49,7 +49,7 @@ public class OfferCategoryCollectionOperations
 		(
 			new KeyValuePair<String, String>
 			(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetOfferCategories").getParameters().get("Country"),
+				ApiRouteRegistry.getInstance().getRoute("GetOfferCategories").getParameterName("Country"),
 				this.getContext()
 			) 
 		);
@@ -57,7 +57,7 @@ public class OfferCategoryCollectionOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<ResourceCollection<OfferCategory>>(){}, 
-			PartnerService.getInstance().getConfiguration().getApis().get("GetOfferCategories").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetOfferCategories").getPath(),
 			parameters);
 	}
 }
\ No newline at end of file
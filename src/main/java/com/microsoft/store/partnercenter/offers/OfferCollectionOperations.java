@@ -5,14 +5,17 @@ package com.microsoft.store.partnercenter.offers;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponentString;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
+import com.microsoft.store.partnercenter.enumerators.OffsetRangeCollectionFetcher;
+import com.microsoft.store.partnercenter.genericoperations.IPagedEntityCollectionAsyncRetrievalOperations;
 import com.microsoft.store.partnercenter.models.ResourceCollection;
 import com.microsoft.store.partnercenter.models.offers.Offer;
 import com.microsoft.store.partnercenter.models.utils.KeyValuePair;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.utils.ParameterValidator;
 
 /**
@@ -61,7 +64,7 @@ public class OfferCollectionOperations
 		(
 			new KeyValuePair<String, String>
 			(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetOffers").getParameters().get("Country"),
+				ApiRouteRegistry.getInstance().getRoute("GetOffers").getParameterName("Country"),
 				this.getContext()
 			) 
 		);
@@ -69,7 +72,7 @@ public class OfferCollectionOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<ResourceCollection<Offer>>(){}, 
-			PartnerService.getInstance().getConfiguration().getApis().get("GetOffers").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetOffers").getPath(),
 			parameters);
 	}
 
@@ -82,6 +85,72 @@ public class OfferCollectionOperations
 	 */
 	@Override
 	public ResourceCollection<Offer> get(int offset, int size)
+	{
+		return this.getPartner().getServiceClient().get(
+			this.getPartner(),
+			new TypeReference<ResourceCollection<Offer>>(){}, 
+			ApiRouteRegistry.getInstance().getRoute("GetOffers").getPath(),
+			getPagingParameters(offset, size));
+	}
+
+	/**
+	 * Asynchronously retrieves all the offers for the provided country.
+	 * 
+	 * @param offset The starting index.
+	 * @param size The maximum number of offers to return.
+	 * @return A future that completes with the offers for the provided country.
+	 */
+	@Override
+	public CompletableFuture<ResourceCollection<Offer>> getAsync(int offset, int size)
+	{
+		return this.getPartner().getServiceClient().getAsync(
+			this.getPartner(),
+			new TypeReference<ResourceCollection<Offer>>(){}, 
+			ApiRouteRegistry.getInstance().getRoute("GetOffers").getPath(),
+			getPagingParameters(offset, size));
+	}
+
+	/**
+	 * Retrieves all the offers for the provided country by requesting several pages at the same time.
+	 * 
+	 * @param pageSize The maximum number of offers requested in each page.
+	 * @param maxConcurrency The maximum number of pages requested at the same time.
+	 * @return The offers for the provided country, in the order returned by the service.
+	 */
+	@Override
+	public ResourceCollection<Offer> getAll(int pageSize, int maxConcurrency)
+	{
+		return new OffsetRangeCollectionFetcher<>(
+			new IPagedEntityCollectionAsyncRetrievalOperations<Offer, ResourceCollection<Offer>>()
+			{
+				@Override
+				public CompletableFuture<ResourceCollection<Offer>> getAsync(int offset, int size)
+				{
+					return OfferCollectionOperations.this.getAsync(offset, size);
+				}
+			},
+			pageSize,
+			maxConcurrency).fetch();
+	}
+
+	/**
+	 * Retrieves the operations that can be applied on offers the belong to an offer category.
+	 * @param categoryId The offer category Id.
+	 * @return The category offers operations.
+	 */
+	public ICategoryOffersCollection byCategory(String categoryId)
+	{
+		return new CategoryOffersCollectionOperations(this.getPartner(), categoryId, this.getContext());
+	}
+
+	/**
+	 * Gets the parameters used to request a page of offers.
+	 * 
+	 * @param offset The starting index.
+	 * @param size The maximum number of offers to return.
+	 * @return The paging parameters.
+	 */
+	private Collection<KeyValuePair<String, String>> getPagingParameters(int offset, int size)
 	{
 		Collection<KeyValuePair<String, String>> parameters = new ArrayList<KeyValuePair<String, String>>();
 
@@ -89,7 +158,7 @@ public class OfferCollectionOperations
 		(
 			new KeyValuePair<String, String>
 			(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetOffers").getParameters().get("Country"),
+				ApiRouteRegistry.getInstance().getRoute("GetOffers").getParameterName("Country"),
 				this.getContext()
 			) 
 		);
@@ -98,7 +167,7 @@ public class OfferCollectionOperations
 		(
 			new KeyValuePair<String, String>
 			(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetOffers").getParameters().get("Offset"),
+				ApiRouteRegistry.getInstance().getRoute("GetOffers").getParameterName("Offset"),
 				String.valueOf(offset)
 			) 
 		);
@@ -107,25 +176,11 @@ public class OfferCollectionOperations
 		(
 			new KeyValuePair<String, String>
 			(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetOffers").getParameters().get("Size"),
+				ApiRouteRegistry.getInstance().getRoute("GetOffers").getParameterName("Size"),
 				String.valueOf(size)
 			) 
 		);
 
-		return this.getPartner().getServiceClient().get(
-			this.getPartner(),
-			new TypeReference<ResourceCollection<Offer>>(){}, 
-			PartnerService.getInstance().getConfiguration().getApis().get("GetOffers").getPath(),
-			parameters);
-	}
-
-	/**
-	 * Retrieves the operations that can be applied on offers the belong to an offer category.
-	 * @param categoryId The offer category Id.
-	 * @return The category offers operations.
-	 */
-	public ICategoryOffersCollection byCategory(String categoryId)
-	{
-		return new CategoryOffersCollectionOperations(this.getPartner(), categoryId, this.getContext());
+		return parameters;
 	}
 }
\ No newline at end of file
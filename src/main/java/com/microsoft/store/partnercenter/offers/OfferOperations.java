@@ -3,17 +3,16 @@
 
 package com.microsoft.store.partnercenter.offers;
 
-import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collection;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponent;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.offers.Offer;
 import com.microsoft.store.partnercenter.models.utils.KeyValuePair;
 import com.microsoft.store.partnercenter.models.utils.Tuple;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.utils.ParameterValidator;
 import com.microsoft.store.partnercenter.utils.StringHelper;
 
@@ -71,7 +70,7 @@ public class OfferOperations
 		(
 			new KeyValuePair<String, String>
 			(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetOffer").getParameters().get("Country"),
+				ApiRouteRegistry.getInstance().getRoute("GetOffer").getParameterName("Country"),
 				this.getContext().getItem2()
 			) 
 		);
@@ -79,8 +78,7 @@ public class OfferOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<Offer>(){}, 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetOffer").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetOffer").render(
 				this.getContext().getItem1()),
 			parameters);
 	}
@@ -4,6 +4,7 @@
 package com.microsoft.store.partnercenter.orders;
 
 import com.microsoft.store.partnercenter.IPartnerComponent;
+import com.microsoft.store.partnercenter.genericoperations.IEntityConditionalGetOperations;
 import com.microsoft.store.partnercenter.genericoperations.IEntityGetOperations;
 import com.microsoft.store.partnercenter.genericoperations.IEntityPatchOperations;
 import com.microsoft.store.partnercenter.models.orders.Order;
@@ -13,7 +14,8 @@ import com.microsoft.store.partnercenter.models.utils.Tuple;
  * Encapsulates a customer order behavior.
  */
 public interface IOrder
-    extends IPartnerComponent<Tuple<String, String>>, IEntityGetOperations<Order>, IEntityPatchOperations<Order>
+    extends IPartnerComponent<Tuple<String, String>>, IEntityGetOperations<Order>, IEntityConditionalGetOperations<Order>, 
+    IEntityPatchOperations<Order>
 {
     /**
      * Gets the line item collection operations.
@@ -3,19 +3,18 @@
 
 package com.microsoft.store.partnercenter.orders;
 
-import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collection;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponent;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.ResourceCollection;
 import com.microsoft.store.partnercenter.models.offers.BillingCycleType;
 import com.microsoft.store.partnercenter.models.orders.Order;
 import com.microsoft.store.partnercenter.models.utils.KeyValuePair;
 import com.microsoft.store.partnercenter.models.utils.Tuple;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.utils.StringHelper;
 
 /**
@@ -55,7 +54,7 @@ public class OrderCollectionByBillingCycleTypeOperations
 		(
 			new KeyValuePair<String, String>
 			(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetOrdersByBillingCycleType").getParameters().get("BillingType"),
+				ApiRouteRegistry.getInstance().getRoute("GetOrdersByBillingCycleType").getParameterName("BillingType"),
 				this.getContext().getItem2().toString()
 			) 
 		);
@@ -63,8 +62,7 @@ public class OrderCollectionByBillingCycleTypeOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<ResourceCollection<Order>>(){}, 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetOrdersByBillingCycleType").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetOrdersByBillingCycleType").render(
 				this.getContext().getItem1()),
 			parameters);
 	}
@@ -83,7 +81,7 @@ public class OrderCollectionByBillingCycleTypeOperations
 		(
 			new KeyValuePair<String, String>
 			(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetOrdersByBillingCycleType").getParameters().get("BillingType"),
+				ApiRouteRegistry.getInstance().getRoute("GetOrdersByBillingCycleType").getParameterName("BillingType"),
 				this.getContext().getItem2().toString()
 			) 
 		);
@@ -92,7 +90,7 @@ public class OrderCollectionByBillingCycleTypeOperations
 		(
 			new KeyValuePair<String, String>
 			(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetOrdersByBillingCycleType").getParameters().get("IncludePrice"),
+				ApiRouteRegistry.getInstance().getRoute("GetOrdersByBillingCycleType").getParameterName("IncludePrice"),
 				String.valueOf(includePrice)
 			)
 		);
@@ -100,8 +98,7 @@ public class OrderCollectionByBillingCycleTypeOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<ResourceCollection<Order>>(){}, 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetOrdersByBillingCycleType").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetOrdersByBillingCycleType").render(
 				this.getContext().getItem1()),
 			parameters);
 	}
@@ -3,18 +3,17 @@
 
 package com.microsoft.store.partnercenter.orders;
 
-import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collection;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponentString;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.ResourceCollection;
 import com.microsoft.store.partnercenter.models.offers.BillingCycleType;
 import com.microsoft.store.partnercenter.models.orders.Order;
 import com.microsoft.store.partnercenter.models.utils.KeyValuePair;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.utils.StringHelper;
 
 /**
@@ -83,8 +82,7 @@ public class OrderCollectionOperations
 		return this.getPartner().getServiceClient().post(
 			this.getPartner(), 
 			new TypeReference<Order>(){},
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetOrders").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetOrders").render(
 				this.getContext()),
 			newOrder);
 	}
@@ -114,7 +112,7 @@ public class OrderCollectionOperations
 		(
 			new KeyValuePair<String, String>
 			(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetOrders").getParameters().get("IncludePrice"),
+				ApiRouteRegistry.getInstance().getRoute("GetOrders").getParameterName("IncludePrice"),
 				String.valueOf(includePrice)
 			) 
 		);
@@ -122,8 +120,7 @@ public class OrderCollectionOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<ResourceCollection<Order>>(){}, 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetOrders").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetOrders").render(
 				this.getContext()), 
 			parameters);
 	}
@@ -3,15 +3,13 @@
 
 package com.microsoft.store.partnercenter.orders;
 
-import java.text.MessageFormat;
-
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponent;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.ResourceCollection;
 import com.microsoft.store.partnercenter.models.orders.OrderLineItemActivationLink;
 import com.microsoft.store.partnercenter.models.utils.TripletTuple;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.utils.StringHelper;
 
 /**
@@ -55,8 +53,7 @@ public class OrderLineItemActivationLinkOperations
         return this.getPartner().getServiceClient().get(
             this.getPartner(),
             new TypeReference<ResourceCollection<OrderLineItemActivationLink>>(){}, 
-            MessageFormat.format(
-                PartnerService.getInstance().getConfiguration().getApis().get("GetActivationLinksByLineItemNumber").getPath(),
+            ApiRouteRegistry.getInstance().getRoute("GetActivationLinksByLineItemNumber").render(
                 this.getContext().getItem1(), 
                 this.getContext().getItem2(),
                 this.getContext().getItem3()));
@@ -3,17 +3,16 @@
 
 package com.microsoft.store.partnercenter.orders;
 
-import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collection;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponent;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.orders.Order;
 import com.microsoft.store.partnercenter.models.utils.KeyValuePair;
 import com.microsoft.store.partnercenter.models.utils.Tuple;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.utils.StringHelper;
 
 /**
@@ -71,7 +70,7 @@ public class OrderOperations
 		(
 			new KeyValuePair<String, String>
 			(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetOrder").getParameters().get("IncludePrice"),
+				ApiRouteRegistry.getInstance().getRoute("GetOrder").getParameterName("IncludePrice"),
 				String.valueOf(includePrice)
 			) 
        );
@@ -79,13 +78,31 @@ public class OrderOperations
         return this.getPartner().getServiceClient().get(
             this.getPartner(),
             new TypeReference<Order>(){}, 
-            MessageFormat.format(
-                PartnerService.getInstance().getConfiguration().getApis().get("GetOrder").getPath(),
+            ApiRouteRegistry.getInstance().getRoute("GetOrder").render(
                 this.getContext().getItem1(), 
                 this.getContext().getItem2()),
             parameters);
     }
 
+    /**
+     * Gets the order information if it changed since a previous instance was retrieved.
+     * 
+     * @param previous The previous instance of the order, or null to always retrieve the order.
+     * @return The previous instance if the order did not change; otherwise the current order without pricing details.
+     */
+    @Override
+    public Order getIfChanged(Order previous)
+    {
+        return this.getPartner().getServiceClient().getIfChanged(
+            this.getPartner(),
+            new TypeReference<Order>(){}, 
+            ApiRouteRegistry.getInstance().getRoute("GetOrder").render(
+                this.getContext().getItem1(), 
+                this.getContext().getItem2()),
+            null,
+            previous);
+    }
+
     /**
      * Gets line item collection operations.
      * 
@@ -131,8 +148,7 @@ public class OrderOperations
         return this.getPartner().getServiceClient().patch(
             this.getPartner(),
             new TypeReference<Order>(){}, 
-            MessageFormat.format(
-                PartnerService.getInstance().getConfiguration().getApis().get("UpdateOrder").getPath(),
+            ApiRouteRegistry.getInstance().getRoute("UpdateOrder").render(
                 this.getContext().getItem1(), 
                 this.getContext().getItem2()),
             order);
@@ -3,15 +3,13 @@
 
 package com.microsoft.store.partnercenter.orders;
 
-import java.text.MessageFormat;
-
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponent;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.ResourceCollection;
 import com.microsoft.store.partnercenter.models.orders.OrderLineItemProvisioningStatus;
 import com.microsoft.store.partnercenter.models.utils.Tuple;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.utils.StringHelper;
 
 /**
@@ -54,8 +52,7 @@ public class OrderProvisioningStatusOperations
         return this.getPartner().getServiceClient().get(
             this.getPartner(),
             new TypeReference<ResourceCollection<OrderLineItemProvisioningStatus>>(){}, 
-            MessageFormat.format(
-                PartnerService.getInstance().getConfiguration().getApis().get("GetOrderProvisioningStatus").getPath(),
+            ApiRouteRegistry.getInstance().getRoute("GetOrderProvisioningStatus").render(
                 this.getContext().getItem1(), 
                 this.getContext().getItem2()));
 	}
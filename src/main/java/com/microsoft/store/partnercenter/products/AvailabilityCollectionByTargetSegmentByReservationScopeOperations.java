@@ -3,18 +3,17 @@
 
 package com.microsoft.store.partnercenter.products;
 
-import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collection;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponent;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.ResourceCollection;
 import com.microsoft.store.partnercenter.models.products.Availability;
 import com.microsoft.store.partnercenter.models.utils.KeyValuePair;
 import com.microsoft.store.partnercenter.models.utils.QuintupleTuple;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.utils.ParameterValidator;
 import com.microsoft.store.partnercenter.utils.StringHelper;
 
@@ -76,7 +75,7 @@ public class AvailabilityCollectionByTargetSegmentByReservationScopeOperations
 		(
 			new KeyValuePair<String, String>
 			(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetAvailabilities").getParameters().get("Country"),
+				ApiRouteRegistry.getInstance().getRoute("GetAvailabilities").getParameterName("Country"),
 				this.getContext().getItem3()
 			) 
 		);
@@ -85,7 +84,7 @@ public class AvailabilityCollectionByTargetSegmentByReservationScopeOperations
 		(
 			new KeyValuePair<String, String>
 			(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetAvailabilities").getParameters().get("TargetSegment"),
+				ApiRouteRegistry.getInstance().getRoute("GetAvailabilities").getParameterName("TargetSegment"),
 				this.getContext().getItem4()
 			) 
 		);
@@ -94,7 +93,7 @@ public class AvailabilityCollectionByTargetSegmentByReservationScopeOperations
 		(
 			new KeyValuePair<String, String>
 			(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetAvailabilities").getParameters().get("ReservationScope"),
+				ApiRouteRegistry.getInstance().getRoute("GetAvailabilities").getParameterName("ReservationScope"),
 				this.getContext().getItem5()
 			) 
 		);
@@ -102,8 +101,7 @@ public class AvailabilityCollectionByTargetSegmentByReservationScopeOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<ResourceCollection<Availability>>(){}, 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetAvailabilities").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetAvailabilities").render(
 				this.getContext().getItem1(), 
 				this.getContext().getItem2()),
 			parameters);
@@ -3,18 +3,17 @@
 
 package com.microsoft.store.partnercenter.products;
 
-import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collection;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponent;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.ResourceCollection;
 import com.microsoft.store.partnercenter.models.products.Availability;
 import com.microsoft.store.partnercenter.models.utils.KeyValuePair;
 import com.microsoft.store.partnercenter.models.utils.QuadrupleTuple;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.utils.ParameterValidator;
 import com.microsoft.store.partnercenter.utils.StringHelper;
 
@@ -88,7 +87,7 @@ public class AvailabilityCollectionByTargetSegmentOperations
 		(
 			new KeyValuePair<String, String>
 			(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetAvailabilities").getParameters().get("Country"),
+				ApiRouteRegistry.getInstance().getRoute("GetAvailabilities").getParameterName("Country"),
 				this.getContext().getItem3()
 			) 
 		);
@@ -97,7 +96,7 @@ public class AvailabilityCollectionByTargetSegmentOperations
 		(
 			new KeyValuePair<String, String>
 			(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetAvailabilities").getParameters().get("TargetSegment"),
+				ApiRouteRegistry.getInstance().getRoute("GetAvailabilities").getParameterName("TargetSegment"),
 				this.getContext().getItem4()
 			) 
 		);
@@ -105,8 +104,7 @@ public class AvailabilityCollectionByTargetSegmentOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<ResourceCollection<Availability>>(){}, 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetAvailabilities").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetAvailabilities").render(
 				this.getContext().getItem1(), 
 				this.getContext().getItem2()),
 			parameters);
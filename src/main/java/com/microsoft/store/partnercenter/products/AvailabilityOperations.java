@@ -3,17 +3,16 @@
 
 package com.microsoft.store.partnercenter.products;
 
-import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collection;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponent;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.products.Availability;
 import com.microsoft.store.partnercenter.models.utils.KeyValuePair;
 import com.microsoft.store.partnercenter.models.utils.QuadrupleTuple;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.utils.ParameterValidator;
 import com.microsoft.store.partnercenter.utils.StringHelper;
 
@@ -64,7 +63,7 @@ public class AvailabilityOperations
 		(
 			new KeyValuePair<String, String>
 			(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetAvailability").getParameters().get("Country"),
+				ApiRouteRegistry.getInstance().getRoute("GetAvailability").getParameterName("Country"),
 				this.getContext().getItem4()
 			) 
 		);
@@ -72,8 +71,7 @@ public class AvailabilityOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<Availability>(){}, 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetAvailability").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetAvailability").render(
 				this.getContext().getItem1(), 
 				this.getContext().getItem2(),
 				this.getContext().getItem3()),
@@ -9,11 +9,11 @@ import java.util.Collection;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponent;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.ResourceCollection;
 import com.microsoft.store.partnercenter.models.products.Product;
 import com.microsoft.store.partnercenter.models.utils.KeyValuePair;
 import com.microsoft.store.partnercenter.models.utils.Tuple;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.utils.ParameterValidator;
 import com.microsoft.store.partnercenter.utils.StringHelper;
 
@@ -67,7 +67,7 @@ public class ProductCollectionByCountryByTargetViewOperations
 		(
 			new KeyValuePair<String, String>
 			(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetProducts").getParameters().get("TargetView"),
+				ApiRouteRegistry.getInstance().getRoute("GetProducts").getParameterName("TargetView"),
 				this.getContext().getItem1()
 			) 
 		);
@@ -76,7 +76,7 @@ public class ProductCollectionByCountryByTargetViewOperations
 		(
 			new KeyValuePair<String, String>
 			(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetProducts").getParameters().get("Country"),
+				ApiRouteRegistry.getInstance().getRoute("GetProducts").getParameterName("Country"),
 				this.getContext().getItem2()
 			) 
 		);
@@ -84,7 +84,7 @@ public class ProductCollectionByCountryByTargetViewOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<ResourceCollection<Product>>(){}, 
-			PartnerService.getInstance().getConfiguration().getApis().get("GetProducts").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetProducts").getPath(),
 			parameters);
 	}
 }
\ No newline at end of file
@@ -3,17 +3,16 @@
 
 package com.microsoft.store.partnercenter.products;
 
-import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collection;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponent;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.products.Product;
 import com.microsoft.store.partnercenter.models.utils.KeyValuePair;
 import com.microsoft.store.partnercenter.models.utils.Tuple;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.utils.ParameterValidator;
 import com.microsoft.store.partnercenter.utils.StringHelper;
 
@@ -75,7 +74,7 @@ public class ProductOperations
 		(
 			new KeyValuePair<String, String>
 			(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetProduct").getParameters().get("Country"),
+				ApiRouteRegistry.getInstance().getRoute("GetProduct").getParameterName("Country"),
 				this.getContext().getItem2()
 			) 
 		);
@@ -83,8 +82,7 @@ public class ProductOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<Product>(){}, 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetProduct").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetProduct").render(
 				this.getContext().getItem1()),
 			parameters);
 	}
@@ -3,18 +3,17 @@
 
 package com.microsoft.store.partnercenter.products;
 
-import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collection;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponent;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.ResourceCollection;
 import com.microsoft.store.partnercenter.models.products.Sku;
 import com.microsoft.store.partnercenter.models.utils.KeyValuePair;
 import com.microsoft.store.partnercenter.models.utils.TripletTuple;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.utils.ParameterValidator;
 import com.microsoft.store.partnercenter.utils.StringHelper;
 
@@ -63,7 +62,7 @@ public class SkuCollectionByTargetSegmentOperations
 		(
 			new KeyValuePair<String, String>
 			(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetSkus").getParameters().get("Country"),
+				ApiRouteRegistry.getInstance().getRoute("GetSkus").getParameterName("Country"),
 				this.getContext().getItem2()
 			) 
 		);
@@ -72,7 +71,7 @@ public class SkuCollectionByTargetSegmentOperations
 		(
 			new KeyValuePair<String, String>
 			(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetSkus").getParameters().get("TargetSegment"),
+				ApiRouteRegistry.getInstance().getRoute("GetSkus").getParameterName("TargetSegment"),
 				this.getContext().getItem3()
 			) 
 		);
@@ -80,8 +79,7 @@ public class SkuCollectionByTargetSegmentOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<ResourceCollection<Sku>>(){}, 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetSkus").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetSkus").render(
 				this.getContext().getItem1()),
 			parameters);
 	}
@@ -3,14 +3,12 @@
 
 package com.microsoft.store.partnercenter.productupgrades;
 
-import java.text.MessageFormat;
-
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponentString;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.productupgrades.ProductUpgradeEligibility;
 import com.microsoft.store.partnercenter.models.productupgrades.ProductUpgradeRequest;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 
 import okhttp3.Response;
 
@@ -60,8 +58,7 @@ public class ProductUpgradeCollectionOperations
 		return this.getPartner().getServiceClient().post(
 			this.getPartner(), 
 			new TypeReference<ProductUpgradeEligibility>(){},
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetProductUpgradeEligibility").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetProductUpgradeEligibility").render(
 				this.getContext()),
             productUpgradeRequest);
     }
@@ -83,8 +80,7 @@ public class ProductUpgradeCollectionOperations
 		Response response = this.getPartner().getServiceClient().post(
 			this.getPartner(), 
 			new TypeReference<Response>(){}, 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("UpgradeProduct").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("UpgradeProduct").render(
 				this.getContext()),
             newEntity);
 
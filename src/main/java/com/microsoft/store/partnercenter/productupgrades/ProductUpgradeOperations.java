@@ -3,14 +3,12 @@
 
 package com.microsoft.store.partnercenter.productupgrades;
 
-import java.text.MessageFormat;
-
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponentString;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.productupgrades.ProductUpgradeRequest;
 import com.microsoft.store.partnercenter.models.productupgrades.ProductUpgradeStatus;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 
 /**
  * Implements the operations for product upgrades
@@ -46,8 +44,7 @@ public class ProductUpgradeOperations
 		return this.getPartner().getServiceClient().post(
 			this.getPartner(), 
 			new TypeReference<ProductUpgradeStatus>(){},
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetProductUpgradeStatus").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetProductUpgradeStatus").render(
 				this.getContext()),
                 productUpgradeRequest);   
     }
@@ -6,8 +6,8 @@ package com.microsoft.store.partnercenter.profiles;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponentString;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.partners.BillingProfile;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 
 /**
  * The partner billing profile operations implementation.
@@ -37,7 +37,7 @@ public class BillingProfileOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<BillingProfile>(){}, 
-			PartnerService.getInstance().getConfiguration().getApis().get("GetPartnerBillingProfile").getPath());
+			ApiRouteRegistry.getInstance().getRoute("GetPartnerBillingProfile").getPath());
 	}
 
 	/**
@@ -52,7 +52,7 @@ public class BillingProfileOperations
 		return this.getPartner().getServiceClient().put(
 			this.getPartner(),
 			new TypeReference<BillingProfile>(){}, 
-			PartnerService.getInstance().getConfiguration().getApis().get("UpdatePartnerBillingProfile").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("UpdatePartnerBillingProfile").getPath(),
 			updatePayload);
 	}
 }
\ No newline at end of file
@@ -6,8 +6,8 @@ package com.microsoft.store.partnercenter.profiles;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponentString;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.partners.LegalBusinessProfile;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 
 /**
  * The legal business profile operations implementation.
@@ -37,7 +37,7 @@ public class LegalBusinessProfileOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<LegalBusinessProfile>(){}, 
-			PartnerService.getInstance().getConfiguration().getApis().get("GetLegalBusinessProfile").getPath());
+			ApiRouteRegistry.getInstance().getRoute("GetLegalBusinessProfile").getPath());
 	}
 
 	/**
@@ -52,7 +52,7 @@ public class LegalBusinessProfileOperations
 		return this.getPartner().getServiceClient().put(
 			this.getPartner(),
 			new TypeReference<LegalBusinessProfile>(){}, 
-			PartnerService.getInstance().getConfiguration().getApis().get("GetLegalBusinessProfile").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetLegalBusinessProfile").getPath(),
 			legalBusinessProfile);
 	}
 }
\ No newline at end of file
@@ -9,9 +9,9 @@ import java.util.Collection;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponentString;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.partners.MpnProfile;
 import com.microsoft.store.partnercenter.models.utils.KeyValuePair;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 
 /**
  * Class which contains operations for Partner Network Profile
@@ -41,7 +41,7 @@ public class MpnProfileOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<MpnProfile>(){}, 
-			PartnerService.getInstance().getConfiguration().getApis().get("GetMpnProfile").getPath());
+			ApiRouteRegistry.getInstance().getRoute("GetMpnProfile").getPath());
 	}
 
 	/**
@@ -59,7 +59,7 @@ public class MpnProfileOperations
 		(
 			new KeyValuePair<String, String>
 			(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetMpnProfile").getParameters().get("MpnId"),
+				ApiRouteRegistry.getInstance().getRoute("GetMpnProfile").getParameterName("MpnId"),
 				mpnId
 			) 
 		);
@@ -67,7 +67,7 @@ public class MpnProfileOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<MpnProfile>(){}, 
-			PartnerService.getInstance().getConfiguration().getApis().get("GetMpnProfile").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetMpnProfile").getPath(),
 			parameters);
 	}
 }
\ No newline at end of file
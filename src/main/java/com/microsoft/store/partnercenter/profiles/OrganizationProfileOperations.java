@@ -6,8 +6,8 @@ package com.microsoft.store.partnercenter.profiles;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponentString;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.partners.OrganizationProfile;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 
 /**
  * The organization profile operations implementation.
@@ -37,7 +37,7 @@ public class OrganizationProfileOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<OrganizationProfile>(){}, 
-			PartnerService.getInstance().getConfiguration().getApis().get("GetOrganizationProfile").getPath());
+			ApiRouteRegistry.getInstance().getRoute("GetOrganizationProfile").getPath());
 	}
 
 	/**
@@ -52,7 +52,7 @@ public class OrganizationProfileOperations
 		return this.getPartner().getServiceClient().put(
 			this.getPartner(),
 			new TypeReference<OrganizationProfile>(){}, 
-			PartnerService.getInstance().getConfiguration().getApis().get("GetOrganizationProfile").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetOrganizationProfile").getPath(),
 			updatePayload);   
 	}
 }
\ No newline at end of file
@@ -6,8 +6,8 @@ package com.microsoft.store.partnercenter.profiles;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponentString;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.partners.SupportProfile;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 
 /**
  * The partner support profile operations implementation.
@@ -37,7 +37,7 @@ public class SupportProfileOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<SupportProfile>(){}, 
-			PartnerService.getInstance().getConfiguration().getApis().get("GetSupportProfile").getPath());
+			ApiRouteRegistry.getInstance().getRoute("GetSupportProfile").getPath());
 	}
 
 	/**
@@ -52,7 +52,7 @@ public class SupportProfileOperations
 		return this.getPartner().getServiceClient().put(
 			this.getPartner(),
 			new TypeReference<SupportProfile>(){}, 
-			PartnerService.getInstance().getConfiguration().getApis().get("UpdateSupportProfile").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("UpdateSupportProfile").getPath(),
 			updatePayload);
 	}
 }
\ No newline at end of file
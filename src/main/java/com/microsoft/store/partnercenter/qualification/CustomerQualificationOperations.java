@@ -3,17 +3,16 @@
 
 package com.microsoft.store.partnercenter.qualification;
 
-import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collection;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponentString;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.customers.CustomerQualification;
 import com.microsoft.store.partnercenter.models.utils.KeyValuePair;
 import com.microsoft.store.partnercenter.models.validationcodes.ValidationCode;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.utils.StringHelper;
 
 /**
@@ -50,8 +49,7 @@ public class CustomerQualificationOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<CustomerQualification>(){}, 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetCustomerQualification").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetCustomerQualification").render(
 				this.getContext()));
 	}
 
@@ -72,8 +70,7 @@ public class CustomerQualificationOperations
 		return this.getPartner().getServiceClient().put(
 			this.getPartner(),
 			new TypeReference<CustomerQualification>(){}, 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("UpdateCustomerQualification").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("UpdateCustomerQualification").render(
 				this.getContext()),
 			customerQualification);
 	}
@@ -103,7 +100,7 @@ public class CustomerQualificationOperations
 		(
 			new KeyValuePair<String, String>
 			(
-				PartnerService.getInstance().getConfiguration().getApis().get("UpdateCustomerQualification").getParameters().get("GovernmentCommunityCloudValidationCode"),
+				ApiRouteRegistry.getInstance().getRoute("UpdateCustomerQualification").getParameterName("GovernmentCommunityCloudValidationCode"),
 				governmentCommunityCloudValidationCode.getValidationId()
 			) 
 		);
@@ -111,8 +108,7 @@ public class CustomerQualificationOperations
 		return this.getPartner().getServiceClient().put(
 			this.getPartner(),
 			new TypeReference<CustomerQualification>(){}, 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("UpdateCustomerQualification").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("UpdateCustomerQualification").render(
 				this.getContext()),
 			customerQualification);	
 	}
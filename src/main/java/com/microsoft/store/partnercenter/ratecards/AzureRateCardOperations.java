@@ -8,9 +8,9 @@ import java.util.Collection;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponentString;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.ratecards.AzureRateCard;
 import com.microsoft.store.partnercenter.models.utils.KeyValuePair;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.utils.StringHelper;
 
 public class AzureRateCardOperations 
@@ -44,7 +44,7 @@ public class AzureRateCardOperations
 			(
 				new KeyValuePair<String, String>
 				(
-					PartnerService.getInstance().getConfiguration().getApis().get("GetAzureRateCard").getParameters().get("Currency"),
+					ApiRouteRegistry.getInstance().getRoute("GetAzureRateCard").getParameterName("Currency"),
 					currency
 				) 
 			);
@@ -56,7 +56,7 @@ public class AzureRateCardOperations
 			(
 				new KeyValuePair<String, String>
 				(
-					PartnerService.getInstance().getConfiguration().getApis().get("GetAzureRateCard").getParameters().get("Region"),
+					ApiRouteRegistry.getInstance().getRoute("GetAzureRateCard").getParameterName("Region"),
 					region
 				) 
 			);
@@ -65,7 +65,7 @@ public class AzureRateCardOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<AzureRateCard>(){}, 
-			PartnerService.getInstance().getConfiguration().getApis().get("GetAzureRateCard").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetAzureRateCard").getPath(),
 			parameters);
 	}
 
@@ -87,7 +87,7 @@ public class AzureRateCardOperations
 			(
 				new KeyValuePair<String, String>
 				(
-					PartnerService.getInstance().getConfiguration().getApis().get("GetAzureSharedRateCard").getParameters().get("Currency"),
+					ApiRouteRegistry.getInstance().getRoute("GetAzureSharedRateCard").getParameterName("Currency"),
 					currency
 				) 
 			);
@@ -99,7 +99,7 @@ public class AzureRateCardOperations
 			(
 				new KeyValuePair<String, String>
 				(
-					PartnerService.getInstance().getConfiguration().getApis().get("GetAzureSharedRateCard").getParameters().get("Region"),
+					ApiRouteRegistry.getInstance().getRoute("GetAzureSharedRateCard").getParameterName("Region"),
 					region
 				) 
 			);
@@ -108,7 +108,7 @@ public class AzureRateCardOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<AzureRateCard>(){}, 
-			PartnerService.getInstance().getConfiguration().getApis().get("GetAzureSharedRateCard").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetAzureSharedRateCard").getPath(),
 			parameters);
 	}
 }
\ No newline at end of file
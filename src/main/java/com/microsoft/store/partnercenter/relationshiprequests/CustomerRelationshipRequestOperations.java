@@ -6,8 +6,8 @@ package com.microsoft.store.partnercenter.relationshiprequests;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponentString;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.relationshiprequests.CustomerRelationshipRequest;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 
 /**
  * Customer relationship request implementation class.
@@ -38,6 +38,6 @@ public class CustomerRelationshipRequestOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<CustomerRelationshipRequest>(){}, 
-			PartnerService.getInstance().getConfiguration().getApis().get("GetCustomerRelationshipRequest").getPath());
+			ApiRouteRegistry.getInstance().getRoute("GetCustomerRelationshipRequest").getPath());
 	}
 }
\ No newline at end of file
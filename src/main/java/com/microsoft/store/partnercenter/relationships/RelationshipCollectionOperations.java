@@ -3,8 +3,6 @@
 
 package com.microsoft.store.partnercenter.relationships;
 
-import java.io.UnsupportedEncodingException;
-import java.net.URLEncoder;
 import java.util.ArrayList;
 import java.util.Collection;
 
@@ -13,7 +11,6 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.microsoft.store.partnercenter.BasePartnerComponentString;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.exception.PartnerErrorCategory;
 import com.microsoft.store.partnercenter.exception.PartnerException;
 import com.microsoft.store.partnercenter.models.ResourceCollection;
@@ -22,6 +19,7 @@ import com.microsoft.store.partnercenter.models.query.QueryType;
 import com.microsoft.store.partnercenter.models.relationships.PartnerRelationship;
 import com.microsoft.store.partnercenter.models.relationships.PartnerRelationshipType;
 import com.microsoft.store.partnercenter.models.utils.KeyValuePair;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 
 /**
  * The relationship collection implementation.
@@ -54,7 +52,7 @@ public class RelationshipCollectionOperations
 		(
 			new KeyValuePair<String, String>
 			(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetPartnerRelationships").getParameters().get("RelationshipType"),
+				ApiRouteRegistry.getInstance().getRoute("GetPartnerRelationships").getParameterName("RelationshipType"),
 				partnerRelationshipType.toString()
 			) 
 		);
@@ -62,7 +60,7 @@ public class RelationshipCollectionOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<ResourceCollection<PartnerRelationship>>(){}, 
-			PartnerService.getInstance().getConfiguration().getApis().get("GetPartnerRelationships").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetPartnerRelationships").getPath(),
 			parameters);
 	}
 
@@ -92,12 +90,8 @@ public class RelationshipCollectionOperations
 				(
 					new KeyValuePair<String, String>
 					(
-						PartnerService.getInstance().getConfiguration().getApis().get("GetPartnerRelationships").getParameters().get("Filter"), 
-						URLEncoder.encode
-						(
-							mapper.writeValueAsString(query.getFilter()),
-							"UTF-8" 
-						)
+						ApiRouteRegistry.getInstance().getRoute("GetPartnerRelationships").getParameterName("Filter"), 
+						mapper.writeValueAsString(query.getFilter())
 					)
 				);
 			}
@@ -105,16 +99,12 @@ public class RelationshipCollectionOperations
 			{
 				throw new PartnerException("", null, PartnerErrorCategory.REQUEST_PARSING, e);
 			}
-			catch (UnsupportedEncodingException e)
-			{
-				throw new PartnerException("", null, PartnerErrorCategory.REQUEST_PARSING, e);
-			}
 		}
 
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<ResourceCollection<PartnerRelationship>>(){}, 
-			PartnerService.getInstance().getConfiguration().getApis().get("GetPartnerRelationships").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetPartnerRelationships").getPath(),
 			parameters);
 	}
 }
\ No newline at end of file
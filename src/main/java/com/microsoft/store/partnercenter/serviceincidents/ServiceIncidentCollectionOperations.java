@@ -3,9 +3,6 @@
 
 package com.microsoft.store.partnercenter.serviceincidents;
 
-import java.io.UnsupportedEncodingException;
-import java.net.URLEncoder;
-import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collection;
 
@@ -14,13 +11,13 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.microsoft.store.partnercenter.BasePartnerComponentString;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.exception.PartnerErrorCategory;
 import com.microsoft.store.partnercenter.exception.PartnerException;
 import com.microsoft.store.partnercenter.models.ResourceCollection;
 import com.microsoft.store.partnercenter.models.query.IQuery;
 import com.microsoft.store.partnercenter.models.serviceincidents.ServiceIncidents;
 import com.microsoft.store.partnercenter.models.utils.KeyValuePair;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 
 /**
  * Service incident collection operations implementation class.
@@ -49,8 +46,7 @@ public class ServiceIncidentCollectionOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<ResourceCollection<ServiceIncidents>>(){}, 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetServiceIncidents").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetServiceIncidents").render(
 				this.getContext()));
 	}
 
@@ -80,15 +76,10 @@ public class ServiceIncidentCollectionOperations
 				parameters.add
 				(
 					new KeyValuePair<String, String>(
-						PartnerService.getInstance().getConfiguration().getApis().get("SearchPartnerServiceRequests").getParameters().get("Filter"),
-						URLEncoder.encode(mapper.writeValueAsString(serviceIncidentsQuery.getFilter()),
-						"UTF-8"))
+						ApiRouteRegistry.getInstance().getRoute("SearchPartnerServiceRequests").getParameterName("Filter"),
+						mapper.writeValueAsString(serviceIncidentsQuery.getFilter()))
 				);
 			}
-			catch (UnsupportedEncodingException e)
-			{
-				throw new PartnerException("", null, PartnerErrorCategory.REQUEST_PARSING, e);
-			}
 			catch (JsonProcessingException e)
 			{
 				throw new PartnerException("", null, PartnerErrorCategory.REQUEST_PARSING, e);
@@ -98,7 +89,7 @@ public class ServiceIncidentCollectionOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<ResourceCollection<ServiceIncidents>>(){}, 
-			PartnerService.getInstance().getConfiguration().getApis().get("GetServiceIncidents").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetServiceIncidents").getPath(),
 			parameters);
 	}
 }
\ No newline at end of file
@@ -3,8 +3,6 @@
 
 package com.microsoft.store.partnercenter.servicerequests;
 
-import java.io.UnsupportedEncodingException;
-import java.net.URLEncoder;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -14,7 +12,6 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.microsoft.store.partnercenter.BasePartnerComponentString;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.exception.PartnerErrorCategory;
 import com.microsoft.store.partnercenter.exception.PartnerException;
 import com.microsoft.store.partnercenter.models.ResourceCollection;
@@ -23,6 +20,7 @@ import com.microsoft.store.partnercenter.models.query.IQuery;
 import com.microsoft.store.partnercenter.models.query.QueryType;
 import com.microsoft.store.partnercenter.models.servicerequests.ServiceRequest;
 import com.microsoft.store.partnercenter.models.utils.KeyValuePair;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.utils.ParameterValidator;
 import com.microsoft.store.partnercenter.utils.StringHelper;
 
@@ -101,12 +99,12 @@ public class CustomerServiceRequestCollectionOperations
 
 			parameters.add(
 				new KeyValuePair<String, String>(
-					PartnerService.getInstance().getConfiguration().getApis().get("SearchCustomerServiceRequests").getParameters().get("Size"),
+					ApiRouteRegistry.getInstance().getRoute("SearchCustomerServiceRequests").getParameterName("Size"),
 					String.valueOf(serviceRequestsQuery.getPageSize())));
 
 			parameters.add(
 				new KeyValuePair<String, String>(
-					PartnerService.getInstance().getConfiguration().getApis().get("SearchCustomerServiceRequests").getParameters().get("Offset"),
+					ApiRouteRegistry.getInstance().getRoute("SearchCustomerServiceRequests").getParameterName("Offset"),
 					String.valueOf(serviceRequestsQuery.getIndex())));
 		}
 		if (serviceRequestsQuery.getFilter() != null)
@@ -118,26 +116,20 @@ public class CustomerServiceRequestCollectionOperations
 			{
 				parameters.add(
 					new KeyValuePair<String, String>(
-						PartnerService.getInstance().getConfiguration().getApis().get("SearchCustomerServiceRequests").getParameters().get("Filter"),
-						URLEncoder.encode(mapper.writeValueAsString(serviceRequestsQuery.getFilter()),
-						"UTF-8")));
+						ApiRouteRegistry.getInstance().getRoute("SearchCustomerServiceRequests").getParameterName("Filter"),
+						mapper.writeValueAsString(serviceRequestsQuery.getFilter())));
 			}
 			catch (JsonProcessingException e)
 			{
 				throw new PartnerException("", null, PartnerErrorCategory.REQUEST_PARSING, e);
 			}
-			catch (UnsupportedEncodingException e)
-			{
-				throw new PartnerException("", null, PartnerErrorCategory.REQUEST_PARSING, e);
-			}
 
 		}
 
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<SeekBasedResourceCollection<ServiceRequest>>(){}, 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("SearchCustomerServiceRequests").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("SearchCustomerServiceRequests").render(
 				this.getContext()), 
 			parameters); 
 	}
@@ -153,8 +145,7 @@ public class CustomerServiceRequestCollectionOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<ResourceCollection<ServiceRequest>>(){}, 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetAllServiceRequestsCustomer").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetAllServiceRequestsCustomer").render(
 				this.getContext()));
 	}
 }
\ No newline at end of file
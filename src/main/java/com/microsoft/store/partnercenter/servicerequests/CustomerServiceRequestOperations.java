@@ -3,14 +3,12 @@
 
 package com.microsoft.store.partnercenter.servicerequests;
 
-import java.text.MessageFormat;
-
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponent;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.servicerequests.ServiceRequest;
 import com.microsoft.store.partnercenter.models.utils.Tuple;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.utils.StringHelper;
 
 /**
@@ -54,8 +52,7 @@ public class CustomerServiceRequestOperations
         return this.getPartner().getServiceClient().get(
             this.getPartner(),
             new TypeReference<ServiceRequest>(){}, 
-            MessageFormat.format(
-                PartnerService.getInstance().getConfiguration().getApis().get("GetServiceRequestCustomer").getPath(),
+            ApiRouteRegistry.getInstance().getRoute("GetServiceRequestCustomer").render(
                 this.getContext().getItem1(), 
                 this.getContext().getItem2()));
     }
@@ -72,8 +69,7 @@ public class CustomerServiceRequestOperations
         return this.getPartner().getServiceClient().patch(
             this.getPartner(),
             new TypeReference<ServiceRequest>(){}, 
-            MessageFormat.format(
-                PartnerService.getInstance().getConfiguration().getApis().get("UpdateServiceRequestCustomer").getPath(),
+            ApiRouteRegistry.getInstance().getRoute("UpdateServiceRequestCustomer").render(
                 this.getContext().getItem1(), 
                 this.getContext().getItem2()),
             updatePayload);
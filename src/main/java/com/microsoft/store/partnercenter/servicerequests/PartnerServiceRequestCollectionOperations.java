@@ -3,8 +3,6 @@
 
 package com.microsoft.store.partnercenter.servicerequests;
 
-import java.io.UnsupportedEncodingException;
-import java.net.URLEncoder;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -14,7 +12,6 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.microsoft.store.partnercenter.BasePartnerComponentString;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.exception.PartnerErrorCategory;
 import com.microsoft.store.partnercenter.exception.PartnerException;
 import com.microsoft.store.partnercenter.models.ResourceCollection;
@@ -22,6 +19,7 @@ import com.microsoft.store.partnercenter.models.query.IQuery;
 import com.microsoft.store.partnercenter.models.query.QueryType;
 import com.microsoft.store.partnercenter.models.servicerequests.ServiceRequest;
 import com.microsoft.store.partnercenter.models.utils.KeyValuePair;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.utils.ParameterValidator;
 
 /**
@@ -103,12 +101,12 @@ public class PartnerServiceRequestCollectionOperations
 																	 MIN_PAGE_SIZE, MAX_PAGE_SIZE));
 			parameters.add(
 				new KeyValuePair<String, String>(
-					PartnerService.getInstance().getConfiguration().getApis().get("SearchPartnerServiceRequests").getParameters().get("Size"),
+					ApiRouteRegistry.getInstance().getRoute("SearchPartnerServiceRequests").getParameterName("Size"),
 					String.valueOf(serviceRequestsQuery.getPageSize())));
 
 			parameters.add(
 				new KeyValuePair<String, String>(
-					PartnerService.getInstance().getConfiguration().getApis().get("SearchPartnerServiceRequests").getParameters().get("Offset"),
+					ApiRouteRegistry.getInstance().getRoute("SearchPartnerServiceRequests").getParameterName("Offset"),
 					String.valueOf(serviceRequestsQuery.getIndex())));
 		}
 		if (serviceRequestsQuery.getFilter() != null)
@@ -120,25 +118,20 @@ public class PartnerServiceRequestCollectionOperations
 			{
 				parameters.add(
 					new KeyValuePair<String, String>(
-						PartnerService.getInstance().getConfiguration().getApis().get("SearchPartnerServiceRequests").getParameters().get("Filter"),
-						URLEncoder.encode(mapper.writeValueAsString(serviceRequestsQuery.getFilter()),
-						"UTF-8")));
+						ApiRouteRegistry.getInstance().getRoute("SearchPartnerServiceRequests").getParameterName("Filter"),
+						mapper.writeValueAsString(serviceRequestsQuery.getFilter())));
 			}
 			catch (JsonProcessingException e)
 			{
 				throw new PartnerException("", null, PartnerErrorCategory.REQUEST_PARSING, e);
 			}
-			catch (UnsupportedEncodingException e)
-			{
-				throw new PartnerException("", null, PartnerErrorCategory.REQUEST_PARSING, e);
-			}
 
 		}
 
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<ResourceCollection<ServiceRequest>>(){}, 
-			PartnerService.getInstance().getConfiguration().getApis().get("SearchPartnerServiceRequests").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("SearchPartnerServiceRequests").getPath(),
 			parameters); 
 	}
 
@@ -153,7 +146,7 @@ public class PartnerServiceRequestCollectionOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<ResourceCollection<ServiceRequest>>(){}, 
-			PartnerService.getInstance().getConfiguration().getApis().get("GetAllServiceRequestsPartner").getPath());
+			ApiRouteRegistry.getInstance().getRoute("GetAllServiceRequestsPartner").getPath());
 	}
 
 	/**
@@ -178,8 +171,7 @@ public class PartnerServiceRequestCollectionOperations
 		return this.getPartner().getServiceClient().post(
 			this.getPartner(), 
 			new TypeReference<ServiceRequest>(){},
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("CreateServiceRequest").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("CreateServiceRequest").render(
 				agentLocale),
 			serviceRequest);
 	}
@@ -3,14 +3,12 @@
 
 package com.microsoft.store.partnercenter.servicerequests;
 
-import java.text.MessageFormat;
-
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponent;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.servicerequests.ServiceRequest;
 import com.microsoft.store.partnercenter.models.utils.Tuple;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.utils.StringHelper;
 
 /**
@@ -47,8 +45,7 @@ public class PartnerServiceRequestOperations
         return this.getPartner().getServiceClient().get(
             this.getPartner(),
             new TypeReference<ServiceRequest>(){}, 
-            MessageFormat.format(
-                PartnerService.getInstance().getConfiguration().getApis().get("GetServiceRequestPartner").getPath(),
+            ApiRouteRegistry.getInstance().getRoute("GetServiceRequestPartner").render(
                 this.getContext().getItem1()));
     }
 
@@ -64,8 +61,7 @@ public class PartnerServiceRequestOperations
         return this.getPartner().getServiceClient().patch(
             this.getPartner(),
             new TypeReference<ServiceRequest>(){}, 
-            MessageFormat.format(
-                PartnerService.getInstance().getConfiguration().getApis().get("GetServiceRequestPartner").getPath(),
+            ApiRouteRegistry.getInstance().getRoute("GetServiceRequestPartner").render(
                 this.getContext().getItem1()),
             updatePayload);
     }
@@ -6,9 +6,9 @@ package com.microsoft.store.partnercenter.servicerequests;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponentString;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.ResourceCollection;
 import com.microsoft.store.partnercenter.models.servicerequests.SupportTopic;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 
 /**
  * The operations that can be performed on support topics. Support Topics operations are localizable.
@@ -38,6 +38,6 @@ public class SupportTopicsCollectionOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<ResourceCollection<SupportTopic>>(){}, 
-			PartnerService.getInstance().getConfiguration().getApis().get("GetServiceRequestSupportTopics").getPath());
+			ApiRouteRegistry.getInstance().getRoute("GetServiceRequestSupportTopics").getPath());
 	}
 }
\ No newline at end of file
@@ -3,7 +3,6 @@
 
 package com.microsoft.store.partnercenter.subscribedskus;
 
-import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -11,11 +10,11 @@ import java.util.List;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponent;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.ResourceCollection;
 import com.microsoft.store.partnercenter.models.licenses.LicenseGroupId;
 import com.microsoft.store.partnercenter.models.licenses.SubscribedSku;
 import com.microsoft.store.partnercenter.models.utils.KeyValuePair;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.utils.StringHelper;
 
 public class CustomerSubscribedSkuCollectionOperations 
@@ -47,8 +46,7 @@ public class CustomerSubscribedSkuCollectionOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<ResourceCollection<SubscribedSku>>(){}, 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetCustomerSubscribedSkus").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetCustomerSubscribedSkus").render(
 				this.getContext()));
 	}
 
@@ -68,7 +66,7 @@ public class CustomerSubscribedSkuCollectionOperations
 			(
 				new KeyValuePair<String, String>
 				(
-					PartnerService.getInstance().getConfiguration().getApis().get("GetCustomerSubscribedSkus").getParameters().get("licenseGroupIds"),
+					ApiRouteRegistry.getInstance().getRoute("GetCustomerSubscribedSkus").getParameterName("licenseGroupIds"),
 					groupId.toString()
 				) 
 			);
@@ -77,8 +75,7 @@ public class CustomerSubscribedSkuCollectionOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<ResourceCollection<SubscribedSku>>(){}, 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetCustomerSubscribedSkus").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetCustomerSubscribedSkus").render(
 				this.getContext()),
 			parameters);
 	}
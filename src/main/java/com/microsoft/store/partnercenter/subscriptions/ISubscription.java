@@ -4,6 +4,7 @@
 package com.microsoft.store.partnercenter.subscriptions;
 
 import com.microsoft.store.partnercenter.IPartnerComponent;
+import com.microsoft.store.partnercenter.genericoperations.IEntityConditionalGetOperations;
 import com.microsoft.store.partnercenter.genericoperations.IEntityGetOperations;
 import com.microsoft.store.partnercenter.genericoperations.IEntityPatchOperations;
 import com.microsoft.store.partnercenter.models.ResourceCollection;
@@ -20,7 +21,7 @@ import com.microsoft.store.partnercenter.utilization.IUtilizationCollection;
  */
 public interface ISubscription
     extends IPartnerComponent<Tuple<String, String>>, IEntityGetOperations<Subscription>,
-    IEntityPatchOperations<Subscription>
+    IEntityConditionalGetOperations<Subscription>, IEntityPatchOperations<Subscription>
 {
     /**
      * Activates a third-party subscription.
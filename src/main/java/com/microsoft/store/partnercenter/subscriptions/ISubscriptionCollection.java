@@ -3,6 +3,8 @@
 
 package com.microsoft.store.partnercenter.subscriptions;
 
+import java.util.concurrent.CompletableFuture;
+
 import com.microsoft.store.partnercenter.IPartnerComponentString;
 import com.microsoft.store.partnercenter.genericoperations.IEntireEntityCollectionRetrievalOperations;
 import com.microsoft.store.partnercenter.models.ResourceCollection;
@@ -53,4 +55,10 @@ public interface ISubscriptionCollection
 	 */
 	IEntireEntityCollectionRetrievalOperations<Subscription, ResourceCollection<Subscription>> byPartner(String partnerId);
 
+	/**
+	 * Asynchronously retrieves all subscriptions.
+	 * 
+	 * @return A future that completes with the subscriptions.
+	 */
+	CompletableFuture<ResourceCollection<Subscription>> getAsync();
 }
@@ -3,19 +3,18 @@
 
 package com.microsoft.store.partnercenter.subscriptions;
 
-import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collection;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponent;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.genericoperations.IEntireEntityCollectionRetrievalOperations;
 import com.microsoft.store.partnercenter.models.ResourceCollection;
 import com.microsoft.store.partnercenter.models.subscriptions.Subscription;
 import com.microsoft.store.partnercenter.models.utils.KeyValuePair;
 import com.microsoft.store.partnercenter.models.utils.Tuple;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.utils.StringHelper;
 
 /**
@@ -61,7 +60,7 @@ public class OrderSubscriptionCollectionOperations
 		(
 			new KeyValuePair<String, String>
 			(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetCustomerSubscriptionsByOrder").getParameters().get("OrderId"),
+				ApiRouteRegistry.getInstance().getRoute("GetCustomerSubscriptionsByOrder").getParameterName("OrderId"),
 				this.getContext().getItem2()
 			) 
 		);
@@ -69,8 +68,7 @@ public class OrderSubscriptionCollectionOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<ResourceCollection<Subscription>>(){}, 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetCustomerSubscriptionsByOrder").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetCustomerSubscriptionsByOrder").render(
 				this.getContext().getItem1()),
 			parameters);
 	}
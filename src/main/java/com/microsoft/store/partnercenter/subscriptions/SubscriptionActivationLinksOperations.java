@@ -3,15 +3,13 @@
 
 package com.microsoft.store.partnercenter.subscriptions;
 
-import java.text.MessageFormat;
-
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponent;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.ResourceCollection;
 import com.microsoft.store.partnercenter.models.orders.OrderLineItemActivationLink;
 import com.microsoft.store.partnercenter.models.utils.Tuple;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.utils.StringHelper;
 
 /**
@@ -52,8 +50,7 @@ public class SubscriptionActivationLinksOperations extends BasePartnerComponent<
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<ResourceCollection<OrderLineItemActivationLink>>(){}, 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetSubscriptionActivationLink").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetSubscriptionActivationLink").render(
 				this.getContext().getItem1(), 
 				this.getContext().getItem2()));
 	}
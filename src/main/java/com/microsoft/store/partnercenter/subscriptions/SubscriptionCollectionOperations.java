@@ -3,15 +3,15 @@
 
 package com.microsoft.store.partnercenter.subscriptions;
 
-import java.text.MessageFormat;
+import java.util.concurrent.CompletableFuture;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponentString;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.genericoperations.IEntireEntityCollectionRetrievalOperations;
 import com.microsoft.store.partnercenter.models.ResourceCollection;
 import com.microsoft.store.partnercenter.models.subscriptions.Subscription;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.usage.ISubscriptionMonthlyUsageRecordCollection;
 import com.microsoft.store.partnercenter.usage.SubscriptionMonthlyUsageRecordCollectionOperations;
 import com.microsoft.store.partnercenter.utils.ParameterValidator;
@@ -108,8 +108,22 @@ public class SubscriptionCollectionOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<ResourceCollection<Subscription>>(){}, 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetCustomerSubscriptions").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetCustomerSubscriptions").render(
+				this.getContext()));
+	}
+
+	/**
+	 * Asynchronously retrieves all subscriptions.
+	 * 
+	 * @return A future that completes with the subscriptions.
+	 */
+	@Override
+	public CompletableFuture<ResourceCollection<Subscription>> getAsync()
+	{
+		return this.getPartner().getServiceClient().getAsync(
+			this.getPartner(),
+			new TypeReference<ResourceCollection<Subscription>>(){}, 
+			ApiRouteRegistry.getInstance().getRoute("GetCustomerSubscriptions").render(
 				this.getContext()));
 	}
 }
\ No newline at end of file
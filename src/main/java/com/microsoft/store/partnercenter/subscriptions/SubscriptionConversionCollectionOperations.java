@@ -3,16 +3,14 @@
 
 package com.microsoft.store.partnercenter.subscriptions;
 
-import java.text.MessageFormat;
-
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponent;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.ResourceCollection;
 import com.microsoft.store.partnercenter.models.subscriptions.Conversion;
 import com.microsoft.store.partnercenter.models.subscriptions.ConversionResult;
 import com.microsoft.store.partnercenter.models.utils.Tuple;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.utils.StringHelper;
 
 /**
@@ -55,8 +53,7 @@ public class SubscriptionConversionCollectionOperations
 		return this.getPartner().getServiceClient().post(
 			this.getPartner(), 
 			new TypeReference<ConversionResult>(){},
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetSubscriptionConversions").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetSubscriptionConversions").render(
 				this.getContext().getItem1(), 
 				this.getContext().getItem2()),
 			conversion);
@@ -71,8 +68,7 @@ public class SubscriptionConversionCollectionOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<ResourceCollection<Conversion>>(){}, 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetSubscriptionConversions").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetSubscriptionConversions").render(
 				this.getContext().getItem1(),
 				this.getContext().getItem2()));
 	}
@@ -3,17 +3,15 @@
 
 package com.microsoft.store.partnercenter.subscriptions;
 
-import java.text.MessageFormat;
-
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponent;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.ResourceCollection;
 import com.microsoft.store.partnercenter.models.subscriptions.AzureEntitlement;
 import com.microsoft.store.partnercenter.models.subscriptions.Subscription;
 import com.microsoft.store.partnercenter.models.subscriptions.SubscriptionActivationResult;
 import com.microsoft.store.partnercenter.models.utils.Tuple;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.usage.ISubscriptionUsageRecordCollection;
 import com.microsoft.store.partnercenter.usage.ISubscriptionUsageSummary;
 import com.microsoft.store.partnercenter.usage.SubscriptionUsageRecordCollectionOperations;
@@ -116,8 +114,7 @@ public class SubscriptionOperations
         return this.getPartner().getServiceClient().post(
             this.getPartner(),
             new TypeReference<SubscriptionActivationResult>(){}, 
-            MessageFormat.format(
-                PartnerService.getInstance().getConfiguration().getApis().get("Activate3ppSubscription").getPath(),
+            ApiRouteRegistry.getInstance().getRoute("Activate3ppSubscription").render(
                 this.getContext().getItem1(), 
                 this.getContext().getItem2()), 
             null);
@@ -166,8 +163,7 @@ public class SubscriptionOperations
         return this.getPartner().getServiceClient().get(
             this.getPartner(),
             new TypeReference<ResourceCollection<AzureEntitlement>>(){}, 
-            MessageFormat.format(
-                PartnerService.getInstance().getConfiguration().getApis().get("GetAzureEntitlements").getPath(),
+            ApiRouteRegistry.getInstance().getRoute("GetAzureEntitlements").render(
                 this.getContext().getItem1(), 
                 this.getContext().getItem2()));
     }
@@ -305,12 +301,30 @@ public class SubscriptionOperations
         return this.getPartner().getServiceClient().get(
             this.getPartner(),
             new TypeReference<Subscription>(){}, 
-            MessageFormat.format(
-                PartnerService.getInstance().getConfiguration().getApis().get("GetSubscription").getPath(),
+            ApiRouteRegistry.getInstance().getRoute("GetSubscription").render(
                 this.getContext().getItem1(), 
                 this.getContext().getItem2()));
     }
 
+    /**
+     * Gets the subscription if it changed since a previous instance was retrieved.
+     * 
+     * @param previous The previous instance of the subscription, or null to always retrieve the subscription.
+     * @return The previous instance if the subscription did not change; otherwise the current subscription.
+     */
+    @Override
+    public Subscription getIfChanged(Subscription previous)
+    {
+        return this.getPartner().getServiceClient().getIfChanged(
+            this.getPartner(),
+            new TypeReference<Subscription>(){}, 
+            ApiRouteRegistry.getInstance().getRoute("GetSubscription").render(
+                this.getContext().getItem1(), 
+                this.getContext().getItem2()),
+            null,
+            previous);
+    }
+
     /**
      * Patches a subscription.
      * 
@@ -328,8 +342,7 @@ public class SubscriptionOperations
         return this.getPartner().getServiceClient().patch(
             this.getPartner(),
             new TypeReference<Subscription>(){}, 
-            MessageFormat.format(
-                PartnerService.getInstance().getConfiguration().getApis().get("UpdateSubscription").getPath(),
+            ApiRouteRegistry.getInstance().getRoute("UpdateSubscription").render(
                 this.getContext().getItem1(), 
                 this.getContext().getItem2()),
             subscription);
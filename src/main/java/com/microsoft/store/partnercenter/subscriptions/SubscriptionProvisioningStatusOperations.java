@@ -3,14 +3,12 @@
 
 package com.microsoft.store.partnercenter.subscriptions;
 
-import java.text.MessageFormat;
-
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponent;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.subscriptions.SubscriptionProvisioningStatus;
 import com.microsoft.store.partnercenter.models.utils.Tuple;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.utils.StringHelper;
 
 /**
@@ -52,8 +50,7 @@ public class SubscriptionProvisioningStatusOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<SubscriptionProvisioningStatus>(){}, 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetSubscriptionProvisioningStatus").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetSubscriptionProvisioningStatus").render(
 				this.getContext().getItem1(),
 				this.getContext().getItem2()));
 	}
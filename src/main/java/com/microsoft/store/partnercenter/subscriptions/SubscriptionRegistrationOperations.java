@@ -3,13 +3,11 @@
 
 package com.microsoft.store.partnercenter.subscriptions;
 
-import java.text.MessageFormat;
-
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponent;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.utils.Tuple;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.utils.StringHelper;
 
 import okhttp3.Response;
@@ -53,8 +51,7 @@ public class SubscriptionRegistrationOperations
         Response response = this.getPartner().getServiceClient().post(
             this.getPartner(), 
             new TypeReference<Response>(){}, 
-            MessageFormat.format(
-                PartnerService.getInstance().getConfiguration().getApis().get("UpdateSubscriptionRegistrationStatus").getPath(),
+            ApiRouteRegistry.getInstance().getRoute("UpdateSubscriptionRegistrationStatus").render(
                 this.getContext().getItem1(), 
                 this.getContext().getItem2()),
             "success");
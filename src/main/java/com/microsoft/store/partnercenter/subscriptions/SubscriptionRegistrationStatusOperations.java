@@ -3,14 +3,12 @@
 
 package com.microsoft.store.partnercenter.subscriptions;
 
-import java.text.MessageFormat;
-
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponent;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.subscriptions.SubscriptionRegistrationStatus;
 import com.microsoft.store.partnercenter.models.utils.Tuple;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.utils.StringHelper;
 
 /**
@@ -52,8 +50,7 @@ public class SubscriptionRegistrationStatusOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<SubscriptionRegistrationStatus>(){}, 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetSubscriptionRegistrationStatus").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetSubscriptionRegistrationStatus").render(
 				this.getContext().getItem1(),
 				this.getContext().getItem2()));
 	}
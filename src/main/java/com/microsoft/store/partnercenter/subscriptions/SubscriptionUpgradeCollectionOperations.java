@@ -3,16 +3,14 @@
 
 package com.microsoft.store.partnercenter.subscriptions;
 
-import java.text.MessageFormat;
-
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponent;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.ResourceCollection;
 import com.microsoft.store.partnercenter.models.subscriptions.Upgrade;
 import com.microsoft.store.partnercenter.models.subscriptions.UpgradeResult;
 import com.microsoft.store.partnercenter.models.utils.Tuple;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.utils.StringHelper;
 
 /**
@@ -56,8 +54,7 @@ public class SubscriptionUpgradeCollectionOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<ResourceCollection<Upgrade>>(){}, 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetSubscriptionUpgrades").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetSubscriptionUpgrades").render(
 				this.getContext().getItem1(),
 				this.getContext().getItem2()));
 	}
@@ -79,8 +76,7 @@ public class SubscriptionUpgradeCollectionOperations
 		return this.getPartner().getServiceClient().post(
 			this.getPartner(), 
 			new TypeReference<UpgradeResult>(){},
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("PostSubscriptionUpgrade").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("PostSubscriptionUpgrade").render(
 				this.getContext().getItem1(), 
 				this.getContext().getItem2()),
 			subscriptionUpgrade);
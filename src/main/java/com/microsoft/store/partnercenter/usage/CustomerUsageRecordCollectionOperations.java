@@ -6,9 +6,9 @@ package com.microsoft.store.partnercenter.usage;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponentString;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.ResourceCollection;
 import com.microsoft.store.partnercenter.models.usage.CustomerMonthlyUsageRecord;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 
 /**
  * Implements operations related to a partner's customers usage record.
@@ -38,6 +38,6 @@ public class CustomerUsageRecordCollectionOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<ResourceCollection<CustomerMonthlyUsageRecord>>(){}, 
-			PartnerService.getInstance().getConfiguration().getApis().get("GetCustomerUsageRecords").getPath());
+			ApiRouteRegistry.getInstance().getRoute("GetCustomerUsageRecords").getPath());
 	}
 }
\ No newline at end of file
@@ -3,13 +3,11 @@
 
 package com.microsoft.store.partnercenter.usage;
 
-import java.text.MessageFormat;
-
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponentString;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.usage.SpendingBudget;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.utils.StringHelper;
 
 /**
@@ -45,8 +43,7 @@ public class CustomerUsageSpendingBudgetOperations
         return this.getPartner().getServiceClient().get(
             this.getPartner(),
             new TypeReference<SpendingBudget>(){}, 
-            MessageFormat.format(
-                PartnerService.getInstance().getConfiguration().getApis().get("GetCustomerUsageSpendingBudget").getPath(),
+            ApiRouteRegistry.getInstance().getRoute("GetCustomerUsageSpendingBudget").render(
                 this.getContext()));
     }
 
@@ -67,8 +64,7 @@ public class CustomerUsageSpendingBudgetOperations
         return this.getPartner().getServiceClient().patch(
             this.getPartner(),
             new TypeReference<SpendingBudget>(){}, 
-            MessageFormat.format(
-                PartnerService.getInstance().getConfiguration().getApis().get("PatchCustomerUsageSpendingBudget").getPath(),
+            ApiRouteRegistry.getInstance().getRoute("PatchCustomerUsageSpendingBudget").render(
                 this.getContext()),
             usageSpendingBudget);
     }
@@ -3,13 +3,11 @@
 
 package com.microsoft.store.partnercenter.usage;
 
-import java.text.MessageFormat;
-
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponentString;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.usage.CustomerUsageSummary;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.utils.StringHelper;
 
 /**
@@ -46,8 +44,7 @@ public class CustomerUsageSummaryOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<CustomerUsageSummary>(){}, 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetCustomerUsageSummary").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetCustomerUsageSummary").render(
 				this.getContext()));
 	}
 }
\ No newline at end of file
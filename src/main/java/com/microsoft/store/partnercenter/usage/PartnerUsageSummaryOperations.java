@@ -6,8 +6,8 @@ package com.microsoft.store.partnercenter.usage;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponentString;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.usage.PartnerUsageSummary;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 
 /**
  * This class implements the operations available on a partner's usage summary.
@@ -37,6 +37,6 @@ public class PartnerUsageSummaryOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<PartnerUsageSummary>(){}, 
-			PartnerService.getInstance().getConfiguration().getApis().get("GetPartnerUsageSummary").getPath());
+			ApiRouteRegistry.getInstance().getRoute("GetPartnerUsageSummary").getPath());
 	}
 }
\ No newline at end of file
@@ -3,15 +3,13 @@
 
 package com.microsoft.store.partnercenter.usage;
 
-import java.text.MessageFormat;
-
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponent;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.ResourceCollection;
 import com.microsoft.store.partnercenter.models.usage.AzureResourceMonthlyUsageRecord;
 import com.microsoft.store.partnercenter.models.utils.Tuple;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.utils.StringHelper;
 
 /**
@@ -56,8 +54,7 @@ public class ResourceUsageRecordCollectionOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<ResourceCollection<AzureResourceMonthlyUsageRecord>>(){}, 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetSubscriptionResourceUsageRecords").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetSubscriptionResourceUsageRecords").render(
 				this.getContext().getItem1(),
 				this.getContext().getItem2()));
 	}
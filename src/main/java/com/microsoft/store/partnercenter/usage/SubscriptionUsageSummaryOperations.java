@@ -3,14 +3,12 @@
 
 package com.microsoft.store.partnercenter.usage;
 
-import java.text.MessageFormat;
-
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponent;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.usage.SubscriptionUsageSummary;
 import com.microsoft.store.partnercenter.models.utils.Tuple;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.utils.StringHelper;
 
 /**
@@ -54,8 +52,7 @@ public class SubscriptionUsageSummaryOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<SubscriptionUsageSummary>(){}, 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetSubscriptionUsageSummary").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetSubscriptionUsageSummary").render(
 				this.getContext().getItem1(),
 				this.getContext().getItem2()));
 	}
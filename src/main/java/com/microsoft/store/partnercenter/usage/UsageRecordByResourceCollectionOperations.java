@@ -4,15 +4,13 @@
 
 package com.microsoft.store.partnercenter.usage;
 
-import java.text.MessageFormat;
-
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponent;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.ResourceCollection;
 import com.microsoft.store.partnercenter.models.usage.ResourceUsageRecord;
 import com.microsoft.store.partnercenter.models.utils.Tuple;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.utils.StringHelper;
 
 /**
@@ -49,8 +47,7 @@ public class UsageRecordByResourceCollectionOperations extends BasePartnerCompon
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(),
 			new TypeReference<ResourceCollection<ResourceUsageRecord>>(){}, 
-			MessageFormat.format(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetSubscriptionUsageRecordsByResource").getPath(),
+			ApiRouteRegistry.getInstance().getRoute("GetSubscriptionUsageRecordsByResource").render(
                 this.getContext().getItem1(),
                 this.getContext().getItem2()));
     }
@@ -3,22 +3,22 @@
 
 package com.microsoft.store.partnercenter.utilization;
 
-import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponent;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.ResourceCollection;
 import com.microsoft.store.partnercenter.models.query.SeekOperation;
 import com.microsoft.store.partnercenter.models.utilizations.AzureUtilizationGranularity;
 import com.microsoft.store.partnercenter.models.utilizations.AzureUtilizationRecord;
 import com.microsoft.store.partnercenter.models.utils.KeyValuePair;
 import com.microsoft.store.partnercenter.models.utils.Tuple;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 import com.microsoft.store.partnercenter.utils.StringHelper;
 
 import org.joda.time.DateTime;
@@ -66,6 +66,98 @@ public class AzureUtilizationCollectionOperations
 	public ResourceCollection<AzureUtilizationRecord> query(DateTime startTime, DateTime endTime,
 			AzureUtilizationGranularity granularity, boolean showDetails, int size)
 	{     
+		return this.getPartner().getServiceClient().get(
+			this.getPartner(),
+			new TypeReference<ResourceCollection<AzureUtilizationRecord>>(){}, 
+			getRelativeUri("GetAzureUtilizationRecords"),
+			getQueryParameters(startTime, endTime, granularity, showDetails, size)); 
+	}
+
+	/**
+	 * Asynchronously retrieves utilization records for the Azure subscription.
+	 * @param startTime The starting time of when the utilization was metered in the billing system.
+	 * @param endTime The ending time of when the utilization was metered in the billing system.
+	 * @param granularity The resource usage time granularity. Can either be daily or hourly. Default is daily.
+	 * @param showDetails If set to true, the utilization records will be split by the resource instance levels. If set to false, the utilization records
+						   will be aggregated on the resource level. Default is true.
+	 * @param size An optional maximum number of records to return. The returned resource collection will specify a next link in case there
+					were more utilization records available.
+	 * @return A future that completes with the Azure resource utilization for the subscription.
+	 */
+	@Override
+	public CompletableFuture<ResourceCollection<AzureUtilizationRecord>> queryAsync(DateTime startTime, DateTime endTime,
+			AzureUtilizationGranularity granularity, boolean showDetails, int size)
+	{     
+		return this.getPartner().getServiceClient().getAsync(
+			this.getPartner(),
+			new TypeReference<ResourceCollection<AzureUtilizationRecord>>(){}, 
+			getRelativeUri("GetAzureUtilizationRecords"),
+			getQueryParameters(startTime, endTime, granularity, showDetails, size)); 
+	}
+
+	/**
+	 * Seeks pages of utilization for resources that belong to an Azure subscription owned by a customer of the partner.
+	 * @param continuationToken The continuation token from the previous results.
+	 * @param seekOperation The seek operation to perform. Next is only supported.
+	 * @return The next page of utilization records.
+	 */
+	@Override
+	public ResourceCollection<AzureUtilizationRecord> seek(String continuationToken, SeekOperation seekOperation)
+	{
+		Map<String, String> headers = getSeekHeaders(continuationToken, seekOperation);
+
+		return this.getPartner().getServiceClient().get(
+			this.getPartner(),
+			new TypeReference<ResourceCollection<AzureUtilizationRecord>>(){}, 
+			getRelativeUri("SeekAzureUtilizationRecords"),
+			headers,
+			getSeekParameters(seekOperation)); 
+	}
+
+	/**
+	 * Asynchronously seeks pages of utilization for resources that belong to an Azure subscription owned by a customer of the partner.
+	 * @param continuationToken The continuation token from the previous results.
+	 * @param seekOperation The seek operation to perform. Next is only supported.
+	 * @return A future that completes with the next page of utilization records.
+	 */
+	@Override
+	public CompletableFuture<ResourceCollection<AzureUtilizationRecord>> seekAsync(String continuationToken, SeekOperation seekOperation)
+	{
+		Map<String, String> headers = getSeekHeaders(continuationToken, seekOperation);
+
+		return this.getPartner().getServiceClient().getAsync(
+			this.getPartner(),
+			new TypeReference<ResourceCollection<AzureUtilizationRecord>>(){}, 
+			getRelativeUri("SeekAzureUtilizationRecords"),
+			headers,
+			getSeekParameters(seekOperation)); 
+	}
+
+	/**
+	 * Gets the relative address of the specified utilization API.
+	 * 
+	 * @param apiName The name of the API.
+	 * @return The relative address of the utilization records.
+	 */
+	private String getRelativeUri(String apiName)
+	{
+		return ApiRouteRegistry.getInstance().getRoute(apiName).render(
+			this.getContext().getItem1(),
+			this.getContext().getItem2());
+	}
+
+	/**
+	 * Gets the parameters used to query utilization records.
+	 * @param startTime The starting time of when the utilization was metered in the billing system.
+	 * @param endTime The ending time of when the utilization was metered in the billing system.
+	 * @param granularity The resource usage time granularity.
+	 * @param showDetails Whether the utilization records are split by the resource instance levels.
+	 * @param size An optional maximum number of records to return.
+	 * @return The query parameters.
+	 */
+	private Collection<KeyValuePair<String, String>> getQueryParameters(DateTime startTime, DateTime endTime,
+			AzureUtilizationGranularity granularity, boolean showDetails, int size)
+	{
 		Collection<KeyValuePair<String, String>> parameters = new ArrayList<KeyValuePair<String, String>>();
 
 		if (startTime != null)
@@ -74,7 +166,7 @@ public class AzureUtilizationCollectionOperations
 			(
 				new KeyValuePair<String, String>
 				(
-					PartnerService.getInstance().getConfiguration().getApis().get("GetAzureUtilizationRecords").getParameters().get("StartTime"),
+					ApiRouteRegistry.getInstance().getRoute("GetAzureUtilizationRecords").getParameterName("StartTime"),
 					startTime.withZone(DateTimeZone.UTC).toString("yyyy-MM-dd'T'HH:mm:ss'Z'")
 				) 
 			);
@@ -86,7 +178,7 @@ public class AzureUtilizationCollectionOperations
 			(
 				new KeyValuePair<String, String>
 				(
-					PartnerService.getInstance().getConfiguration().getApis().get("GetAzureUtilizationRecords").getParameters().get("EndTime"),
+					ApiRouteRegistry.getInstance().getRoute("GetAzureUtilizationRecords").getParameterName("EndTime"),
 					endTime.withZone(DateTimeZone.UTC).toString("yyyy-MM-dd'T'HH:mm:ss'Z'")
 				) 
 			);
@@ -98,7 +190,7 @@ public class AzureUtilizationCollectionOperations
 			(
 				new KeyValuePair<String, String>
 				(
-					PartnerService.getInstance().getConfiguration().getApis().get("GetAzureUtilizationRecords").getParameters().get("Granularity"),
+					ApiRouteRegistry.getInstance().getRoute("GetAzureUtilizationRecords").getParameterName("Granularity"),
 					granularity.toString()
 				)
 			);
@@ -108,7 +200,7 @@ public class AzureUtilizationCollectionOperations
 		(
 			new KeyValuePair<String, String>
 			(
-				PartnerService.getInstance().getConfiguration().getApis().get("GetAzureUtilizationRecords").getParameters().get("ShowDetails"),
+				ApiRouteRegistry.getInstance().getRoute("GetAzureUtilizationRecords").getParameterName("ShowDetails"),
 				Boolean.toString(showDetails)
 			)
 		);
@@ -119,61 +211,56 @@ public class AzureUtilizationCollectionOperations
 			(
 				new KeyValuePair<String, String>
 				(
-					PartnerService.getInstance().getConfiguration().getApis().get("GetAzureUtilizationRecords").getParameters().get("Size"),
+					ApiRouteRegistry.getInstance().getRoute("GetAzureUtilizationRecords").getParameterName("Size"),
 					Integer.toString(size)
 				)
 			);        	
 		}
 
-		return this.getPartner().getServiceClient().get(
-			this.getPartner(),
-			new TypeReference<ResourceCollection<AzureUtilizationRecord>>(){}, 
-			MessageFormat.format(
-					PartnerService.getInstance().getConfiguration().getApis().get("GetAzureUtilizationRecords").getPath(),
-					this.getContext().getItem1(),
-					this.getContext().getItem2()),
-			parameters); 
+		return parameters;
 	}
 
 	/**
-	 * Seeks pages of utilization for resources that belong to an Azure subscription owned by a customer of the partner.
+	 * Validates the seek arguments and gets the headers used to seek utilization records.
 	 * @param continuationToken The continuation token from the previous results.
-	 * @param seekOperation The seek operation to perform. Next is only supported.
-	 * @return The next page of utilization records.
+	 * @param seekOperation The seek operation to perform.
+	 * @return The seek headers.
 	 */
-	@Override
-	public ResourceCollection<AzureUtilizationRecord> seek(String continuationToken, SeekOperation seekOperation)
+	private Map<String, String> getSeekHeaders(String continuationToken, SeekOperation seekOperation)
 	{
 		if (StringHelper.isNullOrWhiteSpace(continuationToken))
 		{
 			throw new IllegalArgumentException("continuationToken must be non empty");
 		}
-		
+
 		if (seekOperation == null)
 		{
 			throw new IllegalArgumentException("SeekOperation can not be null");
 		}
 
-		Collection<KeyValuePair<String, String>> parameters = new ArrayList<KeyValuePair<String, String>>();
 		Map<String, String> headers = new HashMap<>();
 
 		headers.put(
-				PartnerService.getInstance().getConfiguration().getApis().get("SeekAzureUtilizationRecords").getAdditionalHeaders().get("ContinuationToken"),
+				ApiRouteRegistry.getInstance().getRoute("SeekAzureUtilizationRecords").getHeaderName("ContinuationToken"),
 				continuationToken);
 
+		return headers;
+	}
+
+	/**
+	 * Gets the parameters used to seek utilization records.
+	 * @param seekOperation The seek operation to perform.
+	 * @return The seek parameters.
+	 */
+	private Collection<KeyValuePair<String, String>> getSeekParameters(SeekOperation seekOperation)
+	{
+		Collection<KeyValuePair<String, String>> parameters = new ArrayList<KeyValuePair<String, String>>();
+
 		parameters.add(
 			new KeyValuePair<String, String>(
-				PartnerService.getInstance().getConfiguration().getApis().get("SeekAzureUtilizationRecords").getParameters().get("SeekOperation"),
+				ApiRouteRegistry.getInstance().getRoute("SeekAzureUtilizationRecords").getParameterName("SeekOperation"),
 				seekOperation.toString()));
 
-		return this.getPartner().getServiceClient().get(
-			this.getPartner(),
-			new TypeReference<ResourceCollection<AzureUtilizationRecord>>(){}, 
-			MessageFormat.format(
-					PartnerService.getInstance().getConfiguration().getApis().get("SeekAzureUtilizationRecords").getPath(),
-					this.getContext().getItem1(),
-					this.getContext().getItem2()),
-			headers,
-			parameters); 
+		return parameters;
 	}
 }
\ No newline at end of file
@@ -3,6 +3,8 @@
 
 package com.microsoft.store.partnercenter.utilization;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.joda.time.DateTime;
 
 import com.microsoft.store.partnercenter.IPartnerComponent;
@@ -43,4 +45,30 @@ public interface IAzureUtilizationCollection
      * @return The next page of utilization records.
      */
     ResourceCollection<AzureUtilizationRecord> seek(String continuationToken, SeekOperation seekOperation);
-}
\ No newline at end of file
+
+    /**
+     * Asynchronously retrieves utilization records for the Azure subscription.
+     * @param startTime The starting time of when the utilization was metered in the billing system.
+     * @param endTime The ending time of when the utilization was metered in the billing system.
+     * @param granularity The resource usage time granularity. Can either be daily or hourly. Default is daily.
+     * @param showDetails If set to true, the utilization records will be split by the resource instance levels. If set to false, the utilization records
+    					   will be aggregated on the resource level. Default is true.
+     * @param size Maximum number of records to return. The returned resource collection will specify a next link in case there
+    				were more utilization records available.
+     * @return A future that completes with the Azure resource utilization for the subscription.
+     */
+    CompletableFuture<ResourceCollection<AzureUtilizationRecord>> queryAsync(
+        DateTime startTime,
+        DateTime endTime,
+        AzureUtilizationGranularity granularity,
+        boolean showDetails,
+        int size);
+
+    /**
+     * Asynchronously seeks pages of utilization for resources that belong to an Azure subscription owned by a customer of the partner.
+     * @param continuationToken The continuation token from the previous results.
+     * @param seekOperation The seek operation to perform. Next is only supported.
+     * @return A future that completes with the next page of utilization records.
+     */
+    CompletableFuture<ResourceCollection<AzureUtilizationRecord>> seekAsync(String continuationToken, SeekOperation seekOperation);
+}
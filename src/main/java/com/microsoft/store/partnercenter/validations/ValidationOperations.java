@@ -8,9 +8,9 @@ import java.util.List;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.microsoft.store.partnercenter.BasePartnerComponentString;
 import com.microsoft.store.partnercenter.IPartner;
-import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.models.Address;
 import com.microsoft.store.partnercenter.models.validationcodes.ValidationCode;
+import com.microsoft.store.partnercenter.network.ApiRouteRegistry;
 
 /**
  * The validations collection operations implementation.
@@ -39,7 +39,7 @@ public class ValidationOperations
 		return this.getPartner().getServiceClient().get(
 			this.getPartner(), 
 			new TypeReference<List<ValidationCode>>(){},
-			PartnerService.getInstance().getConfiguration().getApis().get("GetValidationCodes").getPath());
+			ApiRouteRegistry.getInstance().getRoute("GetValidationCodes").getPath());
     }
 
     /**
@@ -58,7 +58,7 @@ public class ValidationOperations
         return this.getPartner().getServiceClient().post(
             this.getPartner(), 
             new TypeReference<Boolean>(){},
-            PartnerService.getInstance().getConfiguration().getApis().get("AddressValidation").getPath(),
+            ApiRouteRegistry.getInstance().getRoute("AddressValidation").getPath(),
             address);
     }
 }
\ No newline at end of file
@@ -0,0 +1,262 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license. See the LICENSE file in the project root for full license information.
+
+package com.microsoft.store.partnercenter.enumerators;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.microsoft.store.partnercenter.IPartner;
+import com.microsoft.store.partnercenter.models.Link;
+import com.microsoft.store.partnercenter.models.ResourceBase;
+import com.microsoft.store.partnercenter.models.ResourceCollection;
+import com.microsoft.store.partnercenter.models.StandardResourceCollectionLinks;
+import com.microsoft.store.partnercenter.network.IPartnerServiceClient;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+public class BaseResourceCollectionEnumeratorTest
+{
+    @Test
+    void prefetchedPagesAreReturnedInOrder()
+    {
+        FakeServiceClient client = new FakeServiceClient(4, true);
+        IndexBasedCollectionEnumerator<Item, ResourceCollection<Item>> enumerator = client.enumerator(2);
+
+        assertEquals(Arrays.asList("page/2", "page/3"), client.requests);
+
+        List<Integer> items = new ArrayList<>();
+
+        while (enumerator.hasValue())
+        {
+            items.addAll(numbers(enumerator));
+            enumerator.next();
+        }
+
+        assertEquals(Arrays.asList(1, 2, 3, 4), items);
+        assertEquals(Arrays.asList("page/2", "page/3", "page/4"), client.requests);
+    }
+
+    @Test
+    void failedPrefetchIsRaisedByNext()
+    {
+        final FakeServiceClient client = new FakeServiceClient(3, true);
+        final IllegalStateException failure = new IllegalStateException("page unavailable");
+        client.failures.put("page/2", failure);
+
+        final IndexBasedCollectionEnumerator<Item, ResourceCollection<Item>> enumerator = client.enumerator(2);
+
+        IllegalStateException thrown = assertThrows(IllegalStateException.class, new Executable()
+        {
+            @Override
+            public void execute()
+            {
+                enumerator.next();
+            }
+        });
+
+        assertSame(failure, thrown);
+        assertEquals(Collections.singletonList(1), numbers(enumerator));
+
+        // the failed page is requested again on the next call
+        enumerator.next();
+
+        assertEquals(Collections.singletonList(2), numbers(enumerator));
+    }
+
+    @Test
+    void cancelStopsThePagesBeingFetched()
+    {
+        FakeServiceClient client = new FakeServiceClient(4, false);
+        IndexBasedCollectionEnumerator<Item, ResourceCollection<Item>> enumerator = client.enumerator(2);
+
+        // the third page waits for the second one, so only the second page is in flight
+        assertEquals(Collections.singletonList("page/2"), client.requests);
+
+        enumerator.cancel();
+
+        assertTrue(client.pending.get("page/2").isCancelled());
+
+        client.pending.get("page/2").complete(client.page(2));
+
+        assertEquals(Collections.singletonList("page/2"), client.requests);
+        assertEquals(Collections.singletonList(1), numbers(enumerator));
+    }
+
+    @Test
+    void nextWithoutPrefetchFetchesSynchronously()
+    {
+        FakeServiceClient client = new FakeServiceClient(2, true);
+        IndexBasedCollectionEnumerator<Item, ResourceCollection<Item>> enumerator = client.enumerator(0);
+
+        assertTrue(client.requests.isEmpty());
+
+        enumerator.next();
+
+        assertEquals(Collections.singletonList(2), numbers(enumerator));
+        assertTrue(enumerator.isLastPage());
+
+        enumerator.next();
+
+        assertFalse(enumerator.hasValue());
+    }
+
+    private static List<Integer> numbers(IndexBasedCollectionEnumerator<Item, ResourceCollection<Item>> enumerator)
+    {
+        List<Integer> numbers = new ArrayList<>();
+
+        for (Item item : enumerator.getCurrent().getItems())
+        {
+            numbers.add(item.number);
+        }
+
+        return numbers;
+    }
+
+    private static class Item
+        extends ResourceBase
+    {
+        private final int number;
+
+        Item(int number)
+        {
+            this.number = number;
+        }
+    }
+
+    /**
+     * Serves numbered pages of one item each, linked through their next links.
+     */
+    private static class FakeServiceClient
+        implements InvocationHandler
+    {
+        private final int pageCount;
+
+        private final boolean completeImmediately;
+
+        private final List<String> requests = Collections.synchronizedList(new ArrayList<String>());
+
+        private final Map<String, RuntimeException> failures = new HashMap<>();
+
+        private final Map<String, CompletableFuture<ResourceCollection<Item>>> pending = new HashMap<>();
+
+        FakeServiceClient(int pageCount, boolean completeImmediately)
+        {
+            this.pageCount = pageCount;
+            this.completeImmediately = completeImmediately;
+        }
+
+        IndexBasedCollectionEnumerator<Item, ResourceCollection<Item>> enumerator(int prefetchDepth)
+        {
+            final IPartnerServiceClient client = (IPartnerServiceClient)Proxy.newProxyInstance(
+                IPartnerServiceClient.class.getClassLoader(), new Class<?>[] { IPartnerServiceClient.class }, this);
+            IPartner partner = (IPartner)Proxy.newProxyInstance(
+                IPartner.class.getClassLoader(),
+                new Class<?>[] { IPartner.class },
+                new InvocationHandler()
+                {
+                    @Override
+                    public Object invoke(Object proxy, Method method, Object[] args)
+                    {
+                        if ("getServiceClient".equals(method.getName()))
+                        {
+                            return client;
+                        }
+
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+
+            return new IndexBasedCollectionEnumerator<>(
+                partner,
+                page(1),
+                null,
+                new TypeReference<ResourceCollection<Item>>(){},
+                prefetchDepth);
+        }
+
+        ResourceCollection<Item> page(int number)
+        {
+            ResourceCollection<Item> page = new ResourceCollection<>(Collections.singletonList(new Item(number)));
+            StandardResourceCollectionLinks links = new StandardResourceCollectionLinks();
+
+            if (number < pageCount)
+            {
+                links.setNext(new Link(URI.create("page/" + (number + 1))));
+            }
+
+            if (number > 1)
+            {
+                links.setPrevious(new Link(URI.create("page/" + (number - 1))));
+            }
+
+            page.setLinks(links);
+
+            return page;
+        }
+
+        @Override
+        public synchronized Object invoke(Object proxy, Method method, Object[] args)
+        {
+            if (args == null || args.length != 3 || !(args[2] instanceof Link))
+            {
+                throw new UnsupportedOperationException(method.getName());
+            }
+
+            String uri = ((Link)args[2]).getUri().toString();
+            RuntimeException failure = failures.remove(uri);
+            int number = Integer.parseInt(uri.substring("page/".length()));
+
+            requests.add(uri);
+
+            if ("get".equals(method.getName()))
+            {
+                if (failure != null)
+                {
+                    throw failure;
+                }
+
+                return page(number);
+            }
+
+            if ("getAsync".equals(method.getName()))
+            {
+                CompletableFuture<ResourceCollection<Item>> result = new CompletableFuture<>();
+
+                if (failure != null)
+                {
+                    result.completeExceptionally(failure);
+                }
+                else if (completeImmediately)
+                {
+                    result.complete(page(number));
+                }
+                else
+                {
+                    pending.put(uri, result);
+                }
+
+                return result;
+            }
+
+            throw new UnsupportedOperationException(method.getName());
+        }
+    }
+}
@@ -0,0 +1,236 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license. See the LICENSE file in the project root for full license information.
+
+package com.microsoft.store.partnercenter.enumerators;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import com.microsoft.store.partnercenter.genericoperations.IPagedEntityCollectionAsyncRetrievalOperations;
+import com.microsoft.store.partnercenter.models.ResourceBase;
+import com.microsoft.store.partnercenter.models.ResourceCollection;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+public class OffsetRangeCollectionFetcherTest
+{
+    @Test
+    void fetchUsesTotalCountToRequestWindows()
+    {
+        InMemoryOperations operations = new InMemoryOperations(23, true);
+
+        ResourceCollection<Item> collection = new OffsetRangeCollectionFetcher<>(operations, 5, 3).fetch();
+
+        assertOrdered(23, collection);
+        assertEquals(5, operations.requests.get());
+    }
+
+    @Test
+    void fetchRequestsBatchesWhenTotalCountOnlyDescribesThePage()
+    {
+        InMemoryOperations operations = new InMemoryOperations(23, false);
+
+        ResourceCollection<Item> collection = new OffsetRangeCollectionFetcher<>(operations, 5, 2).fetch();
+
+        assertOrdered(23, collection);
+    }
+
+    @Test
+    void fetchStopsAfterAShortFirstPage()
+    {
+        InMemoryOperations operations = new InMemoryOperations(3, true);
+
+        ResourceCollection<Item> collection = new OffsetRangeCollectionFetcher<>(operations, 5, 4).fetch();
+
+        assertOrdered(3, collection);
+        assertEquals(1, operations.requests.get());
+    }
+
+    @Test
+    void fetchUsesTheWindowReturnedByTheService()
+    {
+        InMemoryOperations operations = new InMemoryOperations(23, true);
+        operations.maxPageSize = 4;
+
+        ResourceCollection<Item> collection = new OffsetRangeCollectionFetcher<>(operations, 10, 3).fetch();
+
+        assertOrdered(23, collection);
+        assertEquals(6, operations.requests.get());
+    }
+
+    @Test
+    void fetchKeepsAtMostMaxConcurrencyWindowsInFlight()
+    {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        try
+        {
+            InMemoryOperations operations = new InMemoryOperations(100, false);
+            operations.executor = executor;
+
+            ResourceCollection<Item> collection = new OffsetRangeCollectionFetcher<>(operations, 5, 3).fetch();
+
+            assertOrdered(100, collection);
+            assertTrue(operations.maxInFlight.get() <= 3);
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void fetchPropagatesWindowFailures()
+    {
+        final InMemoryOperations operations = new InMemoryOperations(23, true);
+        operations.failingOffset = 10;
+
+        assertThrows(UnsupportedOperationException.class, new Executable()
+        {
+            @Override
+            public void execute()
+            {
+                new OffsetRangeCollectionFetcher<>(operations, 5, 3).fetch();
+            }
+        });
+    }
+
+    private static void assertOrdered(int count, ResourceCollection<Item> collection)
+    {
+        List<Integer> values = new ArrayList<>();
+
+        for (Item item : collection.getItems())
+        {
+            values.add(item.value);
+        }
+
+        assertEquals(count, values.size());
+        assertEquals(count, collection.getTotalCount());
+
+        for (int i = 0; i < count; i++)
+        {
+            assertEquals(i, (int)values.get(i));
+        }
+    }
+
+    private static class Item
+        extends ResourceBase
+    {
+        private final int value;
+
+        Item(int value)
+        {
+            this.value = value;
+        }
+    }
+
+    /**
+     * Serves windows of a collection held in memory.
+     */
+    private static class InMemoryOperations
+        implements IPagedEntityCollectionAsyncRetrievalOperations<Item, ResourceCollection<Item>>
+    {
+        private final int count;
+
+        private final boolean reportsTotalCount;
+
+        private final AtomicInteger requests = new AtomicInteger();
+
+        private final AtomicInteger inFlight = new AtomicInteger();
+
+        private final AtomicInteger maxInFlight = new AtomicInteger();
+
+        private int failingOffset = -1;
+
+        private int maxPageSize = Integer.MAX_VALUE;
+
+        private ExecutorService executor;
+
+        InMemoryOperations(int count, boolean reportsTotalCount)
+        {
+            this.count = count;
+            this.reportsTotalCount = reportsTotalCount;
+        }
+
+        @Override
+        public CompletableFuture<ResourceCollection<Item>> getAsync(final int offset, final int size)
+        {
+            requests.incrementAndGet();
+
+            if (executor == null)
+            {
+                CompletableFuture<ResourceCollection<Item>> page = new CompletableFuture<>();
+
+                try
+                {
+                    page.complete(page(offset, size));
+                }
+                catch (RuntimeException ex)
+                {
+                    page.completeExceptionally(ex);
+                }
+
+                return page;
+            }
+
+            int current = inFlight.incrementAndGet();
+
+            while (maxInFlight.get() < current)
+            {
+                maxInFlight.compareAndSet(maxInFlight.get(), current);
+            }
+
+            return CompletableFuture.supplyAsync(new Supplier<ResourceCollection<Item>>()
+            {
+                @Override
+                public ResourceCollection<Item> get()
+                {
+                    try
+                    {
+                        Thread.sleep(2);
+
+                        return page(offset, size);
+                    }
+                    catch (InterruptedException ex)
+                    {
+                        throw new IllegalStateException(ex);
+                    }
+                    finally
+                    {
+                        inFlight.decrementAndGet();
+                    }
+                }
+            }, executor);
+        }
+
+        private ResourceCollection<Item> page(int offset, int size)
+        {
+            if (offset == failingOffset)
+            {
+                throw new UnsupportedOperationException("window failed");
+            }
+
+            List<Item> items = new ArrayList<>();
+
+            for (int i = offset; i < Math.min(offset + Math.min(size, maxPageSize), count); i++)
+            {
+                items.add(new Item(i));
+            }
+
+            ResourceCollection<Item> page = new ResourceCollection<>(items);
+            page.setTotalCount(reportsTotalCount ? count : items.size());
+
+            return page;
+        }
+    }
+}
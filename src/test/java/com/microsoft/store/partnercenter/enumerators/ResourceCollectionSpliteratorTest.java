@@ -0,0 +1,233 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license. See the LICENSE file in the project root for full license information.
+
+package com.microsoft.store.partnercenter.enumerators;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import com.microsoft.store.partnercenter.models.Link;
+import com.microsoft.store.partnercenter.models.ResourceCollection;
+import com.microsoft.store.partnercenter.models.StandardResourceCollectionLinks;
+import com.microsoft.store.partnercenter.requestcontext.IRequestContext;
+
+import org.junit.jupiter.api.Test;
+
+public class ResourceCollectionSpliteratorTest
+{
+    @Test
+    void streamFlattensPagesInOrder()
+    {
+        InMemoryEnumerator enumerator = new InMemoryEnumerator(
+            Arrays.asList("a", "b"),
+            Arrays.asList("c"),
+            Arrays.asList("d", "e"));
+
+        List<String> items = ResourceCollectionSpliterator.stream(enumerator, false).collect(Collectors.toList());
+
+        assertEquals(Arrays.asList("a", "b", "c", "d", "e"), items);
+    }
+
+    @Test
+    void parallelStreamReturnsAllItemsInOrder()
+    {
+        InMemoryEnumerator enumerator = new InMemoryEnumerator(
+            Arrays.asList("a", "b"),
+            Arrays.asList("c", "d"),
+            Arrays.asList("e", "f"));
+
+        List<String> items = ResourceCollectionSpliterator.stream(enumerator, true).collect(Collectors.toList());
+
+        assertEquals(Arrays.asList("a", "b", "c", "d", "e", "f"), items);
+    }
+
+    @Test
+    void pagesAreFetchedLazily()
+    {
+        InMemoryEnumerator enumerator = new InMemoryEnumerator(
+            Arrays.asList("a", "b"),
+            Arrays.asList("c"));
+        ResourceCollectionSpliterator<String, ResourceCollection<String>> spliterator =
+            new ResourceCollectionSpliterator<>(enumerator);
+
+        spliterator.tryAdvance(new NoOpConsumer());
+        spliterator.tryAdvance(new NoOpConsumer());
+
+        assertEquals(0, enumerator.pagesFetched);
+
+        spliterator.tryAdvance(new NoOpConsumer());
+
+        assertEquals(1, enumerator.pagesFetched);
+    }
+
+    @Test
+    void trySplitHandsOffTheFetchedPage()
+    {
+        InMemoryEnumerator enumerator = new InMemoryEnumerator(
+            Arrays.asList("a", "b"),
+            Arrays.asList("c"));
+        ResourceCollectionSpliterator<String, ResourceCollection<String>> spliterator =
+            new ResourceCollectionSpliterator<>(enumerator);
+
+        Spliterator<String> firstPage = spliterator.trySplit();
+
+        assertNotNull(firstPage);
+        assertEquals(2, firstPage.getExactSizeIfKnown());
+        assertEquals(0, enumerator.pagesFetched);
+
+        List<String> remaining = new ArrayList<>();
+        spliterator.forEachRemaining(new Consumer<String>()
+        {
+            @Override
+            public void accept(String item)
+            {
+                remaining.add(item);
+            }
+        });
+
+        assertEquals(Arrays.asList("c"), remaining);
+        assertNull(spliterator.trySplit());
+    }
+
+    @Test
+    void estimateSizeUsesTotalCount()
+    {
+        InMemoryEnumerator enumerator = new InMemoryEnumerator(
+            Arrays.asList("a", "b"),
+            Arrays.asList("c"));
+        enumerator.getCurrent().setTotalCount(3);
+
+        ResourceCollectionSpliterator<String, ResourceCollection<String>> spliterator =
+            new ResourceCollectionSpliterator<>(enumerator);
+
+        assertEquals(3, spliterator.estimateSize());
+
+        spliterator.tryAdvance(new NoOpConsumer());
+
+        assertEquals(2, spliterator.estimateSize());
+    }
+
+    @Test
+    void estimateSizeIsExactOnTheLastPage()
+    {
+        InMemoryEnumerator enumerator = new InMemoryEnumerator(Arrays.asList("a", "b", "c"));
+        ResourceCollectionSpliterator<String, ResourceCollection<String>> spliterator =
+            new ResourceCollectionSpliterator<>(enumerator);
+
+        spliterator.tryAdvance(new NoOpConsumer());
+
+        assertEquals(2, spliterator.estimateSize());
+    }
+
+    private static class NoOpConsumer
+        implements Consumer<String>
+    {
+        @Override
+        public void accept(String item)
+        {
+        }
+    }
+
+    /**
+     * Enumerates pages that are held in memory, counting the pages fetched after the first one.
+     */
+    private static class InMemoryEnumerator
+        implements IResourceCollectionEnumerator<ResourceCollection<String>>
+    {
+        private final List<ResourceCollection<String>> pages = new ArrayList<>();
+
+        private int index;
+
+        int pagesFetched;
+
+        @SafeVarargs
+        InMemoryEnumerator(List<String>... pageItems)
+        {
+            for (int i = 0; i < pageItems.length; i++)
+            {
+                ResourceCollection<String> page = new ResourceCollection<>(new ArrayList<>(pageItems[i]));
+                StandardResourceCollectionLinks links = new StandardResourceCollectionLinks();
+
+                if (i > 0)
+                {
+                    links.setPrevious(new Link());
+                }
+
+                if (i < pageItems.length - 1)
+                {
+                    links.setNext(new Link());
+                }
+
+                page.setLinks(links);
+                page.setTotalCount(pageItems[i].size());
+                pages.add(page);
+            }
+        }
+
+        @Override
+        public boolean isFirstPage()
+        {
+            return index == 0;
+        }
+
+        @Override
+        public boolean isLastPage()
+        {
+            return index == pages.size() - 1;
+        }
+
+        @Override
+        public boolean hasValue()
+        {
+            return index < pages.size();
+        }
+
+        @Override
+        public ResourceCollection<String> getCurrent()
+        {
+            return hasValue() ? pages.get(index) : null;
+        }
+
+        @Override
+        public void next()
+        {
+            index++;
+
+            if (hasValue())
+            {
+                pagesFetched++;
+            }
+        }
+
+        @Override
+        public void next(IRequestContext context)
+        {
+            next();
+        }
+
+        @Override
+        public void previous()
+        {
+            index--;
+        }
+
+        @Override
+        public void previous(IRequestContext context)
+        {
+            previous();
+        }
+
+        @Override
+        public void cancel()
+        {
+        }
+    }
+}
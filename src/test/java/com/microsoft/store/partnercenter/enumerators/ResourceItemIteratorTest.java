@@ -0,0 +1,161 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license. See the LICENSE file in the project root for full license information.
+
+package com.microsoft.store.partnercenter.enumerators;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.microsoft.store.partnercenter.IPartner;
+import com.microsoft.store.partnercenter.models.Link;
+import com.microsoft.store.partnercenter.network.IPartnerServiceClient;
+import com.microsoft.store.partnercenter.network.ResourceCollectionReader;
+import com.microsoft.store.partnercenter.network.ResourceCollectionReaderTest;
+
+import org.junit.jupiter.api.Test;
+
+public class ResourceItemIteratorTest
+{
+    @Test
+    void nextLinksAreFollowedAcrossPages() throws IOException
+    {
+        FakePages pages = new FakePages();
+        pages.add("/v1/page/2", "{\"items\":[\"c\"],\"links\":{\"next\":{\"uri\":\"/v1/page/3\"}}}");
+        pages.add("/v1/page/3", "{\"items\":[\"d\",\"e\"]}");
+
+        ResourceItemIterator<String> iterator = pages.iterator(
+            "{\"items\":[\"a\",\"b\"],\"links\":{\"next\":{\"uri\":\"/v1/page/2\"}}}");
+
+        assertEquals(Arrays.asList("a", "b", "c", "d", "e"), iterator.stream().collect(Collectors.toList()));
+        assertEquals(Arrays.asList("/v1/page/2", "/v1/page/3"), pages.requests);
+        assertTrue(pages.allClosed());
+    }
+
+    @Test
+    void emptyPagesAreSkipped() throws IOException
+    {
+        FakePages pages = new FakePages();
+        pages.add("/v1/page/2", "{\"items\":[],\"links\":{\"next\":{\"uri\":\"/v1/page/3\"}}}");
+        pages.add("/v1/page/3", "{\"items\":[\"b\"]}");
+
+        ResourceItemIterator<String> iterator = pages.iterator(
+            "{\"items\":[\"a\"],\"links\":{\"next\":{\"uri\":\"/v1/page/2\"}}}");
+
+        assertEquals(Arrays.asList("a", "b"), iterator.stream().collect(Collectors.toList()));
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    void closingTheStreamEarlyReleasesTheCurrentPage() throws IOException
+    {
+        FakePages pages = new FakePages();
+        pages.add("/v1/page/2", "{\"items\":[\"c\"]}");
+
+        ResourceItemIterator<String> iterator = pages.iterator(
+            "{\"items\":[\"a\",\"b\"],\"links\":{\"next\":{\"uri\":\"/v1/page/2\"}}}");
+
+        try (Stream<String> stream = iterator.stream())
+        {
+            assertEquals(Collections.singletonList("a"), stream.limit(1).collect(Collectors.toList()));
+        }
+
+        assertTrue(pages.allClosed());
+        assertTrue(pages.requests.isEmpty());
+        assertFalse(iterator.hasNext());
+    }
+
+    /**
+     * Serves pages by the address of their next link and records whether their responses were closed.
+     */
+    private static class FakePages
+        implements InvocationHandler
+    {
+        private final Map<String, String> pages = new HashMap<>();
+
+        private final List<String> requests = new ArrayList<>();
+
+        private final List<AtomicBoolean> closed = new ArrayList<>();
+
+        void add(String uri, String json)
+        {
+            pages.put(uri, json);
+        }
+
+        boolean allClosed()
+        {
+            for (AtomicBoolean flag : closed)
+            {
+                if (!flag.get())
+                {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        ResourceItemIterator<String> iterator(String firstPage) throws IOException
+        {
+            final IPartnerServiceClient client = (IPartnerServiceClient)Proxy.newProxyInstance(
+                IPartnerServiceClient.class.getClassLoader(), new Class<?>[] { IPartnerServiceClient.class }, this);
+            IPartner partner = (IPartner)Proxy.newProxyInstance(
+                IPartner.class.getClassLoader(),
+                new Class<?>[] { IPartner.class },
+                new InvocationHandler()
+                {
+                    @Override
+                    public Object invoke(Object proxy, Method method, Object[] args)
+                    {
+                        if ("getServiceClient".equals(method.getName()))
+                        {
+                            return client;
+                        }
+
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+
+            return new ResourceItemIterator<>(partner, new TypeReference<String>(){}, open(firstPage));
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws IOException
+        {
+            if (!"getItems".equals(method.getName()) || !(args[2] instanceof Link))
+            {
+                throw new UnsupportedOperationException(method.getName());
+            }
+
+            String uri = ((Link)args[2]).getUri().toString();
+
+            requests.add(uri);
+
+            return open(pages.get(uri));
+        }
+
+        private ResourceCollectionReader<String> open(String json) throws IOException
+        {
+            AtomicBoolean flag = new AtomicBoolean();
+
+            closed.add(flag);
+
+            return ResourceCollectionReaderTest.reader(json, flag);
+        }
+    }
+}
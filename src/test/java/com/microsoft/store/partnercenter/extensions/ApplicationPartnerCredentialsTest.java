@@ -4,12 +4,16 @@
 package com.microsoft.store.partnercenter.extensions;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 
 import org.joda.time.DateTime;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import com.microsoft.store.partnercenter.AuthenticationToken;
+import com.microsoft.store.partnercenter.PartnerService;
 import com.microsoft.store.partnercenter.TestConstants;
 
 /**
@@ -79,4 +83,43 @@ public class ApplicationPartnerCredentialsTest
             expiryTime = null; 
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Unit test to validate that credentials do not replace the refresh handler of other credentials.
+     */
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testCredentialsDoNotRegisterAsRefreshHandler() 
+    {
+        ApplicationPartnerCredentials other = new ApplicationPartnerCredentials(TestConstants.TEST_AAD_APPLICATION_ID, TestConstants.TEST_AAD_APPLICATION_SECRET, "other.onmicrosoft.com");
+
+        assertNotSame(other, PartnerService.getInstance().getRefreshCredentialsHandler(), "Credentials are not supposed to register themselves as the refresh handler.");
+    }
+
+    /**
+     * Unit test to validate that credentials of another type are not refreshed.
+     */
+    @Test
+    public void testRefreshIgnoresOtherCredentials() 
+    {
+        AuthenticationToken token = new AuthenticationToken(TestConstants.TEST_AAD_TOKEN_VALUE, DateTime.now().plusHours(1));
+        UserPartnerCredentials user = new UserPartnerCredentials(TestConstants.TEST_AAD_APPLICATION_ID, token);
+
+        credentials.onCredentialsRefreshNeeded(user, null);
+
+        assertEquals(token, user.getAADToken(), "The credentials of another type are not supposed to change.");
+    }
+
+    /**
+     * Unit test to validate that the key of a shared application holds a hash of the secret.
+     */
+    @Test
+    public void testApplicationKeyDoesNotHoldTheSecret() 
+    {
+        String key = ApplicationPartnerCredentials.getApplicationKey("client", "https://login.microsoftonline.com/contoso", "top-secret", null);
+
+        assertFalse(key.contains("top-secret"), "The key is not supposed to hold the secret.");
+        assertEquals(key, ApplicationPartnerCredentials.getApplicationKey("client", "https://login.microsoftonline.com/contoso", "top-secret", null), "The key is supposed to be stable.");
+        assertNotEquals(key, ApplicationPartnerCredentials.getApplicationKey("client", "https://login.microsoftonline.com/contoso", "other-secret", null), "Different secrets are supposed to have different keys.");
+    }
+}
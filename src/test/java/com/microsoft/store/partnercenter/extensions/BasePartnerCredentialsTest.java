@@ -0,0 +1,226 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license. See the LICENSE file in the project root for full license information.
+
+package com.microsoft.store.partnercenter.extensions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.joda.time.DateTime;
+import org.joda.time.Duration;
+import org.junit.jupiter.api.Test;
+
+import com.microsoft.store.partnercenter.AuthenticationToken;
+import com.microsoft.store.partnercenter.IPartnerCredentials;
+import com.microsoft.store.partnercenter.requestcontext.IRequestContext;
+
+/**
+ * Unit tests for the token refresh of the BasePartnerCredentials class.
+ */
+public class BasePartnerCredentialsTest
+{
+    /**
+     * Unit test to validate that concurrent refreshes of an expired token authenticate only once.
+     */
+    @Test
+    public void testConcurrentRefreshesAuthenticateOnce() throws Exception
+    {
+        final CountingCredentials credentials = new CountingCredentials(token(-1000, 0));
+        credentials.renewalDelayInMilliseconds = 200;
+
+        List<Throwable> failures = refreshConcurrently(credentials, 8);
+
+        assertTrue(failures.isEmpty(), "No refresh should fail");
+        assertEquals(1, credentials.renewals.get());
+        assertFalse(credentials.isExpired());
+    }
+
+    /**
+     * Unit test to validate that the threads waiting on a refresh are released when it fails with an error.
+     */
+    @Test
+    public void testRefreshFailingWithAnErrorReleasesWaitingThreads() throws Exception
+    {
+        final CountingCredentials credentials = new CountingCredentials(token(-1000, 0));
+        credentials.renewalDelayInMilliseconds = 200;
+        credentials.error = new ExceptionInInitializerError("login library failed to load");
+
+        List<Throwable> failures = refreshConcurrently(credentials, 8);
+
+        assertEquals(8, failures.size());
+        assertEquals(1, credentials.renewals.get());
+
+        for (Throwable failure : failures)
+        {
+            assertSame(credentials.error, failure);
+        }
+    }
+
+    /**
+     * Unit test to validate that the threads waiting on a refresh receive its failure.
+     */
+    @Test
+    public void testFailedRefreshIsSharedWithWaitingThreads() throws Exception
+    {
+        final CountingCredentials credentials = new CountingCredentials(token(-1000, 0));
+        credentials.renewalDelayInMilliseconds = 200;
+        credentials.failure = new IllegalStateException("login failed");
+
+        List<Throwable> failures = refreshConcurrently(credentials, 8);
+
+        assertEquals(8, failures.size());
+        assertEquals(1, credentials.renewals.get());
+    }
+
+    /**
+     * Unit test to validate that a token that has not expired is not refreshed.
+     */
+    @Test
+    public void testValidTokenIsNotRefreshed()
+    {
+        CountingCredentials credentials = new CountingCredentials(token(3600000, 0));
+
+        credentials.refreshExpiredToken(null);
+
+        assertEquals(0, credentials.renewals.get());
+    }
+
+    /**
+     * Unit test to validate that the proactive refresh renews the token before it is considered expired.
+     */
+    @Test
+    public void testProactiveRefreshRenewsBeforeExpiry() throws Exception
+    {
+        // refreshed one buffer before it is considered expired, which is in about 300 milliseconds
+        CountingCredentials credentials = new CountingCredentials(token(2300, 1000));
+
+        try
+        {
+            credentials.startProactiveRefresh();
+
+            for (int i = 0; i < 100 && credentials.renewals.get() == 0; i++)
+            {
+                Thread.sleep(50);
+            }
+
+            assertEquals(1, credentials.renewals.get());
+            assertFalse(credentials.isExpired());
+        }
+        finally
+        {
+            credentials.stopProactiveRefresh();
+        }
+    }
+
+    private static List<Throwable> refreshConcurrently(final CountingCredentials credentials, int threadCount) throws InterruptedException
+    {
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Throwable> failures = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+
+        for (int i = 0; i < threadCount; i++)
+        {
+            Thread thread = new Thread(new Runnable()
+            {
+                @Override
+                public void run()
+                {
+                    try
+                    {
+                        start.await();
+                        credentials.onCredentialsRefreshNeeded(credentials, null);
+                    }
+                    catch (Throwable ex)
+                    {
+                        synchronized (failures)
+                        {
+                            failures.add(ex);
+                        }
+                    }
+                }
+            });
+
+            thread.start();
+            threads.add(thread);
+        }
+
+        start.countDown();
+
+        for (Thread thread : threads)
+        {
+            thread.join();
+        }
+
+        return failures;
+    }
+
+    private static AuthenticationToken token(long validForInMilliseconds, long bufferInMilliseconds)
+    {
+        AuthenticationToken token = new AuthenticationToken("token", new DateTime(DateTime.now().getMillis() + validForInMilliseconds));
+        token.setExpiryBuffer(Duration.millis(bufferInMilliseconds));
+
+        return token;
+    }
+
+    /**
+     * Credentials that count how often their token is renewed.
+     */
+    private static class CountingCredentials
+        extends BasePartnerCredentials
+    {
+        private final AtomicInteger renewals = new AtomicInteger();
+
+        private volatile long renewalDelayInMilliseconds;
+
+        private volatile RuntimeException failure;
+
+        private volatile Error error;
+
+        CountingCredentials(AuthenticationToken token)
+        {
+            super("client");
+
+            setAADToken(token);
+        }
+
+        @Override
+        protected void renewToken(IRequestContext requestContext)
+        {
+            renewals.incrementAndGet();
+
+            try
+            {
+                Thread.sleep(renewalDelayInMilliseconds);
+            }
+            catch (InterruptedException ex)
+            {
+                Thread.currentThread().interrupt();
+            }
+
+            if (failure != null)
+            {
+                throw failure;
+            }
+
+            if (error != null)
+            {
+                throw error;
+            }
+
+            setAADToken(token(3600000, 0));
+        }
+
+        @Override
+        public void onCredentialsRefreshNeeded(IPartnerCredentials credentials, IRequestContext context)
+        {
+            ((CountingCredentials)credentials).refreshExpiredToken(context);
+        }
+    }
+}
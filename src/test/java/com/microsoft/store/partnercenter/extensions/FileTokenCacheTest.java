@@ -0,0 +1,133 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license. See the LICENSE file in the project root for full license information.
+
+package com.microsoft.store.partnercenter.extensions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+
+import com.microsoft.aad.msal4j.ITokenCache;
+import com.microsoft.aad.msal4j.ITokenCacheAccessContext;
+
+/**
+ * Unit tests for the FileTokenCache class.
+ */
+public class FileTokenCacheTest
+{
+    /**
+     * Unit test to validate that a changed cache is written and read back.
+     */
+    @Test
+    public void testChangedCacheIsPersisted() throws IOException
+    {
+        Path directory = Files.createTempDirectory("token-cache");
+        Path file = directory.resolve("msal.json");
+        FileTokenCache cache = new FileTokenCache(file);
+        InMemoryTokenCache written = new InMemoryTokenCache("{\"AccessToken\":{}}");
+        InMemoryTokenCache read = new InMemoryTokenCache(null);
+
+        cache.afterCacheAccess(context(written, true));
+        cache.beforeCacheAccess(context(read, false));
+
+        assertEquals("{\"AccessToken\":{}}", new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+        assertEquals("{\"AccessToken\":{}}", read.state);
+        assertEquals(1, directory.toFile().list().length);
+    }
+
+    /**
+     * Unit test to validate that an unchanged cache is not written.
+     */
+    @Test
+    public void testUnchangedCacheIsNotWritten() throws IOException
+    {
+        Path file = Files.createTempDirectory("token-cache").resolve("msal.json");
+
+        new FileTokenCache(file).afterCacheAccess(context(new InMemoryTokenCache("{}"), false));
+
+        assertFalse(Files.exists(file));
+    }
+
+    /**
+     * Unit test to validate that a missing file leaves the cache empty.
+     */
+    @Test
+    public void testMissingFileIsIgnored() throws IOException
+    {
+        InMemoryTokenCache read = new InMemoryTokenCache(null);
+
+        new FileTokenCache(Files.createTempDirectory("token-cache").resolve("msal.json")).beforeCacheAccess(context(read, false));
+
+        assertNull(read.state);
+    }
+
+    private static ITokenCacheAccessContext context(final InMemoryTokenCache cache, final boolean changed)
+    {
+        final ITokenCache tokenCache = (ITokenCache)Proxy.newProxyInstance(
+            ITokenCache.class.getClassLoader(),
+            new Class<?>[] { ITokenCache.class },
+            cache);
+
+        return (ITokenCacheAccessContext)Proxy.newProxyInstance(
+            ITokenCacheAccessContext.class.getClassLoader(),
+            new Class<?>[] { ITokenCacheAccessContext.class },
+            new InvocationHandler()
+            {
+                @Override
+                public Object invoke(Object proxy, Method method, Object[] args)
+                {
+                    if ("tokenCache".equals(method.getName()))
+                    {
+                        return tokenCache;
+                    }
+
+                    if ("hasCacheChanged".equals(method.getName()))
+                    {
+                        return changed;
+                    }
+
+                    return null;
+                }
+            });
+    }
+
+    /**
+     * Keeps the serialized state of a token cache.
+     */
+    private static class InMemoryTokenCache
+        implements InvocationHandler
+    {
+        private String state;
+
+        InMemoryTokenCache(String state)
+        {
+            this.state = state;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args)
+        {
+            if ("serialize".equals(method.getName()))
+            {
+                return state;
+            }
+
+            if ("deserialize".equals(method.getName()))
+            {
+                state = (String)args[0];
+            }
+
+            return null;
+        }
+    }
+}
@@ -0,0 +1,273 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license. See the LICENSE file in the project root for full license information.
+
+package com.microsoft.store.partnercenter.extensions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.joda.time.DateTime;
+import org.joda.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+import com.microsoft.store.partnercenter.AuthenticationToken;
+import com.microsoft.store.partnercenter.IPartnerCredentials;
+import com.microsoft.store.partnercenter.requestcontext.IRequestContext;
+
+/**
+ * Unit tests for the PartnerCredentialPool class.
+ */
+public class PartnerCredentialPoolTest
+{
+    /**
+     * Unit test to validate that concurrent requests for a new tenant create its credentials once.
+     */
+    @Test
+    public void testConcurrentRequestsCreateCredentialsOnce() throws Exception
+    {
+        final CountingFactory factory = new CountingFactory(3600000);
+        factory.creationDelayInMilliseconds = 200;
+        final PartnerCredentialPool pool = new PartnerCredentialPool(10, factory);
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<IPartnerCredentials> results = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+
+        for (int i = 0; i < 8; i++)
+        {
+            Thread thread = new Thread(new Runnable()
+            {
+                @Override
+                public void run()
+                {
+                    try
+                    {
+                        start.await();
+                        IPartnerCredentials credentials = pool.resolve("Tenant-A", null);
+
+                        synchronized (results)
+                        {
+                            results.add(credentials);
+                        }
+                    }
+                    catch (InterruptedException ex)
+                    {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            });
+
+            thread.start();
+            threads.add(thread);
+        }
+
+        start.countDown();
+
+        for (Thread thread : threads)
+        {
+            thread.join();
+        }
+
+        assertEquals(1, factory.creations.get());
+        assertEquals(8, results.size());
+
+        for (IPartnerCredentials credentials : results)
+        {
+            assertSame(results.get(0), credentials);
+        }
+    }
+
+    /**
+     * Unit test to validate that the least recently used tenant is dropped once the pool is full.
+     */
+    @Test
+    public void testLeastRecentlyUsedTenantIsEvicted()
+    {
+        CountingFactory factory = new CountingFactory(3600000);
+        PartnerCredentialPool pool = new PartnerCredentialPool(2, factory);
+
+        IPartnerCredentials a = pool.get("a", null);
+        pool.get("b", null);
+        pool.get("a", null);
+        pool.get("c", null);
+
+        assertEquals(2, pool.size());
+        assertSame(a, pool.get("a", null));
+        assertEquals(3, factory.creations.get());
+
+        pool.get("b", null);
+
+        assertEquals(4, factory.creations.get());
+    }
+
+    /**
+     * Unit test to validate that a failed creation is not kept in the pool.
+     */
+    @Test
+    public void testFailedCreationIsRetried()
+    {
+        CountingFactory factory = new CountingFactory(3600000);
+        factory.failure = new IllegalStateException("login failed");
+        final PartnerCredentialPool pool = new PartnerCredentialPool(2, factory);
+
+        assertThrows(IllegalStateException.class, new Executable()
+        {
+            @Override
+            public void execute()
+            {
+                pool.get("a", null);
+            }
+        });
+        assertEquals(0, pool.size());
+
+        factory.failure = null;
+
+        assertFalse(pool.get("a", null).isExpired());
+        assertEquals(2, factory.creations.get());
+    }
+
+    /**
+     * Unit test to validate that expired credentials are refreshed before they are returned.
+     */
+    @Test
+    public void testExpiredCredentialsAreRefreshed()
+    {
+        CountingFactory factory = new CountingFactory(-1000);
+        PartnerCredentialPool pool = new PartnerCredentialPool(2, factory);
+
+        TenantCredentials credentials = (TenantCredentials)pool.get("a", null);
+
+        assertFalse(credentials.isExpired());
+        assertEquals(1, credentials.renewals.get());
+    }
+
+    /**
+     * Unit test to validate that the prefetch refreshes only recently used credentials about to expire.
+     */
+    @Test
+    public void testPrefetchRefreshesActiveTenantsAboutToExpire() throws Exception
+    {
+        CountingFactory factory = new CountingFactory(60000);
+        PartnerCredentialPool pool = new PartnerCredentialPool(10, factory);
+
+        TenantCredentials soon = (TenantCredentials)pool.get("soon", null);
+        factory.validForInMilliseconds = 3600000;
+        TenantCredentials later = (TenantCredentials)pool.get("later", null);
+
+        pool.prefetch(120000, 60000);
+
+        assertEquals(1, soon.renewals.get());
+        assertEquals(0, later.renewals.get());
+        assertTrue(soon.getExpiresAt().isAfter(DateTime.now().plusMinutes(30)));
+
+        factory.validForInMilliseconds = 60000;
+        TenantCredentials idle = (TenantCredentials)pool.get("idle", null);
+        Thread.sleep(50);
+
+        pool.prefetch(120000, 10);
+
+        assertEquals(0, idle.renewals.get());
+    }
+
+    /**
+     * Unit test to validate that an invalidated tenant gets new credentials.
+     */
+    @Test
+    public void testInvalidatedTenantIsCreatedAgain()
+    {
+        PartnerCredentialPool pool = new PartnerCredentialPool(2, new CountingFactory(3600000));
+        IPartnerCredentials first = pool.get("a", null);
+
+        pool.invalidate("A");
+
+        assertNotSame(first, pool.get("a", null));
+    }
+
+    private static AuthenticationToken token(long validForInMilliseconds)
+    {
+        AuthenticationToken token = new AuthenticationToken("token", new DateTime(DateTime.now().getMillis() + validForInMilliseconds));
+        token.setExpiryBuffer(Duration.millis(0));
+
+        return token;
+    }
+
+    /**
+     * Creates credentials and counts how often it was asked to.
+     */
+    private static class CountingFactory
+        implements ITenantCredentialsFactory
+    {
+        private final AtomicInteger creations = new AtomicInteger();
+
+        private volatile long validForInMilliseconds;
+
+        private volatile long creationDelayInMilliseconds;
+
+        private volatile RuntimeException failure;
+
+        CountingFactory(long validForInMilliseconds)
+        {
+            this.validForInMilliseconds = validForInMilliseconds;
+        }
+
+        @Override
+        public IPartnerCredentials create(String tenantId, IRequestContext context)
+        {
+            creations.incrementAndGet();
+
+            try
+            {
+                Thread.sleep(creationDelayInMilliseconds);
+            }
+            catch (InterruptedException ex)
+            {
+                Thread.currentThread().interrupt();
+            }
+
+            if (failure != null)
+            {
+                throw failure;
+            }
+
+            return new TenantCredentials(token(validForInMilliseconds));
+        }
+    }
+
+    /**
+     * Credentials that count how often their token is renewed.
+     */
+    private static class TenantCredentials
+        extends BasePartnerCredentials
+    {
+        private final AtomicInteger renewals = new AtomicInteger();
+
+        TenantCredentials(AuthenticationToken token)
+        {
+            super("client");
+
+            setAADToken(token);
+        }
+
+        @Override
+        protected void renewToken(IRequestContext requestContext)
+        {
+            renewals.incrementAndGet();
+            setAADToken(token(3600000));
+        }
+
+        @Override
+        public void onCredentialsRefreshNeeded(IPartnerCredentials credentials, IRequestContext context)
+        {
+            ((TenantCredentials)credentials).refreshExpiredToken(context);
+        }
+    }
+}
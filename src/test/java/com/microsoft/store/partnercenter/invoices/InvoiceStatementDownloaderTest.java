@@ -0,0 +1,254 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license. See the LICENSE file in the project root for full license information.
+
+package com.microsoft.store.partnercenter.invoices;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+public class InvoiceStatementDownloaderTest
+{
+    @Test
+    void eachInvoiceIsDownloadedOnce() throws IOException
+    {
+        Path directory = Files.createTempDirectory("statements");
+        FakeStatements statements = new FakeStatements(null);
+
+        InvoiceStatementDownloadResult result = new InvoiceStatementDownloader(statements.invoices(), 2)
+            .download(Arrays.asList("D01", "D02", "D01", " D02 ", "D03"), directory);
+
+        assertEquals(Arrays.asList("D01", "D02", "D03"), result.getDownloaded());
+        assertEquals(3, statements.downloads.get());
+        assertEquals(30, result.getBytesDownloaded());
+        assertEquals("%PDF-D02-ok", new String(Files.readAllBytes(directory.resolve("D02.pdf")), "US-ASCII"));
+        assertTrue(result.isSuccessful());
+    }
+
+    @Test
+    void completeStatementsAreSkipped() throws IOException
+    {
+        Path directory = Files.createTempDirectory("statements");
+        FakeStatements statements = new FakeStatements(null);
+
+        Files.write(directory.resolve("D01.pdf"), "%PDF-D01-ok".getBytes("US-ASCII"));
+        Files.write(directory.resolve("D02.pdf"), "%PDF-D02".getBytes("US-ASCII"));
+        Files.write(directory.resolve("D03.pdf"), new byte[0]);
+
+        InvoiceStatementDownloadResult result = new InvoiceStatementDownloader(statements.invoices(), 4)
+            .download(Arrays.asList("D01", "D02", "D03", "D04"), directory);
+
+        assertEquals(Collections.singletonList("D01"), result.getSkipped());
+        assertEquals(Arrays.asList("D02", "D03", "D04"), result.getDownloaded());
+        assertEquals(3, statements.downloads.get());
+        assertEquals("%PDF-D02-ok", new String(Files.readAllBytes(directory.resolve("D02.pdf")), "US-ASCII"));
+
+        // only the statements that already have a file are checked
+        assertEquals(3, statements.lengthRequests.get());
+    }
+
+    @Test
+    void statementsThatCannotBeCheckedAreDownloadedAgain() throws IOException
+    {
+        Path directory = Files.createTempDirectory("statements");
+        FakeStatements statements = new FakeStatements(null);
+
+        statements.lengthFailure = new IllegalStateException("HEAD not supported");
+        Files.write(directory.resolve("D01.pdf"), "%PDF-D01-ok".getBytes("US-ASCII"));
+
+        InvoiceStatementDownloadResult result = new InvoiceStatementDownloader(statements.invoices(), 1)
+            .download(Collections.singletonList("D01"), directory);
+
+        assertEquals(Collections.singletonList("D01"), result.getDownloaded());
+        assertTrue(result.isSuccessful());
+    }
+
+    @Test
+    void failuresDoNotStopTheOtherStatements() throws IOException
+    {
+        Path directory = Files.createTempDirectory("statements");
+        FakeStatements statements = new FakeStatements("D02");
+
+        InvoiceStatementDownloadResult result = new InvoiceStatementDownloader(statements.invoices(), 1)
+            .download(Arrays.asList("D01", "D02", "D03"), directory);
+
+        assertEquals(Arrays.asList("D01", "D03"), result.getDownloaded());
+        assertSame(statements.failure, result.getFailures().get("D02"));
+        assertFalse(result.isSuccessful());
+        assertFalse(Files.exists(directory.resolve("D02.pdf")));
+    }
+
+    @Test
+    void downloadsDoNotExceedTheConcurrency() throws IOException
+    {
+        FakeStatements statements = new FakeStatements(null);
+
+        new InvoiceStatementDownloader(statements.invoices(), 3)
+            .download(Arrays.asList("D01", "D02", "D03", "D04", "D05", "D06", "D07", "D08"), Files.createTempDirectory("statements"));
+
+        assertTrue(statements.maxActive <= 3);
+        assertEquals(8, statements.downloads.get());
+    }
+
+    @Test
+    void identifiersCannotLeaveTheDirectory() throws IOException
+    {
+        final Path directory = Files.createTempDirectory("statements");
+
+        assertThrows(IllegalArgumentException.class, new Executable()
+        {
+            @Override
+            public void execute()
+            {
+                InvoiceStatementDownloader.getFile(directory, "../D01");
+            }
+        });
+    }
+
+    @Test
+    void invalidIdentifiersFailOnlyTheirOwnStatement() throws IOException
+    {
+        Path directory = Files.createTempDirectory("statements");
+        FakeStatements statements = new FakeStatements(null);
+
+        InvoiceStatementDownloadResult result = new InvoiceStatementDownloader(statements.invoices(), 2)
+            .download(Arrays.asList("D01", "../D02", "D03"), directory);
+
+        assertEquals(Arrays.asList("D01", "D03"), result.getDownloaded());
+        assertTrue(result.getFailures().get("../D02") instanceof IllegalArgumentException);
+        assertEquals(2, statements.downloads.get());
+        assertFalse(Files.exists(directory.resolveSibling("D02.pdf")));
+    }
+
+    /**
+     * Answers the invoice, document and statement operations, and writes a small statement for each download.
+     */
+    private static class FakeStatements
+    {
+        private final String failingInvoiceId;
+
+        private final RuntimeException failure = new IllegalStateException("statement unavailable");
+
+        private final AtomicInteger downloads = new AtomicInteger();
+
+        private final AtomicInteger lengthRequests = new AtomicInteger();
+
+        private volatile RuntimeException lengthFailure;
+
+        private final AtomicInteger active = new AtomicInteger();
+
+        private int maxActive;
+
+        FakeStatements(String failingInvoiceId)
+        {
+            this.failingInvoiceId = failingInvoiceId;
+        }
+
+        IInvoiceCollection invoices()
+        {
+            return proxy(IInvoiceCollection.class, null);
+        }
+
+        Object answer(String invoiceId, Method method, Object[] args) throws IOException, InterruptedException
+        {
+            if ("byId".equals(method.getName()))
+            {
+                return proxy(IInvoice.class, (String)args[0]);
+            }
+
+            if ("getDocuments".equals(method.getName()))
+            {
+                return proxy(IInvoiceDocuments.class, invoiceId);
+            }
+
+            if ("getStatement".equals(method.getName()))
+            {
+                return proxy(IInvoiceStatement.class, invoiceId);
+            }
+
+            if ("getLength".equals(method.getName()))
+            {
+                lengthRequests.incrementAndGet();
+
+                if (lengthFailure != null)
+                {
+                    throw lengthFailure;
+                }
+
+                return (long)("%PDF-" + invoiceId + "-ok").length();
+            }
+
+            if ("download".equals(method.getName()))
+            {
+                synchronized (this)
+                {
+                    maxActive = Math.max(maxActive, active.incrementAndGet());
+                }
+
+                try
+                {
+                    Thread.sleep(10);
+
+                    if (invoiceId.equals(failingInvoiceId))
+                    {
+                        throw failure;
+                    }
+
+                    Files.write((Path)args[0], ("%PDF-" + invoiceId + "-ok").getBytes("US-ASCII"));
+                    downloads.incrementAndGet();
+
+                    return 10L;
+                }
+                finally
+                {
+                    active.decrementAndGet();
+                }
+            }
+
+            throw new UnsupportedOperationException(method.getName());
+        }
+
+        private <T> T proxy(Class<T> type, String invoiceId)
+        {
+            return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, new Operations(this, invoiceId)));
+        }
+    }
+
+    /**
+     * Remembers the invoice an operations proxy belongs to.
+     */
+    private static class Operations
+        implements InvocationHandler
+    {
+        private final FakeStatements statements;
+
+        private final String invoiceId;
+
+        Operations(FakeStatements statements, String invoiceId)
+        {
+            this.statements = statements;
+            this.invoiceId = invoiceId;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable
+        {
+            return statements.answer(invoiceId, method, args);
+        }
+    }
+}
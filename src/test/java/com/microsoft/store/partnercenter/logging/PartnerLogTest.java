@@ -0,0 +1,186 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license. See the LICENSE file in the project root for full license information.
+
+package com.microsoft.store.partnercenter.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the PartnerLog and AsyncLogger classes.
+ */
+public class PartnerLogTest
+{
+    /**
+     * Unit test to validate that messages below the level are neither built nor logged.
+     */
+    @Test
+    public void testMessagesBelowTheLevelAreNotBuilt()
+    {
+        PartnerLog log = PartnerLog.getInstance();
+        List<ILogger> previousLoggers = new ArrayList<>(log.getLoggers());
+        LogLevel previousLevel = log.getLevel();
+        RecordingLogger logger = new RecordingLogger();
+
+        try
+        {
+            log.getLoggers().clear();
+            log.getLoggers().add(logger);
+            log.setLevel(LogLevel.WARNING);
+
+            log.logInformation(new Supplier<String>()
+            {
+                @Override
+                public String get()
+                {
+                    throw new IllegalStateException("The message should not be built");
+                }
+            });
+            log.logWarning("warning");
+            log.logError(new Supplier<String>()
+            {
+                @Override
+                public String get()
+                {
+                    return "error";
+                }
+            });
+
+            assertFalse(log.isEnabled(LogLevel.INFORMATION));
+            assertTrue(log.isEnabled(LogLevel.ERROR));
+            assertEquals(2, logger.messages.size());
+            assertEquals("WARNING warning", logger.messages.get(0));
+            assertEquals("ERROR error", logger.messages.get(1));
+        }
+        finally
+        {
+            log.getLoggers().clear();
+            log.getLoggers().addAll(previousLoggers);
+            log.setLevel(previousLevel);
+        }
+    }
+
+    /**
+     * Unit test to validate that loggers can be removed by type.
+     */
+    @Test
+    public void testLoggersAreRemovedByType()
+    {
+        PartnerLog log = PartnerLog.getInstance();
+        List<ILogger> previousLoggers = new ArrayList<>(log.getLoggers());
+
+        try
+        {
+            log.getLoggers().add(new SystemOutLogger());
+
+            assertTrue(log.removeLoggers(SystemOutLogger.class));
+            assertFalse(log.removeLoggers(SystemOutLogger.class));
+
+            for (ILogger logger : log.getLoggers())
+            {
+                assertFalse(logger instanceof SystemOutLogger);
+            }
+        }
+        finally
+        {
+            log.getLoggers().clear();
+            log.getLoggers().addAll(previousLoggers);
+        }
+    }
+
+    /**
+     * Unit test to validate that the asynchronous logger writes every message in order before it closes.
+     */
+    @Test
+    public void testAsyncLoggerWritesMessagesInOrder()
+    {
+        RecordingLogger target = new RecordingLogger();
+        AsyncLogger logger = new AsyncLogger(target, 1000);
+
+        for (int i = 0; i < 500; i++)
+        {
+            logger.logInformation("message " + i);
+        }
+
+        logger.logError("last");
+        logger.close();
+
+        assertEquals(1024, logger.getCapacity());
+        assertEquals(0, logger.getDroppedCount());
+        assertEquals(501, target.messages.size());
+        assertEquals("INFORMATION message 0", target.messages.get(0));
+        assertEquals("ERROR last", target.messages.get(500));
+    }
+
+    /**
+     * Unit test to validate that the asynchronous logger drops messages instead of blocking when it is full.
+     */
+    @Test
+    public void testAsyncLoggerDropsMessagesWhenFull() throws InterruptedException
+    {
+        final Object gate = new Object();
+        RecordingLogger target = new RecordingLogger()
+        {
+            @Override
+            public void logWarning(String message)
+            {
+                synchronized (gate)
+                {
+                    super.logWarning(message);
+                }
+            }
+        };
+        AsyncLogger logger = new AsyncLogger(target, 4);
+
+        synchronized (gate)
+        {
+            // the background thread takes the first message and waits on the gate
+            logger.logWarning("blocked");
+            Thread.sleep(200);
+
+            for (int i = 0; i < 10; i++)
+            {
+                logger.logWarning("message " + i);
+            }
+        }
+
+        logger.close();
+
+        assertEquals(6, logger.getDroppedCount());
+        assertEquals(5, target.messages.size());
+    }
+
+    /**
+     * A logger that keeps the messages it receives.
+     */
+    private static class RecordingLogger
+        implements ILogger
+    {
+        private final List<String> messages = new ArrayList<>();
+
+        @Override
+        public void logInformation(String message)
+        {
+            messages.add("INFORMATION " + message);
+        }
+
+        @Override
+        public void logWarning(String message)
+        {
+            messages.add("WARNING " + message);
+        }
+
+        @Override
+        public void logError(String message)
+        {
+            messages.add("ERROR " + message);
+        }
+    }
+}
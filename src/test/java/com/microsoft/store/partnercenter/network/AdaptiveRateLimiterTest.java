@@ -0,0 +1,208 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license. See the LICENSE file in the project root for full license information.
+
+package com.microsoft.store.partnercenter.network;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+import okhttp3.Request;
+
+import org.junit.jupiter.api.Test;
+
+public class AdaptiveRateLimiterTest
+{
+    private static final String TOKEN = "Bearer header."
+        + Base64.getUrlEncoder().withoutPadding().encodeToString(
+            "{\"aud\":\"https://api.partnercenter.microsoft.com\",\"tid\":\"Partner-Tenant\"}".getBytes(StandardCharsets.UTF_8))
+        + ".signature";
+
+    private final ApiRouteRegistry routes = new ApiRouteRegistry(ApiRouteRegistryTest.apis(
+        "GetCustomer", "customers/{0}",
+        "GetOffer", "offers/{0}"), "v1");
+
+    @Test
+    void requestsDrawFromPartnerCustomerAndApiBuckets()
+    {
+        AdaptiveRateLimiter limiter = new AdaptiveRateLimiter(10, 1, 20, routes);
+
+        assertEquals(
+            Arrays.asList("partner/partner-tenant", "customer/abc", "api/GetCustomer"),
+            limiter.getKeys(request("/v1/customers/ABC")));
+        assertEquals(
+            Arrays.asList("partner/partner-tenant", "api/GetOffer"),
+            limiter.getKeys(request("/v1/offers/1")));
+    }
+
+    @Test
+    void requestsWithinTheBurstAreNotDelayed()
+    {
+        AdaptiveRateLimiter limiter = new AdaptiveRateLimiter(5, 1, 20, routes);
+
+        for (int i = 0; i < 5; i++)
+        {
+            assertEquals(0, limiter.reserve(request("/v1/offers/1")));
+        }
+
+        long delay = limiter.reserve(request("/v1/offers/1"));
+
+        assertTrue(delay > 100 && delay <= 200, "delay " + delay);
+        assertEquals(1, limiter.getSnapshot("api/GetOffer").getDelayedCount());
+    }
+
+    @Test
+    void throttledResponsesHalveTheRate()
+    {
+        AdaptiveRateLimiter limiter = new AdaptiveRateLimiter(16, 1, 20, routes);
+        Request request = request("/v1/customers/abc");
+
+        limiter.onResponse(request, HttpStatusCode.TOOMANYREQUESTS);
+        limiter.onResponse(request, HttpStatusCode.TOOMANYREQUESTS);
+
+        RateLimitSnapshot snapshot = limiter.getSnapshot("customer/abc");
+
+        assertEquals(4, snapshot.getRequestsPerSecond(), 0.0001);
+        assertEquals(2, snapshot.getThrottledCount());
+    }
+
+    @Test
+    void rateNeverDropsBelowTheMinimum()
+    {
+        AdaptiveRateLimiter limiter = new AdaptiveRateLimiter(2, 1, 20, routes);
+
+        for (int i = 0; i < 5; i++)
+        {
+            limiter.onResponse(request("/v1/offers/1"), HttpStatusCode.TOOMANYREQUESTS);
+        }
+
+        assertEquals(1, limiter.getSnapshot("api/GetOffer").getRequestsPerSecond(), 0.0001);
+    }
+
+    @Test
+    void successfulResponsesRaiseTheRateAdditively()
+    {
+        AdaptiveRateLimiter limiter = new AdaptiveRateLimiter(4, 1, 5, routes);
+
+        for (int i = 0; i < 4; i++)
+        {
+            limiter.onResponse(request("/v1/offers/1"), 200);
+        }
+
+        double rate = limiter.getSnapshot("api/GetOffer").getRequestsPerSecond();
+
+        assertTrue(rate > 4.8 && rate < 5, "rate " + rate);
+
+        for (int i = 0; i < 100; i++)
+        {
+            limiter.onResponse(request("/v1/offers/1"), 200);
+        }
+
+        assertEquals(5, limiter.getSnapshot("api/GetOffer").getRequestsPerSecond(), 0.0001);
+    }
+
+    @Test
+    void otherFailuresDoNotChangeTheRate()
+    {
+        AdaptiveRateLimiter limiter = new AdaptiveRateLimiter(4, 1, 5, routes);
+
+        limiter.reserve(request("/v1/offers/1"));
+        limiter.onResponse(request("/v1/offers/1"), HttpStatusCode.SERVICEUNAVAILABLE);
+
+        assertEquals(4, limiter.getSnapshot("api/GetOffer").getRequestsPerSecond(), 0.0001);
+    }
+
+    @Test
+    void ratesThrottlesAndWaitsAreReportedPerBucket()
+    {
+        final List<String> records = new ArrayList<>();
+        AdaptiveRateLimiter limiter = new AdaptiveRateLimiter(2, 1, 20, routes);
+
+        limiter.setMetrics(new IPartnerServiceMetrics()
+        {
+            @Override
+            public boolean isEnabled()
+            {
+                return true;
+            }
+
+            @Override
+            public void recordRateLimit(String key, double requestsPerSecond)
+            {
+                records.add("rate " + key + " " + requestsPerSecond);
+            }
+
+            @Override
+            public void recordRateLimitThrottle(String key)
+            {
+                records.add("throttle " + key);
+            }
+
+            @Override
+            public void recordRateLimitWait(String key, long waitInNanoseconds)
+            {
+                records.add("wait " + key + " " + (waitInNanoseconds > 0));
+            }
+        });
+
+        limiter.onResponse(request("/v1/offers/1"), HttpStatusCode.TOOMANYREQUESTS);
+        limiter.onResponse(request("/v1/offers/1"), HttpStatusCode.TOOMANYREQUESTS);
+        limiter.reserve(request("/v1/offers/1"));
+
+        assertEquals(
+            Arrays.asList(
+                "throttle partner/partner-tenant", "rate partner/partner-tenant 1.0",
+                "throttle api/GetOffer", "rate api/GetOffer 1.0",
+                "throttle partner/partner-tenant",
+                "throttle api/GetOffer",
+                "wait partner/partner-tenant true",
+                "wait api/GetOffer true"),
+            records);
+    }
+
+    @Test
+    void theTransportReportsTheRatesOfItsLimiterToItsMetrics()
+    {
+        PartnerServiceTransport transport = PartnerServiceTransport.getInstance();
+        IPartnerServiceMetrics previousMetrics = transport.getMetrics();
+        AdaptiveRateLimiter previousLimiter = transport.getRateLimiter();
+        IPartnerServiceMetrics metrics = new IPartnerServiceMetrics()
+        {
+            @Override
+            public boolean isEnabled()
+            {
+                return true;
+            }
+        };
+
+        try
+        {
+            AdaptiveRateLimiter limiter = new AdaptiveRateLimiter(2, 1, 20, routes);
+
+            transport.setRateLimiter(limiter);
+            transport.setMetrics(metrics);
+
+            assertSame(metrics, limiter.getMetrics());
+        }
+        finally
+        {
+            transport.setMetrics(previousMetrics);
+            transport.setRateLimiter(previousLimiter);
+        }
+    }
+
+    private static Request request(String path)
+    {
+        return new Request.Builder()
+            .url("https://api.partnercenter.microsoft.com" + path)
+            .header("Authorization", TOKEN)
+            .get()
+            .build();
+    }
+}
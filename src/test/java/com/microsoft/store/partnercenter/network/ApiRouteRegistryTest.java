@@ -0,0 +1,97 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license. See the LICENSE file in the project root for full license information.
+
+package com.microsoft.store.partnercenter.network;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.microsoft.store.partnercenter.configuration.Configuration;
+
+import org.junit.jupiter.api.Test;
+
+public class ApiRouteRegistryTest
+{
+    private final ApiRouteRegistry registry = new ApiRouteRegistry(apis(
+        "GetCustomers", "customers",
+        "CreateCustomer", "customers",
+        "GetCustomer", "customers/{0}",
+        "DeleteCustomer", "customers/{0}",
+        "GetCustomerSubscriptions", "customers/{0}/subscriptions",
+        "GetSubscription", "customers/{0}/subscriptions/{1}",
+        "UpdateSubscription", "customers/{0}/subscriptions/{1}",
+        "GetOffer", "offers/{0}",
+        "GetOfferCategories", "offercategories",
+        "GetCustomerUsageSummary", "customers/{0}/usagesummary",
+        "GetUsageRecords", "customers/usage"), "v1");
+
+    @Test
+    void resolveMatchesTemplatesWithPlaceholders()
+    {
+        assertEquals("GetCustomerSubscriptions", registry.resolve("GET", "/v1/customers/abc/subscriptions").getName());
+        assertEquals("GetOffer", registry.resolve("GET", "offers/031C9E47").getName());
+    }
+
+    @Test
+    void resolvePrefersTheRouteNamedAfterTheMethod()
+    {
+        assertEquals("GetCustomer", registry.resolve("GET", "/v1/customers/abc").getName());
+        assertEquals("DeleteCustomer", registry.resolve("DELETE", "/v1/customers/abc").getName());
+        assertEquals("CreateCustomer", registry.resolve("POST", "/v1/customers").getName());
+        assertEquals("UpdateSubscription", registry.resolve("PATCH", "/v1/customers/abc/subscriptions/def").getName());
+    }
+
+    @Test
+    void resolvePrefersLiteralSegments()
+    {
+        assertEquals("GetUsageRecords", registry.resolve("GET", "/v1/customers/usage").getName());
+        assertEquals("GetCustomerUsageSummary", registry.resolve("GET", "/v1/customers/abc/usagesummary").getName());
+    }
+
+    @Test
+    void resolveIgnoresQueryStringsAndCase()
+    {
+        assertEquals("GetOfferCategories", registry.resolve("GET", "/v1/OfferCategories?country=US").getName());
+    }
+
+    @Test
+    void resolveReturnsNullForUnknownPaths()
+    {
+        assertNull(registry.resolve("GET", "/v1/unknown/route"));
+    }
+
+    @Test
+    void customerIdIsTakenFromCustomerScopedRoutes()
+    {
+        String path = "/v1/customers/abc/subscriptions/def";
+
+        assertEquals("abc", registry.getCustomerId(registry.resolve("GET", path), path));
+        assertEquals("abc", registry.getCustomerId(registry.resolve("PATCH", path), path));
+        assertEquals("abc", registry.getCustomerId(registry.resolve("DELETE", "/v1/customers/abc"), "/v1/customers/abc"));
+        assertNull(registry.getCustomerId(registry.resolve("GET", "/v1/customers/usage"), "/v1/customers/usage"));
+        assertNull(registry.getCustomerId(registry.resolve("GET", "/v1/offers/1"), "/v1/offers/1"));
+    }
+
+    @Test
+    void routesAreFoundByName()
+    {
+        assertEquals("customers/{0}/subscriptions", registry.getRoute("GetCustomerSubscriptions").getPath());
+    }
+
+    static Map<String, Configuration.Api> apis(String... namesAndPaths)
+    {
+        Map<String, Configuration.Api> apis = new HashMap<>();
+
+        for (int i = 0; i < namesAndPaths.length; i += 2)
+        {
+            Configuration.Api api = new Configuration.Api();
+            api.setPath(namesAndPaths[i + 1]);
+            apis.put(namesAndPaths[i], api);
+        }
+
+        return apis;
+    }
+}
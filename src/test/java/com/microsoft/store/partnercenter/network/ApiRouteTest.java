@@ -0,0 +1,82 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license. See the LICENSE file in the project root for full license information.
+
+package com.microsoft.store.partnercenter.network;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+public class ApiRouteTest
+{
+    @Test
+    void renderReplacesPlaceholdersByIndex()
+    {
+        ApiRoute route = new ApiRoute("GetSubscription", "customers/{0}/subscriptions/{1}");
+
+        assertEquals("customers/abc/subscriptions/def", route.render("abc", "def"));
+        assertEquals("offers/1000", new ApiRoute("GetOffer", "offers/{0}").render(1000));
+    }
+
+    @Test
+    void renderKeepsTrailingSlashes()
+    {
+        assertEquals("customers/abc/users/", new ApiRoute("GetCustomerUsers", "customers/{0}/users/").render("abc"));
+    }
+
+    @Test
+    void renderEncodesArgumentsAsPathSegments()
+    {
+        ApiRoute route = new ApiRoute("GetCustomer", "customers/{0}");
+
+        assertEquals("customers/a%2Fb%3Fc%23d%25e%20f", route.render("a/b?c#d%e f"));
+        assertEquals("customers/caf%C3%A9", route.render("café"));
+        assertEquals("customers/a:b@c", route.render("a:b@c"));
+    }
+
+    @Test
+    void renderRequiresEveryPlaceholder()
+    {
+        final ApiRoute route = new ApiRoute("GetSubscription", "customers/{0}/subscriptions/{1}");
+
+        assertThrows(IllegalArgumentException.class, new Executable()
+        {
+            @Override
+            public void execute()
+            {
+                route.render("abc");
+            }
+        });
+    }
+
+    @Test
+    void parameterAndHeaderNamesComeFromTheConfiguration()
+    {
+        Map<String, String> parameters = new HashMap<>();
+        Map<String, String> headers = new HashMap<>();
+        parameters.put("Size", "size");
+        headers.put("ContinuationToken", "MS-ContinuationToken");
+
+        ApiRoute route = new ApiRoute("GetCustomers", "customers", parameters, headers);
+
+        assertEquals("size", route.getParameterName("Size"));
+        assertEquals("MS-ContinuationToken", route.getHeaderName("ContinuationToken"));
+        assertNull(route.getParameterName("Filter"));
+    }
+
+    @Test
+    void queryComponentsAreEncodedOnce()
+    {
+        StringBuilder builder = new StringBuilder();
+
+        UrlEncoding.appendQueryComponent(builder, "{\"Value\":\"%41+1\"} a&b=c#d 100%");
+
+        assertEquals("%7B%22Value%22:%22%2541%2B1%22%7D%20a%26b%3Dc%23d%20100%25", builder.toString());
+    }
+}
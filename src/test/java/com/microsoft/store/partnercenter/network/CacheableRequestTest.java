@@ -0,0 +1,104 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license. See the LICENSE file in the project root for full license information.
+
+package com.microsoft.store.partnercenter.network;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import okhttp3.Request;
+
+import org.junit.jupiter.api.Test;
+
+public class CacheableRequestTest
+{
+    private static final String URL = "https://api.partnercenter.microsoft.com/v1/offers?country=US";
+
+    @Test
+    void keyHoldsTheTenantLocaleAndAddress()
+    {
+        assertEquals("partner-a en-US " + URL, CacheableRequest.getKey(request(token("Partner-A"), "en-US")));
+        assertEquals("partner-a " + URL, CacheableRequest.getKey(request(token("Partner-A"), null)));
+    }
+
+    @Test
+    void keysOfDifferentTenantsDiffer()
+    {
+        assertNotEquals(
+            CacheableRequest.getKey(request(token("partner-a"), "en-US")),
+            CacheableRequest.getKey(request(token("partner-b"), "en-US")));
+    }
+
+    @Test
+    void requestsWithoutATenantHaveNoKey()
+    {
+        assertNull(CacheableRequest.getKey(request("Bearer opaque-token", "en-US")));
+        assertNull(CacheableRequest.getKey(request(null, "en-US")));
+    }
+
+    @Test
+    void expiredResponsesAreRevalidatedWithTheirValidators()
+    {
+        Request request = attach(request(token("partner-a"), null));
+
+        assertEquals("\"cached\"", request.header(PartnerServiceClient.IF_NONE_MATCH_HEADER));
+        assertEquals("Wed, 21 Oct 2015 07:28:00 GMT", request.header(PartnerServiceClient.IF_MODIFIED_SINCE_HEADER));
+    }
+
+    @Test
+    void validatorsOfTheCallerAreKept()
+    {
+        Request request = attach(request(token("partner-a"), null).newBuilder()
+            .header(PartnerServiceClient.IF_NONE_MATCH_HEADER, "\"previous\"")
+            .build());
+
+        assertEquals("\"previous\"", request.header(PartnerServiceClient.IF_NONE_MATCH_HEADER));
+        assertNull(request.header(PartnerServiceClient.IF_MODIFIED_SINCE_HEADER));
+    }
+
+    private static Request attach(Request request)
+    {
+        MemoryResponseCache cache = new MemoryResponseCache(1024 * 1024);
+
+        cache.put(
+            CacheableRequest.getKey(request), 
+            new CachedResponse("GetOffers", "{}".getBytes(StandardCharsets.UTF_8), System.currentTimeMillis() - 1000, 
+                "\"cached\"", "Wed, 21 Oct 2015 07:28:00 GMT"));
+
+        Request attached = CacheableRequest.attach(request, cache, NoOpPartnerServiceMetrics.getInstance());
+
+        assertNotNull(CacheableRequest.get(attached));
+
+        return attached;
+    }
+
+    private static String token(String tenantId)
+    {
+        return "Bearer header."
+            + Base64.getUrlEncoder().withoutPadding().encodeToString(
+                ("{\"tid\":\"" + tenantId + "\"}").getBytes(StandardCharsets.UTF_8))
+            + ".signature";
+    }
+
+    private static Request request(String authorization, String locale)
+    {
+        Request.Builder builder = new Request.Builder().url(URL).get();
+
+        if (authorization != null)
+        {
+            builder.header(PartnerServiceClient.AUTHORIZATION_HEADER, authorization);
+        }
+
+        if (locale != null)
+        {
+            builder.header(PartnerServiceClient.LOCALE_HEADER, locale);
+        }
+
+        return builder.build();
+    }
+}
@@ -0,0 +1,114 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license. See the LICENSE file in the project root for full license information.
+
+package com.microsoft.store.partnercenter.network;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.CancellationException;
+
+import com.microsoft.store.partnercenter.exception.PartnerErrorCategory;
+import com.microsoft.store.partnercenter.exception.PartnerException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+public class CircuitBreakerTest
+{
+    private static final PartnerException SERVER_ERROR = new PartnerException("failed", null, PartnerErrorCategory.SERVER_ERROR);
+
+    private final CircuitBreaker breaker = new CircuitBreaker(2, 50, 2);
+
+    @Test
+    void circuitOpensAfterConsecutiveFailures()
+    {
+        recordFailure("GetCustomer");
+        recordFailure("GetCustomer");
+
+        assertEquals(CircuitState.OPEN, breaker.getSnapshot("GetCustomer").getState());
+        assertRejected("GetCustomer", PartnerErrorCategory.CIRCUIT_OPEN);
+        assertEquals(1, breaker.getSnapshot("GetCustomer").getRejectedCount());
+
+        // other routes are not affected
+        breaker.acquire("GetOffer", null, NoOpPartnerServiceMetrics.getInstance()).release(null);
+    }
+
+    @Test
+    void clientErrorsDoNotOpenTheCircuit()
+    {
+        for (int i = 0; i < 5; i++)
+        {
+            breaker.acquire("GetCustomer", null, NoOpPartnerServiceMetrics.getInstance())
+                .release(new PartnerException("missing", null, PartnerErrorCategory.NOT_FOUND));
+        }
+
+        assertEquals(CircuitState.CLOSED, breaker.getSnapshot("GetCustomer").getState());
+        assertEquals(0, breaker.getSnapshot("GetCustomer").getConsecutiveFailures());
+    }
+
+    @Test
+    void successfulTrialClosesTheCircuit() throws InterruptedException
+    {
+        recordFailure("GetCustomer");
+        recordFailure("GetCustomer");
+        Thread.sleep(60);
+
+        CircuitBreaker.Permit trial = breaker.acquire("GetCustomer", null, NoOpPartnerServiceMetrics.getInstance());
+
+        assertEquals(CircuitState.HALF_OPEN, breaker.getSnapshot("GetCustomer").getState());
+        assertRejected("GetCustomer", PartnerErrorCategory.CIRCUIT_OPEN);
+
+        trial.release(null);
+
+        assertEquals(CircuitState.CLOSED, breaker.getSnapshot("GetCustomer").getState());
+    }
+
+    @Test
+    void failedTrialOpensTheCircuitAgain() throws InterruptedException
+    {
+        recordFailure("GetCustomer");
+        recordFailure("GetCustomer");
+        Thread.sleep(60);
+        recordFailure("GetCustomer");
+
+        assertEquals(CircuitState.OPEN, breaker.getSnapshot("GetCustomer").getState());
+        assertRejected("GetCustomer", PartnerErrorCategory.CIRCUIT_OPEN);
+    }
+
+    @Test
+    void bulkheadLimitsConcurrentCalls()
+    {
+        CircuitBreaker.Permit first = breaker.acquire("GetCustomer", null, NoOpPartnerServiceMetrics.getInstance());
+        CircuitBreaker.Permit second = breaker.acquire("GetCustomer", null, NoOpPartnerServiceMetrics.getInstance());
+
+        assertEquals(2, breaker.getSnapshot("GetCustomer").getActiveCalls());
+        assertRejected("GetCustomer", PartnerErrorCategory.BULKHEAD_FULL);
+
+        first.release(new CancellationException());
+        first.release(null);
+        second.release(null);
+
+        assertEquals(0, breaker.getSnapshot("GetCustomer").getActiveCalls());
+        breaker.acquire("GetCustomer", null, NoOpPartnerServiceMetrics.getInstance()).release(null);
+    }
+
+    private void recordFailure(String route)
+    {
+        breaker.acquire(route, null, NoOpPartnerServiceMetrics.getInstance()).release(SERVER_ERROR);
+    }
+
+    private void assertRejected(final String route, PartnerErrorCategory category)
+    {
+        PartnerException exception = assertThrows(PartnerException.class, new Executable()
+        {
+            @Override
+            public void execute()
+            {
+                breaker.acquire(route, null, NoOpPartnerServiceMetrics.getInstance());
+            }
+        });
+
+        assertEquals(category, exception.getErrorCategory());
+    }
+}
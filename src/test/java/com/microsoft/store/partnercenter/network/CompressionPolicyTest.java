@@ -0,0 +1,56 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license. See the LICENSE file in the project root for full license information.
+
+package com.microsoft.store.partnercenter.network;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+public class CompressionPolicyTest
+{
+    @Test
+    void largeBodiesAreCompressed()
+    {
+        CompressionPolicy policy = new CompressionPolicy(true, 1024);
+
+        assertTrue(policy.shouldCompressRequest("POST", 1024, null));
+        assertTrue(policy.shouldCompressRequest("PATCH", 4096, null));
+        assertFalse(policy.shouldCompressRequest("POST", 1023, null));
+        assertFalse(policy.shouldCompressRequest("POST", -1, null));
+    }
+
+    @Test
+    void encodedBodiesAndReadsAreNotCompressed()
+    {
+        CompressionPolicy policy = new CompressionPolicy(true, 0);
+
+        assertFalse(policy.shouldCompressRequest("POST", 4096, "gzip"));
+        assertFalse(policy.shouldCompressRequest("GET", 4096, null));
+        assertFalse(policy.shouldCompressRequest("DELETE", 4096, null));
+    }
+
+    @Test
+    void requestCompressionCanBeDisabled()
+    {
+        CompressionPolicy policy = new CompressionPolicy(true, CompressionPolicy.REQUEST_COMPRESSION_DISABLED);
+
+        assertFalse(policy.shouldCompressRequest("POST", Long.MAX_VALUE, null));
+    }
+
+    @Test
+    void negativeThresholdsAreRejected()
+    {
+        assertThrows(IllegalArgumentException.class, new Executable()
+        {
+            @Override
+            public void execute()
+            {
+                new CompressionPolicy(true, -2);
+            }
+        });
+    }
+}
@@ -0,0 +1,62 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license. See the LICENSE file in the project root for full license information.
+
+package com.microsoft.store.partnercenter.network;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.microsoft.store.partnercenter.models.ResourceBase;
+
+import org.junit.jupiter.api.Test;
+
+import okhttp3.Request;
+
+public class ConditionalRequestTest
+{
+    @Test
+    void previousInstanceIsCarriedWithItsETag()
+    {
+        ResourceBase previous = resource("eyJ2ZXJzaW9uIjoxfQ");
+        Request request = ConditionalRequest.attach(request(), previous);
+
+        assertEquals("\"eyJ2ZXJzaW9uIjoxfQ\"", request.header(PartnerServiceClient.IF_NONE_MATCH_HEADER));
+        assertSame(previous, ConditionalRequest.getPrevious(request));
+        assertFalse(RequestCoalescer.isCoalescable(request));
+    }
+
+    @Test
+    void quotedAndWeakETagsAreSentAsTheyAre()
+    {
+        assertEquals("\"1\"", ConditionalRequest.toEntityTag("\"1\""));
+        assertEquals("W/\"1\"", ConditionalRequest.toEntityTag("W/\"1\""));
+    }
+
+    @Test
+    void instancesWithoutETagAreNotRevalidated()
+    {
+        Request request = request();
+
+        assertSame(request, ConditionalRequest.attach(request, resource(null)));
+        assertSame(request, ConditionalRequest.attach(request, null));
+        assertNull(ConditionalRequest.getPrevious(request));
+    }
+
+    private static ResourceBase resource(String eTag)
+    {
+        ResourceBase resource = new ResourceBase()
+        {
+        };
+
+        resource.getAttributes().setEtag(eTag);
+
+        return resource;
+    }
+
+    private static Request request()
+    {
+        return new Request.Builder().url("https://api.partnercenter.microsoft.com/v1/customers/1").get().build();
+    }
+}
@@ -0,0 +1,93 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license. See the LICENSE file in the project root for full license information.
+
+package com.microsoft.store.partnercenter.network;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+
+public class DiskResponseCacheTest
+{
+    @Test
+    void responsesAreKeptAcrossInstances() throws IOException
+    {
+        Path directory = Files.createTempDirectory("response-cache");
+        byte[] body = "{\"id\":\"031C9E47\"}".getBytes(StandardCharsets.UTF_8);
+
+        new DiskResponseCache(directory, 1024).put("en-US https://api/v1/offers/031C9E47", response("GetOffer", body));
+
+        DiskResponseCache reopened = new DiskResponseCache(directory, 1024);
+        CachedResponse cached = reopened.get("en-US https://api/v1/offers/031C9E47");
+
+        assertNotNull(cached);
+        assertEquals("GetOffer", cached.getRoute());
+        assertArrayEquals(body, cached.getBody());
+        assertEquals(body.length, reopened.getSize());
+    }
+
+    @Test
+    void validatorsAreKeptAfterExpiry() throws IOException
+    {
+        Path directory = Files.createTempDirectory("response-cache");
+        long expiresAt = System.currentTimeMillis() - 1;
+
+        new DiskResponseCache(directory, 1024).put(
+            "a", 
+            new CachedResponse("GetOffer", new byte[10], expiresAt, null, "Wed, 21 Oct 2026 07:28:00 GMT"));
+
+        CachedResponse stale = new DiskResponseCache(directory, 1024).get("a");
+
+        assertNotNull(stale);
+        assertNull(stale.getETag());
+        assertEquals("Wed, 21 Oct 2026 07:28:00 GMT", stale.getLastModified());
+        assertEquals(expiresAt, stale.getExpiresAt());
+    }
+
+    @Test
+    void leastRecentlyUsedResponsesAreEvicted() throws IOException
+    {
+        Path directory = Files.createTempDirectory("response-cache");
+        DiskResponseCache cache = new DiskResponseCache(directory, 100);
+
+        cache.put("a", response("GetOffer", new byte[40]));
+        cache.put("b", response("GetOffer", new byte[40]));
+        cache.get("a");
+        cache.put("c", response("GetOffer", new byte[40]));
+
+        assertNotNull(cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals(2, directory.toFile().list().length);
+    }
+
+    @Test
+    void expiredAndRemovedResponsesAreDeleted() throws IOException
+    {
+        Path directory = Files.createTempDirectory("response-cache");
+        DiskResponseCache cache = new DiskResponseCache(directory, 100);
+
+        cache.put("a", new CachedResponse("GetOffer", new byte[10], System.currentTimeMillis() - 1));
+        cache.put("b", response("GetProduct", new byte[10]));
+
+        assertNull(cache.get("a"));
+
+        cache.removeRoute("GetProduct");
+
+        assertNull(cache.get("b"));
+        assertEquals(0, cache.getSize());
+        assertEquals(0, directory.toFile().list().length);
+    }
+
+    private static CachedResponse response(String route, byte[] body)
+    {
+        return new CachedResponse(route, body, System.currentTimeMillis() + 60000);
+    }
+}
@@ -0,0 +1,241 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license. See the LICENSE file in the project root for full license information.
+
+package com.microsoft.store.partnercenter.network;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.api.io.TempDir;
+
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+public class FileTransferTest
+{
+    private static final String ETAG = "\"0x8D7A1F\"";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void firstAttemptRequestsTheWholeFile()
+    {
+        Request request = request();
+
+        assertSame(request, transfer(0).prepare(request));
+        assertNull(transfer(0).prepare(request).header(FileTransfer.RANGE_HEADER));
+    }
+
+    @Test
+    void resumedAttemptRequestsTheRestOfTheFile()
+    {
+        assertEquals("bytes=1024-", transfer(1024).prepare(request()).header(FileTransfer.RANGE_HEADER));
+    }
+
+    @Test
+    void resumedAttemptIsConditionalOnTheETag()
+    {
+        Request request = new FileTransfer(Channels.newChannel(new ByteArrayOutputStream()), 1024, ETAG, null, null).prepare(request());
+
+        assertEquals("bytes=1024-", request.header(FileTransfer.RANGE_HEADER));
+        assertEquals(ETAG, request.header(FileTransfer.IF_RANGE_HEADER));
+        assertNull(transfer(1024).prepare(request()).header(FileTransfer.IF_RANGE_HEADER));
+    }
+
+    @Test
+    void rangeThatContinuesTheFileIsAppended() throws IOException
+    {
+        Path file = file("abc");
+
+        try (FileChannel channel = open(file))
+        {
+            FileTransfer transfer = new FileTransfer(channel, 3, ETAG, null, null);
+
+            assertTrue(transfer.transfer(response(HttpStatusCode.PARTIALCONTENT, "bytes 3-5/6", ETAG, "def")));
+            assertEquals(6, transfer.getPosition());
+            assertEquals(3, transfer.getCount());
+        }
+
+        assertEquals("abcdef", read(file));
+    }
+
+    @Test
+    void rangeThatStartsElsewhereTruncatesTheFile() throws IOException
+    {
+        Path file = file("abc");
+
+        try (FileChannel channel = open(file))
+        {
+            FileTransfer transfer = new FileTransfer(channel, 3, ETAG, null, null);
+
+            assertFalse(transfer.transfer(response(HttpStatusCode.PARTIALCONTENT, "bytes 2-5/6", ETAG, "cdef")));
+            assertEquals(0, transfer.getPosition());
+            assertNull(transfer.prepare(request()).header(FileTransfer.RANGE_HEADER));
+        }
+
+        assertEquals("", read(file));
+    }
+
+    @Test
+    void wholeFileReplacesTheStartOfAChangedFile() throws IOException
+    {
+        Path file = file("abc");
+        Path validatorFile = directory.resolve("statement.pdf.part.etag");
+
+        try (FileChannel channel = open(file))
+        {
+            FileTransfer transfer = new FileTransfer(channel, 3, ETAG, validatorFile, null);
+
+            assertTrue(transfer.transfer(response(200, null, "\"0x8D7A20\"", "uvwxyz")));
+            assertEquals(6, transfer.getPosition());
+            assertEquals("\"0x8D7A20\"", transfer.getValidator());
+        }
+
+        assertEquals("uvwxyz", read(file));
+        assertEquals("\"0x8D7A20\"", FileTransfer.readValidator(validatorFile));
+    }
+
+    @Test
+    void weakETagsAreNotKept() throws IOException
+    {
+        Path validatorFile = directory.resolve("statement.pdf.part.etag");
+
+        try (FileChannel channel = open(file("")))
+        {
+            FileTransfer transfer = new FileTransfer(channel, 0, null, validatorFile, null);
+
+            transfer.transfer(response(200, null, "W/" + ETAG, "abc"));
+
+            assertNull(transfer.getValidator());
+        }
+
+        assertNull(FileTransfer.readValidator(validatorFile));
+    }
+
+    @Test
+    void channelThatCannotBeTruncatedFailsTheTransfer()
+    {
+        final FileTransfer transfer = transfer(3);
+
+        assertThrows(IOException.class, new Executable()
+        {
+            @Override
+            public void execute() throws IOException
+            {
+                transfer.transfer(response(200, null, ETAG, "abcdef"));
+            }
+        });
+    }
+
+    @Test
+    void unsatisfiableRangeAtTheEndOfTheFileCompletesTheDownload()
+    {
+        assertTrue(transfer(1024).isComplete(response(HttpStatusCode.RANGENOTSATISFIABLE, "bytes */1024")));
+        assertFalse(transfer(512).isComplete(response(HttpStatusCode.RANGENOTSATISFIABLE, "bytes */1024")));
+        assertFalse(transfer(1024).isComplete(response(HttpStatusCode.RANGENOTSATISFIABLE, null)));
+        assertFalse(transfer(0).isComplete(response(HttpStatusCode.RANGENOTSATISFIABLE, "bytes */0")));
+        assertFalse(transfer(1024).isComplete(response(200, "bytes */1024")));
+    }
+
+    @Test
+    void lengthIsReadFromTheContentRange()
+    {
+        assertEquals(200, FileTransfer.getLength("bytes 100-199/200", -1));
+        assertEquals(-1, FileTransfer.getLength("bytes 100-199/*", -1));
+        assertEquals(300, FileTransfer.getLength(null, 300));
+    }
+
+    @Test
+    void startIsReadFromTheContentRange()
+    {
+        assertEquals(100, FileTransfer.getStart("bytes 100-199/200"));
+        assertEquals(-1, FileTransfer.getStart("bytes */200"));
+        assertEquals(-1, FileTransfer.getStart(null));
+    }
+
+    @Test
+    void partialFileIsNextToTheFile()
+    {
+        assertEquals(Paths.get("statements", "D0300001.pdf.part"), FileTransfer.getPartialFile(Paths.get("statements", "D0300001.pdf")));
+        assertEquals(Paths.get("statements", "D0300001.pdf.part.etag"), FileTransfer.getValidatorFile(Paths.get("statements", "D0300001.pdf")));
+    }
+
+    private static FileTransfer transfer(long offset)
+    {
+        return new FileTransfer(Channels.newChannel(new ByteArrayOutputStream()), offset, null, null, null);
+    }
+
+    private Path file(String contents) throws IOException
+    {
+        return Files.write(directory.resolve("statement.pdf.part"), contents.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static FileChannel open(Path file) throws IOException
+    {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE);
+
+        channel.position(channel.size());
+
+        return channel;
+    }
+
+    private static String read(Path file) throws IOException
+    {
+        return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+    }
+
+    private static Request request()
+    {
+        return new Request.Builder().url("https://api.partnercenter.microsoft.com/v1/invoices/D0300001/documents/statement").get().build();
+    }
+
+    private static Response response(int code, String contentRange)
+    {
+        return response(code, contentRange, null, null);
+    }
+
+    private static Response response(int code, String contentRange, String eTag, String body)
+    {
+        Response.Builder builder = new Response.Builder()
+            .request(request())
+            .protocol(Protocol.HTTP_1_1)
+            .code(code)
+            .message("");
+
+        if (contentRange != null)
+        {
+            builder.header(FileTransfer.CONTENT_RANGE_HEADER, contentRange);
+        }
+
+        if (eTag != null)
+        {
+            builder.header(PartnerServiceClient.ETAG_HEADER, eTag);
+        }
+
+        if (body != null)
+        {
+            builder.body(ResponseBody.create(null, body));
+        }
+
+        return builder.build();
+    }
+}
@@ -0,0 +1,222 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license. See the LICENSE file in the project root for full license information.
+
+package com.microsoft.store.partnercenter.network;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * Executes synchronous calls through the host concurrency limiter against a local server that counts how many
+ * requests it handles at the same time.
+ */
+public class HostConcurrencyLimiterTest
+{
+    private static final String HOST = "127.0.0.1";
+
+    private ConcurrencyServer server;
+
+    @BeforeEach
+    void startServer() throws IOException
+    {
+        server = new ConcurrencyServer();
+    }
+
+    @AfterEach
+    void stopServer()
+    {
+        server.stop();
+    }
+
+    @Test
+    void synchronousCallsAreLimitedPerHost() throws Exception
+    {
+        final HostConcurrencyLimiter limiter = new HostConcurrencyLimiter(2);
+        final OkHttpClient client = new OkHttpClient.Builder().addInterceptor(limiter).build();
+        List<Thread> threads = new ArrayList<>();
+
+        for (int i = 0; i < 6; i++)
+        {
+            Thread thread = new Thread(new Runnable()
+            {
+                @Override
+                public void run()
+                {
+                    try (Response response = client.newCall(request()).execute())
+                    {
+                        response.body().string();
+                    }
+                    catch (IOException ex)
+                    {
+                        throw new IllegalStateException(ex);
+                    }
+                }
+            });
+
+            threads.add(thread);
+            thread.start();
+        }
+
+        for (Thread thread : threads)
+        {
+            thread.join();
+        }
+
+        assertEquals(6, server.getRequestCount());
+        assertTrue(server.getMaxConcurrency() <= 2, "concurrency " + server.getMaxConcurrency());
+        assertEquals(2, limiter.getAvailablePermits(HOST));
+    }
+
+    @Test
+    void thePermitIsHeldUntilTheBodyIsClosed() throws IOException
+    {
+        HostConcurrencyLimiter limiter = new HostConcurrencyLimiter(2);
+        OkHttpClient client = new OkHttpClient.Builder().addInterceptor(limiter).build();
+        Response response = client.newCall(request()).execute();
+
+        assertEquals(1, limiter.getAvailablePermits(HOST));
+
+        response.close();
+        response.close();
+
+        assertEquals(2, limiter.getAvailablePermits(HOST));
+    }
+
+    @Test
+    void thePermitIsReturnedWhenTheCallFails()
+    {
+        HostConcurrencyLimiter limiter = new HostConcurrencyLimiter(2);
+        final OkHttpClient client = new OkHttpClient.Builder()
+            .addInterceptor(limiter)
+            .addInterceptor(new Interceptor()
+            {
+                @Override
+                public Response intercept(Chain chain) throws IOException
+                {
+                    throw new IOException("connection reset");
+                }
+            })
+            .build();
+
+        assertThrows(IOException.class, new Executable()
+        {
+            @Override
+            public void execute() throws Throwable
+            {
+                client.newCall(request()).execute();
+            }
+        });
+        assertEquals(2, limiter.getAvailablePermits(HOST));
+    }
+
+    private Request request()
+    {
+        return new Request.Builder().url(server.getUrl() + "/offers").get().build();
+    }
+
+    /**
+     * Answers every request after a short delay, and records the highest number of requests handled at once.
+     */
+    private static class ConcurrencyServer
+        implements HttpHandler
+    {
+        private final HttpServer server;
+
+        private final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        private final AtomicInteger active = new AtomicInteger();
+
+        private int maxConcurrency;
+
+        private final AtomicInteger requestCount = new AtomicInteger();
+
+        ConcurrencyServer() throws IOException
+        {
+            server = HttpServer.create(new InetSocketAddress(HOST, 0), 0);
+            server.createContext("/", this);
+            server.setExecutor(executor);
+            server.start();
+        }
+
+        String getUrl()
+        {
+            return "http://" + HOST + ":" + server.getAddress().getPort();
+        }
+
+        synchronized int getMaxConcurrency()
+        {
+            return maxConcurrency;
+        }
+
+        int getRequestCount()
+        {
+            return requestCount.get();
+        }
+
+        void stop()
+        {
+            server.stop(0);
+            executor.shutdownNow();
+        }
+
+        @Override
+        public void handle(HttpExchange exchange) throws IOException
+        {
+            int current = active.incrementAndGet();
+
+            requestCount.incrementAndGet();
+
+            synchronized (this)
+            {
+                maxConcurrency = Math.max(maxConcurrency, current);
+            }
+
+            try
+            {
+                Thread.sleep(100);
+
+                byte[] body = "\"ok\"".getBytes(StandardCharsets.UTF_8);
+
+                exchange.sendResponseHeaders(200, body.length);
+
+                try (OutputStream output = exchange.getResponseBody())
+                {
+                    output.write(body);
+                }
+            }
+            catch (InterruptedException ex)
+            {
+                Thread.currentThread().interrupt();
+            }
+            finally
+            {
+                active.decrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license. See the LICENSE file in the project root for full license information.
+
+package com.microsoft.store.partnercenter.network;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+
+public class MemoryResponseCacheTest
+{
+    private final MemoryResponseCache cache = new MemoryResponseCache(100);
+
+    @Test
+    void leastRecentlyUsedResponsesAreEvictedBySize()
+    {
+        cache.put("a", response("GetOffer", 40));
+        cache.put("b", response("GetOffer", 40));
+        cache.get("a");
+        cache.put("c", response("GetOffer", 40));
+
+        assertNotNull(cache.get("a"));
+        assertNull(cache.get("b"));
+        assertNotNull(cache.get("c"));
+        assertEquals(84, cache.getSize());
+    }
+
+    @Test
+    void responsesLargerThanTheCacheAreNotKept()
+    {
+        cache.put("a", response("GetOffer", 30));
+        cache.put("b", response("GetOffer", 200));
+
+        assertNotNull(cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals(1, cache.getCount());
+    }
+
+    @Test
+    void expiredResponsesAreRemoved()
+    {
+        cache.put("a", new CachedResponse("GetOffer", new byte[10], System.currentTimeMillis() - 1));
+
+        assertNull(cache.get("a"));
+        assertEquals(0, cache.getCount());
+        assertEquals(0, cache.getSize());
+    }
+
+    @Test
+    void expiredResponsesWithValidatorsAreKeptForRevalidation()
+    {
+        cache.put("a", new CachedResponse("GetOffer", new byte[10], System.currentTimeMillis() - 1, "\"1\"", null));
+
+        CachedResponse stale = cache.get("a");
+
+        assertNotNull(stale);
+        assertEquals("\"1\"", stale.getETag());
+    }
+
+    @Test
+    void responsesAreRemovedByRoute()
+    {
+        cache.put("a", response("GetOffer", 10));
+        cache.put("b", response("GetProduct", 10));
+        cache.put("a", response("GetOffer", 20));
+        cache.removeRoute("GetOffer");
+
+        assertNull(cache.get("a"));
+        assertNotNull(cache.get("b"));
+        assertEquals(12, cache.getSize());
+    }
+
+    private static CachedResponse response(String route, int size)
+    {
+        return new CachedResponse(route, new byte[size], System.currentTimeMillis() + 60000);
+    }
+}
@@ -0,0 +1,226 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license. See the LICENSE file in the project root for full license information.
+
+package com.microsoft.store.partnercenter.network;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.microsoft.rest.RestClient;
+import com.microsoft.rest.ServiceResponseBuilder;
+import com.microsoft.rest.serializer.JacksonAdapter;
+import com.microsoft.store.partnercenter.IPartner;
+import com.microsoft.store.partnercenter.IPartnerCredentials;
+import com.microsoft.store.partnercenter.PartnerService;
+import com.microsoft.store.partnercenter.requestcontext.IRequestContext;
+import com.microsoft.store.partnercenter.requestcontext.RequestContextFactory;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import org.joda.time.DateTime;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Sends requests through the partner service client to a local server that throttles the first attempt with a
+ * Retry-After header, for both the blocking retry handler and the scheduled retries of asynchronous requests.
+ */
+public class PartnerServiceClientRetryTest
+{
+    private static final long RETRY_AFTER_IN_MILLISECONDS = 1000;
+
+    private ThrottlingServer server;
+
+    private String apiRootUrl;
+
+    private PartnerServiceClient client;
+
+    @BeforeEach
+    void startServer() throws IOException
+    {
+        server = new ThrottlingServer();
+        apiRootUrl = PartnerService.getInstance().getApiRootUrl();
+        PartnerService.getInstance().setApiRootUrl(server.getUrl());
+
+        RetryPolicy policy = new RetryPolicy(3, 10, 5000, new RetryBudget(20, 10));
+
+        client = new PartnerServiceClient(
+            new RestClient.Builder()
+                .withBaseUrl(server.getUrl() + "/")
+                .withRetryStrategy(new PartnerServiceRetryStrategy(policy))
+                .withSerializerAdapter(new JacksonAdapter())
+                .withResponseBuilderFactory(new ServiceResponseBuilder.Factory())
+                .build(),
+            policy);
+    }
+
+    @AfterEach
+    void stopServer()
+    {
+        PartnerService.getInstance().setApiRootUrl(apiRootUrl);
+        server.stop();
+    }
+
+    @Test
+    void blockingRequestsWaitForRetryAfter()
+    {
+        String value = client.get(partner(), new TypeReference<String>(){}, "offers/blocking");
+
+        assertEquals("ok", value);
+        assertRetriedAfterTheRequestedDelay();
+    }
+
+    @Test
+    void asynchronousRequestsAreRescheduledAfterRetryAfter()
+    {
+        String value = client.getAsync(partner(), new TypeReference<String>(){}, "offers/async").join();
+
+        assertEquals("ok", value);
+        assertRetriedAfterTheRequestedDelay();
+    }
+
+    private void assertRetriedAfterTheRequestedDelay()
+    {
+        List<Long> attempts = server.getAttempts();
+
+        assertEquals(2, attempts.size());
+
+        long delay = TimeUnit.NANOSECONDS.toMillis(attempts.get(1) - attempts.get(0));
+
+        // allow for the granularity of the scheduler clock, but not for an immediate retry
+        assertTrue(delay >= RETRY_AFTER_IN_MILLISECONDS - 50, "retried after " + delay + " ms");
+        assertTrue(delay < RETRY_AFTER_IN_MILLISECONDS * 4, "retried after " + delay + " ms");
+    }
+
+    private static IPartner partner()
+    {
+        final IRequestContext context = RequestContextFactory.getInstance().create();
+        final IPartnerCredentials credentials = new IPartnerCredentials()
+        {
+            @Override
+            public String getPartnerServiceToken()
+            {
+                return "token";
+            }
+
+            @Override
+            public DateTime getExpiresAt()
+            {
+                return DateTime.now().plusHours(1);
+            }
+
+            @Override
+            public boolean isExpired()
+            {
+                return false;
+            }
+
+            @Override
+            public void onCredentialsRefreshNeeded(IPartnerCredentials outdated, IRequestContext requestContext)
+            {
+            }
+        };
+
+        return (IPartner)Proxy.newProxyInstance(
+            IPartner.class.getClassLoader(),
+            new Class<?>[] { IPartner.class },
+            new InvocationHandler()
+            {
+                @Override
+                public Object invoke(Object proxy, Method method, Object[] args)
+                {
+                    if ("getCredentials".equals(method.getName()))
+                    {
+                        return credentials;
+                    }
+
+                    if ("getRequestContext".equals(method.getName()))
+                    {
+                        return context;
+                    }
+
+                    if ("getCredentialsResolver".equals(method.getName()))
+                    {
+                        return null;
+                    }
+
+                    throw new UnsupportedOperationException(method.getName());
+                }
+            });
+    }
+
+    /**
+     * Answers the first request with 429 and a Retry-After header, and every following request with 200.
+     */
+    private static class ThrottlingServer
+        implements HttpHandler
+    {
+        private final HttpServer server;
+
+        private final List<Long> attempts = new ArrayList<>();
+
+        ThrottlingServer() throws IOException
+        {
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            server.createContext("/", this);
+            server.start();
+        }
+
+        String getUrl()
+        {
+            return "http://127.0.0.1:" + server.getAddress().getPort();
+        }
+
+        synchronized List<Long> getAttempts()
+        {
+            return new ArrayList<>(attempts);
+        }
+
+        void stop()
+        {
+            server.stop(0);
+        }
+
+        @Override
+        public void handle(HttpExchange exchange) throws IOException
+        {
+            boolean first;
+
+            synchronized (this)
+            {
+                attempts.add(System.nanoTime());
+                first = attempts.size() == 1;
+            }
+
+            byte[] body = (first ? "{\"code\":\"throttled\"}" : "\"ok\"").getBytes(StandardCharsets.UTF_8);
+
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+
+            if (first)
+            {
+                exchange.getResponseHeaders().set("Retry-After", String.valueOf(RETRY_AFTER_IN_MILLISECONDS / 1000));
+            }
+
+            exchange.sendResponseHeaders(first ? HttpStatusCode.TOOMANYREQUESTS : 200, body.length);
+
+            try (OutputStream output = exchange.getResponseBody())
+            {
+                output.write(body);
+            }
+        }
+    }
+}
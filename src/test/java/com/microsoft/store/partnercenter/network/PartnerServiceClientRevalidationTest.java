@@ -0,0 +1,297 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license. See the LICENSE file in the project root for full license information.
+
+package com.microsoft.store.partnercenter.network;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.microsoft.rest.RestClient;
+import com.microsoft.rest.ServiceResponseBuilder;
+import com.microsoft.rest.serializer.JacksonAdapter;
+import com.microsoft.store.partnercenter.IPartner;
+import com.microsoft.store.partnercenter.IPartnerCredentials;
+import com.microsoft.store.partnercenter.PartnerService;
+import com.microsoft.store.partnercenter.requestcontext.IRequestContext;
+import com.microsoft.store.partnercenter.requestcontext.RequestContextFactory;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import org.joda.time.DateTime;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Revalidates expired cached responses through the partner service client against a local server that answers
+ * conditional requests with 304 Not Modified.
+ */
+public class PartnerServiceClientRevalidationTest
+{
+    private static final String ETAG = "\"v1\"";
+
+    private RevalidatingServer server;
+
+    private ExpiringCache cache;
+
+    private String apiRootUrl;
+
+    private PartnerServiceClient client;
+
+    @BeforeEach
+    void startServer() throws IOException
+    {
+        server = new RevalidatingServer();
+        cache = new ExpiringCache();
+        apiRootUrl = PartnerService.getInstance().getApiRootUrl();
+        PartnerService.getInstance().setApiRootUrl(server.getUrl());
+
+        RetryPolicy policy = new RetryPolicy(0, 10, 5000, new RetryBudget(20, 10));
+
+        client = new PartnerServiceClient(
+            new RestClient.Builder()
+                .withBaseUrl(server.getUrl() + "/")
+                .withRetryStrategy(new PartnerServiceRetryStrategy(policy))
+                .withSerializerAdapter(new JacksonAdapter())
+                .withResponseBuilderFactory(new ServiceResponseBuilder.Factory())
+                .build(),
+            policy);
+        client.setResponseCache(cache);
+    }
+
+    @AfterEach
+    void stopServer()
+    {
+        PartnerService.getInstance().setApiRootUrl(apiRootUrl);
+        server.stop();
+    }
+
+    @Test
+    void notModifiedRenewsTheCachedResponse()
+    {
+        IPartner partner = partner();
+
+        assertEquals("ok", client.get(partner, new TypeReference<String>(){}, "offers"));
+
+        cache.expire(false);
+
+        assertEquals("ok", client.get(partner, new TypeReference<String>(){}, "offers"));
+        assertEquals(ETAG, server.getValidators().get(1));
+    }
+
+    @Test
+    void notModifiedForAResponseThatCannotBeReadSendsTheRequestAgain()
+    {
+        IPartner partner = partner();
+
+        assertEquals("ok", client.get(partner, new TypeReference<String>(){}, "offers"));
+
+        cache.expire(true);
+
+        assertEquals("ok", client.get(partner, new TypeReference<String>(){}, "offers"));
+        assertEquals(3, server.getValidators().size());
+        assertEquals(ETAG, server.getValidators().get(1));
+        assertNull(server.getValidators().get(2));
+    }
+
+    private static IPartner partner()
+    {
+        final IRequestContext context = RequestContextFactory.getInstance().create();
+        final String token = "header."
+            + Base64.getUrlEncoder().withoutPadding().encodeToString("{\"tid\":\"partner-a\"}".getBytes(StandardCharsets.UTF_8))
+            + ".signature";
+        final IPartnerCredentials credentials = new IPartnerCredentials()
+        {
+            @Override
+            public String getPartnerServiceToken()
+            {
+                return token;
+            }
+
+            @Override
+            public DateTime getExpiresAt()
+            {
+                return DateTime.now().plusHours(1);
+            }
+
+            @Override
+            public boolean isExpired()
+            {
+                return false;
+            }
+
+            @Override
+            public void onCredentialsRefreshNeeded(IPartnerCredentials outdated, IRequestContext requestContext)
+            {
+            }
+        };
+
+        return (IPartner)Proxy.newProxyInstance(
+            IPartner.class.getClassLoader(),
+            new Class<?>[] { IPartner.class },
+            new InvocationHandler()
+            {
+                @Override
+                public Object invoke(Object proxy, Method method, Object[] args)
+                {
+                    if ("getCredentials".equals(method.getName()))
+                    {
+                        return credentials;
+                    }
+
+                    if ("getRequestContext".equals(method.getName()))
+                    {
+                        return context;
+                    }
+
+                    if ("getCredentialsResolver".equals(method.getName()))
+                    {
+                        return null;
+                    }
+
+                    throw new UnsupportedOperationException(method.getName());
+                }
+            });
+    }
+
+    /**
+     * Keeps cached responses in a map, and lets the test expire them or replace their body with one that cannot be
+     * read.
+     */
+    private static class ExpiringCache
+        implements IResponseCache
+    {
+        private final Map<String, CachedResponse> responses = new ConcurrentHashMap<>();
+
+        void expire(boolean unreadable)
+        {
+            for (Map.Entry<String, CachedResponse> entry : responses.entrySet())
+            {
+                CachedResponse response = entry.getValue();
+                byte[] body = unreadable ? "{".getBytes(StandardCharsets.UTF_8) : response.getBody();
+
+                entry.setValue(new CachedResponse(
+                    response.getRoute(), body, System.currentTimeMillis() - 1000, response.getETag(), response.getLastModified()));
+            }
+        }
+
+        @Override
+        public CachedResponse get(String key)
+        {
+            return responses.get(key);
+        }
+
+        @Override
+        public void put(String key, CachedResponse response)
+        {
+            responses.put(key, response);
+        }
+
+        @Override
+        public void remove(String key)
+        {
+            responses.remove(key);
+        }
+
+        @Override
+        public void removeRoute(String route)
+        {
+        }
+
+        @Override
+        public void clear()
+        {
+            responses.clear();
+        }
+
+        @Override
+        public int getCount()
+        {
+            return responses.size();
+        }
+
+        @Override
+        public long getSize()
+        {
+            return 0;
+        }
+    }
+
+    /**
+     * Answers requests that carry the current ETag with 304, and every other request with the response and its ETag.
+     */
+    private static class RevalidatingServer
+        implements HttpHandler
+    {
+        private final HttpServer server;
+
+        private final List<String> validators = new ArrayList<>();
+
+        RevalidatingServer() throws IOException
+        {
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            server.createContext("/", this);
+            server.start();
+        }
+
+        String getUrl()
+        {
+            return "http://127.0.0.1:" + server.getAddress().getPort();
+        }
+
+        synchronized List<String> getValidators()
+        {
+            return new ArrayList<>(validators);
+        }
+
+        void stop()
+        {
+            server.stop(0);
+        }
+
+        @Override
+        public void handle(HttpExchange exchange) throws IOException
+        {
+            String validator = exchange.getRequestHeaders().getFirst(PartnerServiceClient.IF_NONE_MATCH_HEADER);
+
+            synchronized (this)
+            {
+                validators.add(validator);
+            }
+
+            if (ETAG.equals(validator))
+            {
+                exchange.sendResponseHeaders(HttpStatusCode.NOTMODIFIED, -1);
+                exchange.close();
+
+                return;
+            }
+
+            byte[] body = "\"ok\"".getBytes(StandardCharsets.UTF_8);
+
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.getResponseHeaders().set(PartnerServiceClient.ETAG_HEADER, ETAG);
+            exchange.sendResponseHeaders(200, body.length);
+
+            try (OutputStream output = exchange.getResponseBody())
+            {
+                output.write(body);
+            }
+        }
+    }
+}
@@ -0,0 +1,145 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license. See the LICENSE file in the project root for full license information.
+
+package com.microsoft.store.partnercenter.network;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import okhttp3.Request;
+
+public class RequestCoalescerTest
+{
+    private final RequestCoalescer coalescer = new RequestCoalescer();
+
+    @Test
+    void keysIgnoreRequestIdentifiers()
+    {
+        assertEquals(
+            RequestCoalescer.getKey(request("token", "1"), String.class), 
+            RequestCoalescer.getKey(request("token", "2"), String.class));
+    }
+
+    @Test
+    void keysDifferByCredentialsAndResponseType()
+    {
+        String key = RequestCoalescer.getKey(request("token", "1"), String.class);
+
+        assertNotEquals(key, RequestCoalescer.getKey(request("other", "1"), String.class));
+        assertNotEquals(key, RequestCoalescer.getKey(request("token", "1"), Integer.class));
+    }
+
+    @Test
+    void concurrentCallsShareOneResult() throws Exception
+    {
+        final CountDownLatch leaderStarted = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger calls = new AtomicInteger();
+        final AtomicReference<Object> leaderResult = new AtomicReference<>();
+        final Supplier<Object> call = new Supplier<Object>()
+        {
+            @Override
+            public Object get()
+            {
+                calls.incrementAndGet();
+                leaderStarted.countDown();
+
+                try
+                {
+                    release.await(5, TimeUnit.SECONDS);
+                }
+                catch (InterruptedException ex)
+                {
+                    Thread.currentThread().interrupt();
+                }
+
+                return new Object();
+            }
+        };
+
+        Thread leader = new Thread(new Runnable()
+        {
+            @Override
+            public void run()
+            {
+                leaderResult.set(coalescer.execute(request("token", "1"), Object.class, NoOpPartnerServiceMetrics.getInstance(), call));
+            }
+        });
+
+        leader.start();
+        leaderStarted.await(5, TimeUnit.SECONDS);
+
+        final AtomicReference<Object> followerResult = new AtomicReference<>();
+        Thread follower = new Thread(new Runnable()
+        {
+            @Override
+            public void run()
+            {
+                followerResult.set(coalescer.execute(request("token", "2"), Object.class, NoOpPartnerServiceMetrics.getInstance(), call));
+            }
+        });
+
+        follower.start();
+
+        while (coalescer.getCoalescedCount() == 0)
+        {
+            Thread.sleep(5);
+        }
+
+        release.countDown();
+        leader.join();
+        follower.join();
+
+        assertEquals(1, calls.get());
+        assertSame(leaderResult.get(), followerResult.get());
+        assertEquals(0, coalescer.getInFlightCount());
+    }
+
+    @Test
+    void asynchronousCallsShareOneResult()
+    {
+        final CompletableFuture<String> response = new CompletableFuture<>();
+        final AtomicInteger calls = new AtomicInteger();
+        Supplier<CompletableFuture<String>> call = new Supplier<CompletableFuture<String>>()
+        {
+            @Override
+            public CompletableFuture<String> get()
+            {
+                calls.incrementAndGet();
+
+                return response;
+            }
+        };
+
+        CompletableFuture<String> first = coalescer.executeAsync(request("token", "1"), String.class, NoOpPartnerServiceMetrics.getInstance(), call);
+        CompletableFuture<String> second = coalescer.executeAsync(request("token", "2"), String.class, NoOpPartnerServiceMetrics.getInstance(), call);
+
+        second.cancel(true);
+        response.complete("customer");
+
+        assertEquals("customer", first.join());
+        assertEquals(1, calls.get());
+        assertEquals(1, coalescer.getCoalescedCount());
+        assertEquals(0, coalescer.getInFlightCount());
+    }
+
+    private static Request request(String token, String requestId)
+    {
+        return new Request.Builder()
+            .url("https://api.partnercenter.microsoft.com/v1/offers/031C9E47")
+            .header(PartnerServiceClient.AUTHORIZATION_HEADER, "Bearer " + token)
+            .header(PartnerServiceClient.REQUEST_ID_HEADER, requestId)
+            .get()
+            .build();
+    }
+}
@@ -0,0 +1,146 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license. See the LICENSE file in the project root for full license information.
+
+package com.microsoft.store.partnercenter.network;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.microsoft.store.partnercenter.exception.PartnerErrorCategory;
+import com.microsoft.store.partnercenter.exception.PartnerException;
+
+import org.junit.jupiter.api.Test;
+
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+public class RequestMetricsTest
+{
+    private final RecordingMetrics metrics = new RecordingMetrics();
+
+    @Test
+    void disabledMetricsLeaveTheRequestUnchanged()
+    {
+        Request request = request();
+
+        assertSame(request, RequestMetrics.attach(request, NoOpPartnerServiceMetrics.getInstance()));
+        assertNull(RequestMetrics.get(request));
+    }
+
+    @Test
+    void attachResolvesTheRoute()
+    {
+        assertEquals("GetCustomer", RequestMetrics.get(RequestMetrics.attach(request(), metrics)).getRoute());
+    }
+
+    @Test
+    void retriesAndThrottlesAreRecordedPerAttempt() throws IOException
+    {
+        Request request = RequestMetrics.attach(request(), metrics);
+
+        intercept(request, HttpStatusCode.TOOMANYREQUESTS);
+        intercept(request, 200);
+        RequestMetrics.get(request).onCompleted(null);
+
+        assertEquals(1, metrics.throttles);
+        assertEquals(1, metrics.retries);
+        assertEquals(HttpStatusCode.TOOMANYREQUESTS, metrics.retryStatusCode);
+        assertEquals(1, metrics.requests.size());
+        assertEquals("GetCustomer GET 200 null", metrics.requests.get(0));
+    }
+
+    @Test
+    void failuresAreRecordedWithTheirCategory() throws IOException
+    {
+        Request request = RequestMetrics.attach(request(), metrics);
+
+        intercept(request, HttpStatusCode.NOTFOUND);
+        RequestMetrics.get(request).onCompleted(new PartnerException("missing", null, PartnerErrorCategory.NOT_FOUND));
+
+        assertEquals(0, metrics.retries);
+        assertEquals("GetCustomer GET 404 NOT_FOUND", metrics.requests.get(0));
+    }
+
+    @Test
+    void statusClassesGroupStatusCodes()
+    {
+        assertEquals("2xx", HttpStatusCode.getStatusClass(200));
+        assertEquals("4xx", HttpStatusCode.getStatusClass(HttpStatusCode.TOOMANYREQUESTS));
+        assertEquals("none", HttpStatusCode.getStatusClass(0));
+    }
+
+    private static Request request()
+    {
+        return new Request.Builder().url("https://api.partnercenter.microsoft.com/v1/customers/abc").get().build();
+    }
+
+    private static void intercept(final Request request, final int statusCode) throws IOException
+    {
+        OkHttpClient client = new OkHttpClient.Builder()
+            .addInterceptor(RequestMetrics.INTERCEPTOR)
+            .addInterceptor(new Interceptor()
+            {
+                @Override
+                public Response intercept(Chain chain)
+                {
+                    return new Response.Builder()
+                        .request(chain.request())
+                        .protocol(Protocol.HTTP_1_1)
+                        .code(statusCode)
+                        .message("")
+                        .body(ResponseBody.create(null, ""))
+                        .build();
+                }
+            })
+            .build();
+
+        client.newCall(request).execute().close();
+    }
+
+    private static class RecordingMetrics
+        implements IPartnerServiceMetrics
+    {
+        private final List<String> requests = new ArrayList<>();
+
+        private int retries;
+
+        private int retryStatusCode;
+
+        private int throttles;
+
+        @Override
+        public boolean isEnabled()
+        {
+            return true;
+        }
+
+        @Override
+        public void recordRequest(String route, String method, int statusCode, PartnerErrorCategory errorCategory, 
+            long latencyInNanoseconds, long bytesSent, long bytesReceived)
+        {
+            requests.add(route + " " + method + " " + statusCode + " " + errorCategory);
+        }
+
+        @Override
+        public void recordRetry(String route, String method, int statusCode)
+        {
+            retries++;
+            retryStatusCode = statusCode;
+        }
+
+        @Override
+        public void recordThrottle(String route, String method)
+        {
+            throttles++;
+        }
+    }
+}
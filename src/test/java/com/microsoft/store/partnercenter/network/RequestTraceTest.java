@@ -0,0 +1,159 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license. See the LICENSE file in the project root for full license information.
+
+package com.microsoft.store.partnercenter.network;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+
+import com.microsoft.store.partnercenter.exception.PartnerErrorCategory;
+import com.microsoft.store.partnercenter.requestcontext.IRequestContext;
+
+import org.junit.jupiter.api.Test;
+
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+public class RequestTraceTest
+{
+    private static final String TRACE_PARENT = "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01";
+
+    private final RecordingTracer tracer = new RecordingTracer();
+
+    @Test
+    void disabledTracerLeavesTheRequestUnchanged()
+    {
+        Request request = request();
+
+        assertSame(request, RequestTrace.attach(request, NoOpPartnerServiceTracer.getInstance(), null, true));
+    }
+
+    @Test
+    void attachSendsTheTraceParent()
+    {
+        Request request = RequestTrace.attach(request(), tracer, null, false);
+
+        assertEquals("GetCustomer", tracer.route);
+        assertEquals(TRACE_PARENT, request.header(TraceParent.HEADER));
+        assertNull(request.header(PartnerServiceClient.CORRELATION_ID_HEADER));
+    }
+
+    @Test
+    void attachMapsTheTraceIdIntoTheCorrelationIdWhenRequested()
+    {
+        Request request = RequestTrace.attach(request(), tracer, null, true);
+
+        assertEquals("4bf92f35-77b3-4da6-a3ce-929d0e0e4736", request.header(PartnerServiceClient.CORRELATION_ID_HEADER));
+    }
+
+    @Test
+    void spanEndsWithTheStatusAndRetries() throws IOException
+    {
+        Request request = RequestTrace.attach(request(), tracer, null, false);
+
+        intercept(request, HttpStatusCode.TOOMANYREQUESTS);
+        intercept(request, HttpStatusCode.SERVICEUNAVAILABLE);
+        intercept(request, 200);
+        RequestTrace.get(request).onCompleted(null);
+
+        assertEquals(2, tracer.span.retries);
+        assertEquals("200 2 null", tracer.span.result);
+    }
+
+    @Test
+    void traceParentIsFormattedAndValidated()
+    {
+        assertEquals(TRACE_PARENT, TraceParent.format("4bf92f3577b34da6a3ce929d0e0e4736", "00f067aa0ba902b7", true));
+        assertTrue(TraceParent.isValid(TRACE_PARENT));
+        assertFalse(TraceParent.isValid("00-00000000000000000000000000000000-00f067aa0ba902b7-01"));
+        assertFalse(TraceParent.isValid("00-4BF92F3577B34DA6A3CE929D0E0E4736-00f067aa0ba902b7-01"));
+        assertFalse(TraceParent.isValid(TRACE_PARENT + "-extra"));
+        assertNull(TraceParent.getTraceId("invalid"));
+    }
+
+    private static Request request()
+    {
+        return new Request.Builder().url("https://api.partnercenter.microsoft.com/v1/customers/abc").get().build();
+    }
+
+    private static void intercept(final Request request, final int statusCode) throws IOException
+    {
+        OkHttpClient client = new OkHttpClient.Builder()
+            .addInterceptor(RequestTrace.INTERCEPTOR)
+            .addInterceptor(new Interceptor()
+            {
+                @Override
+                public Response intercept(Chain chain)
+                {
+                    return new Response.Builder()
+                        .request(chain.request())
+                        .protocol(Protocol.HTTP_1_1)
+                        .code(statusCode)
+                        .message("")
+                        .body(ResponseBody.create(null, ""))
+                        .build();
+                }
+            })
+            .build();
+
+        client.newCall(request).execute().close();
+    }
+
+    private static class RecordingTracer
+        implements IPartnerServiceTracer
+    {
+        private String route;
+
+        private RecordingSpan span;
+
+        @Override
+        public boolean isEnabled()
+        {
+            return true;
+        }
+
+        @Override
+        public IPartnerServiceSpan startSpan(String route, String method, IRequestContext requestContext)
+        {
+            this.route = route;
+            this.span = new RecordingSpan();
+
+            return span;
+        }
+    }
+
+    private static class RecordingSpan
+        implements IPartnerServiceSpan
+    {
+        private int retries;
+
+        private String result;
+
+        @Override
+        public String getTraceParent()
+        {
+            return TRACE_PARENT;
+        }
+
+        @Override
+        public void recordRetry(int statusCode)
+        {
+            retries++;
+        }
+
+        @Override
+        public void end(int statusCode, int retryCount, PartnerErrorCategory errorCategory, Throwable failure)
+        {
+            result = statusCode + " " + retryCount + " " + errorCategory;
+        }
+    }
+}
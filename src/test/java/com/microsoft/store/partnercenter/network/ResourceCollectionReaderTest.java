@@ -0,0 +1,200 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license. See the LICENSE file in the project root for full license information.
+
+package com.microsoft.store.partnercenter.network;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microsoft.store.partnercenter.TestJsonConverter;
+import com.microsoft.store.partnercenter.exception.PartnerResponseParseException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.BufferedSource;
+
+public class ResourceCollectionReaderTest
+{
+    private static final ObjectMapper CONVERTER = TestJsonConverter.create();
+
+    @Test
+    void itemsAreReadInOrderAndTheResponseIsClosedAtTheEnd() throws IOException
+    {
+        AtomicBoolean closed = new AtomicBoolean();
+        ResourceCollectionReader<String> reader = reader(
+            "{\"totalCount\":3,\"items\":[\"a\",\"b\",\"c\"],\"links\":{\"next\":{\"uri\":\"/v1/page/2\",\"method\":\"GET\"}}}",
+            closed);
+
+        assertEquals(Arrays.asList("a", "b", "c"), readAll(reader));
+        assertTrue(closed.get());
+        assertEquals(3, reader.getTotalCount());
+        assertEquals("/v1/page/2", reader.getNextLink().getUri().toString());
+    }
+
+    @Test
+    void propertiesAfterTheItemsAreAvailableOnceTheItemsAreRead() throws IOException
+    {
+        ResourceCollectionReader<String> reader = reader(
+            "{\"items\":[\"a\"],\"continuationToken\":\"token\",\"totalCount\":1,\"links\":{\"next\":{\"uri\":\"/v1/page/2\"}}}",
+            new AtomicBoolean());
+
+        assertEquals(-1, reader.getTotalCount());
+        assertNull(reader.getNextLink());
+
+        assertEquals(Arrays.asList("a"), readAll(reader));
+        assertEquals(1, reader.getTotalCount());
+        assertEquals("token", reader.getContinuationToken());
+        assertEquals("/v1/page/2", reader.getNextLink().getUri().toString());
+    }
+
+    @Test
+    void emptyPagesHaveNoItems() throws IOException
+    {
+        AtomicBoolean closed = new AtomicBoolean();
+        ResourceCollectionReader<String> reader = reader("{\"totalCount\":0,\"items\":[],\"links\":{}}", closed);
+
+        assertFalse(reader.hasNext());
+        assertTrue(closed.get());
+        assertEquals(0, reader.getTotalCount());
+        assertNull(reader.getNextLink());
+    }
+
+    @Test
+    void pagesWithoutItemsAreClosedAtOnce() throws IOException
+    {
+        AtomicBoolean closed = new AtomicBoolean();
+        ResourceCollectionReader<String> reader = reader("{\"totalCount\":0}", closed);
+
+        assertTrue(closed.get());
+        assertFalse(reader.hasNext());
+    }
+
+    @Test
+    void closingEarlyReleasesTheResponse() throws IOException
+    {
+        AtomicBoolean closed = new AtomicBoolean();
+        ResourceCollectionReader<String> reader = reader("{\"items\":[\"a\",\"b\",\"c\"]}", closed);
+
+        assertEquals("a", reader.next());
+
+        reader.close();
+
+        assertTrue(closed.get());
+        assertFalse(reader.hasNext());
+    }
+
+    @Test
+    void malformedPagesRaiseParseExceptions() throws IOException
+    {
+        final AtomicBoolean closed = new AtomicBoolean();
+        final ResourceCollectionReader<String> reader = reader("{\"items\":[\"a\",", closed);
+
+        assertEquals("a", reader.next());
+        assertThrows(PartnerResponseParseException.class, new Executable()
+        {
+            @Override
+            public void execute()
+            {
+                reader.hasNext();
+            }
+        });
+        assertTrue(closed.get());
+    }
+
+    private static List<String> readAll(ResourceCollectionReader<String> reader)
+    {
+        List<String> items = new ArrayList<>();
+
+        while (reader.hasNext())
+        {
+            items.add(reader.next());
+        }
+
+        return items;
+    }
+
+    /**
+     * Creates a reader over a page, with a response body that records when it is closed.
+     *
+     * @param json The page.
+     * @param closed Set once the response body is closed.
+     * @return The reader.
+     * @throws IOException The parser could not be created.
+     */
+    public static ResourceCollectionReader<String> reader(String json, AtomicBoolean closed) throws IOException
+    {
+        TrackedBody body = new TrackedBody(json, closed);
+        Response response = new Response.Builder()
+            .request(new Request.Builder().url("https://api.partnercenter.microsoft.com/v1/page").build())
+            .protocol(Protocol.HTTP_1_1)
+            .code(200)
+            .message("OK")
+            .body(body)
+            .build();
+
+        return new ResourceCollectionReader<>(
+            null, 
+            response, 
+            CONVERTER.getFactory().createParser(body.byteStream()), 
+            CONVERTER.readerFor(String.class));
+    }
+
+    /**
+     * A response body that records when it is closed.
+     */
+    private static class TrackedBody
+        extends ResponseBody
+    {
+        private final Buffer content;
+
+        private final AtomicBoolean closed;
+
+        TrackedBody(String json, AtomicBoolean closed)
+        {
+            this.content = new Buffer().writeUtf8(json);
+            this.closed = closed;
+        }
+
+        @Override
+        public MediaType contentType()
+        {
+            return null;
+        }
+
+        @Override
+        public long contentLength()
+        {
+            return -1;
+        }
+
+        @Override
+        public BufferedSource source()
+        {
+            return content;
+        }
+
+        @Override
+        public void close()
+        {
+            closed.set(true);
+            super.close();
+        }
+    }
+}
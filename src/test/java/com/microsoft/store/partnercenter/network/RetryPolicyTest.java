@@ -0,0 +1,156 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license. See the LICENSE file in the project root for full license information.
+
+package com.microsoft.store.partnercenter.network;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+
+import org.junit.jupiter.api.Test;
+
+public class RetryPolicyTest
+{
+    @Test
+    void parseRetryAfterReadsSeconds()
+    {
+        assertEquals(5000, RetryPolicy.parseRetryAfter("5", 0));
+        assertEquals(0, RetryPolicy.parseRetryAfter(" 0 ", 0));
+    }
+
+    @Test
+    void parseRetryAfterReadsHttpDates()
+    {
+        // Thu, 01 Jan 1970 00:00:10 GMT is ten seconds after the epoch
+        assertEquals(7000, RetryPolicy.parseRetryAfter("Thu, 01 Jan 1970 00:00:10 GMT", 3000));
+        assertEquals(0, RetryPolicy.parseRetryAfter("Thu, 01 Jan 1970 00:00:10 GMT", 20000));
+    }
+
+    @Test
+    void parseRetryAfterRejectsInvalidValues()
+    {
+        assertEquals(-1, RetryPolicy.parseRetryAfter(null, 0));
+        assertEquals(-1, RetryPolicy.parseRetryAfter("", 0));
+        assertEquals(-1, RetryPolicy.parseRetryAfter("-3", 0));
+        assertEquals(-1, RetryPolicy.parseRetryAfter("soon", 0));
+    }
+
+    @Test
+    void throttlingTimeoutsAndServerErrorsAreRetryableByDefault()
+    {
+        RetryPolicy policy = new RetryPolicy(3, 100, 1000, new RetryBudget(20, 10));
+
+        assertTrue(policy.isRetryable(HttpStatusCode.REQUESTTIMEOUT));
+        assertTrue(policy.isRetryable(HttpStatusCode.TOOMANYREQUESTS));
+        assertTrue(policy.isRetryable(HttpStatusCode.SERVICEUNAVAILABLE));
+        assertFalse(policy.isRetryable(HttpStatusCode.BADREQUEST));
+        assertFalse(policy.isRetryable(HttpStatusCode.NOTFOUND));
+        assertFalse(policy.isRetryable(HttpStatusCode.EXPECTATIONFAILED));
+    }
+
+    @Test
+    void statusCodeRulesOverrideTheDefaults()
+    {
+        RetryPolicy policy = new RetryPolicy(3, 100, 1000, new RetryBudget(20, 10));
+
+        policy.setRetryable(HttpStatusCode.SERVICEUNAVAILABLE, false);
+        policy.setRetryable(HttpStatusCode.CONFLICT, true);
+
+        assertFalse(policy.isRetryable(HttpStatusCode.SERVICEUNAVAILABLE));
+        assertTrue(policy.isRetryable(HttpStatusCode.CONFLICT));
+    }
+
+    @Test
+    void retryAfterIsHonored()
+    {
+        RetryPolicy policy = new RetryPolicy(3, 100, 5000, new RetryBudget(20, 10));
+
+        assertEquals(2000, policy.getRetryDelayInMilliseconds(0, response(HttpStatusCode.TOOMANYREQUESTS, "2")));
+    }
+
+    @Test
+    void retryAfterAboveTheMaximumDelayIsNotWaitedFor()
+    {
+        RetryPolicy policy = new RetryPolicy(3, 100, 5000, new RetryBudget(20, 10));
+
+        assertEquals(-1, policy.getRetryDelayInMilliseconds(0, response(HttpStatusCode.TOOMANYREQUESTS, "60")));
+    }
+
+    @Test
+    void requestsAreNotRetriedAfterTheMaximumAttempts()
+    {
+        RetryPolicy policy = new RetryPolicy(2, 0, 0, new RetryBudget(20, 10));
+
+        assertEquals(0, policy.getRetryDelayInMilliseconds(1, response(HttpStatusCode.SERVICEUNAVAILABLE, null)));
+        assertEquals(-1, policy.getRetryDelayInMilliseconds(2, response(HttpStatusCode.SERVICEUNAVAILABLE, null)));
+    }
+
+    @Test
+    void successfulAndNonRetryableResponsesAreNotRetried()
+    {
+        RetryPolicy policy = new RetryPolicy(3, 0, 0, new RetryBudget(20, 10));
+
+        assertEquals(-1, policy.getRetryDelayInMilliseconds(0, response(200, null)));
+        assertEquals(-1, policy.getRetryDelayInMilliseconds(0, response(HttpStatusCode.NOTFOUND, null)));
+    }
+
+    @Test
+    void exhaustedBudgetStopsRetries()
+    {
+        RetryPolicy policy = new RetryPolicy(3, 0, 0, new RetryBudget(0, 1));
+
+        assertEquals(0, policy.getRetryDelayInMilliseconds(0, response(HttpStatusCode.SERVICEUNAVAILABLE, null)));
+        assertEquals(-1, policy.getRetryDelayInMilliseconds(0, response(HttpStatusCode.SERVICEUNAVAILABLE, null)));
+    }
+
+    @Test
+    void budgetIsReplenishedByRequests()
+    {
+        RetryBudget budget = new RetryBudget(50, 1);
+
+        assertTrue(budget.tryAcquireRetry());
+        assertFalse(budget.tryAcquireRetry());
+
+        budget.recordRequest();
+        budget.recordRequest();
+
+        assertTrue(budget.tryAcquireRetry());
+    }
+
+    @Test
+    void backoffStaysWithinTheExponentialCap()
+    {
+        RetryPolicy policy = new RetryPolicy(10, 100, 1000, new RetryBudget(20, 10));
+
+        for (int i = 0; i < 100; i++)
+        {
+            long first = policy.getBackoffDelayInMilliseconds(0);
+            long third = policy.getBackoffDelayInMilliseconds(2);
+            long capped = policy.getBackoffDelayInMilliseconds(40);
+
+            assertTrue(first >= 0 && first <= 100);
+            assertTrue(third >= 0 && third <= 400);
+            assertTrue(capped >= 0 && capped <= 1000);
+        }
+    }
+
+    private static Response response(int code, String retryAfter)
+    {
+        Response.Builder builder = new Response.Builder()
+            .request(new Request.Builder().url("https://api.partnercenter.microsoft.com/v1/customers").build())
+            .protocol(Protocol.HTTP_1_1)
+            .code(code)
+            .message("status " + code);
+
+        if (retryAfter != null)
+        {
+            builder.header(RetryPolicy.RETRY_AFTER_HEADER, retryAfter);
+        }
+
+        return builder.build();
+    }
+}